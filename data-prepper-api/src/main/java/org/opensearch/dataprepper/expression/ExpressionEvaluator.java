@@ -6,7 +6,10 @@
 package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
 
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -41,6 +44,54 @@ public interface ExpressionEvaluator {
         }
     }
 
+    /**
+     * @since 2.13
+     * Evaluates a conditional statement against the event of every record in a batch. Implementations may resolve the
+     * statement once for the whole batch instead of once per event.
+     *
+     * @param statement string to be parsed and evaluated
+     * @param records records whose events are evaluated, in iteration order
+     * @return a {@link BitSet} in which bit i is set if the statement evaluated to true for the i-th record
+     * @throws ExpressionParsingException if the statement cannot be parsed
+     * @see #evaluateConditionalBatch(String, Collection, BitSet)
+     */
+    default BitSet evaluateConditionalBatch(final String statement, final Collection<Record<Event>> records) {
+        return evaluateConditionalBatch(statement, records, new BitSet());
+    }
+
+    /**
+     * @since 2.13
+     * Evaluates a conditional statement against the event of every record in a batch, as
+     * {@link #evaluateConditional(String, Event)} would for each event. Implementations may resolve the statement once
+     * for the whole batch instead of once per event.
+     *
+     * @param statement string to be parsed and evaluated
+     * @param records records whose events are evaluated, in iteration order
+     * @param failedRecords receives bit i if {@link #evaluateConditional(String, Event)} would have thrown for the i-th
+     *  record, such as when the statement does not evaluate to a Boolean. The bits of these records are not set in the
+     *  returned {@link BitSet}.
+     * @return a {@link BitSet} in which bit i is set if the statement evaluated to true for the i-th record
+     * @throws ExpressionParsingException if the statement cannot be parsed
+     */
+    default BitSet evaluateConditionalBatch(final String statement, final Collection<Record<Event>> records,
+                                            final BitSet failedRecords) {
+        final BitSet matches = new BitSet(records.size());
+        int index = 0;
+        for (final Record<Event> record : records) {
+            try {
+                if (evaluateConditional(statement, record.getData())) {
+                    matches.set(index);
+                }
+            } catch (final ExpressionParsingException e) {
+                throw e;
+            } catch (final RuntimeException e) {
+                failedRecords.set(index);
+            }
+            index++;
+        }
+        return matches;
+    }
+
     Boolean isValidExpressionStatement(final String statement);
 
     Boolean isValidFormatExpression(final String format);
@@ -42,4 +42,14 @@ public interface InputCodec {
             parse(decompressionEngine.createInputStream(inputStream), eventConsumer);
         }
     }
+
+    /**
+     * Indicates whether each record is read from a single line, with nothing carried over from one line to the next.
+     * The input of such a codec can be split at line boundaries and each piece parsed on its own.
+     *
+     * @return true if the input can be split at line boundaries
+     */
+    default boolean isSplittableOnLines() {
+        return false;
+    }
 }
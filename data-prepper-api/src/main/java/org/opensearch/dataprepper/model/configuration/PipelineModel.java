@@ -58,6 +58,10 @@ public class PipelineModel {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private final Integer readBatchDelay;
 
+    @JsonProperty("max_in_flight_batches")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer maxInFlightBatches;
+
     /**
      * @since 2.0
      * @param source Deserialized source plugin configuration
@@ -68,6 +72,28 @@ public class PipelineModel {
      * @param workers Deserialized workers plugin configuration, nullable
      * @param delay Deserialized delay plugin configuration, nullable
      */
+    public PipelineModel(
+            final PluginModel source,
+            final PluginModel buffer,
+            final List<PluginModel> processors,
+            final List<ConditionalRoute> routes,
+            final List<SinkModel> sinks,
+            final Integer workers,
+            final Integer delay) {
+        this(source, buffer, processors, routes, sinks, workers, delay, null);
+    }
+
+    /**
+     * @since 2.13
+     * @param source Deserialized source plugin configuration
+     * @param buffer Deserialized buffer configuration
+     * @param processors Deserialized processors plugin configuration, nullable
+     * @param routes Deserialized routes configuration, nullable
+     * @param sinks Deserialized sinks plugin configuration
+     * @param workers Deserialized workers plugin configuration, nullable
+     * @param delay Deserialized delay plugin configuration, nullable
+     * @param maxInFlightBatches Deserialized maximum number of batches each worker may have in the sinks, nullable
+     */
     @JsonCreator
     public PipelineModel(
             @JsonProperty("source") final PluginModel source,
@@ -76,7 +102,8 @@ public class PipelineModel {
             @JsonProperty("routes")@JsonAlias("route") final List<ConditionalRoute> routes,
             @JsonProperty("sink") final List<SinkModel> sinks,
             @JsonProperty("workers") final Integer workers,
-            @JsonProperty("delay") final Integer delay) {
+            @JsonProperty("delay") final Integer delay,
+            @JsonProperty("max_in_flight_batches") final Integer maxInFlightBatches) {
         checkArgument(Objects.nonNull(sinks), "Sinks must not be null");
         checkArgument(sinks.size() > 0, "PipelineModel must include at least 1 sink");
 
@@ -88,6 +115,7 @@ public class PipelineModel {
         this.sinks = sinks;
         this.workers = workers;
         this.readBatchDelay = delay;
+        this.maxInFlightBatches = maxInFlightBatches;
     }
 
     public PluginModel getSource() {
@@ -115,4 +143,8 @@ public class PipelineModel {
     public Integer getReadBatchDelay() {
         return readBatchDelay;
     }
+
+    public Integer getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
 }
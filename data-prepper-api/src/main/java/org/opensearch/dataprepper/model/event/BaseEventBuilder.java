@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Map;
 
@@ -54,5 +55,20 @@ public interface BaseEventBuilder<T extends Event> {
      */
     BaseEventBuilder<T> withData(final Object data);
 
+    /**
+     * Sets the data of the event to a JSON object encoded in UTF-8, which the event keeps unparsed until it is
+     * modified. The bytes are not copied. This takes precedence over {@link #withData}.
+     * <p>
+     * The default implementation passes the data to {@link #withData} as a JSON string, which is parsed when the
+     * event is built.
+     *
+     * @param rawJsonData the data
+     * @return returns the base event builder
+     * @since 2.13
+     */
+    default BaseEventBuilder<T> withRawJsonData(final byte[] rawJsonData) {
+        return withData(new String(rawJsonData, StandardCharsets.UTF_8));
+    }
+
     T build();
 }
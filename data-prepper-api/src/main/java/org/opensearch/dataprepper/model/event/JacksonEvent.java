@@ -5,8 +5,11 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,6 +17,7 @@ import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -26,6 +30,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -54,6 +60,10 @@ import static org.opensearch.dataprepper.model.event.JacksonEventKey.trimTrailin
  * "buzz": 42
  * }
  * }
+ * <p>
+ * An event built from raw JSON data keeps the data unparsed. Lookups scan the raw data for the requested key until the
+ * event has been looked up {@link #RAW_JSON_DATA_LOOKUP_LIMIT} times, and the data is serialized back unchanged. The
+ * data is parsed into a tree on the first modification, or when the tree itself is requested.
  *
  * @since 1.2
  */
@@ -67,6 +77,12 @@ public class JacksonEvent implements Event {
         }
     }
 
+    /**
+     * The serial version computed for the fields {@link #eventMetadata} and {@link #jsonNode}. Events built from raw
+     * JSON data are parsed before they are serialized, so peers of different versions exchange the same form.
+     */
+    private static final long serialVersionUID = 7373488012556511836L;
+
     private static final Logger LOG = LoggerFactory.getLogger(JacksonEvent.class);
 
     private static final int FILL_OUT_OF_BOUNDS_ELEMENTS_LIMIT = 0;
@@ -87,10 +103,19 @@ public class JacksonEvent implements Event {
 
     private transient EventHandle eventHandle;
 
-    private final JsonNode jsonNode;
+    private JsonNode jsonNode;
+
+    /**
+     * The data of the event while it has not been parsed into {@link #jsonNode}. This is a single line JSON object.
+     */
+    private transient volatile byte[] rawJsonData;
+
+    private transient int rawJsonDataLookups;
 
     static final int MAX_KEY_LENGTH = 2048;
 
+    static final int RAW_JSON_DATA_LOOKUP_LIMIT = 4;
+
     static final String MESSAGE_KEY = "message";
 
     static final String EVENT_TYPE = "event";
@@ -107,7 +132,18 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        if (builder.jsonData != null) {
+            this.jsonNode = builder.jsonData;
+        } else if (builder.rawJsonData != null) {
+            validateRawJsonData(builder.rawJsonData);
+            if (isSingleLineObject(builder.rawJsonData)) {
+                this.rawJsonData = builder.rawJsonData;
+            } else {
+                this.jsonNode = readRawJsonData(builder.rawJsonData, mapper::readTree);
+            }
+        } else {
+            this.jsonNode = getInitialJsonNode(builder.data);
+        }
         if (builder.eventHandle != null) {
             this.eventHandle = builder.eventHandle;
         } else {
@@ -120,7 +156,12 @@ public class JacksonEvent implements Event {
     }
 
     protected JacksonEvent(final JacksonEvent otherEvent) {
-        this.jsonNode = otherEvent.jsonNode.deepCopy();
+        final byte[] otherRawJsonData = otherEvent.rawJsonData;
+        if (otherRawJsonData != null) {
+            this.rawJsonData = otherRawJsonData;
+        } else {
+            this.jsonNode = otherEvent.jsonNode.deepCopy();
+        }
         this.eventMetadata = DefaultEventMetadata.fromEventMetadata(otherEvent.eventMetadata);
         this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
     }
@@ -145,9 +186,101 @@ public class JacksonEvent implements Event {
         return mapper.valueToTree(data);
     }
 
+    private static void validateRawJsonData(final byte[] rawJsonData) {
+        readRawJsonData(rawJsonData, parser -> {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "The raw JSON data is not a JSON object");
+            }
+            parser.skipChildren();
+            if (parser.nextToken() != null) {
+                throw new JsonParseException(parser, "The raw JSON data has content after the JSON object");
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Only data which is a single line with the object at its bounds is kept raw, so that it can be written as one
+     * line of newline delimited JSON and have fields appended before its closing brace.
+     */
+    private static boolean isSingleLineObject(final byte[] rawJsonData) {
+        if (rawJsonData[0] != '{' || rawJsonData[rawJsonData.length - 1] != '}') {
+            return false;
+        }
+        for (final byte b : rawJsonData) {
+            if (b == '\n' || b == '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> T readRawJsonData(final byte[] rawJsonData, final RawJsonDataReader<T> reader) {
+        try (final JsonParser parser = mapper.createParser(rawJsonData)) {
+            return reader.read(parser);
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Unable to read the raw JSON data of the event", e);
+        }
+    }
+
+    /**
+     * Finds the node at the pointer in the value which the parser is at, in the way {@link JsonNode#at(JsonPointer)}
+     * would in a tree of the value, and leaves the parser at the end of the value. Only the node which is found is
+     * built, and when a key occurs more than once in an object the last occurrence is used, as in a tree.
+     */
+    private static JsonNode findRawJsonNode(final JsonParser parser, final JsonPointer jsonPointer) throws IOException {
+        if (jsonPointer.matches()) {
+            return mapper.readTree(parser);
+        }
+        JsonNode node = MissingNode.getInstance();
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final boolean matching = parser.currentName().equals(jsonPointer.getMatchingProperty());
+                parser.nextToken();
+                if (matching) {
+                    node = findRawJsonNode(parser, jsonPointer.tail());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else if (parser.currentToken() == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (index++ == jsonPointer.getMatchingIndex()) {
+                    node = findRawJsonNode(parser, jsonPointer.tail());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return node;
+    }
+
+    /**
+     * @return the data of the event as a tree, parsing the raw JSON data first if the event still has it
+     */
+    private JsonNode getParsedJsonNode() {
+        if (rawJsonData != null) {
+            parseRawJsonData();
+        }
+        return jsonNode;
+    }
+
+    private synchronized void parseRawJsonData() {
+        final byte[] data = rawJsonData;
+        if (data != null) {
+            jsonNode = readRawJsonData(data, mapper::readTree);
+            rawJsonData = null;
+        }
+    }
+
+    /**
+     * Returns the data of the event as a tree. Since the tree can be modified, an event built from raw JSON data
+     * parses the data and no longer serializes the raw data.
+     */
     @Override
     public JsonNode getJsonNode() {
-        return jsonNode;
+        return getParsedJsonNode();
     }
 
     private Map<String, Object> normalizeKeys(final Map<String, Object> map) {
@@ -185,7 +318,7 @@ public class JacksonEvent implements Event {
 
         final Deque<String> keys = new LinkedList<>(jacksonEventKey.getKeyPathList());
 
-        JsonNode parentNode = jsonNode;
+        JsonNode parentNode = getParsedJsonNode();
 
         while (!keys.isEmpty()) {
             if (keys.size() == 1) {
@@ -278,6 +411,10 @@ public class JacksonEvent implements Event {
     public <T> T get(EventKey key, Class<T> clazz) {
         JacksonEventKey jacksonEventKey = asJacksonEventKey(key);
 
+        if (JsonNode.class.isAssignableFrom(clazz)) {
+            // The node is returned as it is, so it must be part of the tree for modifications of it to apply.
+            getParsedJsonNode();
+        }
         final JsonNode node = getNode(jacksonEventKey);
         if (node.isMissingNode()) {
             return null;
@@ -316,11 +453,18 @@ public class JacksonEvent implements Event {
 
     private JsonNode getNode(final String key) {
         final JsonPointer jsonPointer = toJsonPointer(key);
-        return jsonNode.at(jsonPointer);
+        return getParsedJsonNode().at(jsonPointer);
     }
 
     private JsonNode getNode(final JacksonEventKey key) {
-        return jsonNode.at(key.getJsonPointer());
+        final byte[] data = rawJsonData;
+        if (data != null && ++rawJsonDataLookups <= RAW_JSON_DATA_LOOKUP_LIMIT) {
+            return readRawJsonData(data, parser -> {
+                parser.nextToken();
+                return findRawJsonNode(parser, key.getJsonPointer());
+            });
+        }
+        return getParsedJsonNode().at(key.getJsonPointer());
     }
 
     private <T> T mapNodeToObject(final String key, final JsonNode node, final Class<T> clazz) {
@@ -390,12 +534,12 @@ public class JacksonEvent implements Event {
         final String trimmedKey = jacksonEventKey.getTrimmedKey();
         final int index = trimmedKey.lastIndexOf(SEPARATOR);
 
-        JsonNode baseNode = jsonNode;
+        JsonNode baseNode = getParsedJsonNode();
         String leafKey = trimmedKey;
 
         if (index != -1) {
             final JsonPointer jsonPointer = toJsonPointer(trimmedKey.substring(0, index));
-            baseNode = jsonNode.at(jsonPointer);
+            baseNode = baseNode.at(jsonPointer);
             leafKey = trimmedKey.substring(index + 1);
         }
 
@@ -418,8 +562,8 @@ public class JacksonEvent implements Event {
     @Override
     public void clear() {
         // Delete all entries from the event
+        JsonNode baseNode = getParsedJsonNode();
         Iterator iter = toMap().keySet().iterator();
-        JsonNode baseNode = jsonNode;
         while (iter.hasNext()) {
             ((ObjectNode) baseNode).remove((String)iter.next());
         }
@@ -430,20 +574,30 @@ public class JacksonEvent implements Event {
         if(!(other instanceof JacksonEvent))
             throw new IllegalArgumentException("Unable to merge the Event. The input Event must be a JacksonEvent.");
         final JacksonEvent otherJacksonEvent = (JacksonEvent) other;
-        if(!(otherJacksonEvent.jsonNode instanceof ObjectNode)) {
+        final JsonNode otherJsonNode = otherJacksonEvent.getParsedJsonNode();
+        if(!(otherJsonNode instanceof ObjectNode)) {
             throw new IllegalArgumentException("Unable to merge the Event. The input Event must be a JacksonEvent with object data.");
         }
-        final ObjectNode otherObjectNode = (ObjectNode) otherJacksonEvent.jsonNode;
+        final ObjectNode otherObjectNode = (ObjectNode) otherJsonNode;
 
-        if(!(jsonNode instanceof ObjectNode)) {
+        final JsonNode currentJsonNode = getParsedJsonNode();
+        if(!(currentJsonNode instanceof ObjectNode)) {
             throw new UnsupportedOperationException("Unable to merge the Event. The current Event must have object data.");
         }
 
-        ((ObjectNode) jsonNode).setAll(otherObjectNode);
+        ((ObjectNode) currentJsonNode).setAll(otherObjectNode);
     }
 
+    /**
+     * Returns the data of the event as a JSON string. An event built from raw JSON data which has not been parsed
+     * returns the raw data unchanged.
+     */
     @Override
     public String toJsonString() {
+        final byte[] data = rawJsonData;
+        if (data != null) {
+            return new String(data, StandardCharsets.UTF_8);
+        }
         return jsonNode.toString();
     }
 
@@ -577,6 +731,10 @@ public class JacksonEvent implements Event {
 
     @Override
     public Map<String, Object> toMap() {
+        final byte[] data = rawJsonData;
+        if (data != null) {
+            return readRawJsonData(data, parser -> mapper.readValue(parser, MAP_TYPE_REFERENCE));
+        }
         return mapper.convertValue(jsonNode, MAP_TYPE_REFERENCE);
     }
 
@@ -630,6 +788,8 @@ public class JacksonEvent implements Event {
 
         private EventMetadata eventMetadata;
         protected Object data;
+        private ObjectNode jsonData;
+        private byte[] rawJsonData;
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
@@ -637,6 +797,35 @@ public class JacksonEvent implements Event {
 
         public abstract T getThis();
 
+        /**
+         * Sets the data of the event to a JSON object which the event takes ownership of. Unlike {@link #withData},
+         * the object is not copied, so the caller must not use it after building the event. This takes precedence
+         * over {@link #withData}.
+         *
+         * @param jsonData the data
+         * @return returns the builder
+         * @since 2.13
+         */
+        public Builder<T> withJsonData(final ObjectNode jsonData) {
+            this.jsonData = jsonData;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event to a JSON object encoded in UTF-8, which the event keeps unparsed until it is
+         * modified. The bytes are not copied, so the caller must not modify them after building the event. This takes
+         * precedence over {@link #withData}.
+         *
+         * @param rawJsonData the data
+         * @return returns the builder
+         * @throws IllegalArgumentException from {@link #build()} if the data is not a single JSON object
+         * @since 2.13
+         */
+        public Builder<T> withRawJsonData(final byte[] rawJsonData) {
+            this.rawJsonData = rawJsonData;
+            return this;
+        }
+
         /**
          * Sets the event type for the metadata if a {@link #withEventMetadata} is not used.
          *
@@ -734,9 +923,13 @@ public class JacksonEvent implements Event {
             this.event = event;
         }
 
+        private boolean hasRootNode() {
+            return getRootKey() != null && !getRootKey().isEmpty() && event.containsKey(getRootKey());
+        }
+
         private JsonNode getBaseNode() {
             // Get root node.
-            if (getRootKey() != null && !getRootKey().isEmpty() && event.containsKey(getRootKey())) {
+            if (hasRootNode()) {
                 return event.getNode(getRootKey());
             }
             return event.getJsonNode();
@@ -750,7 +943,7 @@ public class JacksonEvent implements Event {
                 jsonString = searchAndFilter(getBaseNode(), "", getIncludeKeys(), RETAIN_ALL);
             } else if (getExcludeKeys() != null && !getExcludeKeys().isEmpty()) {
                 jsonString = searchAndFilter(getBaseNode(), "", getExcludeKeys(), EXCLUDE_ALL);
-            } else if (getBaseNode() !=event.getJsonNode()) {
+            } else if (hasRootNode() && getBaseNode() != event.getJsonNode()) {
                 jsonString = event.getAsJsonString(getRootKey());
             } else {
                 // Some successors have its own implementation of toJsonString, such as JacksonSpan.
@@ -826,6 +1019,22 @@ public class JacksonEvent implements Event {
         }
     }
 
+    @FunctionalInterface
+    private interface RawJsonDataReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Provides custom Java object serialization. Raw JSON data is parsed first, so the event is written as its tree.
+     *
+     * @param objectOutputStream The {@link ObjectOutputStream} to serialize to
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeObject(final ObjectOutputStream objectOutputStream) throws IOException {
+        parseRawJsonData();
+        objectOutputStream.defaultWriteObject();
+    }
+
     /**
      * Provides custom Java object deserialization.
      *
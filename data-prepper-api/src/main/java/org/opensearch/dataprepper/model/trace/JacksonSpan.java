@@ -80,7 +80,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
     }
 
     protected void validateParameters() {
-        new ParameterValidator().validate(REQUIRED_KEYS, REQUIRED_NON_EMPTY_KEYS, REQUIRED_NON_NULL_KEYS, (HashMap<String, Object>)toMap());
+        new ParameterValidator().validate(REQUIRED_KEYS, REQUIRED_NON_EMPTY_KEYS, REQUIRED_NON_NULL_KEYS, getJsonNode());
     }
 
     protected void checkAndSetDefaultValues() {
@@ -22,7 +22,7 @@ public class JacksonStandardSpan extends JacksonSpan {
 
     @Override
     protected void validateParameters() {
-        new ParameterValidator().validate(Collections.emptyList(), REQUIRED_NON_EMPTY_KEYS, Collections.emptyList(), (HashMap<String, Object>)toMap());
+        new ParameterValidator().validate(Collections.emptyList(), REQUIRED_NON_EMPTY_KEYS, Collections.emptyList(), getJsonNode());
     }
 
     @Override
@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.model.validation;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import java.util.List;
 import java.util.Map;
 
@@ -34,4 +36,34 @@ public class ParameterValidator {
         });
     }
 
+    /**
+     * Validates the fields of a JSON object in the same way as {@link #validate(List, List, List, Map)}, without
+     * converting the object to a map. A JSON null is treated as a null value.
+     *
+     * @since 2.13
+     */
+    public void validate(final List<String> requiredKeys,
+                         final List<String> requiredNonEmptyKeys,
+                         final List<String> requiredNonNullKeys,
+                         final JsonNode data) {
+        requiredKeys.forEach(key -> {
+            checkState(data.has(key), key + " need to be assigned");
+        });
+
+        requiredNonEmptyKeys.forEach(key -> {
+            final JsonNode value = getNonNullNode(data, key);
+            checkArgument(!value.asText().isEmpty(), key + " cannot be an empty string");
+        });
+
+        requiredNonNullKeys.forEach(key -> getNonNullNode(data, key));
+    }
+
+    private static JsonNode getNonNullNode(final JsonNode data, final String key) {
+        final JsonNode value = data.get(key);
+        if (value == null || value.isNull()) {
+            throw new NullPointerException(key + " cannot be null");
+        }
+        return value;
+    }
+
 }
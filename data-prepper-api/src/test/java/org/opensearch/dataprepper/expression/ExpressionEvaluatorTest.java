@@ -8,7 +8,9 @@ package org.opensearch.dataprepper.expression;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
@@ -102,6 +104,64 @@ public class ExpressionEvaluatorTest {
         assertThrows(ClassCastException.class, () -> expressionEvaluator.evaluateConditional("/status", event("{\"status\":200}")));
     }
 
+    @Test
+    public void testDefaultEvaluateConditionalBatch() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final List<Record<Event>> records = List.of(
+                new Record<>(event("{\"status\":true}")),
+                new Record<>(event("{\"status\":false}")),
+                new Record<>(event("{\"status\":200}")),
+                new Record<>(event("{\"nostatus\":true}")),
+                new Record<>(event("{\"status\":true}")));
+
+        final BitSet matches = expressionEvaluator.evaluateConditionalBatch("/status", records);
+
+        assertThat(matches.cardinality(), equalTo(2));
+        assertThat(matches.get(0), equalTo(true));
+        assertThat(matches.get(4), equalTo(true));
+    }
+
+    @Test
+    public void testDefaultEvaluateConditionalBatchReportsFailedRecords() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final List<Record<Event>> records = List.of(
+                new Record<>(event("{\"status\":true}")),
+                new Record<>(event("{\"status\":false}")),
+                new Record<>(event("{\"status\":200}")),
+                new Record<>(event("{\"nostatus\":true}")));
+        final BitSet failedRecords = new BitSet();
+
+        final BitSet matches = expressionEvaluator.evaluateConditionalBatch("/status", records, failedRecords);
+
+        assertThat(matches.cardinality(), equalTo(1));
+        assertThat(matches.get(0), equalTo(true));
+        assertThat(failedRecords.cardinality(), equalTo(2));
+        assertThat(failedRecords.get(2), equalTo(true));
+        assertThat(failedRecords.get(3), equalTo(true));
+    }
+
+    @Test
+    public void testEvaluateConditionalBatchWithExpressionEvaluationException() {
+        expressionEvaluator = new TestExpressionEvaluator(true, false, false);
+        final BitSet failedRecords = new BitSet();
+        final BitSet matches = expressionEvaluator.evaluateConditionalBatch("/status", List.of(new Record<>(event("{\"status\":true}"))), failedRecords);
+        assertThat(matches.isEmpty(), equalTo(true));
+        assertThat(failedRecords.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void testEvaluateConditionalBatchThrowsExpressionParsingException() {
+        expressionEvaluator = new TestExpressionEvaluator(false, true, false);
+        final List<Record<Event>> records = List.of(new Record<>(event("{\"status\":true}")));
+        assertThrows(ExpressionParsingException.class, () -> expressionEvaluator.evaluateConditionalBatch("/status", records));
+    }
+
+    @Test
+    public void testEvaluateConditionalBatchWithNoRecords() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        assertThat(expressionEvaluator.evaluateConditionalBatch("/status", Collections.emptyList()).isEmpty(), equalTo(true));
+    }
+
     private static Event event(final String data) {
         return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
@@ -0,0 +1,26 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class BaseEventBuilderTest {
+    @Test
+    void withRawJsonData_defaults_to_withData_with_the_json_string() {
+        final BaseEventBuilder<?> baseEventBuilder = mock(BaseEventBuilder.class, CALLS_REAL_METHODS);
+        final String rawJsonData = "{\"message\":\"café\"}";
+
+        baseEventBuilder.withRawJsonData(rawJsonData.getBytes(StandardCharsets.UTF_8));
+
+        verify(baseEventBuilder).withData(rawJsonData);
+    }
+}
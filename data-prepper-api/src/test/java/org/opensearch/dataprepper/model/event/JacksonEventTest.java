@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,7 @@ import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -64,6 +67,134 @@ public class JacksonEventTest {
 
     }
 
+    @Test
+    public void testBuild_withJsonData_uses_the_object_without_copying() {
+        final ObjectNode jsonData = JsonNodeFactory.instance.objectNode();
+        jsonData.put("key", "value");
+        jsonData.putObject("nested").put("number", 1);
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData(jsonData)
+                .withData(Map.of("ignored", "data"))
+                .build();
+
+        assertThat(event.getJsonNode(), sameInstance(jsonData));
+        assertThat(event.get("key", String.class), equalTo("value"));
+        assertThat(event.get("nested/number", Integer.class), equalTo(1));
+        assertThat(event.containsKey("ignored"), equalTo(false));
+    }
+
+    private static final String RAW_JSON_DATA =
+            "{\"key\":\"value\",\"nested\":{\"list\":[1,{\"inner\":true}],\"empty\":null},\"key\":\"last\",\"number\":1.5}";
+
+    private JacksonEvent createRawJsonEvent(final String rawJsonData) {
+        return JacksonEvent.builder()
+                .withEventType(eventType)
+                .withRawJsonData(rawJsonData.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"key", "nested", "nested/list", "nested/list/0", "/nested/list/1/inner", "nested/list/2",
+            "nested/list/other", "nested/empty", "nested/missing", "number", "number/0", "missing", ""})
+    void testBuild_withRawJsonData_looks_up_keys_like_parsed_data(final String key) {
+        final Event rawJsonEvent = createRawJsonEvent(RAW_JSON_DATA);
+        final Event parsedEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(RAW_JSON_DATA)
+                .build();
+
+        assertThat(rawJsonEvent.get(key, Object.class), equalTo(parsedEvent.get(key, Object.class)));
+        assertThat(rawJsonEvent.containsKey(key), equalTo(parsedEvent.containsKey(key)));
+        assertThat(rawJsonEvent.isValueAList(key), equalTo(parsedEvent.isValueAList(key)));
+        assertThat(rawJsonEvent.getAsJsonString(key), equalTo(parsedEvent.getAsJsonString(key)));
+        assertThat(rawJsonEvent.toJsonString(), equalTo(RAW_JSON_DATA));
+    }
+
+    @Test
+    void testBuild_withRawJsonData_keeps_the_raw_data_until_modified() {
+        final Event rawJsonEvent = createRawJsonEvent(RAW_JSON_DATA);
+
+        assertThat(rawJsonEvent.get("key", String.class), equalTo("last"));
+        assertThat(rawJsonEvent.getList("nested/list", Object.class), equalTo(List.of(1, Map.of("inner", true))));
+        assertThat(rawJsonEvent.toMap(), equalTo(JacksonEvent.builder().withEventType(eventType).withData(RAW_JSON_DATA).build().toMap()));
+        assertThat(rawJsonEvent.formatString("${nested/list/0}-${number}"), equalTo("1-1.5"));
+        assertThat(rawJsonEvent.jsonBuilder().includeTags("tags").toJsonString(),
+                equalTo(RAW_JSON_DATA.substring(0, RAW_JSON_DATA.length() - 1) + ",\"tags\":[]}"));
+        assertThat(rawJsonEvent.toJsonString(), equalTo(RAW_JSON_DATA));
+        assertThat(rawJsonEvent.jsonBuilder().rootKey("nested").toJsonString(), equalTo("{\"list\":[1,{\"inner\":true}],\"empty\":null}"));
+
+        rawJsonEvent.put("added", 2);
+
+        assertThat(rawJsonEvent.get("added", Integer.class), equalTo(2));
+        assertThat(rawJsonEvent.toJsonString(),
+                equalTo("{\"key\":\"last\",\"nested\":{\"list\":[1,{\"inner\":true}],\"empty\":null},\"number\":1.5,\"added\":2}"));
+    }
+
+    @Test
+    void testBuild_withRawJsonData_parses_the_data_after_the_lookup_limit() {
+        final Event rawJsonEvent = createRawJsonEvent(RAW_JSON_DATA);
+
+        for (int lookup = 0; lookup <= JacksonEvent.RAW_JSON_DATA_LOOKUP_LIMIT; lookup++) {
+            assertThat(rawJsonEvent.get("nested/list/0", Integer.class), equalTo(1));
+        }
+
+        assertThat(rawJsonEvent.toJsonString(), equalTo("{\"key\":\"last\",\"nested\":{\"list\":[1,{\"inner\":true}],\"empty\":null},\"number\":1.5}"));
+    }
+
+    @Test
+    void testBuild_withRawJsonData_returns_nodes_of_the_event() {
+        final Event rawJsonEvent = createRawJsonEvent(RAW_JSON_DATA);
+
+        final ObjectNode nested = rawJsonEvent.get("nested", ObjectNode.class);
+        nested.put("added", 2);
+
+        assertThat(rawJsonEvent.get("nested/added", Integer.class), equalTo(2));
+        assertThat(rawJsonEvent.getJsonNode().get("nested"), sameInstance(nested));
+    }
+
+    @Test
+    void testBuild_withRawJsonData_modifications() {
+        final JacksonEvent rawJsonEvent = createRawJsonEvent(RAW_JSON_DATA);
+        rawJsonEvent.delete("nested/list");
+        assertThat(rawJsonEvent.containsKey("nested/list"), equalTo(false));
+
+        final JacksonEvent clearedEvent = createRawJsonEvent(RAW_JSON_DATA);
+        clearedEvent.clear();
+        assertThat(clearedEvent.toJsonString(), equalTo("{}"));
+
+        final JacksonEvent mergedEvent = createRawJsonEvent(RAW_JSON_DATA);
+        mergedEvent.merge(createRawJsonEvent("{\"number\":2}"));
+        assertThat(mergedEvent.get("number", Integer.class), equalTo(2));
+    }
+
+    @Test
+    void fromEvent_with_raw_json_data_copies_the_raw_data() {
+        final JacksonEvent rawJsonEvent = createRawJsonEvent(RAW_JSON_DATA);
+
+        final JacksonEvent copiedEvent = JacksonEvent.fromEvent(rawJsonEvent);
+        copiedEvent.put("added", 2);
+
+        assertThat(copiedEvent.get("added", Integer.class), equalTo(2));
+        assertThat(copiedEvent.get("key", String.class), equalTo("last"));
+        assertThat(rawJsonEvent.toJsonString(), equalTo(RAW_JSON_DATA));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {" {\"key\":\"value\"}", "{\"key\":\"value\"} ", "{\"key\":\n\"value\"}", "{\"key\":\r\"value\"}"})
+    void testBuild_withRawJsonData_parses_data_which_is_not_a_single_line_object(final String rawJsonData) {
+        final Event rawJsonEvent = createRawJsonEvent(rawJsonData);
+
+        assertThat(rawJsonEvent.toJsonString(), equalTo("{\"key\":\"value\"}"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "[{\"key\":\"value\"}]", "\"value\"", "{\"key\":\"value\"} {}", "{\"key\":", "{\"key\" \"value\"}"})
+    void testBuild_withRawJsonData_throws_for_data_which_is_not_a_json_object(final String rawJsonData) {
+        assertThrows(IllegalArgumentException.class, () -> createRawJsonEvent(rawJsonData));
+    }
+
     @Test
     public void testPutAndGet_withRandomString() {
         final String key = "aRandomKey" + UUID.randomUUID();
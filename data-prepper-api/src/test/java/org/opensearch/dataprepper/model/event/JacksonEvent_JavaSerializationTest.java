@@ -15,10 +15,15 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.mockito.Mockito.mock;
@@ -78,6 +83,36 @@ class JacksonEvent_JavaSerializationTest {
         assertThat(deserializedEvent.getEventHandle().getInternalOriginationTime(), equalTo(objectUnderTest.getMetadata().getTimeReceived()));
     }
 
+    @Test
+    void serialize_with_raw_json_data_writes_the_parsed_data() throws IOException, ClassNotFoundException {
+        final String rawJsonData = "{\"key\":\"value\",\"nested\":{\"list\":[1,2]},\"number\":1.5}";
+        final JacksonEvent objectUnderTest = JacksonEvent.builder()
+                .withEventType("TEST")
+                .withRawJsonData(rawJsonData.getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        final Object deserializedObject = serializeAndDeserialize(objectUnderTest);
+
+        assertThat(deserializedObject, instanceOf(JacksonEvent.class));
+        final JacksonEvent deserializedEvent = (JacksonEvent) deserializedObject;
+
+        assertThat(deserializedEvent.toJsonString(), equalTo(rawJsonData));
+        assertThat(deserializedEvent.getMetadata(), equalTo(objectUnderTest.getMetadata()));
+        deserializedEvent.put("nested/added", 2);
+        assertThat(deserializedEvent.get("nested/added", Integer.class), equalTo(2));
+        assertThat(deserializedEvent.get("nested/list/1", Integer.class), equalTo(2));
+        assertThat(objectUnderTest.toJsonString(), equalTo(rawJsonData));
+    }
+
+    @Test
+    void serialized_form_is_the_metadata_and_the_parsed_data() {
+        final ObjectStreamClass objectStreamClass = ObjectStreamClass.lookup(JacksonEvent.class);
+
+        assertThat(objectStreamClass.getSerialVersionUID(), equalTo(7373488012556511836L));
+        assertThat(Arrays.stream(objectStreamClass.getFields()).map(ObjectStreamField::getName).toArray(),
+                containsInAnyOrder("eventMetadata", "jsonNode"));
+    }
+
     private Object serializeAndDeserialize(final JacksonEvent objectUnderTest) throws IOException, ClassNotFoundException {
         objectOutputStream.writeObject(objectUnderTest);
         final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
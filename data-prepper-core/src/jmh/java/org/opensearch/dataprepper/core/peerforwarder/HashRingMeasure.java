@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.core.peerforwarder.discovery.PeerListProvider;
+import org.opensearch.dataprepper.core.peerforwarder.discovery.StaticPeerListProvider;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Compares looking up the host of identification keys on the original {@link BigInteger} MD5 ring with the
+ * {@link HashRing} for each {@link HashRingHashFunction}, with and without the lookup cache. Trace identification keys
+ * are unique per trace, so {@code distinctKeys} should be large when measuring trace pipelines.
+ */
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class HashRingMeasure {
+    private static final int NUM_VIRTUAL_NODES = PeerForwarderClientFactory.NUM_VIRTUAL_NODES;
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void original_md5_ring(final BenchmarkState benchmarkState, final Blackhole blackhole) throws NoSuchAlgorithmException {
+        for (final List<String> identificationKeyValues : benchmarkState.identificationKeyValues) {
+            blackhole.consume(benchmarkState.originalRing.getServerIp(identificationKeyValues));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void hash_ring(final BenchmarkState benchmarkState, final Blackhole blackhole) {
+        for (final List<String> identificationKeyValues : benchmarkState.identificationKeyValues) {
+            blackhole.consume(benchmarkState.hashRing.getServerIp(identificationKeyValues));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"md5", "murmur3"})
+        private String hashFunction;
+
+        @Param({"0", "10000"})
+        private int cacheSize;
+
+        @Param({"3", "20"})
+        private int peerCount;
+
+        @Param({"100", "100000"})
+        private int distinctKeys;
+
+        private OriginalHashRing originalRing;
+        private HashRing hashRing;
+        private final List<List<String>> identificationKeyValues = new ArrayList<>();
+
+        @Setup
+        public void setUp() throws NoSuchAlgorithmException {
+            final List<String> peers = new ArrayList<>();
+            for (int i = 0; i < peerCount; i++) {
+                peers.add("10.10.0." + i);
+            }
+            final PeerListProvider peerListProvider = new StaticPeerListProvider(peers, PluginMetrics.fromNames("peerForwarder", "benchmark"));
+
+            originalRing = new OriginalHashRing(peers);
+            hashRing = new HashRing(peerListProvider, NUM_VIRTUAL_NODES, HashRingHashFunction.getByName(hashFunction), cacheSize);
+
+            final List<String> traceIds = new ArrayList<>();
+            for (int i = 0; i < distinctKeys; i++) {
+                traceIds.add(UUID.randomUUID().toString().replace("-", ""));
+            }
+            for (int i = 0; i < 1000; i++) {
+                identificationKeyValues.add(List.of(traceIds.get((i * 7919) % distinctKeys)));
+            }
+        }
+    }
+
+    /**
+     * The ring as implemented before {@link HashRing} used 64-bit hashes in a sorted array.
+     */
+    private static class OriginalHashRing {
+        private final TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+
+        private OriginalHashRing(final List<String> peers) throws NoSuchAlgorithmException {
+            for (final String serverIp : peers) {
+                final MessageDigest md = MessageDigest.getInstance("MD5");
+                final ByteBuffer intBuffer = ByteBuffer.allocate(4);
+                for (int i = 0; i < NUM_VIRTUAL_NODES; i++) {
+                    md.update(serverIp.getBytes());
+                    intBuffer.putInt(i);
+                    md.update(intBuffer.array());
+                    hashServerMap.putIfAbsent(new BigInteger(md.digest()), serverIp);
+                    md.reset();
+                    intBuffer.clear();
+                }
+            }
+        }
+
+        private String getServerIp(final List<String> identificationKeyValues) throws NoSuchAlgorithmException {
+            final MessageDigest md = MessageDigest.getInstance("MD5");
+            md.update(String.join(",", identificationKeyValues).getBytes());
+            final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(new BigInteger(md.digest()));
+            return entry == null ? hashServerMap.firstEntry().getValue() : entry.getValue();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.pipeline;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Compares detecting dropped events by copying every processor input and building a {@link java.util.HashSet} of the
+ * output with the reusable identity-based {@link DroppedEventDetector}. Run with {@code -prof gc} to compare the
+ * allocation rate of each approach.
+ */
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class DroppedEventDetectionMeasure {
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void copy_and_hash_set_per_processor(final BenchmarkState benchmarkState, final Blackhole blackhole) {
+        for (int processor = 0; processor < benchmarkState.processorCount; processor++) {
+            final List<Event> inputEvents = benchmarkState.inputRecords.stream()
+                    .map(Record::getData)
+                    .collect(Collectors.toList());
+            final Set<Event> outputEventsSet = benchmarkState.outputRecords.stream()
+                    .map(Record::getData)
+                    .collect(Collectors.toSet());
+            inputEvents.forEach(event -> {
+                if (!outputEventsSet.contains(event)) {
+                    blackhole.consume(event);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void identity_detector_per_processor(final BenchmarkState benchmarkState, final Blackhole blackhole) {
+        for (int processor = 0; processor < benchmarkState.processorCount; processor++) {
+            benchmarkState.droppedEventDetector.captureInput(benchmarkState.inputRecords);
+            benchmarkState.droppedEventDetector.forEachDroppedEvent(benchmarkState.outputRecords, blackhole::consume);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({"1000", "100000"})
+        private int batchSize;
+
+        @Param({"10"})
+        private int processorCount;
+
+        private Collection<Record<Event>> inputRecords;
+        private Collection<Record<Event>> outputRecords;
+        private DroppedEventDetector droppedEventDetector;
+
+        @Setup
+        public void setUp() {
+            inputRecords = new ArrayList<>(batchSize);
+            outputRecords = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                final Event event = JacksonEvent.builder()
+                        .withEventType("event")
+                        .withData(Map.of("message", "message " + i, "status", i % 5, "service", "service-" + (i % 20)))
+                        .build();
+                final Record<Event> record = new Record<>(event);
+                inputRecords.add(record);
+                // Simulate a processor which drops one in every hundred events.
+                if (i % 100 != 0) {
+                    outputRecords.add(record);
+                }
+            }
+            droppedEventDetector = new DroppedEventDetector();
+        }
+    }
+}
@@ -10,109 +10,124 @@ import org.opensearch.dataprepper.core.peerforwarder.discovery.PeerListProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.concurrent.NotThreadSafe;
-import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
  * Consistent hashing implementation used to map identification keys to Data Prepper hosts.
  * See https://en.wikipedia.org/wiki/Consistent_hashing for more information.
+ * <p>
+ * The virtual nodes are kept as a sorted array of 64-bit hashes which is binary searched for each lookup. The ring
+ * can optionally cache the host of recently seen identification keys. The ring and its cache are replaced together
+ * whenever the peer list changes, so lookups never see hosts from a previous peer list.
  */
-@NotThreadSafe
 public class HashRing implements Consumer<List<Endpoint>> {
     private static final Logger LOG = LoggerFactory.getLogger(HashRing.class);
-    private static final String MD5 = "MD5";
-    private static final String DELIMITER = ",";
 
     /* Number of virtual nodes per Data Prepper host to be present on the hash ring */
     private final int numVirtualNodes;
 
     private final PeerListProvider peerListProvider;
+    private final HashRingHashFunction hashFunction;
+    private final int cacheSize;
 
-    private TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+    private volatile Ring ring;
 
     public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes) {
+        this(peerListProvider, numVirtualNodes, HashRingHashFunction.MD5, 0);
+    }
+
+    public HashRing(final PeerListProvider peerListProvider,
+                    final int numVirtualNodes,
+                    final HashRingHashFunction hashFunction,
+                    final int cacheSize) {
         Objects.requireNonNull(peerListProvider);
+        Objects.requireNonNull(hashFunction);
         this.peerListProvider = peerListProvider;
         this.numVirtualNodes = numVirtualNodes;
+        this.hashFunction = hashFunction;
+        this.cacheSize = cacheSize;
 
-        buildHashServerMap();
+        buildRing();
 
         peerListProvider.addListener(this);
     }
 
     public Optional<String> getServerIp(final List<String> identificationKeyValues) {
-        if (hashServerMap.isEmpty()) {
+        final Ring currentRing = ring;
+        if (currentRing.hashes.length == 0) {
             return Optional.empty();
         }
 
-        final byte[] identificationKeysInBytes = String.join(DELIMITER, identificationKeyValues).getBytes();
-
-        final MessageDigest md;
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
+        if (currentRing.cache == null) {
+            return Optional.of(currentRing.findServerIp(hashFunction.hashIdentificationKeys(identificationKeyValues)));
         }
 
-        md.update(identificationKeysInBytes);
-        final BigInteger hashcode = new BigInteger(md.digest());
-
-        // obtain Map.Entry with key greater than the hashcode
-        final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(hashcode);
-
-        if (entry == null) {
-            // return first node if no key is greater than the hashcode
-            return Optional.of(hashServerMap.firstEntry().getValue());
-        } else {
-            return Optional.of(entry.getValue());
+        String serverIp = currentRing.cache.get(identificationKeyValues);
+        if (serverIp == null) {
+            serverIp = currentRing.findServerIp(hashFunction.hashIdentificationKeys(identificationKeyValues));
+            if (currentRing.cache.size() >= cacheSize) {
+                currentRing.cache.clear();
+            }
+            currentRing.cache.put(new ArrayList<>(identificationKeyValues), serverIp);
         }
+        return Optional.of(serverIp);
     }
 
     @Override
     public void accept(final List<Endpoint> endpoints) {
-        buildHashServerMap();
+        buildRing();
     }
 
-    private void buildHashServerMap() {
-        final TreeMap<BigInteger, String> newHashValueMap = new TreeMap<>();
+    private void buildRing() {
+        final TreeMap<Long, String> hashServerMap = new TreeMap<>();
         final List<String> endpoints = peerListProvider.getPeerList();
 
         LOG.info("Building hash ring with endpoints: {}", endpoints);
         for (final String serverIp : endpoints) {
-            addServerIpToHashMap(serverIp, newHashValueMap);
+            for (int i = 0; i < numVirtualNodes; i++) {
+                hashServerMap.putIfAbsent(hashFunction.hashVirtualNode(serverIp, i), serverIp);
+            }
         }
 
-        this.hashServerMap = newHashValueMap;
+        this.ring = new Ring(hashServerMap, cacheSize);
     }
 
-    private void addServerIpToHashMap(final String serverIp, final Map<BigInteger, String> targetMap) {
-        final byte[] serverIpInBytes = serverIp.getBytes();
-        final MessageDigest md;
-
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
+    /**
+     * An immutable snapshot of the virtual nodes for one peer list, along with the cache of lookups against it.
+     */
+    private static class Ring {
+        private final long[] hashes;
+        private final String[] serverIps;
+        private final Map<List<String>, String> cache;
+
+        private Ring(final TreeMap<Long, String> hashServerMap, final int cacheSize) {
+            hashes = new long[hashServerMap.size()];
+            serverIps = new String[hashServerMap.size()];
+            int index = 0;
+            for (final Map.Entry<Long, String> entry : hashServerMap.entrySet()) {
+                hashes[index] = entry.getKey();
+                serverIps[index] = entry.getValue();
+                index++;
+            }
+            cache = cacheSize > 0 ? new ConcurrentHashMap<>() : null;
         }
 
-        final ByteBuffer intBuffer = ByteBuffer.allocate(4);
-        for (int i = 0; i < numVirtualNodes; i++) {
-            md.update(serverIpInBytes);
-            intBuffer.putInt(i);
-            md.update(intBuffer.array());
-            final BigInteger hashcode = new BigInteger(md.digest());
-            targetMap.putIfAbsent(hashcode, serverIp);
-            md.reset();
-            intBuffer.clear();
+        /**
+         * Finds the first virtual node with a hash greater than the given hash, wrapping around to the first virtual
+         * node if there is none.
+         */
+        private String findServerIp(final long hash) {
+            int index = Arrays.binarySearch(hashes, hash);
+            index = index >= 0 ? index + 1 : -index - 1;
+            return serverIps[index == hashes.length ? 0 : index];
         }
     }
 }
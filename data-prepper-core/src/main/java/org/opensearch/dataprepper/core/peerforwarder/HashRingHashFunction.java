@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The hash functions which place Data Prepper hosts and identification keys on the {@link HashRing}. Every node in a
+ * cluster must use the same hash function, otherwise nodes disagree on which node owns an identification key.
+ */
+public enum HashRingHashFunction {
+    /**
+     * The high 64 bits of the MD5 digest. This places hosts and identification keys in the same order as the original
+     * 128-bit MD5 ring, so it remains compatible with nodes running earlier versions.
+     */
+    MD5("md5") {
+        @Override
+        long hashVirtualNode(final String serverIp, final int virtualNodeIndex) {
+            final MessageDigest md = MD5_DIGEST.get();
+            md.reset();
+            md.update(serverIp.getBytes());
+            md.update(ByteBuffer.allocate(Integer.BYTES).putInt(virtualNodeIndex).array());
+            return ByteBuffer.wrap(md.digest()).getLong();
+        }
+
+        @Override
+        long hashIdentificationKeys(final List<String> identificationKeyValues) {
+            final MessageDigest md = MD5_DIGEST.get();
+            md.reset();
+            return ByteBuffer.wrap(md.digest(String.join(DELIMITER, identificationKeyValues).getBytes())).getLong();
+        }
+    },
+
+    /**
+     * The 64-bit murmur3 hash, which is considerably cheaper to compute than MD5.
+     */
+    MURMUR3("murmur3") {
+        @Override
+        long hashVirtualNode(final String serverIp, final int virtualNodeIndex) {
+            return MURMUR3_128.newHasher()
+                    .putString(serverIp, StandardCharsets.UTF_8)
+                    .putInt(virtualNodeIndex)
+                    .hash()
+                    .asLong();
+        }
+
+        @Override
+        long hashIdentificationKeys(final List<String> identificationKeyValues) {
+            return MURMUR3_128.hashString(String.join(DELIMITER, identificationKeyValues), StandardCharsets.UTF_8).asLong();
+        }
+    };
+
+    private static final String DELIMITER = ",";
+    private static final HashFunction MURMUR3_128 = Hashing.murmur3_128();
+    private static final ThreadLocal<MessageDigest> MD5_DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new AssertionError("unreachable", e);
+        }
+    });
+    private static final Map<String, HashRingHashFunction> STRING_NAME_TO_ENUM_MAP = new HashMap<>();
+
+    private final String name;
+
+    static {
+        Arrays.stream(HashRingHashFunction.values())
+                .forEach(enumValue -> STRING_NAME_TO_ENUM_MAP.put(enumValue.name, enumValue));
+    }
+
+    HashRingHashFunction(final String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    static HashRingHashFunction getByName(final String name) {
+        return Optional.ofNullable(STRING_NAME_TO_ENUM_MAP.get(name))
+                .orElseThrow(() -> new IllegalArgumentException("Unrecognized HashRingHashFunction: " + name));
+    }
+
+    /**
+     * @param serverIp the Data Prepper host
+     * @param virtualNodeIndex the index of the virtual node of the host
+     * @return the position of the virtual node on the ring
+     */
+    abstract long hashVirtualNode(String serverIp, int virtualNodeIndex);
+
+    /**
+     * @param identificationKeyValues the values of the identification keys of an event
+     * @return the position of the identification keys on the ring
+     */
+    abstract long hashIdentificationKeys(List<String> identificationKeyValues);
+}
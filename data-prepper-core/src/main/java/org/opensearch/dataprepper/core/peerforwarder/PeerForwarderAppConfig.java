@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.core.peerforwarder;
 import org.opensearch.dataprepper.core.parser.model.DataPrepperConfiguration;
 import org.opensearch.dataprepper.core.peerforwarder.certificate.CertificateProviderFactory;
 import org.opensearch.dataprepper.core.peerforwarder.client.PeerForwarderClient;
+import org.opensearch.dataprepper.core.peerforwarder.codec.CompactPeerForwarderCodec;
 import org.opensearch.dataprepper.core.peerforwarder.codec.PeerForwarderCodec;
 import org.opensearch.dataprepper.core.peerforwarder.server.PeerForwarderHttpServerProvider;
 import org.opensearch.dataprepper.core.peerforwarder.server.PeerForwarderHttpService;
@@ -69,10 +70,11 @@ class PeerForwarderAppConfig {
     public PeerForwarderClient peerForwarderClient(final PeerForwarderConfiguration peerForwarderConfiguration,
                                                    final PeerForwarderClientFactory peerForwarderClientFactory,
                                                    final PeerForwarderCodec peerForwarderCodec,
+                                                   final CompactPeerForwarderCodec compactPeerForwarderCodec,
                                                    @Qualifier("peerForwarderMetrics") final PluginMetrics pluginMetrics
     ) {
-        return new PeerForwarderClient(
-                peerForwarderConfiguration, peerForwarderClientFactory, peerForwarderCodec, pluginMetrics);
+        return new PeerForwarderClient(peerForwarderConfiguration, peerForwarderClientFactory, peerForwarderCodec,
+                peerForwarderConfiguration.getCompactCodec() ? compactPeerForwarderCodec : null, pluginMetrics);
     }
 
     @Bean(name = "defaultPeerForwarder")
@@ -100,11 +102,12 @@ class PeerForwarderAppConfig {
             final PeerForwarderProvider peerForwarderProvider,
             final PeerForwarderConfiguration peerForwarderConfiguration,
             final PeerForwarderCodec peerForwarderCodec,
+            final CompactPeerForwarderCodec compactPeerForwarderCodec,
             final AcknowledgementSetManager acknowledgementSetManager,
             @Qualifier("peerForwarderMetrics") final PluginMetrics pluginMetrics
     ) {
         return new PeerForwarderHttpService(responseHandler, peerForwarderProvider, peerForwarderConfiguration,
-                peerForwarderCodec, acknowledgementSetManager, pluginMetrics);
+                peerForwarderCodec, compactPeerForwarderCodec, acknowledgementSetManager, pluginMetrics);
     }
 
     @Bean
@@ -32,7 +32,8 @@ public class PeerForwarderClientFactory {
     public HashRing createHashRing() {
         final DiscoveryMode discoveryMode = peerForwarderConfiguration.getDiscoveryMode();
         final PeerListProvider peerListProvider = discoveryMode.create(peerForwarderConfiguration, pluginMetrics);
-        return new HashRing(peerListProvider, NUM_VIRTUAL_NODES);
+        return new HashRing(peerListProvider, NUM_VIRTUAL_NODES,
+                peerForwarderConfiguration.getHashRingHashFunction(), peerForwarderConfiguration.getHashRingCacheSize());
     }
 
     public PeerClientPool setPeerClientPool() {
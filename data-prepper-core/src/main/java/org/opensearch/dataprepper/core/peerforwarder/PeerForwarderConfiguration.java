@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.dataprepper.core.parser.model.DataPrepperConfiguration;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.DiscoveryMode;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -67,6 +68,10 @@ public class PeerForwarderConfiguration {
     private Integer forwardingBatchQueueDepth = 1;
     private Duration forwardingBatchTimeout = DEFAULT_FORWARDING_BATCH_TIMEOUT;
     private boolean binaryCodec = true;
+    private HashRingHashFunction hashRingHashFunction = HashRingHashFunction.MD5;
+    private Integer hashRingCacheSize = 0;
+    private boolean compactCodec = false;
+    private CompressionOption compactCodecCompression = CompressionOption.NONE;
     private List<Set<String>> excludeIdentificationKeys;
 
     public PeerForwarderConfiguration() {}
@@ -106,7 +111,11 @@ public class PeerForwarderConfiguration {
             @JsonProperty("forwarding_batch_size") final Integer forwardingBatchSize,
             @JsonProperty("forwarding_batch_queue_depth") final Integer forwardingBatchQueueDepth,
             @JsonProperty("forwarding_batch_timeout") final Duration forwardingBatchTimeout,
-            @JsonProperty("binary_codec") final Boolean binaryCodec
+            @JsonProperty("binary_codec") final Boolean binaryCodec,
+            @JsonProperty("hash_ring_hash_function") final String hashRingHashFunction,
+            @JsonProperty("hash_ring_cache_size") final Integer hashRingCacheSize,
+            @JsonProperty("compact_codec") final Boolean compactCodec,
+            @JsonProperty("compact_codec_compression") final String compactCodecCompression
     ) {
         setServerPort(serverPort);
         setRequestTimeout(requestTimeout);
@@ -141,6 +150,10 @@ public class PeerForwarderConfiguration {
         setForwardingBatchQueueDepth(forwardingBatchQueueDepth);
         setForwardingBatchTimeout(forwardingBatchTimeout);
         setBinaryCodec(binaryCodec == null || binaryCodec);
+        setHashRingHashFunction(hashRingHashFunction);
+        setHashRingCacheSize(hashRingCacheSize);
+        this.compactCodec = compactCodec != null && compactCodec;
+        setCompactCodecCompression(compactCodecCompression);
         checkForCertAndKeyFileInS3();
         validateSslAndAuthentication();
         this.excludeIdentificationKeys = excludeIdentificationKeys;
@@ -273,6 +286,22 @@ public class PeerForwarderConfiguration {
         return binaryCodec;
     }
 
+    public HashRingHashFunction getHashRingHashFunction() {
+        return hashRingHashFunction;
+    }
+
+    public int getHashRingCacheSize() {
+        return hashRingCacheSize;
+    }
+
+    public boolean getCompactCodec() {
+        return compactCodec;
+    }
+
+    public CompressionOption getCompactCodecCompression() {
+        return compactCodecCompression;
+    }
+
     private void setServerPort(final Integer serverPort) {
         if (serverPort != null) {
             if (serverPort < 0 || serverPort > 65535) {
@@ -566,4 +595,29 @@ public class PeerForwarderConfiguration {
     private void setBinaryCodec(final boolean binaryCodec) {
         this.binaryCodec = binaryCodec;
     }
+
+    private void setHashRingHashFunction(final String hashRingHashFunction) {
+        if (hashRingHashFunction != null) {
+            this.hashRingHashFunction = HashRingHashFunction.getByName(hashRingHashFunction);
+        }
+    }
+
+    private void setCompactCodecCompression(final String compactCodecCompression) {
+        if (compactCodecCompression != null) {
+            final CompressionOption compressionOption = CompressionOption.fromOptionValue(compactCodecCompression);
+            if (compressionOption == null || compressionOption == CompressionOption.AUTOMATIC) {
+                throw new IllegalArgumentException("Compact codec compression must be one of none, gzip, snappy or zstd.");
+            }
+            this.compactCodecCompression = compressionOption;
+        }
+    }
+
+    private void setHashRingCacheSize(final Integer hashRingCacheSize) {
+        if (hashRingCacheSize != null) {
+            if (hashRingCacheSize < 0) {
+                throw new IllegalArgumentException("Hash ring cache size must be a non-negative integer.");
+            }
+            this.hashRingCacheSize = hashRingCacheSize;
+        }
+    }
 }
@@ -7,11 +7,17 @@ package org.opensearch.dataprepper.core.peerforwarder.client;
 
 import com.linecorp.armeria.client.WebClient;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.core.peerforwarder.PeerClientPool;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderClientFactory;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.core.peerforwarder.codec.CompactPeerForwarderCodec;
 import org.opensearch.dataprepper.core.peerforwarder.codec.PeerForwarderCodec;
 import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
@@ -22,7 +28,9 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
@@ -31,10 +39,15 @@ public class PeerForwarderClient {
     private static final Logger LOG = LoggerFactory.getLogger(PeerForwarderClient.class);
     static final String REQUESTS = "requests";
     static final String CLIENT_REQUEST_FORWARDING_LATENCY = "clientRequestForwardingLatency";
+    private static final RequestHeaders COMPACT_REQUEST_HEADERS = RequestHeaders.of(
+            HttpMethod.POST, PeerForwarderConfiguration.DEFAULT_PEER_FORWARDING_URI,
+            HttpHeaderNames.CONTENT_TYPE, MediaType.parse(CompactPeerForwarderCodec.MEDIA_TYPE));
 
     private final PeerForwarderClientFactory peerForwarderClientFactory;
     private final PeerForwarderConfiguration peerForwarderConfiguration;
     private final PeerForwarderCodec peerForwarderCodec;
+    private final CompactPeerForwarderCodec compactPeerForwarderCodec;
+    private final Set<String> compactCodecPeers;
     private final ExecutorService executorService;
     private final Counter requestsCounter;
     private final Timer clientRequestForwardingLatencyTimer;
@@ -45,9 +58,23 @@ public class PeerForwarderClient {
                                final PeerForwarderClientFactory peerForwarderClientFactory,
                                final PeerForwarderCodec peerForwarderCodec,
                                final PluginMetrics pluginMetrics) {
+        this(peerForwarderConfiguration, peerForwarderClientFactory, peerForwarderCodec, null, pluginMetrics);
+    }
+
+    /**
+     * @param compactPeerForwarderCodec the codec to use for peers which advertise support for it, or null to always
+     *                                  use the peerForwarderCodec
+     */
+    public PeerForwarderClient(final PeerForwarderConfiguration peerForwarderConfiguration,
+                               final PeerForwarderClientFactory peerForwarderClientFactory,
+                               final PeerForwarderCodec peerForwarderCodec,
+                               final CompactPeerForwarderCodec compactPeerForwarderCodec,
+                               final PluginMetrics pluginMetrics) {
         this.peerForwarderConfiguration = peerForwarderConfiguration;
         this.peerForwarderClientFactory = peerForwarderClientFactory;
         this.peerForwarderCodec = peerForwarderCodec;
+        this.compactPeerForwarderCodec = compactPeerForwarderCodec;
+        compactCodecPeers = ConcurrentHashMap.newKeySet();
         executorService = Executors.newFixedThreadPool(peerForwarderConfiguration.getClientThreadCount());
         requestsCounter = pluginMetrics.counter(REQUESTS);
         clientRequestForwardingLatencyTimer = pluginMetrics.timer(CLIENT_REQUEST_FORWARDING_LATENCY);
@@ -66,31 +93,59 @@ public class PeerForwarderClient {
 
         final WebClient client = peerClientPool.getClient(ipAddress);
 
-        final byte[] serializedJsonBytes = getSerializedJsonBytes(records, pluginId, pipelineName);
+        // Peers only receive compact requests once they have advertised support, so peers running earlier
+        // versions keep receiving requests they can decode.
+        final boolean useCompactCodec = compactPeerForwarderCodec != null && compactCodecPeers.contains(ipAddress);
+        final byte[] serializedJsonBytes = getSerializedJsonBytes(records, pluginId, pipelineName,
+                useCompactCodec ? compactPeerForwarderCodec : peerForwarderCodec);
 
         final CompletableFuture<AggregatedHttpResponse> aggregatedHttpResponse = clientRequestForwardingLatencyTimer.record(() ->
-            processHttpRequest(client, serializedJsonBytes)
+            processHttpRequest(client, ipAddress, serializedJsonBytes, useCompactCodec)
         );
         requestsCounter.increment();
 
         return aggregatedHttpResponse;
     }
 
-    private byte[] getSerializedJsonBytes(final Collection<Record<Event>> records, final String pluginId, final String pipelineName) {
+    private byte[] getSerializedJsonBytes(final Collection<Record<Event>> records,
+                                          final String pluginId,
+                                          final String pipelineName,
+                                          final PeerForwarderCodec codec) {
         final List<Event> eventList = records.stream().map(Record::getData).collect(Collectors.toList());
         final PeerForwardingEvents peerForwardingEvents = new PeerForwardingEvents(eventList, pluginId, pipelineName);
         try {
-            return peerForwarderCodec.serialize(peerForwardingEvents);
+            return codec.serialize(peerForwardingEvents);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
-    private CompletableFuture<AggregatedHttpResponse> processHttpRequest(final WebClient client, final byte[] content) {
+    private CompletableFuture<AggregatedHttpResponse> processHttpRequest(final WebClient client,
+                                                                         final String ipAddress,
+                                                                         final byte[] content,
+                                                                         final boolean useCompactCodec) {
         return CompletableFuture.supplyAsync(() ->
         {
-            final CompletableFuture<AggregatedHttpResponse> aggregate = client.post(PeerForwarderConfiguration.DEFAULT_PEER_FORWARDING_URI, content).aggregate();
-            return aggregate.join();
+            final HttpResponse httpResponse = useCompactCodec ?
+                    client.execute(COMPACT_REQUEST_HEADERS, content) :
+                    client.post(PeerForwarderConfiguration.DEFAULT_PEER_FORWARDING_URI, content);
+            final AggregatedHttpResponse aggregatedHttpResponse = httpResponse.aggregate().join();
+            if (compactPeerForwarderCodec != null) {
+                updateCompactCodecSupport(ipAddress, aggregatedHttpResponse);
+            }
+            return aggregatedHttpResponse;
         }, executorService);
     }
+
+    private void updateCompactCodecSupport(final String ipAddress, final AggregatedHttpResponse aggregatedHttpResponse) {
+        final String supportedCodecs = aggregatedHttpResponse.headers().get(CompactPeerForwarderCodec.SUPPORTED_CODECS_HEADER);
+        if (supportedCodecs != null && supportedCodecs.contains(CompactPeerForwarderCodec.CODEC_NAME)) {
+            if (compactCodecPeers.add(ipAddress)) {
+                LOG.info("Peer {} supports the compact peer forwarder codec.", ipAddress);
+            }
+        } else if (compactCodecPeers.remove(ipAddress)) {
+            // Error responses do not advertise codecs either, in which case the next successful response restores it.
+            LOG.info("Peer {} did not advertise the compact peer forwarder codec. Using the configured codec.", ipAddress);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,426 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A compact binary {@link PeerForwarderCodec}. Event data is written as a tagged binary tree rather than as JSON text,
+ * and every object key, event type and destination name is written once per batch and referenced by index after
+ * that, so the keys repeated by every event in a batch cost a few bytes each. The encoded batch is optionally
+ * compressed as a whole.
+ * <p>
+ * The encoded bytes start with a header identifying the format version and the compression, so the receiving node
+ * does not need to share the compression configuration of the sending node.
+ */
+public class CompactPeerForwarderCodec implements PeerForwarderCodec {
+    /**
+     * The content type of requests encoded with this codec.
+     */
+    public static final String MEDIA_TYPE = "application/vnd.opensearch.dataprepper.peer-forwarder-compact";
+
+    /**
+     * The response header with which a peer forwarder server advertises the codecs it can decode, so that clients only
+     * send compact requests to peers which understand them.
+     */
+    public static final String SUPPORTED_CODECS_HEADER = "x-data-prepper-peer-forwarder-codecs";
+    public static final String CODEC_NAME = "compact";
+
+    private static final byte[] MAGIC = {'D', 'P', 'P', 'F'};
+    private static final byte FORMAT_VERSION = 1;
+    private static final String TRACE_EVENT_TYPE = "TRACE";
+    private static final int MAX_DEPTH = 1000;
+
+    private static final int SYMBOL_NULL = 0;
+    private static final int SYMBOL_NEW = 1;
+    private static final int SYMBOL_REFERENCE_OFFSET = 2;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_TRUE = 1;
+    private static final byte TAG_FALSE = 2;
+    private static final byte TAG_INTEGER = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_FLOAT = 5;
+    private static final byte TAG_STRING = 6;
+    private static final byte TAG_OBJECT = 7;
+    private static final byte TAG_ARRAY = 8;
+    private static final byte TAG_BIG_INTEGER = 9;
+    private static final byte TAG_DECIMAL = 10;
+    private static final byte TAG_BINARY = 11;
+
+    private final ObjectMapper objectMapper;
+    private final CompressionOption compression;
+
+    public CompactPeerForwarderCodec(final ObjectMapper objectMapper, final CompressionOption compression) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.compression = Objects.requireNonNull(compression);
+        compressionId(compression);
+    }
+
+    @Override
+    public byte[] serialize(final PeerForwardingEvents peerForwardingEvents) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        byteArrayOutputStream.write(MAGIC);
+        byteArrayOutputStream.write(FORMAT_VERSION);
+        byteArrayOutputStream.write(compressionId(compression));
+
+        try (final DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(
+                compression.getCompressionEngine().createOutputStream(byteArrayOutputStream)))) {
+            new Writer(outputStream).writeEvents(peerForwardingEvents);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @Override
+    public PeerForwardingEvents deserialize(final byte[] bytes) throws IOException {
+        final ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(bytes);
+        final byte[] magic = byteArrayInputStream.readNBytes(MAGIC.length);
+        if (!Arrays.equals(MAGIC, magic)) {
+            throw new IOException("The peer forwarding request is not in the compact format.");
+        }
+        final int formatVersion = byteArrayInputStream.read();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported compact peer forwarding format version: " + formatVersion);
+        }
+        final CompressionOption requestCompression = compressionForId(byteArrayInputStream.read());
+
+        try (final DataInputStream inputStream = new DataInputStream(new BufferedInputStream(
+                requestCompression.getDecompressionEngine().createInputStream(byteArrayInputStream)))) {
+            return new Reader(inputStream).readEvents();
+        }
+    }
+
+    private static int compressionId(final CompressionOption compression) {
+        switch (compression) {
+            case NONE:
+                return 0;
+            case GZIP:
+                return 1;
+            case SNAPPY:
+                return 2;
+            case ZSTD:
+                return 3;
+            default:
+                throw new IllegalArgumentException("Unsupported compression for the compact peer forwarder codec: " + compression);
+        }
+    }
+
+    private static CompressionOption compressionForId(final int compressionId) throws IOException {
+        switch (compressionId) {
+            case 0:
+                return CompressionOption.NONE;
+            case 1:
+                return CompressionOption.GZIP;
+            case 2:
+                return CompressionOption.SNAPPY;
+            case 3:
+                return CompressionOption.ZSTD;
+            default:
+                throw new IOException("Unsupported compact peer forwarding compression: " + compressionId);
+        }
+    }
+
+    private class Writer {
+        private final DataOutputStream outputStream;
+        private final Map<String, Integer> symbolTable = new HashMap<>();
+
+        private Writer(final DataOutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        private void writeEvents(final PeerForwardingEvents peerForwardingEvents) throws IOException {
+            writeSymbol(peerForwardingEvents.getDestinationPluginId());
+            writeSymbol(peerForwardingEvents.getDestinationPipelineName());
+
+            final List<Event> events = peerForwardingEvents.getEvents();
+            if (events == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(events.size() + 1);
+            for (final Event event : events) {
+                final EventMetadata metadata = event.getMetadata();
+                writeSymbol(metadata.getEventType());
+                final Instant timeReceived = metadata.getTimeReceived();
+                outputStream.writeBoolean(timeReceived != null);
+                if (timeReceived != null) {
+                    outputStream.writeLong(timeReceived.getEpochSecond());
+                    outputStream.writeInt(timeReceived.getNano());
+                }
+                writeNode(objectMapper.valueToTree(metadata.getAttributes()));
+                writeNode(event.getJsonNode());
+            }
+        }
+
+        private void writeNode(final JsonNode node) throws IOException {
+            if (node == null || node.isNull() || node.isMissingNode()) {
+                outputStream.writeByte(TAG_NULL);
+            } else if (node.isBoolean()) {
+                outputStream.writeByte(node.booleanValue() ? TAG_TRUE : TAG_FALSE);
+            } else if (node.isInt() || node.isLong() || node.isShort()) {
+                outputStream.writeByte(TAG_INTEGER);
+                writeVarLong(node.longValue());
+            } else if (node.isDouble()) {
+                outputStream.writeByte(TAG_DOUBLE);
+                outputStream.writeDouble(node.doubleValue());
+            } else if (node.isFloat()) {
+                outputStream.writeByte(TAG_FLOAT);
+                outputStream.writeFloat(node.floatValue());
+            } else if (node.isBigInteger()) {
+                outputStream.writeByte(TAG_BIG_INTEGER);
+                writeString(node.bigIntegerValue().toString());
+            } else if (node.isBigDecimal()) {
+                outputStream.writeByte(TAG_DECIMAL);
+                writeString(node.decimalValue().toString());
+            } else if (node.isTextual()) {
+                outputStream.writeByte(TAG_STRING);
+                writeString(node.textValue());
+            } else if (node.isBinary()) {
+                outputStream.writeByte(TAG_BINARY);
+                final byte[] bytes = node.binaryValue();
+                writeVarInt(bytes.length);
+                outputStream.write(bytes);
+            } else if (node.isObject()) {
+                outputStream.writeByte(TAG_OBJECT);
+                writeVarInt(node.size());
+                final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    final Map.Entry<String, JsonNode> field = fields.next();
+                    writeSymbol(field.getKey());
+                    writeNode(field.getValue());
+                }
+            } else if (node.isArray()) {
+                outputStream.writeByte(TAG_ARRAY);
+                writeVarInt(node.size());
+                for (final JsonNode element : node) {
+                    writeNode(element);
+                }
+            } else if (node instanceof POJONode) {
+                writeNode(objectMapper.valueToTree(((POJONode) node).getPojo()));
+            } else {
+                outputStream.writeByte(TAG_STRING);
+                writeString(node.asText());
+            }
+        }
+
+        private void writeSymbol(final String symbol) throws IOException {
+            if (symbol == null) {
+                writeVarInt(SYMBOL_NULL);
+                return;
+            }
+            final Integer index = symbolTable.get(symbol);
+            if (index != null) {
+                writeVarInt(index + SYMBOL_REFERENCE_OFFSET);
+                return;
+            }
+            symbolTable.put(symbol, symbolTable.size());
+            writeVarInt(SYMBOL_NEW);
+            writeString(symbol);
+        }
+
+        private void writeString(final String value) throws IOException {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            outputStream.write(bytes);
+        }
+
+        private void writeVarInt(final int value) throws IOException {
+            writeVarLong(value);
+        }
+
+        private void writeVarLong(final long value) throws IOException {
+            long zigZag = (value << 1) ^ (value >> 63);
+            while ((zigZag & ~0x7FL) != 0) {
+                outputStream.writeByte((int) ((zigZag & 0x7F) | 0x80));
+                zigZag >>>= 7;
+            }
+            outputStream.writeByte((int) zigZag);
+        }
+    }
+
+    private class Reader {
+        private final DataInputStream inputStream;
+        private final List<String> symbolTable = new ArrayList<>();
+
+        private Reader(final DataInputStream inputStream) {
+            this.inputStream = inputStream;
+        }
+
+        private PeerForwardingEvents readEvents() throws IOException {
+            final String destinationPluginId = readSymbol();
+            final String destinationPipelineName = readSymbol();
+
+            final int eventCount = readVarInt();
+            if (eventCount == 0) {
+                return new PeerForwardingEvents(null, destinationPluginId, destinationPipelineName);
+            }
+            final List<Event> events = new ArrayList<>();
+            for (int i = 0; i < eventCount - 1; i++) {
+                events.add(readEvent());
+            }
+            return new PeerForwardingEvents(events, destinationPluginId, destinationPipelineName);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Event readEvent() throws IOException {
+            final String eventType = readSymbol();
+            Instant timeReceived = null;
+            if (inputStream.readBoolean()) {
+                timeReceived = Instant.ofEpochSecond(inputStream.readLong(), inputStream.readInt());
+            }
+            final JsonNode attributesNode = readNode(0);
+            final Map<String, Object> attributes = attributesNode.isNull() ?
+                    null : objectMapper.treeToValue(attributesNode, Map.class);
+            final JsonNode data = readNode(0);
+
+            final DefaultEventMetadata eventMetadata = DefaultEventMetadata.builder()
+                    .withEventType(eventType)
+                    .withTimeReceived(timeReceived)
+                    .withAttributes(attributes)
+                    .build();
+
+            if (TRACE_EVENT_TYPE.equalsIgnoreCase(eventType)) {
+                return JacksonSpan.builder()
+                        .withData(data)
+                        .withEventMetadata(eventMetadata)
+                        .build();
+            }
+            return JacksonEvent.builder()
+                    .withData(data)
+                    .withEventMetadata(eventMetadata)
+                    .build();
+        }
+
+        private JsonNode readNode(final int depth) throws IOException {
+            if (depth > MAX_DEPTH) {
+                throw new IOException("The compact peer forwarding request exceeds the maximum nesting depth of " + MAX_DEPTH);
+            }
+            final byte tag = inputStream.readByte();
+            switch (tag) {
+                case TAG_NULL:
+                    return JsonNodeFactory.instance.nullNode();
+                case TAG_TRUE:
+                    return JsonNodeFactory.instance.booleanNode(true);
+                case TAG_FALSE:
+                    return JsonNodeFactory.instance.booleanNode(false);
+                case TAG_INTEGER:
+                    final long value = readVarLong();
+                    return value == (int) value ?
+                            JsonNodeFactory.instance.numberNode((int) value) : JsonNodeFactory.instance.numberNode(value);
+                case TAG_DOUBLE:
+                    return JsonNodeFactory.instance.numberNode(inputStream.readDouble());
+                case TAG_FLOAT:
+                    return JsonNodeFactory.instance.numberNode(inputStream.readFloat());
+                case TAG_BIG_INTEGER:
+                    return JsonNodeFactory.instance.numberNode(new BigInteger(readString()));
+                case TAG_DECIMAL:
+                    return JsonNodeFactory.instance.numberNode(new BigDecimal(readString()));
+                case TAG_STRING:
+                    return JsonNodeFactory.instance.textNode(readString());
+                case TAG_BINARY:
+                    return JsonNodeFactory.instance.binaryNode(readBytes(readVarInt()));
+                case TAG_OBJECT:
+                    final int fieldCount = readVarInt();
+                    final ObjectNode objectNode = JsonNodeFactory.instance.objectNode();
+                    for (int i = 0; i < fieldCount; i++) {
+                        final String fieldName = readSymbol();
+                        objectNode.set(fieldName, readNode(depth + 1));
+                    }
+                    return objectNode;
+                case TAG_ARRAY:
+                    final int elementCount = readVarInt();
+                    final ArrayNode arrayNode = JsonNodeFactory.instance.arrayNode();
+                    for (int i = 0; i < elementCount; i++) {
+                        arrayNode.add(readNode(depth + 1));
+                    }
+                    return arrayNode;
+                default:
+                    throw new IOException("Unknown value tag in compact peer forwarding request: " + tag);
+            }
+        }
+
+        private String readSymbol() throws IOException {
+            final int symbol = readVarInt();
+            if (symbol == SYMBOL_NULL) {
+                return null;
+            }
+            if (symbol == SYMBOL_NEW) {
+                final String value = readString();
+                symbolTable.add(value);
+                return value;
+            }
+            final int index = symbol - SYMBOL_REFERENCE_OFFSET;
+            if (index >= symbolTable.size()) {
+                throw new IOException("Invalid symbol reference in compact peer forwarding request: " + index);
+            }
+            return symbolTable.get(index);
+        }
+
+        private String readString() throws IOException {
+            return new String(readBytes(readVarInt()), StandardCharsets.UTF_8);
+        }
+
+        private byte[] readBytes(final int length) throws IOException {
+            final byte[] bytes = inputStream.readNBytes(length);
+            if (bytes.length != length) {
+                throw new EOFException("The compact peer forwarding request ended unexpectedly.");
+            }
+            return bytes;
+        }
+
+        private int readVarInt() throws IOException {
+            final long value = readVarLong();
+            if (value < 0 || value > Integer.MAX_VALUE) {
+                throw new IOException("Invalid length in compact peer forwarding request: " + value);
+            }
+            return (int) value;
+        }
+
+        private long readVarLong() throws IOException {
+            long zigZag = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final byte b = inputStream.readByte();
+                zigZag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (zigZag >>> 1) ^ -(zigZag & 1);
+                }
+            }
+            throw new IOException("Malformed variable length integer in compact peer forwarding request.");
+        }
+    }
+}
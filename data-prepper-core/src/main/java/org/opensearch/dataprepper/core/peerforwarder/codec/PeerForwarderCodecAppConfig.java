@@ -12,6 +12,7 @@ import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.yaml.snakeyaml.LoaderOptions;
 
 import java.io.ObjectInputFilter;
@@ -19,6 +20,7 @@ import java.io.ObjectInputFilter;
 @Configuration
 public class PeerForwarderCodecAppConfig {
     @Bean
+    @Primary
     public PeerForwarderCodec peerForwarderCodec(
             final PeerForwarderConfiguration peerForwarderConfiguration,
             final ObjectInputFilter objectInputFilter,
@@ -27,6 +29,13 @@ public class PeerForwarderCodecAppConfig {
                 new JavaPeerForwarderCodec(objectInputFilter) : new JacksonPeerForwarderCodec(objectMapper);
     }
 
+    @Bean
+    public CompactPeerForwarderCodec compactPeerForwarderCodec(
+            final PeerForwarderConfiguration peerForwarderConfiguration,
+            @Qualifier("peerForwarderObjectMapper") final ObjectMapper objectMapper) {
+        return new CompactPeerForwarderCodec(objectMapper, peerForwarderConfiguration.getCompactCodecCompression());
+    }
+
     @Bean(name = "peerForwarderObjectMapper")
     public ObjectMapper objectMapper() {
         final JavaTimeModule javaTimeModule = new JavaTimeModule();
@@ -9,12 +9,15 @@ import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.server.annotation.Post;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderReceiveBuffer;
+import org.opensearch.dataprepper.core.peerforwarder.codec.CompactPeerForwarderCodec;
 import org.opensearch.dataprepper.core.peerforwarder.codec.PeerForwarderCodec;
 import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
@@ -40,11 +43,13 @@ public class PeerForwarderHttpService {
     static final String SERVER_REQUEST_PROCESSING_LATENCY = "serverRequestProcessingLatency";
     static final String RECORDS_RECEIVED_FROM_PEERS = "recordsReceivedFromPeers";
     private static final double BUFFER_TIMEOUT_FRACTION = 0.8;
+    private static final MediaType COMPACT_MEDIA_TYPE = MediaType.parse(CompactPeerForwarderCodec.MEDIA_TYPE);
 
     private final ResponseHandler responseHandler;
     private final PeerForwarderProvider peerForwarderProvider;
     private final PeerForwarderConfiguration peerForwarderConfiguration;
     private final PeerForwarderCodec peerForwarderCodec;
+    private final CompactPeerForwarderCodec compactPeerForwarderCodec;
     private final Timer serverRequestProcessingLatencyTimer;
     private final Counter recordsReceivedFromPeersCounter;
     private final AcknowledgementSetManager acknowledgementSetManager;
@@ -55,7 +60,23 @@ public class PeerForwarderHttpService {
                                     final PeerForwarderCodec peerForwarderCodec,
                                     final AcknowledgementSetManager acknowledgementSetManager,
                                     final PluginMetrics pluginMetrics) {
+        this(responseHandler, peerForwarderProvider, peerForwarderConfiguration, peerForwarderCodec, null,
+                acknowledgementSetManager, pluginMetrics);
+    }
+
+    /**
+     * @param compactPeerForwarderCodec the codec for requests with the compact content type, or null if this server
+     *                                  does not accept them
+     */
+    public PeerForwarderHttpService(final ResponseHandler responseHandler,
+                                    final PeerForwarderProvider peerForwarderProvider,
+                                    final PeerForwarderConfiguration peerForwarderConfiguration,
+                                    final PeerForwarderCodec peerForwarderCodec,
+                                    final CompactPeerForwarderCodec compactPeerForwarderCodec,
+                                    final AcknowledgementSetManager acknowledgementSetManager,
+                                    final PluginMetrics pluginMetrics) {
         this.responseHandler = responseHandler;
+        this.compactPeerForwarderCodec = compactPeerForwarderCodec;
         this.peerForwarderProvider = peerForwarderProvider;
         this.peerForwarderConfiguration = peerForwarderConfiguration;
         this.peerForwarderCodec = peerForwarderCodec;
@@ -77,7 +98,7 @@ public class PeerForwarderHttpService {
         final String destinationPluginId;
         final String destinationPipelineName;
         try {
-            peerForwardingEvents = peerForwarderCodec.deserialize(content.array());
+            peerForwardingEvents = getCodec(aggregatedHttpRequest).deserialize(content.array());
             destinationPluginId = peerForwardingEvents.getDestinationPluginId();
             destinationPipelineName = peerForwardingEvents.getDestinationPipelineName();
             if (peerForwardingEvents.getEvents() != null) {
@@ -97,7 +118,19 @@ public class PeerForwarderHttpService {
             return responseHandler.handleException(e, message);
         }
 
-        return HttpResponse.of(HttpStatus.OK);
+        if (compactPeerForwarderCodec == null) {
+            return HttpResponse.of(HttpStatus.OK);
+        }
+        return HttpResponse.of(ResponseHeaders.of(HttpStatus.OK,
+                CompactPeerForwarderCodec.SUPPORTED_CODECS_HEADER, CompactPeerForwarderCodec.CODEC_NAME));
+    }
+
+    private PeerForwarderCodec getCodec(final AggregatedHttpRequest aggregatedHttpRequest) {
+        final MediaType contentType = aggregatedHttpRequest.contentType();
+        if (compactPeerForwarderCodec != null && contentType != null && contentType.is(COMPACT_MEDIA_TYPE)) {
+            return compactPeerForwarderCodec;
+        }
+        return peerForwarderCodec;
     }
 
     private void writeEventsToBuffer(final Collection<Event> events,
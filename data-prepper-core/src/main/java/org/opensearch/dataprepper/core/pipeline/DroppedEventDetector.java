@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.pipeline;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Finds the events which a processor dropped from a batch. Input events are captured before the processor runs and
+ * compared by identity against the processor output after it runs.
+ * <p>
+ * The captured input and the identity table are kept between calls and only grow, so detecting dropped events does
+ * not allocate per processor or per batch once the arrays are large enough. Instances are not thread-safe; each
+ * {@link PipelineRunnerImpl} owns its own.
+ */
+class DroppedEventDetector {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private Event[] inputEvents = new Event[INITIAL_CAPACITY];
+    private int inputCount;
+    private Event[] outputTable = new Event[INITIAL_CAPACITY * 2];
+    private int outputTableSizeInUse;
+
+    /**
+     * Captures the events of the records which are about to be passed to a processor.
+     *
+     * @param records the processor input
+     */
+    void captureInput(final Collection<Record<Event>> records) {
+        clearInput();
+        final int size = records.size();
+        if (inputEvents.length < size) {
+            inputEvents = new Event[Math.max(size, inputEvents.length * 2)];
+        }
+        for (final Record<Event> record : records) {
+            inputEvents[inputCount++] = record.getData();
+        }
+    }
+
+    /**
+     * Captures the given input events.
+     *
+     * @param events the processor input events
+     */
+    void captureInputEvents(final Collection<Event> events) {
+        clearInput();
+        final int size = events.size();
+        if (inputEvents.length < size) {
+            inputEvents = new Event[Math.max(size, inputEvents.length * 2)];
+        }
+        for (final Event event : events) {
+            inputEvents[inputCount++] = event;
+        }
+    }
+
+    /**
+     * Calls the consumer for every captured input event which is not present in the output records, then clears the
+     * captured input.
+     *
+     * @param outputRecords the processor output
+     * @param droppedEventConsumer consumer for each dropped event
+     */
+    void forEachDroppedEvent(final Collection<Record<Event>> outputRecords, final Consumer<Event> droppedEventConsumer) {
+        try {
+            if (outputRecords.isEmpty()) {
+                for (int i = 0; i < inputCount; i++) {
+                    droppedEventConsumer.accept(inputEvents[i]);
+                }
+                return;
+            }
+
+            final int mask = prepareOutputTable(outputRecords.size());
+            for (final Record<Event> record : outputRecords) {
+                addToOutputTable(record.getData(), mask);
+            }
+            for (int i = 0; i < inputCount; i++) {
+                if (!outputTableContains(inputEvents[i], mask)) {
+                    droppedEventConsumer.accept(inputEvents[i]);
+                }
+            }
+        } finally {
+            Arrays.fill(outputTable, 0, outputTableSizeInUse, null);
+            outputTableSizeInUse = 0;
+            clearInput();
+        }
+    }
+
+    /**
+     * Releases the captured input events. The detector otherwise keeps references to them until the next capture.
+     */
+    void clearInput() {
+        Arrays.fill(inputEvents, 0, inputCount, null);
+        inputCount = 0;
+    }
+
+    private int prepareOutputTable(final int outputSize) {
+        int tableSize = Integer.highestOneBit(Math.max(outputSize, 1)) << 2;
+        if (tableSize < INITIAL_CAPACITY * 2) {
+            tableSize = INITIAL_CAPACITY * 2;
+        }
+        if (outputTable.length < tableSize) {
+            outputTable = new Event[tableSize];
+        }
+        outputTableSizeInUse = tableSize;
+        return tableSize - 1;
+    }
+
+    private void addToOutputTable(final Event event, final int mask) {
+        if (event == null) {
+            return;
+        }
+        int index = indexFor(event, mask);
+        while (outputTable[index] != null) {
+            if (outputTable[index] == event) {
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        outputTable[index] = event;
+    }
+
+    private boolean outputTableContains(final Event event, final int mask) {
+        if (event == null) {
+            return false;
+        }
+        int index = indexFor(event, mask);
+        while (outputTable[index] != null) {
+            if (outputTable[index] == event) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    private static int indexFor(final Event event, final int mask) {
+        final int hash = System.identityHashCode(event) * HASH_MULTIPLIER;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -57,6 +57,7 @@ import static java.lang.String.format;
 public class Pipeline implements HeadlessPipeline {
     private static final Logger LOG = LoggerFactory.getLogger(Pipeline.class);
     private static final int SINK_LOGGING_FREQUENCY = (int) Duration.ofSeconds(60).toMillis();
+    private static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 1;
     private final ProcessorRegistry singleThreadUnsafeProcessorRegistry;
     private final PipelineShutdown pipelineShutdown;
     private final String name;
@@ -64,11 +65,13 @@ public class Pipeline implements HeadlessPipeline {
     private final Buffer buffer;
     private final List<List<Processor>> processorSets;
     private final List<DataFlowComponent<Sink>> sinks;
+    private final List<DataFlowComponent<Sink>> sinksInRoutingOrder;
     private final Router router;
     private final SourceCoordinatorFactory sourceCoordinatorFactory;
     private final int processorThreads;
     private HeadlessPipeline failurePipeline;
     private final int readBatchTimeoutInMillis;
+    private final int maxInFlightBatches;
     private final Duration processorShutdownTimeout;
     private final Duration sinkShutdownTimeout;
     private final Duration peerForwarderDrainTimeout;
@@ -116,6 +119,49 @@ public class Pipeline implements HeadlessPipeline {
             final Duration processorShutdownTimeout,
             final Duration sinkShutdownTimeout,
             final Duration peerForwarderDrainTimeout) {
+        this(name, source, buffer, processorSets, sinks, router, eventFactory, acknowledgementSetManager,
+                sourceCoordinatorFactory, processorThreads, readBatchTimeoutInMillis, processorShutdownTimeout,
+                sinkShutdownTimeout, peerForwarderDrainTimeout, DEFAULT_MAX_IN_FLIGHT_BATCHES);
+    }
+
+    /**
+     * Constructs a {@link Pipeline} which allows each {@link ProcessWorker} to have up to {@code maxInFlightBatches}
+     * batches in the sinks at once. A value of 1 waits for the sinks to complete a batch before reading the next one.
+     *
+     * @param name                      name of the pipeline
+     * @param source                    source from where the pipeline reads the records
+     * @param buffer                    buffer for the source to queue records
+     * @param processorSets             processor sets that will be applied to records. Each set includes either a single shared processor instance
+     *                                  or multiple instances with each to be accessed only by a single {@link ProcessWorker}.
+     * @param sinks                     sink to which the transformed records are posted
+     * @param router                    router object for routing in the pipeline
+     * @param eventFactory              event factory to create events
+     * @param acknowledgementSetManager acknowledgement set manager
+     * @param sourceCoordinatorFactory  source coordinator factory that enables coordination between different instances/threads of sources
+     * @param processorThreads          configured or default threads to parallelize processor work
+     * @param readBatchTimeoutInMillis  configured or default timeout for reading batch of records from buffer
+     * @param processorShutdownTimeout  configured or default timeout before forcefully terminating the processor workers
+     * @param sinkShutdownTimeout       configured or default timeout before forcefully terminating the sink workers
+     * @param peerForwarderDrainTimeout configured or default timeout before considering the peer forwarder drained and ready for termination
+     * @param maxInFlightBatches        configured or default maximum number of batches per worker awaiting the sinks
+     */
+    public Pipeline(
+            @Nonnull final String name,
+            @Nonnull final Source source,
+            @Nonnull final Buffer buffer,
+            @Nonnull final List<List<Processor>> processorSets,
+            @Nonnull final List<DataFlowComponent<Sink>> sinks,
+            @Nonnull final Router router,
+            @Nonnull final EventFactory eventFactory,
+            @Nonnull final AcknowledgementSetManager acknowledgementSetManager,
+            final SourceCoordinatorFactory sourceCoordinatorFactory,
+            final int processorThreads,
+            final int readBatchTimeoutInMillis,
+            final Duration processorShutdownTimeout,
+            final Duration sinkShutdownTimeout,
+            final Duration peerForwarderDrainTimeout,
+            final int maxInFlightBatches) {
+        Preconditions.checkArgument(maxInFlightBatches > 0, "maxInFlightBatches must be greater than 0");
         Preconditions.checkArgument(processorSets.stream().allMatch(
                 processorSet -> Objects.nonNull(processorSet) && (processorSet.size() == 1 || processorSet.size() == processorThreads)));
         this.name = name;
@@ -123,6 +169,7 @@ public class Pipeline implements HeadlessPipeline {
         this.buffer = buffer;
         this.processorSets = processorSets;
         this.sinks = sinks;
+        this.sinksInRoutingOrder = orderForRouting(sinks);
         this.router = router;
         this.failurePipeline = null;
         this.sourceCoordinatorFactory = sourceCoordinatorFactory;
@@ -130,6 +177,7 @@ public class Pipeline implements HeadlessPipeline {
         this.eventFactory = eventFactory;
         this.acknowledgementSetManager = acknowledgementSetManager;
         this.readBatchTimeoutInMillis = readBatchTimeoutInMillis;
+        this.maxInFlightBatches = maxInFlightBatches;
         this.processorShutdownTimeout = processorShutdownTimeout;
         this.sinkShutdownTimeout = sinkShutdownTimeout;
         this.peerForwarderDrainTimeout = peerForwarderDrainTimeout;
@@ -225,6 +273,10 @@ public class Pipeline implements HeadlessPipeline {
         return readBatchTimeoutInMillis;
     }
 
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
     public boolean isReady() {
         for (final Sink sink : getSinks()) {
             if (!sink.isReady()) {
@@ -401,7 +453,7 @@ public class Pipeline implements HeadlessPipeline {
                                 acknowledgementSetManager :
                                 InactiveAcknowledgementSetManager.getInstance(),
                         sinks);
-        router.route(records, sinks, getRecordStrategy, (sink, events) ->
+        router.route(records, sinksInRoutingOrder, getRecordStrategy, (sink, events) ->
                 sinkFutures.add(sinkExecutorService.submit(() -> {
                     sink.updateLatencyMetrics(events);
                     sink.output(events);
@@ -410,6 +462,21 @@ public class Pipeline implements HeadlessPipeline {
         return sinkFutures;
     }
 
+    /**
+     * Orders the sinks so that pipeline connectors receive their records after all other sinks. Other sinks can then
+     * share the original records, and only pipeline connectors receive copies of records routed to several sinks.
+     */
+    private static List<DataFlowComponent<Sink>> orderForRouting(final List<DataFlowComponent<Sink>> sinks) {
+        final List<DataFlowComponent<Sink>> orderedSinks = new ArrayList<>(sinks.size());
+        sinks.stream()
+                .filter(sink -> !(sink.getComponent() instanceof PipelineConnector))
+                .forEach(orderedSinks::add);
+        sinks.stream()
+                .filter(sink -> sink.getComponent() instanceof PipelineConnector)
+                .forEach(orderedSinks::add);
+        return orderedSinks;
+    }
+
     public boolean areAcknowledgementsEnabled() {
         return source.areAcknowledgementsEnabled() || buffer.areAcknowledgementsEnabled();
     }
@@ -13,5 +13,13 @@ package org.opensearch.dataprepper.core.pipeline;
 public interface PipelineRunner {
     void runAllProcessorsAndPublishToSinks();
 
+    /**
+     * Waits for any batches which were published to the sinks but not yet checkpointed and checkpoints them.
+     * Runners which always wait for the sinks before returning from {@link #runAllProcessorsAndPublishToSinks()}
+     * have nothing to complete.
+     */
+    default void completeInFlightBatches() {
+    }
+
     Pipeline getPipeline();
 }
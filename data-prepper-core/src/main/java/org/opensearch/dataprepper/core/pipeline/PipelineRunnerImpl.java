@@ -15,19 +15,19 @@ import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
-import org.opensearch.dataprepper.model.event.InternalEventHandle;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.Future;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 public class PipelineRunnerImpl implements PipelineRunner {
     private static final Logger LOG = LoggerFactory.getLogger(PipelineRunnerImpl.class);
@@ -38,16 +38,41 @@ public class PipelineRunnerImpl implements PipelineRunner {
     private final Pipeline pipeline;
     private final PluginMetrics pluginMetrics;
     private final ProcessorProvider processorProvider;
+    private final int maxInFlightBatches;
+    private final Deque<InFlightBatch> inFlightBatches;
+    private final DroppedEventDetector droppedEventDetector;
+    private final Consumer<Event> droppedEventConsumer;
 
     public PipelineRunnerImpl(final Pipeline pipeline, final ProcessorProvider processorProvider) {
+        this(pipeline, processorProvider, 1);
+    }
+
+    /**
+     * Creates a runner which allows up to {@code maxInFlightBatches} batches to be in the sinks at once. With a value
+     * greater than one, processors start on the next batch while the sinks are still handling earlier batches. Each
+     * batch is checkpointed, in read order, only after all of its sink futures complete.
+     *
+     * @param pipeline           the pipeline to run
+     * @param processorProvider  provides the processors for this runner
+     * @param maxInFlightBatches maximum number of batches which may be awaiting their sinks
+     */
+    public PipelineRunnerImpl(final Pipeline pipeline, final ProcessorProvider processorProvider, final int maxInFlightBatches) {
         this.pipeline = pipeline;
         this.pluginMetrics = PluginMetrics.fromNames("PipelineRunner", pipeline.getName());
         this.processorProvider = processorProvider;
         this.invalidEventHandlesCounter = pluginMetrics.counter(INVALID_EVENT_HANDLES);
+        this.maxInFlightBatches = Math.max(1, maxInFlightBatches);
+        this.inFlightBatches = new ArrayDeque<>(this.maxInFlightBatches);
+        this.droppedEventDetector = new DroppedEventDetector();
+        this.droppedEventConsumer = this::releaseDroppedEvent;
     }
 
     @Override
     public void runAllProcessorsAndPublishToSinks() {
+        if (maxInFlightBatches > 1) {
+            runAllProcessorsAndPublishToSinksPipelined();
+            return;
+        }
         final Map.Entry<Collection, CheckpointState> recordsReadFromBuffer = readFromBuffer(getBuffer(), getPipeline());
         Collection records = recordsReadFromBuffer.getKey();
         final CheckpointState checkpointState = recordsReadFromBuffer.getValue();
@@ -58,6 +83,42 @@ public class PipelineRunnerImpl implements PipelineRunner {
         getBuffer().checkpoint(checkpointState);
     }
 
+    @Override
+    public void completeInFlightBatches() {
+        while (!inFlightBatches.isEmpty()) {
+            completeOldestInFlightBatch();
+        }
+    }
+
+    private void runAllProcessorsAndPublishToSinksPipelined() {
+        while (!inFlightBatches.isEmpty() && inFlightBatches.peekFirst().isDone()) {
+            completeOldestInFlightBatch();
+        }
+        while (inFlightBatches.size() >= maxInFlightBatches) {
+            completeOldestInFlightBatch();
+        }
+
+        final Map.Entry<Collection, CheckpointState> recordsReadFromBuffer = readFromBuffer(getBuffer(), getPipeline());
+        Collection records = recordsReadFromBuffer.getKey();
+        final CheckpointState checkpointState = recordsReadFromBuffer.getValue();
+        List<Processor> currentProcessors = processorProvider.getProcessors();
+        records = runProcessorsAndProcessAcknowledgements(currentProcessors, records);
+        LOG.debug("Pipeline Worker: Submitting {} processed records to sinks", records.size());
+        inFlightBatches.addLast(new InFlightBatch(getPipeline().publishToSinks(records), checkpointState));
+    }
+
+    private void completeOldestInFlightBatch() {
+        final InFlightBatch inFlightBatch = inFlightBatches.removeFirst();
+        FutureHelper.awaitFuturesIndefinitely(inFlightBatch.sinkFutures);
+        // Checkpoint the batch only after all sinks have finished with it, preserving the order batches were read.
+        getBuffer().checkpoint(inFlightBatch.checkpointState);
+    }
+
+    @VisibleForTesting
+    int getInFlightBatchCount() {
+        return inFlightBatches.size();
+    }
+
     @VisibleForTesting
     Map.Entry<Collection, CheckpointState> readFromBuffer(Buffer buffer, Pipeline pipeline) {
         final Map.Entry<Collection, CheckpointState> readResult = buffer.read(pipeline.getReadBatchTimeoutInMillis());
@@ -76,48 +137,58 @@ public class PipelineRunnerImpl implements PipelineRunner {
 
     @VisibleForTesting
     void processAcknowledgements(List<Event> inputEvents, Collection<Record<Event>> outputRecords) {
-        Set<Event> outputEventsSet = outputRecords.stream().map(Record::getData).collect(Collectors.toSet());
-        // For each event in the input events list that is not present in the output events, send positive acknowledgement, if acknowledgements are enabled for it
-        inputEvents.forEach(event -> {
-            EventHandle eventHandle = event.getEventHandle();
-            if (eventHandle != null && eventHandle instanceof DefaultEventHandle) {
-                InternalEventHandle internalEventHandle = (InternalEventHandle) eventHandle;
-                if (!outputEventsSet.contains(event)) {
-                    eventHandle.release(true);
-                }
-            } else if (eventHandle != null) {
-                invalidEventHandlesCounter.increment();
-            }
-        });
+        droppedEventDetector.captureInputEvents(inputEvents);
+        releaseDroppedEvents(outputRecords);
+    }
+
+    /**
+     * For each captured input event that is not present in the output records, send positive acknowledgement,
+     * if acknowledgements are enabled for it.
+     */
+    private void releaseDroppedEvents(final Collection<Record<Event>> outputRecords) {
+        droppedEventDetector.forEachDroppedEvent(outputRecords, droppedEventConsumer);
+    }
+
+    private void releaseDroppedEvent(final Event event) {
+        final EventHandle eventHandle = event.getEventHandle();
+        if (eventHandle instanceof DefaultEventHandle) {
+            eventHandle.release(true);
+        } else if (eventHandle != null) {
+            invalidEventHandlesCounter.increment();
+        }
     }
 
     @VisibleForTesting
     Collection runProcessorsAndProcessAcknowledgements(List<Processor> processors, Collection records) {
+        final boolean acknowledgementsEnabled = getPipeline().areAcknowledgementsEnabled();
         //Should Empty list from buffer should be sent to the processors? For now sending as the Stateful processors expects it.
         for (final Processor processor : processors) {
 
-            List<Event> inputEvents = null;
-            if (getPipeline().areAcknowledgementsEnabled()) {
-                inputEvents = ((List<Record<Event>>) records).stream().map(Record::getData).collect(Collectors.toList());
+            if (acknowledgementsEnabled) {
+                droppedEventDetector.captureInput((Collection<Record<Event>>) records);
             }
 
             try {
                 records = processor.execute(records);
                 // acknowledge missing events only if the processor is not holding events
-                if (!processor.holdsEvents() && inputEvents != null) {
-                    processAcknowledgements(inputEvents, records);
+                if (acknowledgementsEnabled && !processor.holdsEvents()) {
+                    releaseDroppedEvents(records);
                 }
             } catch (final Exception e) {
                 if (pipeline.getFailurePipeline() != null) {
                     LOG.error("A processor threw an exception. This batch of Events will be sent to DLQ. ", e);
                     pipeline.getFailurePipeline().sendEvents(records);
-                } else if (inputEvents != null) {
+                } else if (acknowledgementsEnabled) {
                     LOG.error("A processor threw an exception. This batch of Events will be dropped, and their EventHandles will be released: ", e);
-                    processAcknowledgements(inputEvents, Collections.emptyList());
+                    releaseDroppedEvents(Collections.emptyList());
                 }
 
                 records = Collections.emptyList();
                 break;
+            } finally {
+                if (acknowledgementsEnabled) {
+                    droppedEventDetector.clearInput();
+                }
             }
         }
         return records;
@@ -146,4 +217,18 @@ public class PipelineRunnerImpl implements PipelineRunner {
     Buffer getBuffer() {
         return getPipeline().getBuffer();
     }
+
+    private static class InFlightBatch {
+        private final List<Future<Void>> sinkFutures;
+        private final CheckpointState checkpointState;
+
+        private InFlightBatch(final List<Future<Void>> sinkFutures, final CheckpointState checkpointState) {
+            this.sinkFutures = sinkFutures;
+            this.checkpointState = checkpointState;
+        }
+
+        private boolean isDone() {
+            return sinkFutures.stream().allMatch(Future::isDone);
+        }
+    }
 }
@@ -29,7 +29,7 @@ public class ProcessWorker implements Runnable {
         this.readBuffer = readBuffer;
         this.processors = processorProvider.getProcessors();
         this.pipeline = pipeline;
-        this.pipelineRunner = new PipelineRunnerImpl(pipeline, processorProvider);
+        this.pipelineRunner = new PipelineRunnerImpl(pipeline, processorProvider, pipeline.getMaxInFlightBatches());
     }
 
     @Override
@@ -74,6 +74,8 @@ public class ProcessWorker implements Runnable {
             doRun();
         }
         LOG.info("Processor shutdown phase 5 complete.");
+
+        pipelineRunner.completeInFlightBatches();
     }
 
     private void doRun() {
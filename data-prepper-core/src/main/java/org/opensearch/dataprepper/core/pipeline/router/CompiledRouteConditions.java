@@ -0,0 +1,194 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.pipeline.router;
+
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates the conditions of all routes of a pipeline together, producing the matched routes of an event as a
+ * {@link BitSet} indexed by route position.
+ * <p>
+ * Route conditions which only compare JSON pointers against string literals, such as
+ * {@code /service == "checkout" or /service == "cart"}, are compiled into a hash dispatch per JSON pointer. Each
+ * distinct JSON pointer is resolved once per event and its value selects every route which matches it, so the cost
+ * of these routes scales with the number of distinct keys rather than with the number of routes. All other
+ * conditions are evaluated individually through the {@link ExpressionEvaluator}, once per batch of events.
+ * <p>
+ * Instances are immutable after construction and may be shared across threads.
+ */
+class CompiledRouteConditions {
+    private static final Logger LOG = LoggerFactory.getLogger(CompiledRouteConditions.class);
+
+    private static final String JSON_POINTER = "/[A-Za-z0-9_.@]+(?:/[A-Za-z0-9_.@]+)*";
+    // A quoted value starting with '/' is an escaped JSON pointer rather than a string literal.
+    private static final String STRING_LITERAL = "\"(?:[^\"\\\\$/][^\"\\\\$]*)?\"";
+    private static final Pattern EQUALITY_TERM = Pattern.compile(
+            "\\s*(?:(" + JSON_POINTER + ")\\s*==\\s*(" + STRING_LITERAL + ")|(" + STRING_LITERAL + ")\\s*==\\s*(" + JSON_POINTER + "))\\s*");
+    private static final Pattern OR_OPERATOR = Pattern.compile("or\\s+");
+
+    private final List<String> routeNames;
+    private final String[] keys;
+    private final List<Map<String, BitSet>> routesByLiteralForKey;
+    private final int[] evaluatedRouteIndexes;
+    private final String[] evaluatedRouteConditions;
+    private final ExpressionEvaluator evaluator;
+
+    CompiledRouteConditions(final ExpressionEvaluator evaluator, final Collection<ConditionalRoute> routes) {
+        this.evaluator = evaluator;
+        this.routeNames = new ArrayList<>(routes.size());
+
+        final Map<String, Map<String, BitSet>> routesByLiteralByKey = new LinkedHashMap<>();
+        final List<Integer> evaluatedIndexes = new ArrayList<>();
+        final List<String> evaluatedConditions = new ArrayList<>();
+
+        for (final ConditionalRoute route : routes) {
+            final int routeIndex = routeNames.size();
+            routeNames.add(route.getName());
+
+            final List<String[]> keyLiteralPairs = parseKeyEqualityDisjunction(route.getCondition());
+            if (keyLiteralPairs == null) {
+                evaluatedIndexes.add(routeIndex);
+                evaluatedConditions.add(route.getCondition());
+                continue;
+            }
+            for (final String[] keyLiteralPair : keyLiteralPairs) {
+                routesByLiteralByKey
+                        .computeIfAbsent(keyLiteralPair[0], key -> new HashMap<>())
+                        .computeIfAbsent(keyLiteralPair[1], literal -> new BitSet())
+                        .set(routeIndex);
+            }
+        }
+
+        this.keys = routesByLiteralByKey.keySet().toArray(new String[0]);
+        this.routesByLiteralForKey = new ArrayList<>(routesByLiteralByKey.values());
+        this.evaluatedRouteIndexes = evaluatedIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.evaluatedRouteConditions = evaluatedConditions.toArray(new String[0]);
+    }
+
+    /**
+     * @return the route names, in the order of the route indexes used by {@link #evaluate(List, BitSet[])}
+     */
+    List<String> getRouteNames() {
+        return routeNames;
+    }
+
+    /**
+     * Sets, for each event of a batch, the bit of every route whose condition matches it. Conditions which are not
+     * compiled are evaluated once per route over the whole batch through
+     * {@link ExpressionEvaluator#evaluateConditionalBatch(String, Collection, BitSet)}.
+     *
+     * @param eventRecords the records of the events to evaluate
+     * @param matchedRoutes receives the indexes of the routes matching the i-th event at index i
+     */
+    void evaluate(final List<Record<Event>> eventRecords, final BitSet[] matchedRoutes) {
+        for (int e = 0; e < eventRecords.size(); e++) {
+            evaluateCompiledRoutes(eventRecords.get(e).getData(), matchedRoutes[e]);
+        }
+
+        final BitSet failedEvents = new BitSet();
+        for (int i = 0; i < evaluatedRouteIndexes.length; i++) {
+            final int routeIndex = evaluatedRouteIndexes[i];
+            final BitSet matchedEvents;
+            failedEvents.clear();
+            try {
+                matchedEvents = evaluator.evaluateConditionalBatch(evaluatedRouteConditions[i], eventRecords, failedEvents);
+            } catch (final Exception ex) {
+                LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
+                continue;
+            }
+            if (!failedEvents.isEmpty()) {
+                LOG.error("Failed to evaluate route {} for {} events. This route will not be applied to these events.",
+                        routeNames.get(routeIndex), failedEvents.cardinality());
+            }
+            for (int e = matchedEvents.nextSetBit(0); e >= 0; e = matchedEvents.nextSetBit(e + 1)) {
+                matchedRoutes[e].set(routeIndex);
+            }
+        }
+    }
+
+    private void evaluateCompiledRoutes(final Event event, final BitSet matchedRoutes) {
+        for (int i = 0; i < keys.length; i++) {
+            final Object value;
+            try {
+                value = event.get(keys[i], Object.class);
+            } catch (final Exception ex) {
+                continue;
+            }
+            if (value instanceof String) {
+                final BitSet routesForValue = routesByLiteralForKey.get(i).get(value);
+                if (routesForValue != null) {
+                    matchedRoutes.or(routesForValue);
+                }
+            }
+        }
+    }
+
+    int getCompiledKeyCount() {
+        return keys.length;
+    }
+
+    int getEvaluatedRouteCount() {
+        return evaluatedRouteIndexes.length;
+    }
+
+    /**
+     * Parses conditions of the form {@code /key == "literal"}, optionally joined with {@code or}.
+     *
+     * @return the key and unquoted literal of each term, or null if the condition has any other form
+     */
+    static List<String[]> parseKeyEqualityDisjunction(final String condition) {
+        if (condition == null) {
+            return null;
+        }
+        final List<String[]> keyLiteralPairs = new ArrayList<>();
+        final Matcher termMatcher = EQUALITY_TERM.matcher(condition);
+        final Matcher orMatcher = OR_OPERATOR.matcher(condition);
+        int position = 0;
+        while (true) {
+            termMatcher.region(position, condition.length());
+            if (!termMatcher.lookingAt()) {
+                return null;
+            }
+            if (termMatcher.group(1) != null) {
+                keyLiteralPairs.add(new String[] {termMatcher.group(1), unquote(termMatcher.group(2))});
+            } else {
+                keyLiteralPairs.add(new String[] {termMatcher.group(4), unquote(termMatcher.group(3))});
+            }
+            position = termMatcher.end();
+            if (position == condition.length()) {
+                return keyLiteralPairs;
+            }
+            // Terms must be separated from the operator by whitespace, which the term pattern has consumed.
+            if (!Character.isWhitespace(condition.charAt(position - 1))) {
+                return null;
+            }
+            orMatcher.region(position, condition.length());
+            if (!orMatcher.lookingAt()) {
+                return null;
+            }
+            position = orMatcher.end();
+        }
+    }
+
+    private static String unquote(final String literal) {
+        return literal.substring(1, literal.length() - 1);
+    }
+}
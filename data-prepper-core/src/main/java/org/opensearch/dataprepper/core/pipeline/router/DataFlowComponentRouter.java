@@ -29,6 +29,7 @@ class DataFlowComponentRouter {
 
         final Collection<Record> recordsForComponent;
         final Set<String> dataFlowComponentRoutes =  dataFlowComponent.getRoutes();
+        getRecordStrategy.beginComponent(dataFlowComponent);
 
         if (dataFlowComponentRoutes.isEmpty()) {
             recordsForComponent = getRecordStrategy.getAllRecords(allRecords);
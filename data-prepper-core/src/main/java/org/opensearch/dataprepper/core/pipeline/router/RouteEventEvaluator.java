@@ -12,44 +12,63 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 class RouteEventEvaluator {
 
     private static final Logger LOG = LoggerFactory.getLogger(RouteEventEvaluator.class);
+    static final int MAX_CACHED_ROUTE_SETS = 1024;
 
-    private final ExpressionEvaluator evaluator;
-    private final Collection<ConditionalRoute> routes;
+    private final CompiledRouteConditions compiledRouteConditions;
+    private final List<String> routeNames;
+    /**
+     * Most events of a batch match one of a few route combinations, so the route name sets are shared between
+     * events instead of building a new set per event.
+     */
+    private final ConcurrentMap<BitSet, Set<String>> routeSetCache = new ConcurrentHashMap<>();
 
     RouteEventEvaluator(final ExpressionEvaluator evaluator, final Collection<ConditionalRoute> routes) {
-        this.evaluator = evaluator;
-        this.routes = routes;
+        this.compiledRouteConditions = new CompiledRouteConditions(evaluator, routes);
+        this.routeNames = compiledRouteConditions.getRouteNames();
     }
 
+    @SuppressWarnings("unchecked")
     Map<Record, Set<String>> evaluateEventRoutes(final Collection<Record> records) {
-        final Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
+        final Map<Record, Set<String>> recordsToRoutes = new HashMap<>((int) (records.size() / 0.75f) + 1);
+        final List<Record<Event>> eventRecords = new ArrayList<>(records.size());
 
         int nonEventRecords = 0;
 
         for (Record record : records) {
-
-            final Object data = record.getData();
-
-            if (data instanceof Event) {
-                final Event event = (Event) data;
-                final Set<String> matchedRoutes = findMatchedRoutes(event);
-                recordsToRoutes.put(record, matchedRoutes);
+            if (record.getData() instanceof Event) {
+                eventRecords.add((Record<Event>) record);
             } else {
                 nonEventRecords++;
                 recordsToRoutes.put(record, Collections.emptySet());
             }
         }
 
+        if (!eventRecords.isEmpty()) {
+            final BitSet[] matchedRoutes = new BitSet[eventRecords.size()];
+            for (int i = 0; i < matchedRoutes.length; i++) {
+                matchedRoutes[i] = new BitSet(routeNames.size());
+            }
+            compiledRouteConditions.evaluate(eventRecords, matchedRoutes);
+            for (int i = 0; i < matchedRoutes.length; i++) {
+                recordsToRoutes.put(eventRecords.get(i), toRouteNames(matchedRoutes[i]));
+            }
+        }
+
         if (nonEventRecords > 0) {
             LOG.warn("Received {} records which are not events. These will have no routes applied.", nonEventRecords);
         }
@@ -57,17 +76,22 @@ class RouteEventEvaluator {
         return recordsToRoutes;
     }
 
-    private Set<String> findMatchedRoutes(final Event event) {
-        final Set<String> matchRoutes = new HashSet<>();
-        for (ConditionalRoute route : routes) {
-            try {
-                if (evaluator.evaluateConditional(route.getCondition(), event)) {
-                    matchRoutes.add(route.getName());
-                }
-            } catch (final Exception ex) {
-                LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
-            }
+    private Set<String> toRouteNames(final BitSet matchedRoutes) {
+        if (matchedRoutes.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<String> cachedRouteNames = routeSetCache.get(matchedRoutes);
+        if (cachedRouteNames != null) {
+            return cachedRouteNames;
+        }
+        final Set<String> matchedRouteNames = new HashSet<>();
+        for (int i = matchedRoutes.nextSetBit(0); i >= 0; i = matchedRoutes.nextSetBit(i + 1)) {
+            matchedRouteNames.add(routeNames.get(i));
+        }
+        final Set<String> unmodifiableRouteNames = Collections.unmodifiableSet(matchedRouteNames);
+        if (routeSetCache.size() < MAX_CACHED_ROUTE_SETS) {
+            routeSetCache.putIfAbsent((BitSet) matchedRoutes.clone(), unmodifiableRouteNames);
         }
-        return matchRoutes;
+        return unmodifiableRouteNames;
     }
 }
@@ -26,33 +26,57 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+/**
+ * Provides the records for each {@link DataFlowComponent} a batch is routed to, copying records only where a
+ * component could observe changes made by another.
+ * <p>
+ * Sinks only read the events they output, so every sink shares the original record. A {@link PipelineConnector}
+ * passes its records on to another pipeline whose processors may modify them, so it receives the original record
+ * only if no other component has received it, and a private copy otherwise. Routing the pipeline connectors after
+ * the other sinks therefore makes a single copy per connector instead of one per sink. When
+ * {@link #beginComponent(DataFlowComponent)} is not called, every component is treated as a pipeline connector.
+ * <p>
+ * Each shared record acquires one event handle reference per component and each copy gets its own event handle,
+ * so acknowledgements are only completed once every component has released its records.
+ */
 public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
     private Set<Record> routedRecords;
+    private Set<Record> connectorRecords;
     private Set<Record> referencedRecords;
     private AcknowledgementSetManager acknowledgementSetManager;
     private EventFactory eventFactory;
+    private boolean currentComponentIsConnector;
 
     public <C> RouterCopyRecordStrategy(final EventFactory eventFactory, final AcknowledgementSetManager acknowledgementSetManager, final Collection<DataFlowComponent<C>> dataFlowComponents) {
         this.acknowledgementSetManager = acknowledgementSetManager;
         this.eventFactory = eventFactory;
         routedRecords = null;
+        connectorRecords = null;
         referencedRecords = new HashSet<Record>();
+        currentComponentIsConnector = true;
         /*
          * If there are more than one sink and one of the sinks is
          * pipeline connector, then we should make a copy of every
-         * record that is routed to more than one sink, so, to keep
-         * track of already routed records, initialize the set.
+         * record that is routed to a pipeline connector and to
+         * another sink, so, to keep track of already routed records,
+         * initialize the sets.
          */
         if (dataFlowComponents.size() > 1) {
             for (DataFlowComponent<C> dataFlowComponent : dataFlowComponents) {
                 if (dataFlowComponent.getComponent() instanceof PipelineConnector) {
                     routedRecords = new HashSet<Record>();
+                    connectorRecords = new HashSet<Record>();
                     break;
                 }
             }
         }
     }
 
+    @Override
+    public <C> void beginComponent(final DataFlowComponent<C> dataFlowComponent) {
+        currentComponentIsConnector = dataFlowComponent.getComponent() instanceof PipelineConnector;
+    }
+
     Set<Record> getReferencedRecords() {
         return referencedRecords;
     }
@@ -76,11 +100,29 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
             acquireEventReference(record);
             return record;
         }
-        if (!routedRecords.contains(record)) {
+        if (canShare(record)) {
             acquireEventReference(record);
             routedRecords.add(record);
+            if (currentComponentIsConnector) {
+                connectorRecords.add(record);
+            }
             return record;
         }
+        return copyRecord(record);
+    }
+
+    /**
+     * A record can be shared with a sink unless a pipeline connector already owns it, and with a pipeline connector
+     * only if no other component has received it.
+     */
+    private boolean canShare(final Record record) {
+        if (currentComponentIsConnector) {
+            return !routedRecords.contains(record);
+        }
+        return !connectorRecords.contains(record);
+    }
+
+    private Record copyRecord(final Record record) {
         if (record.getData() instanceof JacksonSpan) {
             // Not supporting acknowledgements for Span initially
             try {
@@ -122,9 +164,12 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
             allRecords.stream().forEach((record) -> acquireEventReference(record));
             return allRecords;
         }
-        if (routedRecords.isEmpty()) {
+        if (routedRecords.isEmpty() || (!currentComponentIsConnector && connectorRecords.isEmpty())) {
             allRecords.stream().forEach((record) -> acquireEventReference(record));
             routedRecords.addAll(allRecords);
+            if (currentComponentIsConnector) {
+                connectorRecords.addAll(allRecords);
+            }
             return allRecords;
         }
         List<Record> newRecords = new ArrayList<Record>();
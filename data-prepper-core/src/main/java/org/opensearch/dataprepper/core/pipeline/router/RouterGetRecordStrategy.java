@@ -5,11 +5,22 @@
 
 package org.opensearch.dataprepper.core.pipeline.router;
 
+import org.opensearch.dataprepper.core.parser.DataFlowComponent;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.Collection;
 
 public interface RouterGetRecordStrategy {
+    /**
+     * Called before the records for a {@link DataFlowComponent} are requested, so that strategies can decide per
+     * component whether a record can be shared or must be copied.
+     *
+     * @param dataFlowComponent the component receiving the next records
+     * @param <C> the type of component
+     */
+    default <C> void beginComponent(final DataFlowComponent<C> dataFlowComponent) {
+    }
+
     public Record getRecord(Record record);
 
     public Collection<Record> getAllRecords(final Collection<Record> allRecords);
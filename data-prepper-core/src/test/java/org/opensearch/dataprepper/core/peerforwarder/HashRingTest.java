@@ -12,10 +12,19 @@ import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.PeerListProvider;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -133,4 +142,88 @@ class HashRingTest {
         // Second call during rebuild
         verify(peerListProvider, times(2)).getPeerList();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMd5RingMatchesOriginalBigIntegerRing() throws NoSuchAlgorithmException {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        final TreeMap<BigInteger, String> originalRing = new TreeMap<>();
+        for (final String serverIp : SERVER_IPS) {
+            for (int i = 0; i < MULTIPLE_VIRTUAL_NODE_COUNT; i++) {
+                final MessageDigest md = MessageDigest.getInstance("MD5");
+                md.update(serverIp.getBytes());
+                md.update(ByteBuffer.allocate(4).putInt(i).array());
+                originalRing.putIfAbsent(new BigInteger(md.digest()), serverIp);
+            }
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            final List<String> identificationKeyValues = List.of(UUID.randomUUID().toString(), "service" + i);
+            final MessageDigest md = MessageDigest.getInstance("MD5");
+            final BigInteger hashcode = new BigInteger(md.digest(String.join(",", identificationKeyValues).getBytes()));
+            final Map.Entry<BigInteger, String> entry = originalRing.higherEntry(hashcode);
+            final String expectedServerIp = entry == null ? originalRing.firstEntry().getValue() : entry.getValue();
+
+            Assertions.assertEquals(Optional.of(expectedServerIp), hashRing.getServerIp(identificationKeyValues));
+        }
+    }
+
+    @Test
+    void testGetServerIpWithMurmur3DistributesKeysAcrossAllServers() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingHashFunction.MURMUR3, 0);
+
+        final Map<String, Integer> keysPerServer = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            final List<String> identificationKeyValues = List.of("trace" + i);
+            final Optional<String> result = hashRing.getServerIp(identificationKeyValues);
+
+            Assertions.assertTrue(result.isPresent());
+            Assertions.assertEquals(result, hashRing.getServerIp(new ArrayList<>(identificationKeyValues)));
+            keysPerServer.merge(result.get(), 1, Integer::sum);
+        }
+
+        Assertions.assertEquals(SERVER_IPS.size(), keysPerServer.size());
+        keysPerServer.values().forEach(count -> Assertions.assertTrue(count > 500, "Expected a balanced ring but got " + keysPerServer));
+    }
+
+    @Test
+    void testGetServerIpWithMurmur3EmptyMap() {
+        when(peerListProvider.getPeerList()).thenReturn(Collections.emptyList());
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingHashFunction.MURMUR3, 10);
+
+        Assertions.assertFalse(hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1).isPresent());
+    }
+
+    @Test
+    void testCachedRingReturnsSameServersAsUncachedRing() {
+        final HashRing uncachedRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingHashFunction.MURMUR3, 0);
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingHashFunction.MURMUR3, 16);
+
+        for (int repeat = 0; repeat < 2; repeat++) {
+            for (int i = 0; i < 100; i++) {
+                final List<String> identificationKeyValues = Arrays.asList("service" + (i % 20), null);
+                Assertions.assertEquals(uncachedRing.getServerIp(identificationKeyValues), hashRing.getServerIp(identificationKeyValues));
+            }
+        }
+    }
+
+    @Test
+    void testEndpointChangeInvalidatesCache() {
+        when(peerListProvider.getPeerList()).thenReturn(Collections.singletonList("10.10.0.1"));
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingHashFunction.MURMUR3, 100);
+
+        Assertions.assertEquals(Optional.of("10.10.0.1"), hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1));
+
+        when(peerListProvider.getPeerList()).thenReturn(Collections.singletonList("10.10.0.2"));
+        hashRing.accept(Collections.emptyList());
+
+        Assertions.assertEquals(Optional.of("10.10.0.2"), hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1));
+    }
+
+    @Test
+    void testHashRingHashFunctionGetByName() {
+        Assertions.assertEquals(HashRingHashFunction.MD5, HashRingHashFunction.getByName("md5"));
+        Assertions.assertEquals(HashRingHashFunction.MURMUR3, HashRingHashFunction.getByName("murmur3"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HashRingHashFunction.getByName("sha1"));
+    }
+}
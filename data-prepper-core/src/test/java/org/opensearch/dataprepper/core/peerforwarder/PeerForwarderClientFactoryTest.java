@@ -54,6 +54,8 @@ class PeerForwarderClientFactoryTest {
     void testCreateHashRing_with_endpoints_should_return() {
         when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
         when(peerForwarderConfiguration.getStaticEndpoints()).thenReturn(Collections.singletonList("10.10.0.1"));
+        when(peerForwarderConfiguration.getHashRingHashFunction()).thenReturn(HashRingHashFunction.MURMUR3);
+        when(peerForwarderConfiguration.getHashRingCacheSize()).thenReturn(100);
 
         HashRing hashRing = createObjectUnderTest().createHashRing();
         assertThat(hashRing, new IsInstanceOf(HashRing.class));
@@ -16,6 +16,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.TestDataProvider;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.DiscoveryMode;
 import org.opensearch.dataprepper.pipeline.parser.DataPrepperDurationDeserializer;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 
 import java.io.File;
 import java.io.IOException;
@@ -67,6 +68,10 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(1));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(DEFAULT_FORWARDING_BATCH_TIMEOUT));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getHashRingHashFunction(), equalTo(HashRingHashFunction.MD5));
+        assertThat(peerForwarderConfiguration.getHashRingCacheSize(), equalTo(0));
+        assertThat(peerForwarderConfiguration.getCompactCodec(), equalTo(false));
+        assertThat(peerForwarderConfiguration.getCompactCodecCompression(), equalTo(CompressionOption.NONE));
     }
 
     @Test
@@ -100,6 +105,10 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(3));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(Duration.of(5, ChronoUnit.SECONDS)));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(false));
+        assertThat(peerForwarderConfiguration.getHashRingHashFunction(), equalTo(HashRingHashFunction.MURMUR3));
+        assertThat(peerForwarderConfiguration.getHashRingCacheSize(), equalTo(10000));
+        assertThat(peerForwarderConfiguration.getCompactCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getCompactCodecCompression(), equalTo(CompressionOption.ZSTD));
     }
 
     @Test
@@ -196,7 +205,10 @@ class PeerForwarderConfigurationTest {
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_NEGATIVE_DRAIN_TIMEOUT,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_ZERO_LOCAL_WRITE_TIMEOUT,
             "src/test/resources/invalid_peer_forwarder_config_with_many_authentication.yml",
-            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml"
+            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml",
+            "src/test/resources/invalid_peer_forwarder_with_hash_ring_hash_function.yml",
+            "src/test/resources/invalid_peer_forwarder_with_negative_hash_ring_cache_size.yml",
+            "src/test/resources/invalid_peer_forwarder_with_compact_codec_compression.yml"
     })
     void invalid_InvalidPeerForwarderConfig_test(final String filePath) {
         assertThrows(ValueInstantiationException.class, () -> makeConfig(filePath));
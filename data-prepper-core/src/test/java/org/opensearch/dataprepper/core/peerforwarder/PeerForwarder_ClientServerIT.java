@@ -546,7 +546,11 @@ class PeerForwarder_ClientServerIT {
                 null,
                 null,
                 null,
-                binaryCodec
+                binaryCodec,
+                null,
+                null,
+                null,
+                null
         );
     }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactPeerForwarderCodecTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+    private static final String PLUGIN_ID = "plugin_id";
+    private static final String PIPELINE_NAME = "pipeline_name";
+
+    private CompactPeerForwarderCodec createObjectUnderTest(final CompressionOption compression) {
+        return new CompactPeerForwarderCodec(OBJECT_MAPPER, compression);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CompressionOption.class, names = {"NONE", "GZIP", "SNAPPY", "ZSTD"})
+    void deserialize_returns_serialized_log_events(final CompressionOption compression) throws IOException {
+        final CompactPeerForwarderCodec objectUnderTest = createObjectUnderTest(compression);
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(5);
+
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(objectUnderTest.serialize(inputEvents));
+
+        assertThat(outputEvents.getDestinationPipelineName(), equalTo(PIPELINE_NAME));
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(PLUGIN_ID));
+        assertThat(outputEvents.getEvents().size(), equalTo(inputEvents.getEvents().size()));
+        for (int i = 0; i < inputEvents.getEvents().size(); i++) {
+            final Event inputEvent = inputEvents.getEvents().get(i);
+            final Event outputEvent = outputEvents.getEvents().get(i);
+            assertThat(outputEvent.getJsonNode(), equalTo(inputEvent.getJsonNode()));
+            assertThat(outputEvent.getMetadata().getEventType(), equalTo(inputEvent.getMetadata().getEventType()));
+            assertThat(outputEvent.getMetadata().getTimeReceived(), equalTo(inputEvent.getMetadata().getTimeReceived()));
+            assertThat(outputEvent.getMetadata().getAttributes(), equalTo(inputEvent.getMetadata().getAttributes()));
+        }
+    }
+
+    @Test
+    void deserialize_returns_spans_for_trace_events() throws IOException {
+        final CompactPeerForwarderCodec objectUnderTest = createObjectUnderTest(CompressionOption.NONE);
+        final Span span = JacksonSpan.builder()
+                .withSpanId(UUID.randomUUID().toString())
+                .withTraceId(UUID.randomUUID().toString())
+                .withTraceState("")
+                .withParentSpanId("")
+                .withName("span")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("2024-01-01T00:00:00Z")
+                .withEndTime("2024-01-01T00:00:01Z")
+                .withAttributes(Map.of("http.status_code", 200))
+                .withDurationInNanos(1_000_000_000L)
+                .withTraceGroup("group")
+                .build();
+        final PeerForwardingEvents inputEvents = new PeerForwardingEvents(List.of(span), PLUGIN_ID, PIPELINE_NAME);
+
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(objectUnderTest.serialize(inputEvents));
+
+        assertThat(outputEvents.getEvents().size(), equalTo(1));
+        final Event outputEvent = outputEvents.getEvents().get(0);
+        assertThat(outputEvent, instanceOf(JacksonSpan.class));
+        assertThat(((Span) outputEvent).getSpanId(), equalTo(span.getSpanId()));
+        assertThat(((Span) outputEvent).getTraceId(), equalTo(span.getTraceId()));
+        assertThat(outputEvent.getJsonNode(), equalTo(span.getJsonNode()));
+    }
+
+    @Test
+    void deserialize_preserves_value_types() throws IOException {
+        final CompactPeerForwarderCodec objectUnderTest = createObjectUnderTest(CompressionOption.NONE);
+        final Map<String, Object> data = new HashMap<>();
+        data.put("int", 42);
+        data.put("negative", -7L);
+        data.put("long", Long.MAX_VALUE);
+        data.put("double", 1.5d);
+        data.put("big_integer", new BigInteger("123456789012345678901234567890"));
+        data.put("decimal", new BigDecimal("1.000000000000000000001"));
+        data.put("boolean", true);
+        data.put("null", null);
+        data.put("list", Arrays.asList("a", 1, false));
+        data.put("nested", Map.of("inner", Map.of("deep", "value")));
+        final JacksonEvent event = JacksonLog.builder().withData(data).withEventType("LOG").build();
+        final PeerForwardingEvents inputEvents = new PeerForwardingEvents(List.of(event), PLUGIN_ID, PIPELINE_NAME);
+
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(objectUnderTest.serialize(inputEvents));
+
+        assertThat(outputEvents.getEvents().get(0).getJsonNode(), equalTo(event.getJsonNode()));
+    }
+
+    @Test
+    void deserialize_returns_null_events_when_serialized_events_are_null() throws IOException {
+        final CompactPeerForwarderCodec objectUnderTest = createObjectUnderTest(CompressionOption.NONE);
+
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(
+                objectUnderTest.serialize(new PeerForwardingEvents(null, PLUGIN_ID, PIPELINE_NAME)));
+
+        assertThat(outputEvents.getEvents(), nullValue());
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(PLUGIN_ID));
+    }
+
+    @Test
+    void deserialize_reads_requests_with_any_compression() throws IOException {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(2);
+        final byte[] bytes = createObjectUnderTest(CompressionOption.GZIP).serialize(inputEvents);
+
+        final PeerForwardingEvents outputEvents = createObjectUnderTest(CompressionOption.NONE).deserialize(bytes);
+
+        assertThat(outputEvents.getEvents().size(), equalTo(2));
+    }
+
+    @Test
+    void serialize_writes_repeated_keys_once() throws IOException {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(100);
+
+        final byte[] compactBytes = createObjectUnderTest(CompressionOption.NONE).serialize(inputEvents);
+        final byte[] jacksonBytes = new JacksonPeerForwarderCodec(OBJECT_MAPPER).serialize(inputEvents);
+
+        assertThat(compactBytes.length, lessThan(jacksonBytes.length / 2));
+    }
+
+    @Test
+    void constructor_throws_for_automatic_compression() {
+        assertThrows(IllegalArgumentException.class, () -> createObjectUnderTest(CompressionOption.AUTOMATIC));
+    }
+
+    @Test
+    void deserialize_throws_for_empty_bytes() {
+        final CompactPeerForwarderCodec objectUnderTest = createObjectUnderTest(CompressionOption.NONE);
+
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(new byte[0]));
+    }
+
+    @Test
+    void deserialize_throws_for_requests_from_other_codecs() throws IOException {
+        final byte[] jacksonBytes = new JacksonPeerForwarderCodec(OBJECT_MAPPER).serialize(generatePeerForwardingEvents(1));
+
+        assertThrows(IOException.class, () -> createObjectUnderTest(CompressionOption.NONE).deserialize(jacksonBytes));
+    }
+
+    @Test
+    void deserialize_throws_for_unsupported_version() throws IOException {
+        final CompactPeerForwarderCodec objectUnderTest = createObjectUnderTest(CompressionOption.NONE);
+        final byte[] bytes = objectUnderTest.serialize(generatePeerForwardingEvents(1));
+        bytes[4] = 99;
+
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_throws_for_truncated_request() throws IOException {
+        final CompactPeerForwarderCodec objectUnderTest = createObjectUnderTest(CompressionOption.NONE);
+        final byte[] bytes = objectUnderTest.serialize(generatePeerForwardingEvents(2));
+
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(Arrays.copyOf(bytes, bytes.length - 5)));
+    }
+
+    private PeerForwardingEvents generatePeerForwardingEvents(final int numEvents) {
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            final Map<String, Object> eventData = new HashMap<>();
+            eventData.put("status_code_of_the_request", 200 + i);
+            eventData.put("message_of_the_request", UUID.randomUUID().toString().substring(0, 8));
+            eventData.put("source_of_the_request", Map.of("host_name", "host-" + i, "port_number", 8080));
+            final JacksonEvent event = JacksonLog.builder()
+                    .withData(eventData)
+                    .withEventType("LOG")
+                    .withTimeReceived(Instant.now())
+                    .withEventMetadataAttributes(Map.of("index", "logs-" + (i % 2)))
+                    .build();
+            events.add(event);
+        }
+        return new PeerForwardingEvents(events, PLUGIN_ID, PIPELINE_NAME);
+    }
+}
@@ -10,6 +10,7 @@ import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Tags;
@@ -24,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderReceiveBuffer;
+import org.opensearch.dataprepper.core.peerforwarder.codec.CompactPeerForwarderCodec;
 import org.opensearch.dataprepper.core.peerforwarder.codec.PeerForwarderCodec;
 import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
@@ -46,6 +48,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -66,6 +69,9 @@ class PeerForwarderHttpServiceTest {
     @Mock
     private PeerForwarderCodec peerForwarderCodec;
 
+    @Mock
+    private CompactPeerForwarderCodec compactPeerForwarderCodec;
+
     @Mock
     private PeerForwardingEvents peerForwardingEvents;
 
@@ -134,6 +140,45 @@ class PeerForwarderHttpServiceTest {
         verify(recordsReceivedFromPeersCounter).increment(1);
     }
 
+    @Test
+    void test_doPost_with_compact_content_type_deserializes_with_compact_codec() throws Exception {
+        final HashMap<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
+        pipelinePeerForwarderReceiveBufferMap.put(PIPELINE_NAME, Map.of(PLUGIN_ID, peerForwarderReceiveBuffer));
+        when(peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap()).thenReturn(pipelinePeerForwarderReceiveBufferMap);
+        when(aggregatedHttpRequest.contentType()).thenReturn(MediaType.parse(CompactPeerForwarderCodec.MEDIA_TYPE));
+        when(compactPeerForwarderCodec.deserialize(any())).thenReturn(peerForwardingEvents);
+
+        final PeerForwarderHttpService objectUnderTest = new PeerForwarderHttpService(responseHandler, peerForwarderProvider,
+                peerForwarderConfiguration, peerForwarderCodec, compactPeerForwarderCodec, acknowledgementSetManager, pluginMetrics);
+
+        final AggregatedHttpResponse aggregatedHttpResponse = objectUnderTest.doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+        assertThat(aggregatedHttpResponse.headers().get(CompactPeerForwarderCodec.SUPPORTED_CODECS_HEADER),
+                equalTo(CompactPeerForwarderCodec.CODEC_NAME));
+        verify(peerForwarderCodec, never()).deserialize(any());
+        verify(recordsReceivedFromPeersCounter).increment(1);
+    }
+
+    @Test
+    void test_doPost_with_other_content_type_deserializes_with_configured_codec_and_advertises_compact_codec() throws Exception {
+        final HashMap<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
+        pipelinePeerForwarderReceiveBufferMap.put(PIPELINE_NAME, Map.of(PLUGIN_ID, peerForwarderReceiveBuffer));
+        when(peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap()).thenReturn(pipelinePeerForwarderReceiveBufferMap);
+        when(aggregatedHttpRequest.contentType()).thenReturn(MediaType.PLAIN_TEXT_UTF_8);
+
+        final PeerForwarderHttpService objectUnderTest = new PeerForwarderHttpService(responseHandler, peerForwarderProvider,
+                peerForwarderConfiguration, peerForwarderCodec, compactPeerForwarderCodec, acknowledgementSetManager, pluginMetrics);
+
+        final AggregatedHttpResponse aggregatedHttpResponse = objectUnderTest.doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+        assertThat(aggregatedHttpResponse.headers().get(CompactPeerForwarderCodec.SUPPORTED_CODECS_HEADER),
+                equalTo(CompactPeerForwarderCodec.CODEC_NAME));
+        verify(compactPeerForwarderCodec, never()).deserialize(any());
+        verify(recordsReceivedFromPeersCounter).increment(1);
+    }
+
     @Test
     void test_doPost_with_bad_HTTP_request_should_return_BAD_REQUEST() throws Exception {
         when(responseHandler.handleException(any(IOException.class), anyString())).thenReturn(HttpResponse.of(HttpStatus.BAD_REQUEST));
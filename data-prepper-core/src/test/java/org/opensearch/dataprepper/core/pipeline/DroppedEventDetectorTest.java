@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.pipeline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class DroppedEventDetectorTest {
+    private DroppedEventDetector objectUnderTest;
+    private List<Event> droppedEvents;
+
+    @BeforeEach
+    void setUp() {
+        objectUnderTest = new DroppedEventDetector();
+        droppedEvents = new ArrayList<>();
+    }
+
+    @Test
+    void forEachDroppedEvent_with_empty_output_reports_all_input_events() {
+        final List<Record<Event>> input = createRecords(3);
+
+        objectUnderTest.captureInput(input);
+        objectUnderTest.forEachDroppedEvent(Collections.emptyList(), droppedEvents::add);
+
+        assertThat(droppedEvents, equalTo(toEvents(input)));
+    }
+
+    @Test
+    void forEachDroppedEvent_with_same_output_reports_nothing() {
+        final List<Record<Event>> input = createRecords(5);
+
+        objectUnderTest.captureInput(input);
+        objectUnderTest.forEachDroppedEvent(new ArrayList<>(input), droppedEvents::add);
+
+        assertThat(droppedEvents, empty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 17, 100, 5000})
+    void forEachDroppedEvent_reports_only_missing_events(final int batchSize) {
+        final List<Record<Event>> input = createRecords(batchSize);
+        final List<Record<Event>> output = new ArrayList<>(input);
+        final Record<Event> removed = output.remove(batchSize / 2);
+        output.add(new Record<>(mock(Event.class)));
+
+        objectUnderTest.captureInput(input);
+        objectUnderTest.forEachDroppedEvent(output, droppedEvents::add);
+
+        assertThat(droppedEvents, contains(removed.getData()));
+    }
+
+    @Test
+    void output_record_wrapping_the_same_event_counts_as_present() {
+        final List<Record<Event>> input = createRecords(2);
+        final List<Record<Event>> output = input.stream()
+                .map(record -> new Record<>(record.getData()))
+                .collect(Collectors.toList());
+
+        objectUnderTest.captureInput(input);
+        objectUnderTest.forEachDroppedEvent(output, droppedEvents::add);
+
+        assertThat(droppedEvents, empty());
+    }
+
+    @Test
+    void detector_can_be_reused_across_batches_of_different_sizes() {
+        final List<Record<Event>> largeInput = createRecords(1000);
+        objectUnderTest.captureInput(largeInput);
+        objectUnderTest.forEachDroppedEvent(largeInput.subList(1, largeInput.size()), droppedEvents::add);
+        assertThat(droppedEvents, contains(largeInput.get(0).getData()));
+
+        droppedEvents.clear();
+        final List<Record<Event>> smallInput = createRecords(3);
+        objectUnderTest.captureInput(smallInput);
+        objectUnderTest.forEachDroppedEvent(smallInput.subList(0, 2), droppedEvents::add);
+        assertThat(droppedEvents, contains(smallInput.get(2).getData()));
+    }
+
+    @Test
+    void captured_input_is_cleared_when_consumer_throws() {
+        final List<Record<Event>> input = createRecords(3);
+        objectUnderTest.captureInput(input);
+        assertThrows(RuntimeException.class, () -> objectUnderTest.forEachDroppedEvent(Collections.emptyList(), event -> {
+            throw new RuntimeException();
+        }));
+
+        objectUnderTest.forEachDroppedEvent(Collections.emptyList(), droppedEvents::add);
+        assertThat(droppedEvents, empty());
+    }
+
+    @Test
+    void clearInput_releases_the_captured_input() {
+        objectUnderTest.captureInput(createRecords(3));
+
+        objectUnderTest.clearInput();
+
+        objectUnderTest.forEachDroppedEvent(Collections.emptyList(), droppedEvents::add);
+        assertThat(droppedEvents, empty());
+    }
+
+    @Test
+    void captureInputEvents_uses_the_given_events() {
+        final List<Record<Event>> input = createRecords(4);
+
+        objectUnderTest.captureInputEvents(toEvents(input));
+        objectUnderTest.forEachDroppedEvent(input.subList(0, 3), droppedEvents::add);
+
+        assertThat(droppedEvents, contains(input.get(3).getData()));
+    }
+
+    private static List<Record<Event>> createRecords(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Record<>(mock(Event.class)))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Event> toEvents(final List<Record<Event>> records) {
+        return records.stream().map(Record::getData).collect(Collectors.toList());
+    }
+}
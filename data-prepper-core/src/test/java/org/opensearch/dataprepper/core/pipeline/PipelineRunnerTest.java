@@ -41,6 +41,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -54,6 +55,7 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -418,4 +420,78 @@ class PipelineRunnerTest {
             verify(buffer).checkpoint(checkpointState);
         }
     }
-}
\ No newline at end of file
+    @Nested
+    class PipelinedRunAllProcessorsAndPublishToSinksTests {
+        private Collection recordsList;
+
+        @BeforeEach
+        void setup() {
+            recordsList = new ArrayList<>();
+            recordsList.add(record);
+            setupPipeline(false);
+            when(pipeline.getBuffer()).thenReturn(buffer);
+            when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(BUFFER_READ_TIMEOUT_MILLIS);
+            when(pipeline.getName()).thenReturn(MOCK_PIPELINE_NAME);
+            when(processorProvider.getProcessors()).thenReturn(processors);
+            when(buffer.read(BUFFER_READ_TIMEOUT_MILLIS)).thenReturn(new AbstractMap.SimpleEntry<>(recordsList, checkpointState));
+            when(processor.execute(recordsList)).thenReturn(recordsList);
+        }
+
+        @Test
+        void testBatchIsNotCheckpointedUntilSinksComplete() {
+            final CompletableFuture<Void> sinkFuture = new CompletableFuture<>();
+            when(pipeline.publishToSinks(anyCollection())).thenReturn(Collections.singletonList(sinkFuture));
+            final PipelineRunnerImpl pipelineRunner = new PipelineRunnerImpl(pipeline, processorProvider, 2);
+
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            verify(processor).execute(recordsList);
+            verify(pipeline).publishToSinks(recordsList);
+            verify(buffer, never()).checkpoint(any());
+            assertEquals(1, pipelineRunner.getInFlightBatchCount());
+
+            sinkFuture.complete(null);
+            pipelineRunner.completeInFlightBatches();
+
+            verify(buffer).checkpoint(checkpointState);
+            assertEquals(0, pipelineRunner.getInFlightBatchCount());
+        }
+
+        @Test
+        void testCompletedBatchesAreCheckpointedBeforeNextRead() {
+            when(pipeline.publishToSinks(anyCollection())).thenReturn(
+                    Collections.singletonList(CompletableFuture.completedFuture(null)));
+            final PipelineRunnerImpl pipelineRunner = new PipelineRunnerImpl(pipeline, processorProvider, 3);
+
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            verify(buffer, never()).checkpoint(any());
+
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            verify(buffer, times(1)).checkpoint(checkpointState);
+            assertEquals(1, pipelineRunner.getInFlightBatchCount());
+        }
+
+        @Test
+        void testFullInFlightWindowWaitsForOldestBatch() {
+            final CompletableFuture<Void> firstSinkFuture = new CompletableFuture<>();
+            final CompletableFuture<Void> secondSinkFuture = new CompletableFuture<>();
+            when(pipeline.publishToSinks(anyCollection()))
+                    .thenReturn(Collections.singletonList(firstSinkFuture))
+                    .thenReturn(Collections.singletonList(secondSinkFuture))
+                    .thenReturn(Collections.singletonList(CompletableFuture.completedFuture(null)));
+            final PipelineRunnerImpl pipelineRunner = new PipelineRunnerImpl(pipeline, processorProvider, 2);
+
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            assertEquals(2, pipelineRunner.getInFlightBatchCount());
+            verify(buffer, never()).checkpoint(any());
+
+            firstSinkFuture.complete(null);
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            verify(buffer, times(1)).checkpoint(checkpointState);
+            assertEquals(2, pipelineRunner.getInFlightBatchCount());
+            verify(pipeline, times(3)).publishToSinks(recordsList);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.pipeline.router;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompiledRouteConditionsTest {
+    @Mock
+    private ExpressionEvaluator evaluator;
+
+    @Test
+    void parseKeyEqualityDisjunction_parses_single_equality() {
+        final List<String[]> pairs = CompiledRouteConditions.parseKeyEqualityDisjunction("/service == \"checkout\"");
+
+        assertThat(pairs, notNullValue());
+        assertThat(pairs.size(), equalTo(1));
+        assertThat(pairs.get(0)[0], equalTo("/service"));
+        assertThat(pairs.get(0)[1], equalTo("checkout"));
+    }
+
+    @Test
+    void parseKeyEqualityDisjunction_parses_reversed_operands_and_or() {
+        final List<String[]> pairs = CompiledRouteConditions.parseKeyEqualityDisjunction(
+                " \"cart\" == /service or /log/level==\"or == x\" ");
+
+        assertThat(pairs, notNullValue());
+        assertThat(pairs.size(), equalTo(2));
+        assertThat(pairs.get(0)[0], equalTo("/service"));
+        assertThat(pairs.get(0)[1], equalTo("cart"));
+        assertThat(pairs.get(1)[0], equalTo("/log/level"));
+        assertThat(pairs.get(1)[1], equalTo("or == x"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/service != \"checkout\"",
+            "/service == \"checkout\" and /level == \"ERROR\"",
+            "/status == 200",
+            "(/service == \"checkout\")",
+            "/service == \"a\\\"b\"",
+            "/service == \"${/other}\"",
+            "/service == \"a\" or",
+            "/service == \"a\" or /status > 3",
+            "\"/escaped pointer\" == \"a\"",
+            "/service == \"/other\"",
+            "hasTags(\"a\")",
+            ""
+    })
+    void parseKeyEqualityDisjunction_returns_null_for_other_conditions(final String condition) {
+        assertThat(CompiledRouteConditions.parseKeyEqualityDisjunction(condition), nullValue());
+    }
+
+    @Test
+    void evaluate_dispatches_key_equality_routes_without_evaluator() {
+        final CompiledRouteConditions objectUnderTest = new CompiledRouteConditions(evaluator, List.of(
+                new ConditionalRoute("checkout", "/service == \"checkout\""),
+                new ConditionalRoute("cart", "/service == \"cart\""),
+                new ConditionalRoute("shop", "/service == \"cart\" or /service == \"checkout\""),
+                new ConditionalRoute("errors", "/level == \"ERROR\"")));
+
+        assertThat(objectUnderTest.getCompiledKeyCount(), equalTo(2));
+        assertThat(objectUnderTest.getEvaluatedRouteCount(), equalTo(0));
+
+        final BitSet[] matchedRoutes = evaluate(objectUnderTest, List.of(
+                createRecord(Map.of("service", "checkout", "level", "ERROR")),
+                createRecord(Map.of("service", "cart", "level", "INFO")),
+                createRecord(Map.of("level", 5))));
+
+        assertThat(matchedRoutes[0], equalTo(bits(0, 2, 3)));
+        assertThat(matchedRoutes[1], equalTo(bits(1, 2)));
+        assertThat(matchedRoutes[2].isEmpty(), equalTo(true));
+
+        verifyNoInteractions(evaluator);
+    }
+
+    @Test
+    void evaluate_uses_evaluator_once_per_batch_for_conditions_which_are_not_compiled() {
+        final String condition = "/status > 400";
+        final List<Record<Event>> eventRecords = List.of(
+                createRecord(Map.of("service", "cart", "status", 500)),
+                createRecord(Map.of("service", "checkout", "status", 200)),
+                createRecord(Map.of("service", "checkout", "status", 503)));
+        when(evaluator.evaluateConditionalBatch(eq(condition), eq(eventRecords), any(BitSet.class))).thenReturn(bits(0, 2));
+
+        final CompiledRouteConditions objectUnderTest = new CompiledRouteConditions(evaluator, List.of(
+                new ConditionalRoute("cart", "/service == \"cart\""),
+                new ConditionalRoute("failures", condition)));
+
+        final BitSet[] matchedRoutes = evaluate(objectUnderTest, eventRecords);
+
+        assertThat(matchedRoutes[0], equalTo(bits(0, 1)));
+        assertThat(matchedRoutes[1].isEmpty(), equalTo(true));
+        assertThat(matchedRoutes[2], equalTo(bits(1)));
+        assertThat(objectUnderTest.getRouteNames(), equalTo(List.of("cart", "failures")));
+        verify(evaluator).evaluateConditionalBatch(eq(condition), eq(eventRecords), any(BitSet.class));
+    }
+
+    @Test
+    void evaluate_excludes_routes_whose_evaluation_throws() {
+        final String condition = "/status > 400";
+        final List<Record<Event>> eventRecords = List.of(createRecord(Map.of("service", "cart")));
+        when(evaluator.evaluateConditionalBatch(eq(condition), eq(eventRecords), any(BitSet.class))).thenThrow(RuntimeException.class);
+
+        final CompiledRouteConditions objectUnderTest = new CompiledRouteConditions(evaluator, List.of(
+                new ConditionalRoute("failures", condition),
+                new ConditionalRoute("cart", "/service == \"cart\"")));
+
+        final BitSet[] matchedRoutes = evaluate(objectUnderTest, eventRecords);
+
+        assertThat(matchedRoutes[0], equalTo(bits(1)));
+    }
+
+    private static BitSet[] evaluate(final CompiledRouteConditions objectUnderTest, final List<Record<Event>> eventRecords) {
+        final BitSet[] matchedRoutes = new BitSet[eventRecords.size()];
+        for (int i = 0; i < matchedRoutes.length; i++) {
+            matchedRoutes[i] = new BitSet();
+        }
+        objectUnderTest.evaluate(eventRecords, matchedRoutes);
+        return matchedRoutes;
+    }
+
+    private static Record<Event> createRecord(final Map<String, Object> data) {
+        return new Record<>(createEvent(data));
+    }
+
+    private static Event createEvent(final Map<String, Object> data) {
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+    }
+
+    private static BitSet bits(final int... indexes) {
+        final BitSet bitSet = new BitSet();
+        for (final int index : indexes) {
+            bitSet.set(index);
+        }
+        return bitSet;
+    }
+}
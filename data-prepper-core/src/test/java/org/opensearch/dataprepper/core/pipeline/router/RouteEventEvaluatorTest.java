@@ -17,6 +17,7 @@ import org.mockito.quality.Strictness;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.Collection;
@@ -36,6 +37,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -123,6 +126,9 @@ class RouteEventEvaluatorTest {
                     .stream()
                     .map(ConditionalRoute::getName)
                     .collect(Collectors.toSet());
+
+            // The batch evaluation evaluates each event through the per-event stubs below.
+            when(evaluator.evaluateConditionalBatch(any(), any(), any())).thenCallRealMethod();
         }
 
         @Test
@@ -237,6 +243,56 @@ class RouteEventEvaluatorTest {
 
     }
 
+    @Nested
+    class WithKeyEqualityRoutes {
+        @BeforeEach
+        void setUp() {
+            routes = List.of(
+                    new ConditionalRoute("checkout", "/service == \"checkout\""),
+                    new ConditionalRoute("shop", "/service == \"checkout\" or /service == \"cart\""),
+                    new ConditionalRoute("errors", "/level == \"ERROR\""));
+        }
+
+        @AfterEach
+        void verifyNoEvaluation() {
+            verifyNoInteractions(evaluator);
+        }
+
+        @Test
+        void evaluateEventRoutes_returns_matching_routes_without_evaluator() {
+            final Record checkoutError = createJacksonEventRecord(Map.of("service", "checkout", "level", "ERROR"));
+            final Record cartInfo = createJacksonEventRecord(Map.of("service", "cart", "level", "INFO"));
+            final Record other = createJacksonEventRecord(Map.of("service", "other"));
+
+            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest()
+                    .evaluateEventRoutes(List.of(checkoutError, cartInfo, other));
+
+            assertThat(recordsToRoutes.get(checkoutError), equalTo(Set.of("checkout", "shop", "errors")));
+            assertThat(recordsToRoutes.get(cartInfo), equalTo(Set.of("shop")));
+            assertThat(recordsToRoutes.get(other), is(empty()));
+        }
+
+        @Test
+        void evaluateEventRoutes_shares_route_sets_between_events_with_the_same_routes() {
+            final Record first = createJacksonEventRecord(Map.of("service", "cart"));
+            final Record second = createJacksonEventRecord(Map.of("service", "cart"));
+            final RouteEventEvaluator objectUnderTest = createObjectUnderTest();
+
+            final Set<String> firstRoutes = objectUnderTest.evaluateEventRoutes(List.of(first)).get(first);
+            final Set<String> secondRoutes = objectUnderTest.evaluateEventRoutes(List.of(second)).get(second);
+
+            assertThat(firstRoutes, equalTo(Set.of("shop")));
+            assertThat(secondRoutes, sameInstance(firstRoutes));
+        }
+
+        private Record createJacksonEventRecord(final Map<String, Object> data) {
+            return new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(data)
+                    .build());
+        }
+    }
+
     private List<Record> createEventRecords() {
         return createRecords(() -> mock(Event.class));
     }
@@ -311,4 +311,92 @@ public class RouterCopyRecordStrategyTests {
             assertFalse(handleRefCount.containsKey(e.getEventHandle()));
         });
     }
+
+    @Test
+    void test_sinks_share_records_and_pipeline_connector_receives_copies() {
+        final List<DataFlowComponent<Object>> sinkComponents = createSinkComponents(3);
+        final DataFlowComponent<Object> connectorComponent = createPipelineConnectorComponent();
+        final List<DataFlowComponent<Object>> dataFlowComponents = new ArrayList<>(sinkComponents);
+        dataFlowComponents.add(connectorComponent);
+
+        final RouterCopyRecordStrategy getRecordStrategy = createObjectUnderTest(dataFlowComponents);
+        for (final DataFlowComponent<Object> sinkComponent : sinkComponents) {
+            getRecordStrategy.beginComponent(sinkComponent);
+            final Collection<Record> recordsOut = getRecordStrategy.getAllRecords(recordsIn);
+            assertThat(recordsOut, sameInstance(recordsIn));
+        }
+
+        getRecordStrategy.beginComponent(connectorComponent);
+        final Collection<Record> recordsOut = getRecordStrategy.getAllRecords(recordsIn);
+        assertThat(recordsOut.size(), equalTo(recordsIn.size()));
+        final Set<Record> recordsOutSet = recordsOut.stream().collect(Collectors.toSet());
+        recordsIn.forEach(recordIn -> assertFalse(recordsOutSet.contains(recordIn)));
+    }
+
+    @Test
+    void test_pipeline_connector_receives_original_record_not_routed_to_other_sinks() {
+        final DataFlowComponent<Object> sinkComponent = createSinkComponents(1).get(0);
+        final DataFlowComponent<Object> connectorComponent = createPipelineConnectorComponent();
+        final RouterCopyRecordStrategy getRecordStrategy = createObjectUnderTest(List.of(sinkComponent, connectorComponent));
+        final Iterator<Record> iterator = recordsIn.iterator();
+        final Record sinkRecord = iterator.next();
+        final Record connectorOnlyRecord = iterator.next();
+
+        getRecordStrategy.beginComponent(sinkComponent);
+        assertThat(getRecordStrategy.getRecord(sinkRecord), sameInstance(sinkRecord));
+
+        getRecordStrategy.beginComponent(connectorComponent);
+        assertThat(getRecordStrategy.getRecord(connectorOnlyRecord), sameInstance(connectorOnlyRecord));
+        assertThat(getRecordStrategy.getRecord(sinkRecord), not(sameInstance(sinkRecord)));
+    }
+
+    @Test
+    void test_sink_receives_copy_of_record_already_routed_to_pipeline_connector() {
+        final DataFlowComponent<Object> sinkComponent = createSinkComponents(1).get(0);
+        final DataFlowComponent<Object> connectorComponent = createPipelineConnectorComponent();
+        final RouterCopyRecordStrategy getRecordStrategy = createObjectUnderTest(List.of(connectorComponent, sinkComponent));
+        final Record firstRecord = recordsIn.iterator().next();
+
+        getRecordStrategy.beginComponent(connectorComponent);
+        assertThat(getRecordStrategy.getRecord(firstRecord), sameInstance(firstRecord));
+
+        getRecordStrategy.beginComponent(sinkComponent);
+        assertThat(getRecordStrategy.getRecord(firstRecord), not(sameInstance(firstRecord)));
+        final Collection<Record> recordsOut = getRecordStrategy.getAllRecords(recordsIn);
+        assertThat(recordsOut.size(), equalTo(recordsIn.size()));
+        assertFalse(recordsOut.contains(firstRecord));
+    }
+
+    @Test
+    void test_shared_records_acquire_a_reference_per_additional_sink_with_acknowledgements() {
+        final List<DataFlowComponent<Object>> sinkComponents = createSinkComponents(3);
+        final List<DataFlowComponent<Object>> dataFlowComponents = new ArrayList<>(sinkComponents);
+        dataFlowComponents.add(createPipelineConnectorComponent());
+
+        final RouterCopyRecordStrategy getRecordStrategy = createObjectUnderTest(dataFlowComponents);
+        final List<DefaultEventHandle> eventHandles = new ArrayList<>();
+        attachEventHandlesToRecordsIn(eventHandles);
+        for (final DataFlowComponent<Object> sinkComponent : sinkComponents) {
+            getRecordStrategy.beginComponent(sinkComponent);
+            getRecordStrategy.getAllRecords(recordsIn);
+        }
+
+        eventHandles.forEach(handle -> assertThat(handleRefCount.get(handle), equalTo(sinkComponents.size() - 1)));
+    }
+
+    private List<DataFlowComponent<Object>> createSinkComponents(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    final DataFlowComponent<Object> sinkComponent = mock(DataFlowComponent.class);
+                    lenient().when(sinkComponent.getComponent()).thenReturn(new TestComponent());
+                    return sinkComponent;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private DataFlowComponent<Object> createPipelineConnectorComponent() {
+        final DataFlowComponent<Object> connectorComponent = mock(DataFlowComponent.class);
+        when(connectorComponent.getComponent()).thenReturn(new PipelineConnector());
+        return connectorComponent;
+    }
 }
@@ -18,6 +18,7 @@ import java.util.Map;
 abstract class DefaultBaseEventBuilder<T extends Event> implements BaseEventBuilder<T> {
     private EventMetadata eventMetadata;
     private Object data;
+    private byte[] rawJsonData;
     private String eventType;
     private Instant timeReceived;
     private EventHandle eventHandle;
@@ -31,6 +32,10 @@ abstract class DefaultBaseEventBuilder<T extends Event> implements BaseEventBuil
         return this.data;
     }
 
+    public byte[] getRawJsonData() {
+        return this.rawJsonData;
+    }
+
     public String getEventType() {
         return this.eventType;
     }
@@ -83,6 +88,11 @@ abstract class DefaultBaseEventBuilder<T extends Event> implements BaseEventBuil
         return this;
     }
 
+    public BaseEventBuilder<T> withRawJsonData(final byte[] rawJsonData) {
+        this.rawJsonData = rawJsonData;
+        return this;
+    }
+
     public BaseEventBuilder<T> withEventHandle(final EventHandle eventHandle) {
         this.eventHandle = eventHandle;
         return this;
@@ -35,6 +35,7 @@ class DefaultLogEventBuilderFactory extends DefaultEventBuilderFactory {
         public Log build() {
             return (Log) JacksonLog.builder()
                     .withData(getData())
+                    .withRawJsonData(getRawJsonData())
                     .withEventType(getEventType())
                     .build();
         }
@@ -12,11 +12,13 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
@@ -88,4 +90,15 @@ class DefaultBaseEventBuilderTests {
         assertThat(defaultBaseEventBuilder.getEventType(), equalTo(testEventType));
         assertThat(defaultBaseEventBuilder.getEventMetadataAttributes(), equalTo(attributes));
     }
+
+    @Test
+    void testDefaultBaseEventBuilderWithRawJsonData() {
+        DefaultBaseEventBuilder defaultBaseEventBuilder = createObjectUnderTest();
+        byte[] rawJsonData = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+
+        defaultBaseEventBuilder.withRawJsonData(rawJsonData);
+
+        assertThat(defaultBaseEventBuilder.getRawJsonData(), sameInstance(rawJsonData));
+        assertThat(defaultBaseEventBuilder.getData(), equalTo(null));
+    }
 }
@@ -12,6 +12,7 @@ import org.opensearch.dataprepper.model.event.EventBuilder;
 import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
@@ -79,4 +80,18 @@ class DefaultEventBuilderFactoryTests {
         assertThat(eventMetadata.getAttributes(), equalTo(attributes));
         assertThat(event.toMap(), equalTo(data));
     }
+
+    @Test
+    public void build_uses_rawJsonData_from_builder_if_supplied() {
+        DefaultBaseEventBuilder baseEventBuilder = defaultEventBuilderFactory.createNew();
+
+        String testKey = RandomStringUtils.randomAlphabetic(5);
+        String testValue = RandomStringUtils.randomAlphabetic(10);
+        String rawJsonData = "{\"" + testKey + "\":\"" + testValue + "\"}";
+        EventBuilder eventBuilder = (EventBuilder) baseEventBuilder.withRawJsonData(rawJsonData.getBytes(StandardCharsets.UTF_8));
+
+        JacksonEvent event = (JacksonEvent) eventBuilder.build();
+        assertThat(event.get(testKey, String.class), equalTo(testValue));
+        assertThat(event.toJsonString(), equalTo(rawJsonData));
+    }
 }
@@ -12,6 +12,7 @@ import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.event.LogEventBuilder;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 
@@ -54,5 +55,19 @@ class DefaultLogEventBuilderFactoryTests {
         assertThat(eventMetadata.getAttributes(), equalTo(attributes));
         assertThat(log.toMap(), equalTo(data));
     }
-}
 
+    @Test
+    public void testBuildWithRawJsonData() {
+        DefaultBaseEventBuilder baseEventBuilder = defaultLogEventBuilderFactory.createNew();
+
+        String testKey = RandomStringUtils.randomAlphabetic(5);
+        String testValue = RandomStringUtils.randomAlphabetic(10);
+        String rawJsonData = "{\"" + testKey + "\":\"" + testValue + "\"}";
+        LogEventBuilder eventBuilder = (LogEventBuilder) baseEventBuilder.withRawJsonData(rawJsonData.getBytes(StandardCharsets.UTF_8));
+
+        JacksonLog log = (JacksonLog) eventBuilder.build();
+        assertThat(log.getMetadata().getEventType(), equalTo(DefaultLogEventBuilderFactory.LOG_EVENT_TYPE));
+        assertThat(log.toMap(), equalTo(Map.of(testKey, testValue)));
+        assertThat(log.toJsonString(), equalTo(rawJsonData));
+    }
+}
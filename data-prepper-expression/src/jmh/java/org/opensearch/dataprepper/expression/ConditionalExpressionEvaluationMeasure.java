@@ -9,10 +9,12 @@
 
 package org.opensearch.dataprepper.expression;
 
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -45,6 +47,65 @@ public class ConditionalExpressionEvaluationMeasure {
         return evaluator.evaluate("/key == \"a\"", benchmarkState.event);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public Object evaluate_statement(final StatementState statementState) {
+        return statementState.evaluator.evaluate(statementState.statement, statementState.event);
+    }
+
+    /**
+     * Parses and compiles the statement for every event, which is the work evaluation did per event before
+     * statements were compiled once.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public Object evaluate_statement_compiled_per_event(final StatementState statementState) {
+        return statementState.compiler.compile(statementState.parser.parse(statementState.statement))
+                .evaluate(statementState.event);
+    }
+
+    @State(Scope.Benchmark)
+    public static class StatementState {
+        @Param({
+                "/status_code >= 400 and /status_code < 500",
+                "/message =~ \"^error: .*timeout$\"",
+                "/log_level in {\"ERROR\", \"WARN\", \"FATAL\"}",
+                "(/status_code == 200 or /status_code == 204) and not (/message == \"ignored\")",
+                "length(/message) > 10 and /duration > 1.5"
+        })
+        private String statement;
+
+        private GenericExpressionEvaluator evaluator;
+        private Parser<ParseTree> parser;
+        private ExpressionCompiler<ParseTree> compiler;
+        private Event event;
+
+        @Setup
+        public void setUp() {
+            final AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+            applicationContext.scan("org.opensearch.dataprepper.expression");
+            applicationContext.refresh();
+
+            evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+            parser = applicationContext.getBean(MultiThreadParser.class);
+            compiler = applicationContext.getBean(ParseTreeCompiler.class);
+
+            final Map<String, Object> eventData = Map.of(
+                    "status_code", 404,
+                    "message", "error: upstream request timeout",
+                    "log_level", "WARN",
+                    "duration", 2.5);
+
+            event = TestEventFactory.getTestEventFactory().eventBuilder(LogEventBuilder.class)
+                    .withData(eventData)
+                    .build();
+        }
+    }
+
     @State(Scope.Benchmark)
     public static class BenchmarkState {
         private GenericExpressionEvaluator evaluator;
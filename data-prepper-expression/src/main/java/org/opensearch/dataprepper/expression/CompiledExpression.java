@@ -0,0 +1,18 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.13
+ * A node of an expression statement compiled by an {@link ExpressionCompiler}. Compiled expressions hold no per-event
+ * state, so one instance can be evaluated concurrently against any number of events.
+ */
+@FunctionalInterface
+interface CompiledExpression {
+    Object evaluate(final Event event);
+}
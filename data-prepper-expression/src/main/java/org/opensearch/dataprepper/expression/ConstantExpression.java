@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.13
+ * A literal, or an operation on literals which was folded into its result when the statement was compiled.
+ */
+class ConstantExpression implements CompiledExpression {
+    private final Object value;
+
+    ConstantExpression(final Object value) {
+        this.value = value;
+    }
+
+    Object getValue() {
+        return value;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        return value;
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+/**
+ * @since 2.13
+ * Placeholder interface for compilers used by a {@link ExpressionEvaluator} implementation to turn parsed data into
+ * a {@link CompiledExpression} which can be evaluated against any number of events.
+ * @param <ParsedData> parsed data type
+ */
+interface ExpressionCompiler<ParsedData> {
+    CompiledExpression compile(final ParsedData parsedData);
+}
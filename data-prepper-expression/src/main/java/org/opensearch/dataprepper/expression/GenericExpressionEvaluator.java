@@ -8,11 +8,16 @@ package org.opensearch.dataprepper.expression;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Public class that {@link org.opensearch.dataprepper.model.processor.Processor},
@@ -21,32 +26,88 @@ import java.util.List;
 @Named
 class GenericExpressionEvaluator implements ExpressionEvaluator {
     private final Parser<ParseTree> parser;
-    private final Evaluator<ParseTree, Event> evaluator;
+    private final ExpressionCompiler<ParseTree> compiler;
+    private final ConcurrentMap<String, CompiledExpression> compiledExpressions = new ConcurrentHashMap<>();
 
     @Inject
-    public GenericExpressionEvaluator(final Parser<ParseTree> parser, final Evaluator<ParseTree, Event> evaluator) {
+    public GenericExpressionEvaluator(final Parser<ParseTree> parser, final ExpressionCompiler<ParseTree> compiler) {
         this.parser = parser;
-        this.evaluator = evaluator;
+        this.compiler = compiler;
     }
 
     /**
      * {@inheritDoc}
+     * Each statement is parsed and compiled once, and the compiled statement is reused for later events.
      *
      * @throws ExpressionEvaluationException if unable to evaluate or coerce the statement result to type T
      */
     @Override
     public Object evaluate(final String statement, final Event context) {
-        ParseTree parseTree = null;
+        final CompiledExpression compiledExpression = getCompiledExpression(statement);
+        try {
+            return compiledExpression.evaluate(context);
+        } catch (final Exception exception) {
+            throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The statement is looked up once for the batch and its compiled form is evaluated against each event.
+     */
+    @Override
+    public BitSet evaluateConditionalBatch(final String statement, final Collection<Record<Event>> records,
+                                           final BitSet failedRecords) {
+        final BitSet matches = new BitSet(records.size());
+        final CompiledExpression compiledExpression;
+        try {
+            compiledExpression = getCompiledExpression(statement);
+        } catch (final ExpressionParsingException exception) {
+            throw exception;
+        } catch (final ExpressionEvaluationException exception) {
+            // evaluateConditional returns false for every event when the statement does not compile
+            return matches;
+        }
+        int index = -1;
+        for (final Record<Event> record : records) {
+            index++;
+            final Object result;
+            try {
+                result = compiledExpression.evaluate(record.getData());
+            } catch (final Exception exception) {
+                // evaluateConditional returns false for an event which the statement cannot be evaluated against
+                continue;
+            }
+            if (result instanceof Boolean) {
+                if ((Boolean) result) {
+                    matches.set(index);
+                }
+            } else {
+                failedRecords.set(index);
+            }
+        }
+        return matches;
+    }
+
+    private CompiledExpression getCompiledExpression(final String statement) {
+        final CompiledExpression cachedExpression = compiledExpressions.get(statement);
+        if (cachedExpression != null) {
+            return cachedExpression;
+        }
+        final ParseTree parseTree;
         try {
             parseTree = parser.parse(statement);
         } catch (final Exception exception) {
             throw new ExpressionParsingException("Unable to parse statement \"" + statement + "\"", exception);
         }
+        final CompiledExpression compiledExpression;
         try {
-            return evaluator.evaluate(parseTree, context);
+            compiledExpression = compiler.compile(parseTree);
         } catch (final Exception exception) {
             throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
         }
+        compiledExpressions.putIfAbsent(statement, compiledExpression);
+        return compiledExpression;
     }
 
     @Override
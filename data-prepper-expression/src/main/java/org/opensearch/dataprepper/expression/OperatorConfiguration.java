@@ -17,10 +17,12 @@ import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 @Named
 class OperatorConfiguration {
-    public final BiPredicate<Object, Object> regexEquals = (x, y) -> ((String) x).matches((String) y);
+    public final BiPredicate<Object, Object> regexEquals = (x, y) -> y instanceof Pattern ?
+            ((Pattern) y).matcher((String) x).matches() : ((String) x).matches((String) y);
     public final BiPredicate<Object, Object> equals = Objects::equals;
     public final BiPredicate<Object, Object> inSet = (x, y) -> ((Set<?>) y).contains(x);
     public final BiPredicate<Object, Object> typeOf = (x, y) -> DataType.isSameType(x, (String)y);
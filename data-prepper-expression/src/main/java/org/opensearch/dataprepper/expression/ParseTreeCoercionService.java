@@ -77,6 +77,30 @@ class ParseTreeCoercionService {
         }
     }
 
+    /**
+     * Compiles a primary terminal node into an expression which can be evaluated against any event. Json pointers are
+     * resolved into {@link EventKey}s and function arguments are parsed once, while literals are coerced into constants.
+     *
+     * @param node terminal node to compile
+     * @return the compiled terminal node
+     * @since 2.13
+     */
+    public CompiledExpression compilePrimaryTerminalNode(final TerminalNode node) {
+        Objects.requireNonNull(node, "TerminalNode cannot be null");
+        final String nodeStringValue = node.getText();
+        switch (node.getSymbol().getType()) {
+            case DataPrepperExpressionParser.Function:
+                final FunctionMetadata functionMetadata = cachedFunctionStrings.computeIfAbsent(nodeStringValue, this::parseFunctionMetadata);
+                return event -> expressionFunctionProvider.provideFunction(functionMetadata.functionName, functionMetadata.argList, event, convertLiteralType);
+            case DataPrepperExpressionParser.EscapedJsonPointer:
+                return compileJsonPointer(nodeStringValue.substring(1, nodeStringValue.length() - 1));
+            case DataPrepperExpressionParser.JsonPointer:
+                return compileJsonPointer(nodeStringValue);
+            default:
+                return new ConstantExpression(coercePrimaryTerminalNode(node, null));
+        }
+    }
+
     @Inject
     public ParseTreeCoercionService(
             final Map<Class<? extends Serializable>, Function<Object, Object>> literalTypeConversions,
@@ -153,7 +177,15 @@ class ParseTreeCoercionService {
     }
 
     private Object resolveJsonPointerValue(final String jsonPointer, final Event event) {
-        EventKey eventKey = this.eventKeyFactory.createEventKey(jsonPointer);
+        return resolveEventKeyValue(this.eventKeyFactory.createEventKey(jsonPointer), event);
+    }
+
+    private CompiledExpression compileJsonPointer(final String jsonPointer) {
+        final EventKey eventKey = this.eventKeyFactory.createEventKey(jsonPointer);
+        return event -> resolveEventKeyValue(eventKey, event);
+    }
+
+    private Object resolveEventKeyValue(final EventKey eventKey, final Event event) {
         final Object value = event.get(eventKey, Object.class);
         return value != null ? convertLiteralType.apply(value) : null;
     }
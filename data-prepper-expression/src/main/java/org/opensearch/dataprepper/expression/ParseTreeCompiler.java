@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.expression;
 
-import org.opensearch.dataprepper.model.event.Event;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.slf4j.Logger;
@@ -15,30 +14,39 @@ import javax.inject.Inject;
 import javax.inject.Named;
 
 @Named
-class ParseTreeEvaluator implements Evaluator<ParseTree, Event> {
-    private static final Logger LOG = LoggerFactory.getLogger(ParseTreeEvaluator.class);
+class ParseTreeCompiler implements ExpressionCompiler<ParseTree> {
+    private static final Logger LOG = LoggerFactory.getLogger(ParseTreeCompiler.class);
 
     private final OperatorProvider operatorProvider;
     private final ParseTreeWalker walker;
     private final ParseTreeCoercionService coercionService;
 
     @Inject
-    public ParseTreeEvaluator(final OperatorProvider operatorProvider, final ParseTreeWalker walker,
-                              final ParseTreeCoercionService coercionService) {
+    public ParseTreeCompiler(final OperatorProvider operatorProvider, final ParseTreeWalker walker,
+                             final ParseTreeCoercionService coercionService) {
         this.operatorProvider = operatorProvider;
         this.walker = walker;
         this.coercionService = coercionService;
     }
 
     @Override
-    public Object evaluate(ParseTree parseTree, Event event) {
+    public CompiledExpression compile(final ParseTree parseTree) {
+        final CompiledExpression compiledExpression;
         try {
-            final ParseTreeEvaluatorListener listener = new ParseTreeEvaluatorListener(operatorProvider, coercionService, event);
+            final ParseTreeCompilerListener listener = new ParseTreeCompilerListener(operatorProvider, coercionService);
             walker.walk(listener, parseTree);
-            return listener.getResult();
+            compiledExpression = listener.getResult();
         } catch (final Exception e) {
             LOG.error(e.getMessage());
             throw new ExpressionEvaluationException(e.getMessage(), e);
         }
+        return event -> {
+            try {
+                return compiledExpression.evaluate(event);
+            } catch (final Exception e) {
+                LOG.error(e.getMessage());
+                throw new ExpressionEvaluationException(e.getMessage(), e);
+            }
+        };
     }
 }
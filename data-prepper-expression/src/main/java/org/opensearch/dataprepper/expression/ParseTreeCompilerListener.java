@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.expression;
 
-import org.opensearch.dataprepper.model.event.Event;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -14,46 +13,48 @@ import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionBaseList
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionListener;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.Stack;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
- * @since 1.3
- * This listener implements {@link DataPrepperExpressionListener} to provide callbacks to handle evaluation of
- * {@link org.antlr.v4.runtime.tree.ParseTree} representation of an expression while {@link org.antlr.v4.runtime.tree.ParseTreeWalker}
- * traverses through the {@link org.antlr.v4.runtime.tree.ParseTree}.
+ * @since 2.13
+ * This listener implements {@link DataPrepperExpressionListener} to compile the
+ * {@link org.antlr.v4.runtime.tree.ParseTree} representation of an expression into a {@link CompiledExpression} while
+ * {@link org.antlr.v4.runtime.tree.ParseTreeWalker} traverses through the {@link org.antlr.v4.runtime.tree.ParseTree}.
+ * Json pointers are resolved into event keys, set initializers and regex patterns which are literals are built once,
+ * and operations whose operands are all literals are folded into their results.
  *
  * Use case:
  * ParseTreeWalker walker = new ParseTreeWalker();
- * ParseTreeEvaluatorListener listener = new ParseTreeEvaluatorListener(...);
+ * ParseTreeCompilerListener listener = new ParseTreeCompilerListener(...);
  * walker.walk(listener, ...);
- * final Object result = listener.getResult();
+ * final CompiledExpression result = listener.getResult();
  */
-class ParseTreeEvaluatorListener extends DataPrepperExpressionBaseListener {
+class ParseTreeCompilerListener extends DataPrepperExpressionBaseListener {
 
     private final OperatorProvider operatorProvider;
     private final ParseTreeCoercionService coercionService;
     private final Stack<Integer> operatorSymbolStack;
-    private final Stack<Object> operandStack;
-    private final Event event;
+    private final Stack<CompiledExpression> operandStack;
     private boolean listStart;
     private Set<Object> setMembers;
 
-    public ParseTreeEvaluatorListener(final OperatorProvider operatorProvider,
-                                      final ParseTreeCoercionService coercionService,
-                                      final Event event) {
+    public ParseTreeCompilerListener(final OperatorProvider operatorProvider,
+                                     final ParseTreeCoercionService coercionService) {
         this.coercionService = coercionService;
         this.operatorProvider = operatorProvider;
-        this.event = event;
         this.listStart = false;
         operatorSymbolStack = new Stack<>();
         operandStack = new Stack<>();
     }
 
-    public Object getResult() {
+    public CompiledExpression getResult() {
         if (operandStack.size() != 1) {
-            throw new IllegalStateException("The ParseTreeEvaluatorListener has not been walked through exactly once by " +
+            throw new IllegalStateException("The ParseTreeCompilerListener has not been walked through exactly once by " +
                     "a ParseTreeWalker.");
         }
         return operandStack.peek();
@@ -91,19 +92,18 @@ class ParseTreeEvaluatorListener extends DataPrepperExpressionBaseListener {
         } else if (nodeType == DataPrepperExpressionParser.RBRACE) {
             listStart = false;
             validateSetMembers(setMembers);
-            operandStack.push(setMembers);
+            operandStack.push(new ConstantExpression(Collections.unmodifiableSet(setMembers)));
         } else if (nodeType == DataPrepperExpressionParser.RPAREN) {
             // pop LPAREN at operatorSymbolStack top
             operatorSymbolStack.pop();
-        } else {
-            final Object arg = coercionService.coercePrimaryTerminalNode(node, event);
-            if (listStart) {
-                if (!(arg instanceof Integer) || (((int)arg) != DataPrepperExpressionParser.COMMA && ((int)arg) != DataPrepperExpressionParser.SET_DELIMITER)) {
-                    setMembers.add(arg);
-                }
-            } else {
-                operandStack.push(arg);
+        } else if (listStart) {
+            // set members are always literals, so they do not depend on the event
+            final Object arg = coercionService.coercePrimaryTerminalNode(node, null);
+            if (!(arg instanceof Integer) || (((int)arg) != DataPrepperExpressionParser.COMMA && ((int)arg) != DataPrepperExpressionParser.SET_DELIMITER)) {
+                setMembers.add(arg);
             }
+        } else {
+            operandStack.push(coercionService.compilePrimaryTerminalNode(node));
         }
     }
 
@@ -120,29 +120,43 @@ class ParseTreeEvaluatorListener extends DataPrepperExpressionBaseListener {
                 final Operator<?> op = operatorProvider.getOperator(operatorSymbol);
                 if (op.shouldEvaluate(ctx)) {
                     operatorSymbolStack.pop();
-                    try {
-                        performSingleOperation(op, ctx);
-                    } catch (final Exception e) {
-                        if (e instanceof IllegalArgumentException && op.isBooleanOperator()) {
-                            operandStack.push(false);
-                        } else {
-                            throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: "
-                                + getPartialStatementFromContext(ctx), e);
-                        }
-                    }
+                    operandStack.push(compileSingleOperation(op, ctx));
                 }
             }
         }
     }
 
-    private void performSingleOperation(final Operator<?> operator, final ParserRuleContext ctx) {
+    private CompiledExpression compileSingleOperation(final Operator<?> operator, final ParserRuleContext ctx) {
         final int numOfArgs = operator.getNumberOfOperands(ctx);
-        final Object[] args = new Object[numOfArgs];
+        final CompiledExpression[] operands = new CompiledExpression[numOfArgs];
+        boolean constantOperands = true;
         for (int i = numOfArgs - 1; i >= 0; i--) {
-            args[i] = operandStack.pop();
+            operands[i] = operandStack.pop();
+            constantOperands &= operands[i] instanceof ConstantExpression;
+        }
+        if (operator instanceof GenericRegexMatchOperator) {
+            operands[1] = compileRegexPattern(operands[1]);
+        }
+        final OperatorExpression operation = new OperatorExpression(operator, operands, getPartialStatementFromContext(ctx));
+        if (constantOperands) {
+            try {
+                return new ConstantExpression(operation.evaluate(null));
+            } catch (final Exception e) {
+                // leave the failure to be reported when the statement is evaluated
+            }
+        }
+        return operation;
+    }
+
+    private CompiledExpression compileRegexPattern(final CompiledExpression pattern) {
+        if (pattern instanceof ConstantExpression && ((ConstantExpression) pattern).getValue() instanceof String) {
+            try {
+                return new ConstantExpression(Pattern.compile((String) ((ConstantExpression) pattern).getValue()));
+            } catch (final PatternSyntaxException e) {
+                return pattern;
+            }
         }
-        final Object result = operator.evaluate(args);
-        operandStack.push(result);
+        return pattern;
     }
 
     private String getPartialStatementFromContext(final ParserRuleContext ctx) {
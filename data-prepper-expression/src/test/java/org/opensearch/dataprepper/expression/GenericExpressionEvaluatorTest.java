@@ -19,7 +19,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
@@ -46,7 +48,7 @@ class GenericExpressionEvaluatorTest {
     @Mock
     private Parser<ParseTree> parser;
     @Mock
-    private Evaluator<ParseTree, Event> evaluator;
+    private ExpressionCompiler<ParseTree> compiler;
     @InjectMocks
     private GenericExpressionEvaluator statementEvaluator;
 
@@ -54,29 +56,50 @@ class GenericExpressionEvaluatorTest {
     void testGivenValidParametersThenEvaluatorResultReturned() {
         final String statement = UUID.randomUUID().toString();
         final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
         final Event event = mock(Event.class);
         final String expectedStr = UUID.randomUUID().toString();
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expectedStr).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(expectedStr).when(compiledExpression).evaluate(eq(event));
 
         final Object actualStr = statementEvaluator.evaluate(statement, event);
 
         assertThat((String)actualStr, is(expectedStr));
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression).evaluate(eq(event));
 
         final Random random = new Random();
         final Integer expectedInt = random.nextInt(1000);
 
-        doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expectedInt).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(expectedInt).when(compiledExpression).evaluate(eq(event));
 
         final Object actualInt = statementEvaluator.evaluate(statement, event);
 
         assertThat((Integer)actualInt, is(expectedInt));
-        verify(parser, times(2)).parse(eq(statement));
-        verify(evaluator, times(2)).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression, times(2)).evaluate(eq(event));
+    }
+
+    @Test
+    void evaluate_parses_and_compiles_each_statement_once() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+        final Event event = mock(Event.class);
+        final Event otherEvent = mock(Event.class);
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(true).when(compiledExpression).evaluate(eq(event));
+        doReturn(false).when(compiledExpression).evaluate(eq(otherEvent));
+
+        assertThat(statementEvaluator.evaluate(statement, event), equalTo(true));
+        assertThat(statementEvaluator.evaluate(statement, otherEvent), equalTo(false));
+        assertThat(statementEvaluator.evaluate(statement, event), equalTo(true));
+
+        verify(parser, times(1)).parse(eq(statement));
+        verify(compiler, times(1)).compile(eq(parseTree));
     }
 
     @Test
@@ -88,22 +111,94 @@ class GenericExpressionEvaluatorTest {
         assertThrows(ExpressionParsingException.class, () -> statementEvaluator.evaluate(statement, null));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator, times(0)).evaluate(any(), any());
+        verify(compiler, times(0)).compile(any());
+    }
+
+    @Test
+    void testGivenCompilerThrowsExceptionThenExceptionThrownAndStatementIsCompiledAgain() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final Event event = mock(Event.class);
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doThrow(new RuntimeException()).when(compiler).compile(eq(parseTree));
+
+        assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, event));
+        assertThat(statementEvaluator.evaluateConditional(statement, event), equalTo(false));
+
+        verify(parser, times(2)).parse(eq(statement));
+        verify(compiler, times(2)).compile(eq(parseTree));
     }
 
     @Test
     void testGivenEvaluatorThrowsExceptionThenExceptionThrown() {
         final String statement = UUID.randomUUID().toString();
         final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
         final Event event = mock(Event.class);
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doThrow(new RuntimeException()).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doThrow(new RuntimeException()).when(compiledExpression).evaluate(eq(event));
 
         assertThat(statementEvaluator.evaluateConditional(statement, event), equalTo(false));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression).evaluate(eq(event));
+    }
+
+    @Test
+    void evaluateConditionalBatch_sets_bits_of_records_which_match() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+        final List<Record<Event>> records = List.of(
+                new Record<>(mock(Event.class)), new Record<>(mock(Event.class)), new Record<>(mock(Event.class)),
+                new Record<>(mock(Event.class)), new Record<>(mock(Event.class)));
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(true).when(compiledExpression).evaluate(eq(records.get(0).getData()));
+        doReturn(false).when(compiledExpression).evaluate(eq(records.get(1).getData()));
+        doReturn(UUID.randomUUID().toString()).when(compiledExpression).evaluate(eq(records.get(2).getData()));
+        doThrow(new RuntimeException()).when(compiledExpression).evaluate(eq(records.get(3).getData()));
+        doReturn(true).when(compiledExpression).evaluate(eq(records.get(4).getData()));
+
+        final BitSet failedRecords = new BitSet();
+        final BitSet matches = statementEvaluator.evaluateConditionalBatch(statement, records, failedRecords);
+
+        final BitSet expectedMatches = new BitSet();
+        expectedMatches.set(0);
+        expectedMatches.set(4);
+        assertThat(matches, equalTo(expectedMatches));
+        final BitSet expectedFailedRecords = new BitSet();
+        expectedFailedRecords.set(2);
+        assertThat(failedRecords, equalTo(expectedFailedRecords));
+        verify(parser, times(1)).parse(eq(statement));
+    }
+
+    @Test
+    void evaluateConditionalBatch_returns_no_matches_when_statement_does_not_compile() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doThrow(new RuntimeException()).when(compiler).compile(eq(parseTree));
+
+        final BitSet matches = statementEvaluator.evaluateConditionalBatch(statement, List.of(new Record<>(mock(Event.class))));
+
+        assertThat(matches.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void evaluateConditionalBatch_throws_when_statement_does_not_parse() {
+        final String statement = UUID.randomUUID().toString();
+        final List<Record<Event>> records = List.of(new Record<>(mock(Event.class)));
+
+        doThrow(new RuntimeException()).when(parser).parse(eq(statement));
+
+        assertThrows(ExpressionParsingException.class, () -> statementEvaluator.evaluateConditionalBatch(statement, records));
+        assertThrows(ExpressionParsingException.class, () -> statementEvaluator.evaluateConditionalBatch(statement, records, new BitSet()));
     }
 
     @Test
@@ -33,7 +33,9 @@ class GenericExpressionEvaluator_ConditionalTest {
     @Mock
     private Parser<ParseTree> parser;
     @Mock
-    private Evaluator<ParseTree, Event> evaluator;
+    private ExpressionCompiler<ParseTree> compiler;
+    @Mock
+    private CompiledExpression compiledExpression;
     @InjectMocks
     private GenericExpressionEvaluator statementEvaluator;
 
@@ -45,13 +47,14 @@ class GenericExpressionEvaluator_ConditionalTest {
         final Boolean expected = true;
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expected).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(expected).when(compiledExpression).evaluate(eq(event));
 
         final Boolean actual = statementEvaluator.evaluateConditional(statement, event);
 
         assertThat(actual, is(expected));
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression).evaluate(eq(event));
     }
 
     @Test
@@ -62,12 +65,13 @@ class GenericExpressionEvaluator_ConditionalTest {
         final Object result = mock(Object.class);
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(result).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(result).when(compiledExpression).evaluate(eq(event));
 
         assertThrows(ClassCastException.class, () -> statementEvaluator.evaluateConditional(statement, event));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression).evaluate(eq(event));
     }
 
     @Test
@@ -79,7 +83,7 @@ class GenericExpressionEvaluator_ConditionalTest {
         assertThrows(ExpressionParsingException.class, () -> statementEvaluator.evaluateConditional(statement, null));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator, times(0)).evaluate(any(), any());
+        verify(compiler, times(0)).compile(any());
     }
 
     @Test
@@ -89,11 +93,12 @@ class GenericExpressionEvaluator_ConditionalTest {
         final Event event = mock(Event.class);
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doThrow(new RuntimeException()).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doThrow(new RuntimeException()).when(compiledExpression).evaluate(eq(event));
 
         assertThat(statementEvaluator.evaluateConditional(statement, event), equalTo(false));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression).evaluate(eq(event));
     }
 }
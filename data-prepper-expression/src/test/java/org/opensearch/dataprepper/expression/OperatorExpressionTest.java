@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OperatorExpressionTest {
+    private static final String PARTIAL_STATEMENT = "/left == /right";
+
+    @Mock
+    private Operator<Object> operator;
+
+    @Mock
+    private CompiledExpression leftOperand;
+
+    @Mock
+    private CompiledExpression rightOperand;
+
+    @Mock
+    private Event event;
+
+    private OperatorExpression createObjectUnderTest() {
+        return new OperatorExpression(operator, new CompiledExpression[]{leftOperand, rightOperand}, PARTIAL_STATEMENT);
+    }
+
+    @Test
+    void evaluate_applies_operator_to_operands_evaluated_for_the_event() {
+        final String left = UUID.randomUUID().toString();
+        final String right = UUID.randomUUID().toString();
+        final Object result = UUID.randomUUID().toString();
+        when(leftOperand.evaluate(event)).thenReturn(left);
+        when(rightOperand.evaluate(event)).thenReturn(right);
+        doReturn(result).when(operator).evaluate(left, right);
+
+        assertThat(createObjectUnderTest().evaluate(event), equalTo(result));
+    }
+
+    @Test
+    void evaluate_returns_false_when_boolean_operator_rejects_operands() {
+        when(operator.evaluate(null, null)).thenThrow(IllegalArgumentException.class);
+        when(operator.isBooleanOperator()).thenReturn(true);
+
+        assertThat(createObjectUnderTest().evaluate(event), equalTo(false));
+    }
+
+    @Test
+    void evaluate_throws_with_partial_statement_when_non_boolean_operator_rejects_operands() {
+        when(operator.evaluate(null, null)).thenThrow(IllegalArgumentException.class);
+        when(operator.isBooleanOperator()).thenReturn(false);
+
+        final ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+                () -> createObjectUnderTest().evaluate(event));
+        assertThat(exception.getMessage(), containsString(PARTIAL_STATEMENT));
+    }
+
+    @Test
+    void evaluate_throws_with_partial_statement_when_operator_fails() {
+        when(operator.evaluate(null, null)).thenThrow(RuntimeException.class);
+
+        final ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+                () -> createObjectUnderTest().evaluate(event));
+        assertThat(exception.getMessage(), containsString(PARTIAL_STATEMENT));
+    }
+
+    @Test
+    void evaluate_does_not_catch_operand_failures() {
+        when(leftOperand.evaluate(event)).thenThrow(IllegalArgumentException.class);
+
+        assertThrows(IllegalArgumentException.class, () -> createObjectUnderTest().evaluate(event));
+    }
+}
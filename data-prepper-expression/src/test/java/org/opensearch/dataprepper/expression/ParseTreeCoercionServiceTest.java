@@ -427,6 +427,80 @@ class ParseTreeCoercionServiceTest {
         return event;
     }
 
+    @Test
+    void testCompileNullNodeThrowsException() {
+        assertThrows(NullPointerException.class, () -> objectUnderTest.compilePrimaryTerminalNode(null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSupportedJsonPointerValues")
+    void testCompileTerminalNodeJsonPointerTypeSupportedValues(final Object testValue) {
+        final String testKey1 = "key1";
+        final String testKey2 = "key2";
+        final String testJsonPointerKey = String.format("/%s/%s", testKey1, testKey2);
+        final Event testEvent = testValue == null ? createTestEvent(new HashMap<>()) :
+                createTestEvent(Map.of(testKey1, Map.of(testKey2, testValue)));
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn(testJsonPointerKey);
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledExpression.evaluate(testEvent), equalTo(objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent)));
+        assertThat(compiledExpression.evaluate(createTestEvent(new HashMap<>())), equalTo(null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideKeys")
+    void testCompileTerminalNodeEscapeJsonPointerTypeWithSpecialCharacters(final String testKey, final String testEscapeJsonPointer) {
+        final String testValue = RandomStringUtils.randomAlphabetic(10);
+        final Event testEvent = createTestEvent(Map.of(testKey, testValue));
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn(testEscapeJsonPointer);
+        assertThat(objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent), equalTo(testValue));
+    }
+
+    @Test
+    void testCompileTerminalNodeJsonPointerTypeUnSupportedValues() {
+        final Event testEvent = createInvalidTestEvent(new HashMap<>());
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("/key");
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThrows(ExpressionCoercionException.class, () -> compiledExpression.evaluate(testEvent));
+    }
+
+    @Test
+    void testCompileTerminalNodeLengthFunction() {
+        final String key = RandomStringUtils.randomAlphabetic(5);
+        final String value = RandomStringUtils.randomAlphabetic(10);
+        final Event testEvent = createTestEvent(Map.of(key, value));
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("length(/"+key+")");
+        when(expressionFunctionProvider.provideFunction(eq("length"), eq(List.of("/" + key)), eq(testEvent), any(Function.class))).thenReturn(value.length());
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledExpression.evaluate(testEvent), equalTo(value.length()));
+    }
+
+    @Test
+    void testCompileTerminalNodeFunctionWithInvalidArgumentThrowsException() {
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("length(1)");
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
+        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode));
+    }
+
+    @Test
+    void testCompileTerminalNodeLiteralTypeIsConstant() {
+        final Integer testInteger = new Random().nextInt();
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.Integer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn(String.valueOf(testInteger));
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledExpression, instanceOf(ConstantExpression.class));
+        assertThat(compiledExpression.evaluate(null), equalTo(testInteger));
+    }
+
     private Event createInvalidTestEvent(final Object data) {
         final Event event = mock(Event.class);
         lenient().when(event.get(any(EventKey.class), any())).thenReturn(new AtomicBoolean());
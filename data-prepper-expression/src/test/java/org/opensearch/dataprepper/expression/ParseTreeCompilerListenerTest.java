@@ -24,10 +24,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -36,7 +38,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-class ParseTreeEvaluatorListenerTest {
+class ParseTreeCompilerListenerTest {
     private final ExpressionFunctionProvider expressionFunctionProvider = mock(ExpressionFunctionProvider.class);
     private final Random random = new Random();
     private final ParseTreeWalker walker = new ParseTreeWalker();
@@ -62,33 +64,36 @@ class ParseTreeEvaluatorListenerTest {
             new NotOperator()
     );
     private final OperatorProvider operatorProvider = new OperatorProvider(operators);
-    private ParseTreeEvaluatorListener objectUnderTest;
+    private ParseTreeCompilerListener objectUnderTest;
 
     private ParseTreeParser constructParseTreeParser() {
         final DataPrepperExpressionParser expressionParser = new ParseTreeParserConfiguration().dataPrepperExpressionParser();
         return new ParseTreeParser(expressionParser);
     }
 
-    private ParseTreeEvaluatorListener createObjectUnderTest(final Event event) {
-        return new ParseTreeEvaluatorListener(operatorProvider, coercionService, event);
+    private ParseTreeCompilerListener createObjectUnderTest() {
+        return new ParseTreeCompilerListener(operatorProvider, coercionService);
     }
 
     private Event createTestEvent(final Object data) {
         return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
 
-    private Object evaluateStatementOnEvent(final String statement, final Event event) {
+    private CompiledExpression compileStatement(final String statement) {
         final ParseTree parseTree = parseTreeParser.parse(statement);
-        objectUnderTest = createObjectUnderTest(event);
+        objectUnderTest = createObjectUnderTest();
         walker.walk(objectUnderTest, parseTree);
         return objectUnderTest.getResult();
     }
 
+    private Object evaluateStatementOnEvent(final String statement, final Event event) {
+        return compileStatement(statement).evaluate(event);
+    }
+
     @Test
     void testVisitErrorNode() {
         final ErrorNode errorNode = mock(ErrorNode.class);
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
+        objectUnderTest = createObjectUnderTest();
 
         assertThrows(RuntimeException.class, () -> objectUnderTest.visitErrorNode(errorNode));
     }
@@ -96,13 +101,113 @@ class ParseTreeEvaluatorListenerTest {
     @Test
     void testGetResultWithDoubleWalk() {
         final ParseTree testParseTree = parseTreeParser.parse("true");
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
+        objectUnderTest = createObjectUnderTest();
         walker.walk(objectUnderTest, testParseTree);
         walker.walk(objectUnderTest, testParseTree);
         assertThrows(IllegalStateException.class, objectUnderTest::getResult);
     }
 
+    @Test
+    void testCompiledExpressionIsReusedForDifferentEvents() {
+        final String testKey = "testKey";
+        final CompiledExpression compiledExpression = compileStatement(String.format("/%s > 10 and /%s < 100", testKey, testKey));
+
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of(testKey, 50))), is(true));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of(testKey, 5))), is(false));
+        assertThat(compiledExpression.evaluate(createTestEvent(new HashMap<>())), is(false));
+    }
+
+    @Test
+    void testOperationsOnLiteralsAreFoldedIntoConstants() {
+        final CompiledExpression conditionalExpression = compileStatement("not (1 > 2) and 2 == 2");
+        final CompiledExpression arithmeticExpression = compileStatement("(1 + 2) * 3");
+
+        assertThat(conditionalExpression, instanceOf(ConstantExpression.class));
+        assertThat(conditionalExpression.evaluate(null), is(true));
+        assertThat(arithmeticExpression, instanceOf(ConstantExpression.class));
+        assertThat(arithmeticExpression.evaluate(null), equalTo(9));
+    }
+
+    @Test
+    void testOperationsOnLiteralsWhichFailAreNotFolded() {
+        final CompiledExpression compiledExpression = compileStatement("1 % 0");
+
+        assertThat(compiledExpression, instanceOf(OperatorExpression.class));
+        final Event testEvent = createTestEvent(new HashMap<>());
+        assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(testEvent));
+    }
+
+    @Test
+    void testOperationsOnJsonPointersAreNotFolded() {
+        final CompiledExpression compiledExpression = compileStatement("/testKey + 1");
+
+        assertThat(compiledExpression, instanceOf(OperatorExpression.class));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("testKey", 1))), equalTo(2));
+    }
+
+    @Test
+    void testSetInitializerIsCompiledIntoConstantSet() {
+        final CompiledExpression compiledExpression = compileStatement("{1, 2, 3}");
+
+        assertThat(compiledExpression, instanceOf(ConstantExpression.class));
+        assertThat(compiledExpression.evaluate(null), equalTo(Set.of(1, 2, 3)));
+    }
+
+    @Test
+    void testSetInitializerWithMixedTypesThrows() {
+        assertThrows(RuntimeException.class, () -> compileStatement("/testKey in {1, \"a\"}"));
+    }
+
+    @Test
+    void testSimpleSetOperatorExpressionWithJsonPointerType() {
+        final String testKey = "testKey";
+        final CompiledExpression inSet = compileStatement(String.format("/%s in {\"a\", \"b\"}", testKey));
+        final CompiledExpression notInSet = compileStatement(String.format("/%s not in {\"a\", \"b\"}", testKey));
+
+        assertThat(inSet.evaluate(createTestEvent(Map.of(testKey, "a"))), is(true));
+        assertThat(inSet.evaluate(createTestEvent(Map.of(testKey, "c"))), is(false));
+        assertThat(notInSet.evaluate(createTestEvent(Map.of(testKey, "c"))), is(true));
+    }
+
+    @Test
+    void testRegexOperatorExpressionWithLiteralPattern() {
+        final String testKey = "testKey";
+        final CompiledExpression matches = compileStatement(String.format("/%s =~ \"a.*c\"", testKey));
+        final CompiledExpression notMatches = compileStatement(String.format("/%s !~ \"a.*c\"", testKey));
+
+        assertThat(matches.evaluate(createTestEvent(Map.of(testKey, "abc"))), is(true));
+        assertThat(matches.evaluate(createTestEvent(Map.of(testKey, "abd"))), is(false));
+        assertThat(matches.evaluate(createTestEvent(Map.of(testKey, 1))), is(false));
+        assertThat(matches.evaluate(createTestEvent(new HashMap<>())), is(false));
+        assertThat(notMatches.evaluate(createTestEvent(Map.of(testKey, "abd"))), is(true));
+    }
+
+    @Test
+    void testRegexOperatorExpressionWithLiteralOperandsIsFolded() {
+        final CompiledExpression compiledExpression = compileStatement("\"abc\" =~ \"a.*\"");
+
+        assertThat(compiledExpression, instanceOf(ConstantExpression.class));
+        assertThat(compiledExpression.evaluate(null), is(true));
+    }
+
+    @Test
+    void testRegexOperatorExpressionWithInvalidLiteralPattern() {
+        final String testKey = "testKey";
+        final CompiledExpression compiledExpression = compileStatement(String.format("/%s =~ \"(abc\"", testKey));
+
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of(testKey, "abc"))), is(false));
+    }
+
+    @Test
+    void testRegexOperatorExpressionWithJsonPointerPattern() {
+        final String testKey = "testKey";
+        final String patternKey = "patternKey";
+        final CompiledExpression compiledExpression = compileStatement(String.format("/%s =~ /%s", testKey, patternKey));
+
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of(testKey, "abc", patternKey, "a.*"))), is(true));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of(testKey, "abc", patternKey, "b.*"))), is(false));
+    }
+
     @Test
     void testSinglePrimaryExpression() {
         final String testStringValue = "test string";
@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParseTreeCompilerTest {
+
+    @Mock
+    private Event event;
+
+    @Mock
+    private OperatorProvider operatorProvider;
+
+    @Mock
+    private ParseTree parseTree;
+
+    @Mock
+    private ParseTreeWalker parseTreeWalker;
+
+    @Mock
+    private ParseTreeCoercionService coercionService;
+
+    @Mock
+    private CompiledExpression compiledExpression;
+
+    private ParseTreeCompiler objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        objectUnderTest = new ParseTreeCompiler(operatorProvider, parseTreeWalker, coercionService);
+    }
+
+    @Test
+    void testCompileSuccess() throws ExpressionCoercionException {
+        when(compiledExpression.evaluate(event)).thenReturn(true);
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class, (mock, context) -> when(mock.getResult()).thenReturn(compiledExpression))) {
+            assertThat(objectUnderTest.compile(parseTree).evaluate(event), is(true));
+        }
+    }
+
+    @Test
+    void testCompileFailureInWalk() {
+        doThrow(new RuntimeException()).when(parseTreeWalker).walk(
+                any(ParseTreeCompilerListener.class), any(ParseTree.class));
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class)) {
+            assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.compile(parseTree));
+        }
+    }
+
+    @Test
+    void testCompileFailureInGetResult() {
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class,
+                             (mock, context) -> when(mock.getResult()).thenThrow(new RuntimeException()))) {
+            assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.compile(parseTree));
+        }
+    }
+
+    @Test
+    void testEvaluateFailureInCompiledExpression() {
+        when(compiledExpression.evaluate(event)).thenThrow(new RuntimeException());
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class, (mock, context) -> when(mock.getResult()).thenReturn(compiledExpression))) {
+            final CompiledExpression result = objectUnderTest.compile(parseTree);
+            assertThrows(ExpressionEvaluationException.class, () -> result.evaluate(event));
+        }
+    }
+}
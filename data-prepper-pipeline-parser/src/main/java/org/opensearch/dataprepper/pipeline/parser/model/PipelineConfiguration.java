@@ -25,8 +25,10 @@ import java.util.stream.Collectors;
 public class PipelineConfiguration {
     private static final String WORKERS_COMPONENT = "workers";
     private static final String DELAY_COMPONENT = "delay";
+    private static final String MAX_IN_FLIGHT_BATCHES_COMPONENT = "max_in_flight_batches";
     private static final int DEFAULT_READ_BATCH_DELAY = 3_000;
     private static final int DEFAULT_WORKERS = 1;
+    private static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 1;
 
     private final PluginSetting sourcePluginSetting;
     private final PluginSetting bufferPluginSetting;
@@ -35,6 +37,7 @@ public class PipelineConfiguration {
 
     private final Integer workers;
     private final Integer readBatchDelay;
+    private final Integer maxInFlightBatches;
     private final Set<ConditionalRoute> routes;
 
     public PipelineConfiguration(final PipelineModel pipelineModel) {
@@ -44,6 +47,7 @@ public class PipelineConfiguration {
         this.sinkPluginSettings = getSinksFromPluginModel(pipelineModel.getSinks());
         this.workers = getWorkersFromPipelineModel(pipelineModel);
         this.readBatchDelay = getReadBatchDelayFromPipelineModel(pipelineModel);
+        this.maxInFlightBatches = getMaxInFlightBatchesFromPipelineModel(pipelineModel);
         routes = new HashSet<>(pipelineModel.getRoutes());
     }
 
@@ -75,6 +79,10 @@ public class PipelineConfiguration {
         return readBatchDelay;
     }
 
+    public Integer getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
     public void updateCommonPipelineConfiguration(final String pipelineName) {
         if (sourcePluginSetting != null) {
             updatePluginSetting(sourcePluginSetting, pipelineName);
@@ -157,6 +165,12 @@ public class PipelineConfiguration {
         return configuredDelay == null ? DEFAULT_READ_BATCH_DELAY : configuredDelay;
     }
 
+    private Integer getMaxInFlightBatchesFromPipelineModel(final PipelineModel pipelineModel) {
+        final Integer configuredMaxInFlightBatches = pipelineModel.getMaxInFlightBatches();
+        validateConfiguration(configuredMaxInFlightBatches, MAX_IN_FLIGHT_BATCHES_COMPONENT);
+        return configuredMaxInFlightBatches == null ? DEFAULT_MAX_IN_FLIGHT_BATCHES : configuredMaxInFlightBatches;
+    }
+
     private void validateConfiguration(final Integer configuration, final String component) {
         if (configuration != null && configuration <= 0) {
             throw new IllegalArgumentException(String.format("Invalid configuration, %s cannot be %s",
@@ -110,6 +110,33 @@ class PipelineConfigurationTests {
         comparePluginSettings(actualSinkPluginSettings.get(0), TestConfigurationProvider.VALID_PLUGIN_SETTING_1);
         assertThat(pipelineConfiguration.getWorkers(), CoreMatchers.is(TestConfigurationProvider.DEFAULT_WORKERS));
         assertThat(pipelineConfiguration.getReadBatchDelay(), CoreMatchers.is(TestConfigurationProvider.DEFAULT_READ_BATCH_DELAY));
+        assertThat(pipelineConfiguration.getMaxInFlightBatches(), CoreMatchers.is(1));
+    }
+
+    @Test
+    void testMaxInFlightBatchesConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestConfigurationProvider.TEST_WORKERS);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestConfigurationProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(4);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.getMaxInFlightBatches(), CoreMatchers.is(4));
+    }
+
+    @Test
+    void testInvalidMaxInFlightBatchesConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestConfigurationProvider.TEST_WORKERS);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestConfigurationProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(0);
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, max_in_flight_batches cannot be 0"));
     }
 
     @Test
@@ -23,8 +23,9 @@ class AggregateGroup implements AggregateActionInput {
     private final Lock concludeGroupLock;
     private final Lock handleEventForGroupLock;
     private final Map<Object, Object> identificationKeys;
-    private Function<Duration, Boolean> customShouldConclude;
+    private volatile Function<Duration, Boolean> customShouldConclude;
     private EventHandle eventHandle;
+    private long expiryBucket;
 
     AggregateGroup(final Map<Object, Object> identificationKeys) {
         this.groupState = new DefaultGroupState();
@@ -72,9 +73,25 @@ class AggregateGroup implements AggregateActionInput {
         return handleEventForGroupLock;
     }
 
+    boolean hasCustomShouldConclude() {
+        return customShouldConclude != null;
+    }
+
+    /**
+     * @return the expiry bucket of the {@link AggregateGroupShard} in which this group is currently scheduled
+     */
+    long getExpiryBucket() {
+        return expiryBucket;
+    }
+
+    void setExpiryBucket(final long expiryBucket) {
+        this.expiryBucket = expiryBucket;
+    }
+
     boolean shouldConcludeGroup(final Duration groupDuration) {
-        if (customShouldConclude != null) {
-            return customShouldConclude.apply(groupDuration);
+        final Function<Duration, Boolean> shouldConclude = customShouldConclude;
+        if (shouldConclude != null) {
+            return shouldConclude.apply(groupDuration);
         }
         return Duration.between(groupStart, Instant.now()).compareTo(groupDuration) >= 0;
     }
@@ -5,52 +5,91 @@
 
 package org.opensearch.dataprepper.plugins.processor.aggregate;
 
-import com.google.common.collect.Maps;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 class AggregateGroupManager {
+    static final int NUMBER_OF_SHARDS = 64;
+    static final Duration MAX_EXPIRY_BUCKET_WIDTH = Duration.ofSeconds(1);
+    private static final int EXPIRY_BUCKETS_PER_GROUP_DURATION = 10;
 
-    private final Map<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> allGroups = Maps.newConcurrentMap();
+    private final AggregateGroupShard[] shards;
     private final Duration groupDuration;
+    private final Clock clock;
 
     AggregateGroupManager(final Duration groupDuration) {
+        this(groupDuration, Clock.systemUTC());
+    }
+
+    AggregateGroupManager(final Duration groupDuration, final Clock clock) {
         this.groupDuration = groupDuration;
+        this.clock = clock;
+        final long bucketWidthMillis = getExpiryBucketWidth(groupDuration).toMillis();
+        this.shards = new AggregateGroupShard[NUMBER_OF_SHARDS];
+        for (int i = 0; i < NUMBER_OF_SHARDS; i++) {
+            shards[i] = new AggregateGroupShard(groupDuration, bucketWidthMillis);
+        }
     }
 
-    AggregateGroup getAggregateGroup(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
-        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> new AggregateGroup(identificationKeysMap.getKeyMap()));
+    /**
+     * Groups are checked for conclusion at the end of the expiry bucket in which their duration ends, so a group may
+     * conclude up to one bucket width after its duration.
+     */
+    static Duration getExpiryBucketWidth(final Duration groupDuration) {
+        final Duration bucketWidth = groupDuration.dividedBy(EXPIRY_BUCKETS_PER_GROUP_DURATION);
+        if (bucketWidth.compareTo(MAX_EXPIRY_BUCKET_WIDTH) > 0) {
+            return MAX_EXPIRY_BUCKET_WIDTH;
+        }
+        return bucketWidth.toMillis() < 1 ? Duration.ofMillis(1) : bucketWidth;
     }
 
+    AggregateGroup getAggregateGroup(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        return getShard(identificationKeysMap).getAggregateGroup(identificationKeysMap, clock.millis());
+    }
 
     List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> getGroupsToConclude(final boolean forceConclude) {
         final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = new ArrayList<>();
-        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : allGroups.entrySet()) {
-            if (groupEntry.getValue().shouldConcludeGroup(groupDuration) || forceConclude) {
-                groupsToConclude.add(groupEntry);
+        if (forceConclude) {
+            for (final AggregateGroupShard shard : shards) {
+                shard.addAllGroups(groupsToConclude);
             }
+            return groupsToConclude;
+        }
+        final long nowMillis = clock.millis();
+        for (final AggregateGroupShard shard : shards) {
+            shard.pollGroupsToConclude(nowMillis, groupsToConclude);
         }
         return groupsToConclude;
     }
 
     void closeGroup(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.remove(hashKeyMap, group);
+        getShard(hashKeyMap).closeGroup(hashKeyMap, group);
         group.resetGroup();
     }
 
     void putGroupWithHash(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.put(hashKeyMap, group);
+        getShard(hashKeyMap).putGroupWithHash(hashKeyMap, group, clock.millis());
     }
 
     long getAllGroupsSize() {
-        return allGroups.size();
+        long allGroupsSize = 0;
+        for (final AggregateGroupShard shard : shards) {
+            allGroupsSize += shard.size();
+        }
+        return allGroupsSize;
     }
 
     Duration getGroupDuration() {
         return this.groupDuration;
     }
+
+    private AggregateGroupShard getShard(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        final int hash = identificationKeysMap.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (NUMBER_OF_SHARDS - 1)];
+    }
 }
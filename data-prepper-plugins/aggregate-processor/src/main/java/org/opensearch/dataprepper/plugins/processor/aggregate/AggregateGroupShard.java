@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import com.google.common.collect.Maps;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A shard of the {@link AggregateGroup}s of an {@link AggregateGroupManager}. Each shard keeps an index of its groups by
+ * the time bucket in which they are next due to be checked for conclusion, so that finding the groups to conclude only
+ * visits groups in buckets which have passed.
+ * <p>
+ * Each group has at most one live entry in the index, identified by {@link AggregateGroup#getExpiryBucket()}. Entries of
+ * groups which were closed or rescheduled are dropped when their bucket is polled.
+ */
+class AggregateGroupShard {
+    private final Map<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groups = Maps.newConcurrentMap();
+    private final TreeMap<Long, List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>>> expiryIndex = new TreeMap<>();
+    private final Duration groupDuration;
+    private final long bucketWidthMillis;
+
+    AggregateGroupShard(final Duration groupDuration, final long bucketWidthMillis) {
+        this.groupDuration = groupDuration;
+        this.bucketWidthMillis = bucketWidthMillis;
+    }
+
+    AggregateGroup getAggregateGroup(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final long nowMillis) {
+        AggregateGroup group = groups.get(identificationKeysMap);
+        if (group == null) {
+            final AggregateGroup newGroup = new AggregateGroup(identificationKeysMap.getKeyMap());
+            group = groups.putIfAbsent(identificationKeysMap, newGroup);
+            if (group == null) {
+                group = newGroup;
+                scheduleNextBucket(identificationKeysMap, newGroup, nowMillis);
+            }
+        }
+        return group;
+    }
+
+    void putGroupWithHash(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group, final long nowMillis) {
+        if (groups.put(hashKeyMap, group) != group) {
+            scheduleNextBucket(hashKeyMap, group, nowMillis);
+        }
+    }
+
+    void closeGroup(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
+        groups.remove(hashKeyMap, group);
+    }
+
+    /**
+     * Adds the groups which should conclude to groupsToConclude. Groups which are due remain scheduled for the next
+     * bucket in case they cannot be concluded this time, and groups which are not yet due are rescheduled for the
+     * bucket in which their duration ends. Groups with a custom conclusion condition are checked every bucket.
+     */
+    void pollGroupsToConclude(final long nowMillis,
+                              final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude) {
+        final long nowBucket = toBucket(nowMillis);
+        synchronized (expiryIndex) {
+            final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> dueEntries = new ArrayList<>();
+            final List<Long> dueBuckets = new ArrayList<>();
+            for (final Map.Entry<Long, List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>>> bucket
+                    : expiryIndex.headMap(nowBucket, true).entrySet()) {
+                for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> entry : bucket.getValue()) {
+                    if (isLiveEntry(bucket.getKey(), entry)) {
+                        dueEntries.add(entry);
+                    }
+                }
+                dueBuckets.add(bucket.getKey());
+            }
+            dueBuckets.forEach(expiryIndex::remove);
+
+            for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> entry : dueEntries) {
+                final AggregateGroup group = entry.getValue();
+                if (group.shouldConcludeGroup(groupDuration)) {
+                    groupsToConclude.add(entry);
+                    schedule(entry, nowBucket + 1);
+                } else if (group.hasCustomShouldConclude()) {
+                    schedule(entry, nowBucket + 1);
+                } else {
+                    schedule(entry, Math.max(toBucketStartingAtOrAfter(group.getGroupStart().plus(groupDuration).toEpochMilli()), nowBucket + 1));
+                }
+            }
+        }
+    }
+
+    void addAllGroups(final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> allGroups) {
+        allGroups.addAll(groups.entrySet());
+    }
+
+    long size() {
+        return groups.size();
+    }
+
+    private boolean isLiveEntry(final long bucket, final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> entry) {
+        final AggregateGroup group = entry.getValue();
+        return groups.get(entry.getKey()) == group && group.getExpiryBucket() == bucket;
+    }
+
+    private void scheduleNextBucket(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group, final long nowMillis) {
+        synchronized (expiryIndex) {
+            schedule(new AbstractMap.SimpleImmutableEntry<>(hashKeyMap, group), toBucket(nowMillis) + 1);
+        }
+    }
+
+    private void schedule(final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> entry, final long bucket) {
+        entry.getValue().setExpiryBucket(bucket);
+        expiryIndex.computeIfAbsent(bucket, b -> new ArrayList<>()).add(entry);
+    }
+
+    private long toBucket(final long epochMillis) {
+        return Math.floorDiv(epochMillis, bucketWidthMillis);
+    }
+
+    private long toBucketStartingAtOrAfter(final long epochMillis) {
+        return -Math.floorDiv(-epochMillis, bucketWidthMillis);
+    }
+}
@@ -21,6 +21,12 @@ import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -227,4 +233,39 @@ public class AggregateActionSynchronizerTest {
         assertThat(concludeGroupEvents.size(), equalTo(1));
         assertThat(concludeGroupEvents.get(0), equalTo(event));
     }
+
+    @Test
+    void concluding_a_group_does_not_block_other_groups_of_its_shard() throws Exception {
+        final AggregateGroupShard shard = new AggregateGroupShard(Duration.ZERO, 1000);
+        final long nowMillis = System.currentTimeMillis();
+        final IdentificationKeysHasher.IdentificationKeysMap concludingKeys = new IdentificationKeysHasher.IdentificationKeysMap(Map.of("key", "concluding"));
+        final IdentificationKeysHasher.IdentificationKeysMap otherKeys = new IdentificationKeysHasher.IdentificationKeysMap(Map.of("key", "other"));
+        final AggregateGroup concludingGroup = shard.getAggregateGroup(concludingKeys, nowMillis);
+        final AggregateGroup otherGroup = shard.getAggregateGroup(otherKeys, nowMillis);
+        final CountDownLatch concluding = new CountDownLatch(1);
+        final CountDownLatch finishConcluding = new CountDownLatch(1);
+        when(aggregateAction.concludeGroup(concludingGroup)).thenAnswer(a -> {
+            concluding.countDown();
+            finishConcluding.await();
+            return new AggregateActionOutput(List.of());
+        });
+        when(aggregateAction.concludeGroup(otherGroup)).thenReturn(new AggregateActionOutput(List.of(event)));
+        when(aggregateAction.handleEvent(event, otherGroup)).thenReturn(aggregateActionResponse);
+        final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<AggregateActionOutput> concludeFuture = executorService.submit(() -> objectUnderTest.concludeGroup(concludingKeys, concludingGroup, true));
+            assertTrue(concluding.await(10, TimeUnit.SECONDS));
+
+            assertThat(objectUnderTest.handleEventForGroup(event, otherKeys, otherGroup), equalTo(aggregateActionResponse));
+            assertThat(objectUnderTest.concludeGroup(otherKeys, otherGroup, true).getEvents(), equalTo(List.of(event)));
+
+            finishConcluding.countDown();
+            assertThat(concludeFuture.get(10, TimeUnit.SECONDS), notNullValue());
+        } finally {
+            finishConcluding.countDown();
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -7,9 +7,14 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
+import java.lang.reflect.Field;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -22,6 +27,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +47,20 @@ public class AggregateGroupManagerTest {
         identificationKeysMap = new IdentificationKeysHasher.IdentificationKeysMap(identificationKeysHash);
     }
 
+    private static IdentificationKeysHasher.IdentificationKeysMap createIdentificationKeysMap() {
+        return new IdentificationKeysHasher.IdentificationKeysMap(Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+    }
+
+    private static void reflectivelySetGroupStart(final AggregateGroup aggregateGroup, final Instant groupStart) throws NoSuchFieldException, IllegalAccessException {
+        final Field field = AggregateGroup.class.getDeclaredField("groupStart");
+        try {
+            field.setAccessible(true);
+            field.set(aggregateGroup, groupStart);
+        } finally {
+            field.setAccessible(false);
+        }
+    }
+
     private AggregateGroupManager createObjectUnderTest() {
         return new AggregateGroupManager(TEST_GROUP_DURATION);
     }
@@ -88,20 +108,22 @@ public class AggregateGroupManagerTest {
     }
 
     @Test
-    void getGroupsToConclude_returns_correct_group() {
-        aggregateGroupManager = createObjectUnderTest();
+    void getGroupsToConclude_returns_correct_group() throws NoSuchFieldException, IllegalAccessException {
+        final long nowMillis = Instant.now().toEpochMilli();
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(nowMillis);
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, clock);
 
-        final AggregateGroup groupToConclude = mock(AggregateGroup.class);
-        when(groupToConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
-        final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+        final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude = createIdentificationKeysMap();
+        final AggregateGroup groupToConclude = aggregateGroupManager.getAggregateGroup(hashForGroupToConclude);
+        reflectivelySetGroupStart(groupToConclude, Instant.now().minus(TEST_GROUP_DURATION));
 
-        final AggregateGroup groupToNotConclude = mock(AggregateGroup.class);
-        when(groupToNotConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(false);
-        final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToNotConclude = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+        final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToNotConclude = createIdentificationKeysMap();
+        aggregateGroupManager.getAggregateGroup(hashForGroupToNotConclude);
 
-        aggregateGroupManager.putGroupWithHash(hashForGroupToConclude, groupToConclude);
-        aggregateGroupManager.putGroupWithHash(hashForGroupToNotConclude, groupToNotConclude);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(0));
 
+        when(clock.millis()).thenReturn(nowMillis + AggregateGroupManager.getExpiryBucketWidth(TEST_GROUP_DURATION).toMillis());
         final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
 
         assertThat(groupsToConclude.size(), equalTo(1));
@@ -110,6 +132,43 @@ public class AggregateGroupManagerTest {
         assertThat(groupsToConclude.get(0).getValue(), equalTo(groupToConclude));
     }
 
+    @Test
+    void closeGroup_removes_and_resets_group() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        aggregateGroupManager.closeGroup(identificationKeysMap, aggregateGroup);
+
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(0L));
+        assertThat(aggregateGroup.getGroupState(), equalTo(Collections.emptyMap()));
+        assertThat(aggregateGroupManager.getAggregateGroup(identificationKeysMap), not(sameInstance(aggregateGroup)));
+    }
+
+    @Test
+    void getAllGroupsSize_counts_groups_of_all_shards() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        for (int i = 0; i < AggregateGroupManager.NUMBER_OF_SHARDS * 4; i++) {
+            aggregateGroupManager.getAggregateGroup(createIdentificationKeysMap());
+        }
+
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo((long) AggregateGroupManager.NUMBER_OF_SHARDS * 4));
+        assertThat(aggregateGroupManager.getGroupsToConclude(true).size(), equalTo(AggregateGroupManager.NUMBER_OF_SHARDS * 4));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "PT0S, 1",
+            "PT0.005S, 1",
+            "PT5S, 500",
+            "PT10S, 1000",
+            "PT3M, 1000"
+    })
+    void getExpiryBucketWidth_returns_a_tenth_of_group_duration_within_bounds(final Duration groupDuration, final long expectedBucketWidthMillis) {
+        assertThat(AggregateGroupManager.getExpiryBucketWidth(groupDuration).toMillis(), equalTo(expectedBucketWidthMillis));
+    }
+
     @Test
     void getGroupsToConclude_with_force_conclude_return_all() {
         aggregateGroupManager = createObjectUnderTest();
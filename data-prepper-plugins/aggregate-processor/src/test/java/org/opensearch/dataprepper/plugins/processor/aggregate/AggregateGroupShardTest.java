@@ -0,0 +1,197 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.not;
+
+class AggregateGroupShardTest {
+    private static final Duration GROUP_DURATION = Duration.ofSeconds(10);
+    private static final long BUCKET_WIDTH_MILLIS = 1000;
+
+    private long nowMillis;
+
+    @BeforeEach
+    void setUp() {
+        nowMillis = Instant.now().toEpochMilli();
+    }
+
+    private AggregateGroupShard createObjectUnderTest() {
+        return new AggregateGroupShard(GROUP_DURATION, BUCKET_WIDTH_MILLIS);
+    }
+
+    @Test
+    void getAggregateGroup_returns_the_same_group_for_the_same_keys() {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+
+        final AggregateGroup group = objectUnderTest.getAggregateGroup(identificationKeysMap, nowMillis);
+
+        assertThat(objectUnderTest.getAggregateGroup(identificationKeysMap, nowMillis), sameInstance(group));
+        assertThat(group.getIdentificationKeys(), equalTo(identificationKeysMap.getKeyMap()));
+        assertThat(objectUnderTest.size(), equalTo(1L));
+    }
+
+    @Test
+    void groups_of_a_shard_have_their_own_locks() {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+
+        final AggregateGroup group = objectUnderTest.getAggregateGroup(createIdentificationKeysMap(), nowMillis);
+        final AggregateGroup otherGroup = objectUnderTest.getAggregateGroup(createIdentificationKeysMap(), nowMillis);
+
+        assertThat(otherGroup, not(sameInstance(group)));
+        assertThat(otherGroup.getConcludeGroupLock(), not(sameInstance(group.getConcludeGroupLock())));
+        assertThat(otherGroup.getHandleEventForGroupLock(), not(sameInstance(group.getHandleEventForGroupLock())));
+    }
+
+    @Test
+    void pollGroupsToConclude_returns_due_group_from_the_next_bucket() throws Exception {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final AggregateGroup group = objectUnderTest.getAggregateGroup(identificationKeysMap, nowMillis);
+        setGroupStart(group, Instant.now().minus(GROUP_DURATION));
+
+        assertThat(poll(objectUnderTest, nowMillis), empty());
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = poll(objectUnderTest, nowMillis + BUCKET_WIDTH_MILLIS);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getKey(), equalTo(identificationKeysMap));
+        assertThat(groupsToConclude.get(0).getValue(), sameInstance(group));
+    }
+
+    @Test
+    void pollGroupsToConclude_returns_due_group_again_until_it_is_closed() throws Exception {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final AggregateGroup group = objectUnderTest.getAggregateGroup(identificationKeysMap, nowMillis);
+        setGroupStart(group, Instant.now().minus(GROUP_DURATION));
+
+        assertThat(poll(objectUnderTest, nowMillis + BUCKET_WIDTH_MILLIS).size(), equalTo(1));
+        assertThat(poll(objectUnderTest, nowMillis + 2 * BUCKET_WIDTH_MILLIS).size(), equalTo(1));
+
+        objectUnderTest.closeGroup(identificationKeysMap, group);
+
+        assertThat(poll(objectUnderTest, nowMillis + 3 * BUCKET_WIDTH_MILLIS), empty());
+        assertThat(objectUnderTest.size(), equalTo(0L));
+    }
+
+    @Test
+    void pollGroupsToConclude_does_not_visit_group_again_until_its_duration_ends() throws Exception {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final AggregateGroup group = objectUnderTest.getAggregateGroup(createIdentificationKeysMap(), nowMillis);
+
+        assertThat(poll(objectUnderTest, nowMillis + BUCKET_WIDTH_MILLIS), empty());
+
+        setGroupStart(group, Instant.now().minus(GROUP_DURATION));
+        assertThat(poll(objectUnderTest, nowMillis + GROUP_DURATION.toMillis() - 2 * BUCKET_WIDTH_MILLIS), empty());
+        assertThat(poll(objectUnderTest, nowMillis + GROUP_DURATION.toMillis() + 2 * BUCKET_WIDTH_MILLIS).size(), equalTo(1));
+    }
+
+    @Test
+    void pollGroupsToConclude_checks_groups_with_custom_conclusion_every_bucket() {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final AggregateGroup group = objectUnderTest.getAggregateGroup(createIdentificationKeysMap(), nowMillis);
+        final AtomicBoolean shouldConclude = new AtomicBoolean(false);
+        group.setCustomShouldConclude(duration -> shouldConclude.get());
+
+        assertThat(poll(objectUnderTest, nowMillis + BUCKET_WIDTH_MILLIS), empty());
+
+        shouldConclude.set(true);
+        assertThat(poll(objectUnderTest, nowMillis + 2 * BUCKET_WIDTH_MILLIS).size(), equalTo(1));
+    }
+
+    @Test
+    void putGroupWithHash_with_a_different_group_replaces_the_scheduled_group() throws Exception {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final AggregateGroup oldGroup = objectUnderTest.getAggregateGroup(identificationKeysMap, nowMillis);
+        final AggregateGroup newGroup = new AggregateGroup(identificationKeysMap.getKeyMap());
+        setGroupStart(oldGroup, Instant.now().minus(GROUP_DURATION));
+        setGroupStart(newGroup, Instant.now().minus(GROUP_DURATION));
+
+        objectUnderTest.putGroupWithHash(identificationKeysMap, newGroup, nowMillis);
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = poll(objectUnderTest, nowMillis + BUCKET_WIDTH_MILLIS);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), sameInstance(newGroup));
+    }
+
+    @Test
+    void putGroupWithHash_with_the_current_group_does_not_schedule_it_again() throws Exception {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final AggregateGroup group = objectUnderTest.getAggregateGroup(identificationKeysMap, nowMillis);
+        setGroupStart(group, Instant.now().minus(GROUP_DURATION));
+
+        objectUnderTest.putGroupWithHash(identificationKeysMap, group, nowMillis + 5 * BUCKET_WIDTH_MILLIS);
+
+        assertThat(poll(objectUnderTest, nowMillis + BUCKET_WIDTH_MILLIS).size(), equalTo(1));
+    }
+
+    @Test
+    void putGroupWithHash_schedules_a_closed_group_which_is_put_back() throws Exception {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final AggregateGroup group = objectUnderTest.getAggregateGroup(identificationKeysMap, nowMillis);
+        objectUnderTest.closeGroup(identificationKeysMap, group);
+        setGroupStart(group, Instant.now().minus(GROUP_DURATION));
+
+        objectUnderTest.putGroupWithHash(identificationKeysMap, group, nowMillis + BUCKET_WIDTH_MILLIS);
+
+        assertThat(poll(objectUnderTest, nowMillis + BUCKET_WIDTH_MILLIS), empty());
+        assertThat(poll(objectUnderTest, nowMillis + 2 * BUCKET_WIDTH_MILLIS).size(), equalTo(1));
+    }
+
+    @Test
+    void addAllGroups_adds_every_group() {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        objectUnderTest.getAggregateGroup(createIdentificationKeysMap(), nowMillis);
+        objectUnderTest.getAggregateGroup(createIdentificationKeysMap(), nowMillis);
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> allGroups = new ArrayList<>();
+        objectUnderTest.addAllGroups(allGroups);
+
+        assertThat(allGroups.size(), equalTo(2));
+        assertThat(objectUnderTest.size(), equalTo(2L));
+    }
+
+    private static List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> poll(
+            final AggregateGroupShard objectUnderTest, final long nowMillis) {
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = new ArrayList<>();
+        objectUnderTest.pollGroupsToConclude(nowMillis, groupsToConclude);
+        return groupsToConclude;
+    }
+
+    private static IdentificationKeysHasher.IdentificationKeysMap createIdentificationKeysMap() {
+        return new IdentificationKeysHasher.IdentificationKeysMap(Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+    }
+
+    private static void setGroupStart(final AggregateGroup aggregateGroup, final Instant groupStart) throws NoSuchFieldException, IllegalAccessException {
+        final Field field = AggregateGroup.class.getDeclaredField("groupStart");
+        try {
+            field.setAccessible(true);
+            field.set(aggregateGroup, groupStart);
+        } finally {
+            field.setAccessible(false);
+        }
+    }
+}
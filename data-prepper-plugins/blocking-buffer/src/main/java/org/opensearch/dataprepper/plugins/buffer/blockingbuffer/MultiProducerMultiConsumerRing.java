@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A preallocated, lock-free multi-producer/multi-consumer ring of entries.
+ * <p>
+ * Each slot carries its own sequence number. A slot for sequence {@code s} is writable when its sequence equals
+ * {@code s}, readable when it equals {@code s + 1} and becomes writable for the next lap ({@code s + size}) once
+ * consumed. Producers claim contiguous ranges of sequences with a single {@code getAndAdd} and consumers claim
+ * contiguous ranges of published entries with a single compare-and-set, so a batch costs one contended operation.
+ * <p>
+ * The ring does not bound the number of producers on its own. Callers must reserve capacity before publishing so that
+ * no more than {@link #size()} entries are ever claimed but not yet consumed.
+ *
+ * @param <T> the type of entries in the ring
+ */
+class MultiProducerMultiConsumerRing<T> {
+    private static final int MAXIMUM_SIZE = 1 << 30;
+    private static final int MAX_SPINS = 100;
+
+    private final int size;
+    private final int mask;
+    private final AtomicReferenceArray<T> entries;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerSequence = new AtomicLong();
+    private final AtomicLong consumerSequence = new AtomicLong();
+
+    MultiProducerMultiConsumerRing(final int minimumSize) {
+        if (minimumSize <= 0 || minimumSize > MAXIMUM_SIZE) {
+            throw new IllegalArgumentException("Ring size must be between 1 and " + MAXIMUM_SIZE);
+        }
+        this.size = nextPowerOfTwo(minimumSize);
+        this.mask = size - 1;
+        this.entries = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Publishes a single entry. The caller must already hold capacity for it.
+     *
+     * @param entry the entry to publish
+     */
+    void publish(final T entry) {
+        publishAt(producerSequence.getAndIncrement(), entry);
+    }
+
+    /**
+     * Publishes all entries as one contiguous range of sequences. The caller must already hold capacity for them.
+     *
+     * @param batch the entries to publish
+     */
+    void publishAll(final Collection<T> batch) {
+        final int batchSize = batch.size();
+        if (batchSize == 0) {
+            return;
+        }
+        long sequence = producerSequence.getAndAdd(batchSize);
+        for (final T entry : batch) {
+            publishAt(sequence++, entry);
+        }
+    }
+
+    /**
+     * Moves up to {@code maxEntries} published entries, in sequence order, into the target collection.
+     *
+     * @param target the collection receiving the entries
+     * @param maxEntries the maximum number of entries to move
+     * @return the number of entries moved
+     */
+    int drainTo(final Collection<? super T> target, final int maxEntries) {
+        while (true) {
+            final long start = consumerSequence.get();
+            int available = 0;
+            while (available < maxEntries && sequences.get(index(start + available)) == start + available + 1) {
+                available++;
+            }
+            if (available == 0) {
+                return 0;
+            }
+            if (consumerSequence.compareAndSet(start, start + available)) {
+                for (int i = 0; i < available; i++) {
+                    final long sequence = start + i;
+                    final int index = index(sequence);
+                    target.add(entries.get(index));
+                    entries.lazySet(index, null);
+                    sequences.set(index, sequence + size);
+                }
+                return available;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    boolean isEmpty() {
+        return consumerSequence.get() >= producerSequence.get();
+    }
+
+    private void publishAt(final long sequence, final T entry) {
+        final int index = index(sequence);
+        // A consumer that has claimed the previous lap of this slot may still be copying it out.
+        int spins = 0;
+        while (sequences.get(index) != sequence) {
+            if (++spins < MAX_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        entries.lazySet(index, entry);
+        sequences.set(index, sequence + 1);
+    }
+
+    private int index(final long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    private static int nextPowerOfTwo(final int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBufferConfig.DEFAULT_BATCH_SIZE;
+import static org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBufferConfig.DEFAULT_BUFFER_CAPACITY;
+
+/**
+ * A bounded, lock-free implementation of {@link Buffer} backed by a preallocated
+ * {@link MultiProducerMultiConsumerRing}. It accepts the same configuration as the {@link BlockingBuffer} and keeps
+ * its semantics: {@code buffer_size} bounds the number of unchecked records (records in the buffer plus records read
+ * but not yet checkpointed), writes wait up to the given timeout for capacity and {@link #read(int)} returns up to
+ * {@code batch_size} records.
+ * <p>
+ * Unlike the {@link BlockingBuffer}, writers reserve capacity with a compare-and-set on a single counter and claim
+ * a whole {@link #writeAll(Collection, int)} batch of ring slots at once, while readers drain a whole batch with one
+ * claim. Waiting threads spin briefly and then park with a bounded back-off instead of blocking on locks.
+ */
+@DataPrepperPlugin(name = "bounded_ring", pluginType = Buffer.class, pluginConfigurationType = BlockingBufferConfig.class)
+public class RingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(RingBuffer.class);
+    private static final String RING_BUFFER = "RingBuffer";
+    private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    public static final String CAPACITY_USED_METRIC = "capacityUsed";
+    private static final int ZERO_TIMEOUT_POLL_MILLIS = 5;
+    private static final int SPIN_ATTEMPTS = 100;
+    private static final int YIELD_ATTEMPTS = 100;
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final String pipelineName;
+    private final MultiProducerMultiConsumerRing<T> ring;
+    private final AtomicLong capacityUsed;
+
+    /**
+     * Creates a RingBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public RingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        super(RING_BUFFER, pipelineName);
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.pipelineName = pipelineName;
+        this.ring = new MultiProducerMultiConsumerRing<>(bufferCapacity);
+        this.capacityUsed = new AtomicLong();
+
+        pluginMetrics.gauge(CAPACITY_USED_METRIC, capacityUsed, AtomicLong::get);
+        pluginMetrics.gauge(BUFFER_USAGE_METRIC, capacityUsed, used -> (double) used.get() / bufferCapacity * 100);
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to
+     * construct an instance of {@link RingBuffer} using an instance of {@link BlockingBufferConfig}.
+     *
+     * @param blockingBufferConfig instance takes values from yaml
+     * @param pipelineDescription  instance with metadata information about the pipeline
+     */
+    @DataPrepperPluginConstructor
+    public RingBuffer(final BlockingBufferConfig blockingBufferConfig, final PipelineDescription pipelineDescription) {
+        this(checkNotNull(blockingBufferConfig, "BlockingBufferConfig cannot be null").getBufferSize(),
+                blockingBufferConfig.getBatchSize(),
+                pipelineDescription.getPipelineName());
+    }
+
+    public RingBuffer(final String pipelineName) {
+        this(DEFAULT_BUFFER_CAPACITY, DEFAULT_BATCH_SIZE, pipelineName);
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        try {
+            if (!reserveCapacity(1, timeoutInMillis)) {
+                throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
+                        pipelineName));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the record", pipelineName, ex);
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Buffer is full, timed out waiting for a slot");
+        }
+        ring.publish(record);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the number of records: %d", size));
+        }
+        try {
+            if (!reserveCapacity(size, timeoutInMillis)) {
+                throw new TimeoutException(
+                        format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                                        "timed out waiting for slots.",
+                                pipelineName, size));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the number of records: {}, " +
+                            "interrupted while waiting to write the records",
+                    pipelineName, size, ex);
+            Thread.currentThread().interrupt();
+            throw new TimeoutException(
+                    format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                                    "timed out waiting for slots.",
+                            pipelineName, size));
+        }
+        ring.publishAll(records);
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the head of the ring. The batch size is defined/determined by
+     * the configuration attribute {@code batch_size} or the @param timeoutInMillis.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<T> records = new ArrayList<>(batchSize);
+        final long waitNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis == 0 ? ZERO_TIMEOUT_POLL_MILLIS : timeoutInMillis);
+        final long startNanos = System.nanoTime();
+        int attempt = 0;
+
+        while (records.size() < batchSize) {
+            final int drained = ring.drainTo(records, batchSize - records.size());
+            if (drained > 0) {
+                attempt = 0;
+                if (timeoutInMillis == 0) {
+                    break;
+                }
+                continue;
+            }
+            if (System.nanoTime() - startNanos >= waitNanos) {
+                break;
+            }
+            if (Thread.interrupted()) {
+                LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+                throw new RuntimeException(new InterruptedException());
+            }
+            backOff(attempt++);
+        }
+
+        updateLatency(records);
+        final CheckpointState checkpointState = new CheckpointState(records.size());
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        capacityUsed.addAndGet(-checkpointState.getNumRecordsToBeChecked());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ring.isEmpty() && getRecordsInFlight() == 0;
+    }
+
+    private boolean reserveCapacity(final int permits, final int timeoutInMillis) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        int attempt = 0;
+        while (true) {
+            final long used = capacityUsed.get();
+            if (used + permits <= bufferCapacity) {
+                if (capacityUsed.compareAndSet(used, used + permits)) {
+                    return true;
+                }
+                continue;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            backOff(attempt++);
+        }
+    }
+
+    private static void backOff(final int attempt) {
+        if (attempt < SPIN_ATTEMPTS) {
+            Thread.onSpinWait();
+        } else if (attempt < SPIN_ATTEMPTS + YIELD_ATTEMPTS) {
+            Thread.yield();
+        } else {
+            final int parkShift = Math.min(attempt - SPIN_ATTEMPTS - YIELD_ATTEMPTS, 20);
+            LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, MIN_PARK_NANOS << parkShift));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiProducerMultiConsumerRingTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "2, 2", "3, 4", "12800, 16384", "16384, 16384"})
+    void size_is_rounded_up_to_power_of_two(final int minimumSize, final int expectedSize) {
+        assertThat(new MultiProducerMultiConsumerRing<String>(minimumSize).size(), equalTo(expectedSize));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, (1 << 30) + 1})
+    void constructor_throws_for_invalid_size(final int minimumSize) {
+        assertThrows(IllegalArgumentException.class, () -> new MultiProducerMultiConsumerRing<String>(minimumSize));
+    }
+
+    @Test
+    void drainTo_returns_entries_in_publish_order() {
+        final MultiProducerMultiConsumerRing<String> ring = new MultiProducerMultiConsumerRing<>(8);
+        ring.publish("a");
+        ring.publishAll(Arrays.asList("b", "c", "d"));
+
+        final List<String> drained = new ArrayList<>();
+        assertThat(ring.drainTo(drained, 3), equalTo(3));
+        assertThat(ring.drainTo(drained, 3), equalTo(1));
+        assertThat(drained, equalTo(Arrays.asList("a", "b", "c", "d")));
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void drainTo_on_empty_ring_returns_zero() {
+        final MultiProducerMultiConsumerRing<String> ring = new MultiProducerMultiConsumerRing<>(4);
+        final List<String> drained = new ArrayList<>();
+
+        assertThat(ring.drainTo(drained, 4), equalTo(0));
+        assertTrue(drained.isEmpty());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void ring_reuses_slots_across_laps() {
+        final MultiProducerMultiConsumerRing<Integer> ring = new MultiProducerMultiConsumerRing<>(4);
+        final List<Integer> drained = new ArrayList<>();
+        for (int lap = 0; lap < 10; lap++) {
+            ring.publishAll(Arrays.asList(lap * 3, lap * 3 + 1, lap * 3 + 2));
+            assertFalse(ring.isEmpty());
+            assertThat(ring.drainTo(drained, 4), equalTo(3));
+        }
+        assertThat(drained.size(), equalTo(30));
+        for (int i = 0; i < drained.size(); i++) {
+            assertThat(drained.get(i), equalTo(i));
+        }
+    }
+
+    @Test
+    void concurrent_producers_and_consumers_deliver_every_entry_once() throws Exception {
+        final int capacity = 64;
+        final int producers = 4;
+        final int entriesPerProducer = 5_000;
+        final MultiProducerMultiConsumerRing<Integer> ring = new MultiProducerMultiConsumerRing<>(capacity);
+        final AtomicInteger capacityUsed = new AtomicInteger();
+        final AtomicInteger consumed = new AtomicInteger();
+        final Set<Integer> seen = ConcurrentHashMap.newKeySet();
+        final ExecutorService executorService = Executors.newFixedThreadPool(producers * 2);
+
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            futures.add(executorService.submit(() -> {
+                for (int i = 0; i < entriesPerProducer; i += 5) {
+                    while (true) {
+                        final int used = capacityUsed.get();
+                        if (used + 5 <= capacity && capacityUsed.compareAndSet(used, used + 5)) {
+                            break;
+                        }
+                        Thread.yield();
+                    }
+                    final int base = producer * entriesPerProducer + i;
+                    ring.publishAll(Arrays.asList(base, base + 1, base + 2, base + 3, base + 4));
+                }
+            }));
+            futures.add(executorService.submit(() -> {
+                final List<Integer> batch = new ArrayList<>();
+                while (consumed.get() < producers * entriesPerProducer) {
+                    batch.clear();
+                    final int drained = ring.drainTo(batch, 16);
+                    if (drained == 0) {
+                        Thread.yield();
+                        continue;
+                    }
+                    batch.forEach(entry -> assertTrue(seen.add(entry)));
+                    consumed.addAndGet(drained);
+                    capacityUsed.addAndGet(-drained);
+                }
+            }));
+        }
+
+        for (final Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdownNow();
+
+        assertThat(seen.size(), equalTo(producers * entriesPerProducer));
+        assertTrue(ring.isEmpty());
+    }
+}
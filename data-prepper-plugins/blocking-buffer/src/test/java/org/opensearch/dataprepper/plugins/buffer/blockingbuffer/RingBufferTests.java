@@ -0,0 +1,250 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RingBufferTests {
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_BUFFER_SIZE = "buffer_size";
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final String PLUGIN_NAME = "RingBuffer";
+    private static final int TEST_BATCH_SIZE = 3;
+    private static final int TEST_BUFFER_SIZE = 13;
+    private static final int TEST_WRITE_TIMEOUT = 10;
+    private static final int TEST_BATCH_READ_TIMEOUT = 500;
+
+    @BeforeEach
+    public void setup() {
+        Metrics.globalRegistry.getRegistries().forEach(Metrics.globalRegistry::remove);
+        Metrics.globalRegistry.getMeters().forEach(Metrics.globalRegistry::remove);
+        Metrics.addRegistry(new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void testCreationUsingBlockingBufferConfig() throws JsonProcessingException {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completeBlockingBufferConfig(), pipelineDescription());
+        assertThat(ringBuffer, notNullValue());
+        assertTrue(ringBuffer.isEmpty());
+        verifyBufferUsageMetric(0);
+    }
+
+    @Test
+    public void testCreationUsingNullBlockingBufferConfig() {
+        final PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        final NullPointerException ex = assertThrows(NullPointerException.class,
+                () -> new RingBuffer<Record<String>>(null, pipelineDescription));
+        assertThat(ex.getMessage(), is(equalTo("BlockingBufferConfig cannot be null")));
+    }
+
+    @Test
+    public void testInsertNull() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        assertThrows(NullPointerException.class, () -> ringBuffer.write(null, TEST_WRITE_TIMEOUT));
+        verifyBufferUsageMetric(0);
+    }
+
+    @Test
+    public void testWriteAllSizeOverflow() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = generateBatchRecords(TEST_BUFFER_SIZE + 1);
+        assertThrows(SizeOverflowException.class, () -> ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+        verifyBufferUsageMetric(0);
+    }
+
+    @Test
+    public void testNoEmptySpaceWriteOnly() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(1, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> ringBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testNoAvailSpaceWriteAllOnly() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(2, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = generateBatchRecords(2);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testNoEmptySpaceAfterUncheckedRead() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(1, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        final Record<String> timeoutRecord = new Record<>("TIMEOUT");
+        assertThrows(TimeoutException.class, () -> ringBuffer.write(timeoutRecord, TEST_WRITE_TIMEOUT));
+        assertThrows(TimeoutException.class,
+                () -> ringBuffer.writeAll(Collections.singletonList(timeoutRecord), TEST_WRITE_TIMEOUT));
+        assertFalse(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void testWriteAllIntoEmptySpaceAfterCheckedRead() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(2, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = generateBatchRecords(2);
+        ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        verifyBufferUsageMetric(100.0);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        ringBuffer.checkpoint(readResult.getValue());
+        verifyBufferUsageMetric(0.0);
+        assertTrue(ringBuffer.isEmpty());
+
+        ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readCheckResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertEquals(2, readCheckResult.getKey().size());
+    }
+
+    @Test
+    public void testReadEmptyBuffer() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(0));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, TEST_BATCH_READ_TIMEOUT})
+    public void testBatchRead(final int readTimeout) throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completeBlockingBufferConfig(), pipelineDescription());
+        final int testSize = 5;
+        for (int i = 0; i < testSize; i++) {
+            ringBuffer.write(new Record<>("TEST" + i), TEST_WRITE_TIMEOUT);
+        }
+        verifyBufferUsageMetric(38.46153846153847);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> partialReadResult = ringBuffer.read(readTimeout);
+        assertThat(partialReadResult.getKey().size(), is(TEST_BATCH_SIZE));
+        assertEquals(TEST_BATCH_SIZE, partialReadResult.getValue().getNumRecordsToBeChecked());
+        int i = 0;
+        for (final Record<String> record : partialReadResult.getKey()) {
+            assertThat(record.getData(), equalTo("TEST" + i));
+            i++;
+        }
+        ringBuffer.checkpoint(partialReadResult.getValue());
+        verifyBufferUsageMetric(15.384615384615385);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> finalReadResult = ringBuffer.read(readTimeout);
+        assertThat(finalReadResult.getKey().size(), is(testSize - TEST_BATCH_SIZE));
+        for (final Record<String> record : finalReadResult.getKey()) {
+            assertThat(record.getData(), equalTo("TEST" + i));
+            i++;
+        }
+        ringBuffer.checkpoint(finalReadResult.getValue());
+        verifyBufferUsageMetric(0.0);
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testConcurrentWritersAndReadersDeliverAllRecords() throws Exception {
+        final int writers = 4;
+        final int batchesPerWriter = 200;
+        final int recordsPerBatch = 5;
+        final int totalRecords = writers * batchesPerWriter * recordsPerBatch;
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(32, 8, TEST_PIPELINE_NAME);
+        final ExecutorService executorService = Executors.newFixedThreadPool(writers);
+
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            futures.add(executorService.submit(() -> {
+                for (int b = 0; b < batchesPerWriter; b++) {
+                    ringBuffer.writeAll(generateBatchRecords(recordsPerBatch), 10_000);
+                }
+                return null;
+            }));
+        }
+
+        final Set<String> seen = new HashSet<>();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (seen.size() < totalRecords && System.nanoTime() < deadline) {
+            final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(10);
+            readResult.getKey().forEach(record -> assertTrue(seen.add(record.getData())));
+            ringBuffer.checkpoint(readResult.getValue());
+        }
+        for (final Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdownNow();
+
+        assertThat(seen.size(), equalTo(totalRecords));
+        assertTrue(ringBuffer.isEmpty());
+        verifyBufferUsageMetric(0.0);
+    }
+
+    private PipelineDescription pipelineDescription() {
+        final PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        when(pipelineDescription.getPipelineName()).thenReturn(TEST_PIPELINE_NAME);
+        return pipelineDescription;
+    }
+
+    private BlockingBufferConfig completeBlockingBufferConfig() throws JsonProcessingException {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_SIZE, TEST_BUFFER_SIZE);
+        settings.put(ATTRIBUTE_BATCH_SIZE, TEST_BATCH_SIZE);
+        final ObjectMapper objectMapper = new ObjectMapper();
+        return objectMapper.readValue(objectMapper.writeValueAsString(settings), BlockingBufferConfig.class);
+    }
+
+    private Collection<Record<String>> generateBatchRecords(final int numRecords) {
+        final Collection<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            results.add(new Record<>(UUID.randomUUID().toString()));
+        }
+        return results;
+    }
+
+    private void verifyBufferUsageMetric(final double expectedBufferUsage) {
+        final Gauge bufferUsage = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
+                .add("bufferUsage").toString()).gauge();
+
+        assertThat(bufferUsage, is(notNullValue()));
+        assertThat(bufferUsage.value(), is(expectedBufferUsage));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+/**
+ * A {@link CharSequence} over a value being matched which fails the match once a deadline has passed. Regular
+ * expressions read their input through {@link #charAt(int)}, so checking the deadline there bounds the time spent in
+ * a match, including catastrophic backtracking, on the thread which runs it.
+ */
+class DeadlineCharSequence implements CharSequence {
+    static final int CHECK_INTERVAL = 1024;
+
+    private final String value;
+    private final long deadlineNanos;
+    private int readsUntilCheck = CHECK_INTERVAL;
+
+    DeadlineCharSequence(final String value, final long deadlineNanos) {
+        this.value = value;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public int length() {
+        return value.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (--readsUntilCheck == 0) {
+            readsUntilCheck = CHECK_INTERVAL;
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new DeadlineExceededException();
+            }
+        }
+        return value.charAt(index);
+    }
+
+    /**
+     * Returns the characters without a deadline, since sub-sequences are only taken to read the captures of a
+     * completed match.
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return value.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    static class DeadlineExceededException extends RuntimeException {
+        DeadlineExceededException() {
+            super("The deadline for matching passed", null, false, false);
+        }
+    }
+}
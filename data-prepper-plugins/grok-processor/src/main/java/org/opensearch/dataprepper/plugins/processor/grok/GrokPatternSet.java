@@ -0,0 +1,176 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+
+import java.util.List;
+
+/**
+ * The compiled {@code match} patterns for one key, in configuration order. Each pattern keeps the longest literal
+ * which any match of it must contain, when its grok pattern has one, so that the search for the first matching
+ * pattern skips the patterns whose literal does not occur in the value without running their regular expressions.
+ */
+class GrokPatternSet {
+    /**
+     * Escapes which are followed by more than the escaped character, or which quote the rest of the pattern.
+     */
+    private static final String MULTI_CHARACTER_ESCAPES = "xucpPkNQE";
+
+    private final Grok[] groks;
+    private final String[] requiredLiterals;
+
+    GrokPatternSet(final List<Grok> groks) {
+        this.groks = groks.toArray(new Grok[0]);
+        this.requiredLiterals = new String[this.groks.length];
+        for (int i = 0; i < this.groks.length; i++) {
+            requiredLiterals[i] = findRequiredLiteral(this.groks[i].getOriginalGrokPattern());
+        }
+    }
+
+    int size() {
+        return groks.length;
+    }
+
+    Grok getGrok(final int index) {
+        return groks[index];
+    }
+
+    /**
+     * @return false if the pattern at the index cannot match the value, true if it may
+     */
+    boolean mayMatch(final int index, final String value) {
+        final String requiredLiteral = requiredLiterals[index];
+        return requiredLiteral == null || value.contains(requiredLiteral);
+    }
+
+    /**
+     * Finds the longest run of literal characters outside of pattern references, groups and character classes which
+     * every match of a grok pattern must contain.
+     *
+     * @return the literal, or null if the pattern has none or uses a construct which could make the literal optional
+     */
+    static String findRequiredLiteral(final String grokPattern) {
+        if (grokPattern == null) {
+            return null;
+        }
+        final StringBuilder run = new StringBuilder();
+        String longest = "";
+        int i = 0;
+        while (i < grokPattern.length()) {
+            final char c = grokPattern.charAt(i);
+            if (c == '%' && i + 1 < grokPattern.length() && grokPattern.charAt(i + 1) == '{') {
+                final int end = grokPattern.indexOf('}', i + 2);
+                if (end < 0) {
+                    return null;
+                }
+                longest = endRun(longest, run);
+                i = end + 1;
+            } else if (c == '(') {
+                if (i + 2 < grokPattern.length() && grokPattern.charAt(i + 1) == '?' && isInlineFlag(grokPattern.charAt(i + 2))) {
+                    return null;
+                }
+                final int end = findGroupEnd(grokPattern, i);
+                if (end < 0) {
+                    return null;
+                }
+                longest = endRun(longest, run);
+                i = end + 1;
+            } else if (c == '[') {
+                final int end = findCharacterClassEnd(grokPattern, i);
+                if (end < 0) {
+                    return null;
+                }
+                longest = endRun(longest, run);
+                i = end + 1;
+            } else if (c == '\\') {
+                if (i + 1 == grokPattern.length()) {
+                    return null;
+                }
+                final char escaped = grokPattern.charAt(i + 1);
+                if (Character.isDigit(escaped) || MULTI_CHARACTER_ESCAPES.indexOf(escaped) >= 0) {
+                    return null;
+                }
+                if (Character.isLetter(escaped)) {
+                    longest = endRun(longest, run);
+                } else {
+                    run.append(escaped);
+                }
+                i += 2;
+            } else if (c == '?' || c == '*' || c == '{') {
+                // The quantifier makes the preceding character optional.
+                if (run.length() > 0) {
+                    run.setLength(run.length() - 1);
+                }
+                longest = endRun(longest, run);
+                if (c == '{') {
+                    final int end = grokPattern.indexOf('}', i);
+                    if (end < 0) {
+                        return null;
+                    }
+                    i = end + 1;
+                } else {
+                    i++;
+                }
+            } else if (c == '+' || c == '.' || c == '^' || c == '$') {
+                longest = endRun(longest, run);
+                i++;
+            } else if (c == '|' || c == ')') {
+                return null;
+            } else {
+                run.append(c);
+                i++;
+            }
+        }
+        longest = endRun(longest, run);
+        return longest.isEmpty() ? null : longest;
+    }
+
+    private static String endRun(final String longest, final StringBuilder run) {
+        final String result = run.length() > longest.length() ? run.toString() : longest;
+        run.setLength(0);
+        return result;
+    }
+
+    private static boolean isInlineFlag(final char c) {
+        return Character.isLetter(c) || c == '-';
+    }
+
+    private static int findGroupEnd(final String pattern, final int start) {
+        int depth = 0;
+        for (int i = start; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                i = findCharacterClassEnd(pattern, i);
+                if (i < 0) {
+                    return -1;
+                }
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int findCharacterClassEnd(final String pattern, final int start) {
+        int depth = 0;
+        for (int i = start; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
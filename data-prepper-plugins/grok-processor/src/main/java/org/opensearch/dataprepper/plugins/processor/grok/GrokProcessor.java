@@ -6,7 +6,6 @@
 package org.opensearch.dataprepper.plugins.processor.grok;
 
 
-import io.krakens.grok.api.Grok;
 import io.krakens.grok.api.GrokCompiler;
 import io.krakens.grok.api.Match;
 import io.micrometer.core.instrument.Counter;
@@ -49,12 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
@@ -62,8 +56,6 @@ import java.util.stream.Collectors;
 @SingleThread
 @DataPrepperPlugin(name = "grok", pluginType = Processor.class, pluginConfigurationType = GrokProcessorConfig.class)
 public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    static final long EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT = 300L;
-
     private static final Logger LOG = LoggerFactory.getLogger(GrokProcessor.class);
 
     private static final String DATA_PREPPER_GROK_PATTERNS_FILE = "grok-patterns/patterns";
@@ -81,10 +73,9 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private final Timer grokProcessingTime;
 
     private final GrokCompiler grokCompiler;
-    private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<String, GrokPatternSet> fieldToGrok;
     private final GrokProcessorConfig grokProcessorConfig;
     private final Set<String> keysToOverwrite;
-    private final ExecutorService executorService;
     private final List<String> tagsOnMatchFailure;
     private final List<String> tagsOnTimeout;
     private final ExpressionEvaluator expressionEvaluator;
@@ -93,21 +84,18 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     public GrokProcessor(final PluginMetrics pluginMetrics,
                          final GrokProcessorConfig grokProcessorConfig,
                          final ExpressionEvaluator expressionEvaluator) {
-        this(pluginMetrics, grokProcessorConfig, GrokCompiler.newInstance(),
-                Executors.newSingleThreadExecutor(), expressionEvaluator);
+        this(pluginMetrics, grokProcessorConfig, GrokCompiler.newInstance(), expressionEvaluator);
     }
 
     GrokProcessor(final PluginMetrics pluginMetrics,
                   final GrokProcessorConfig grokProcessorConfig,
                   final GrokCompiler grokCompiler,
-                  final ExecutorService executorService,
                   final ExpressionEvaluator expressionEvaluator) {
         super(pluginMetrics);
         this.grokProcessorConfig = grokProcessorConfig;
         this.keysToOverwrite = new HashSet<>(grokProcessorConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
-        this.executorService = executorService;
         this.expressionEvaluator = expressionEvaluator;
         this.tagsOnMatchFailure = grokProcessorConfig.getTagsOnMatchFailure();
         this.tagsOnTimeout = grokProcessorConfig.getTagsOnTimeout().isEmpty() ?
@@ -147,13 +135,9 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                     continue;
                 }
 
-                if (grokProcessorConfig.getTimeoutMillis() == 0) {
-                    grokProcessingTime.record(() -> matchAndMerge(event));
-                } else {
-                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
-                }
+                grokProcessingTime.record(() -> matchAndMerge(event));
 
-            } catch (final TimeoutException e) {
+            } catch (final DeadlineCharSequence.DeadlineExceededException e) {
                 event.getMetadata().addTags(tagsOnTimeout);
                 LOG.atError()
                         .addMarker(EVENT)
@@ -164,7 +148,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                         .log();
 
                 grokProcessingTimeoutsCounter.increment();
-            } catch (final ExecutionException | InterruptedException | RuntimeException e) {
+            } catch (final RuntimeException e) {
                 event.getMetadata().addTags(tagsOnMatchFailure);
                 LOG.atError()
                         .addMarker(EVENT)
@@ -203,20 +187,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     }
 
     @Override
-    public void shutdown() {
-        executorService.shutdown();
-        try {
-            if (executorService.awaitTermination(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
-                LOG.info("Successfully waited for running task to terminate");
-            } else {
-                LOG.warn("Running task did not terminate in time, forcing termination");
-                executorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            LOG.error("Interrupted while waiting for running task to terminate", e);
-            executorService.shutdownNow();
-        }
-    }
+    public void shutdown() { }
 
     private void registerPatterns() {
         grokCompiler.registerDefaultPatterns();
@@ -265,7 +236,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private void compileMatchPatterns() {
         for (final Map.Entry<String, List<String>> entry : grokProcessorConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
+            fieldToGrok.put(entry.getKey(), new GrokPatternSet(entry.getValue()
                             .stream()
                             .map(item -> {
                                 try {
@@ -276,20 +247,32 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                                                     entry.getKey()), e);
                                 }
                             })
-                            .collect(Collectors.toList()));
+                            .collect(Collectors.toList())));
         }
     }
 
+    /**
+     * Matches on the calling thread. When a timeout is configured, each value is matched through a
+     * {@link DeadlineCharSequence} sharing one deadline for the event, so a match which runs past it fails with a
+     * {@link DeadlineCharSequence.DeadlineExceededException} before any captures are written to the event.
+     */
     private void matchAndMerge(final Event event) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
+        final int timeoutMillis = grokProcessorConfig.getTimeoutMillis();
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
 
         int patternsAttempted = 0;
 
-        for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
-            for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
-                if (value != null && !value.isEmpty()) {
-                    final Match match = grok.match(value);
+        for (final Map.Entry<String, GrokPatternSet> entry : fieldToGrok.entrySet()) {
+            final String value = event.get(entry.getKey(), String.class);
+            if (value != null && !value.isEmpty()) {
+                final GrokPatternSet grokPatternSet = entry.getValue();
+                final CharSequence input = timeoutMillis == 0 ? value : new DeadlineCharSequence(value, deadlineNanos);
+                for (int i = 0; i < grokPatternSet.size(); i++) {
+                    if (!grokPatternSet.mayMatch(i, value)) {
+                        continue;
+                    }
+                    final Match match = grokPatternSet.getGrok(i).match(input);
                     match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
 
                     final Map<String, Object> captures = match.capture();
@@ -381,14 +364,4 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private boolean shouldBreakOnMatch(final Map<String, Object> captures) {
         return captures.size() > 0 && grokProcessorConfig.isBreakOnMatch();
     }
-
-    private void runWithTimeout(final Runnable runnable) throws TimeoutException, ExecutionException, InterruptedException {
-        final Future<?> task = executorService.submit(runnable);
-        try {
-            task.get(grokProcessorConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
-        } catch (final TimeoutException exception) {
-            task.cancel(true);
-            throw exception;
-        }
-    }
 }
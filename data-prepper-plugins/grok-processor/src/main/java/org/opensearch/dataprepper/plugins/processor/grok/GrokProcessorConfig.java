@@ -100,7 +100,7 @@ public class GrokProcessorConfig {
 
     @JsonProperty(value = TIMEOUT_MILLIS, defaultValue = "30000")
     @JsonPropertyDescription("The maximum amount of time during which matching occurs. " +
-            "Setting to <code>0</code> prevents any matching from occurring. Default is <code>30000</code>.")
+            "Setting to <code>0</code> disables the timeout. Default is <code>30000</code>.")
     private int timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
 
     @JsonProperty(TAGS_ON_MATCH_FAILURE)
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeadlineCharSequenceTest {
+
+    @Test
+    void reads_the_value_before_the_deadline() {
+        final String value = UUID.randomUUID().toString();
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(value, System.nanoTime() + TimeUnit.MINUTES.toNanos(1));
+
+        for (int read = 0; read < 2 * DeadlineCharSequence.CHECK_INTERVAL; read++) {
+            assertThat(objectUnderTest.charAt(read % value.length()), equalTo(value.charAt(read % value.length())));
+        }
+        assertThat(objectUnderTest.length(), equalTo(value.length()));
+        assertThat(objectUnderTest.subSequence(1, 5), equalTo(value.subSequence(1, 5)));
+        assertThat(objectUnderTest.toString(), equalTo(value));
+    }
+
+    @Test
+    void charAt_throws_after_the_deadline() {
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence("value", System.nanoTime() - 1);
+
+        for (int read = 1; read < DeadlineCharSequence.CHECK_INTERVAL; read++) {
+            objectUnderTest.charAt(0);
+        }
+        assertThrows(DeadlineCharSequence.DeadlineExceededException.class, () -> objectUnderTest.charAt(0));
+    }
+
+    @Test
+    void matching_with_catastrophic_backtracking_stops_at_the_deadline() {
+        final Pattern pattern = Pattern.compile("(a+)+b");
+        final DeadlineCharSequence input = new DeadlineCharSequence("a".repeat(64), System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10));
+        final Matcher matcher = pattern.matcher(input);
+
+        assertThrows(DeadlineCharSequence.DeadlineExceededException.class, matcher::find);
+    }
+}
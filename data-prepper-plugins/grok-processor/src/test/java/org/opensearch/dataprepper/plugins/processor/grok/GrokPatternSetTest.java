@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GrokPatternSetTest {
+
+    @Test
+    void mayMatch_checks_the_required_literal_of_each_pattern() {
+        final Grok grokWithLiteral = mock(Grok.class);
+        final Grok grokWithoutLiteral = mock(Grok.class);
+        when(grokWithLiteral.getOriginalGrokPattern()).thenReturn("%{IP:client} GET %{URIPATH:path}");
+        when(grokWithoutLiteral.getOriginalGrokPattern()).thenReturn("%{GREEDYDATA:message}");
+
+        final GrokPatternSet objectUnderTest = new GrokPatternSet(List.of(grokWithLiteral, grokWithoutLiteral));
+
+        assertThat(objectUnderTest.size(), equalTo(2));
+        assertThat(objectUnderTest.getGrok(0), sameInstance(grokWithLiteral));
+        assertThat(objectUnderTest.getGrok(1), sameInstance(grokWithoutLiteral));
+        assertThat(objectUnderTest.mayMatch(0, "10.0.0.1 GET /index.html"), equalTo(true));
+        assertThat(objectUnderTest.mayMatch(0, "10.0.0.1 POST /index.html"), equalTo(false));
+        assertThat(objectUnderTest.mayMatch(1, "10.0.0.1 POST /index.html"), equalTo(true));
+    }
+
+    @Test
+    void mayMatch_returns_true_for_patterns_without_an_original_pattern() {
+        final GrokPatternSet objectUnderTest = new GrokPatternSet(List.of(mock(Grok.class)));
+
+        assertThat(objectUnderTest.mayMatch(0, "any value"), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @MethodSource("patternsWithRequiredLiterals")
+    void findRequiredLiteral_returns_the_longest_required_literal(final String grokPattern, final String expectedLiteral) {
+        assertThat(GrokPatternSet.findRequiredLiteral(grokPattern), equalTo(expectedLiteral));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "%{GREEDYDATA:message}",
+            "%{WORD:verb}|%{INT:code} failed",
+            "(?i)failed",
+            "failed (?-i)%{WORD:verb}",
+            "failed(?",
+            "failed)",
+            "failed\\",
+            "\\x41failed",
+            "\\1failed",
+            "\\Qfailed\\E",
+            "failed %{WORD",
+            "(failed",
+            "([abc",
+            "[abc",
+            "failed{2",
+            "%{WORD:verb}?"
+    })
+    void findRequiredLiteral_returns_null_without_a_required_literal(final String grokPattern) {
+        assertThat(GrokPatternSet.findRequiredLiteral(grokPattern), nullValue());
+    }
+
+    @Test
+    void findRequiredLiteral_returns_null_for_null_pattern() {
+        assertThat(GrokPatternSet.findRequiredLiteral(null), nullValue());
+    }
+
+    private static Stream<Arguments> patternsWithRequiredLiterals() {
+        return Stream.of(
+                Arguments.of("%{IP:client} GET %{URIPATH:path}", " GET "),
+                Arguments.of("%{WORD:a}abc?de", "ab"),
+                Arguments.of("%{WORD:a} x* longer", " longer"),
+                Arguments.of("a{2}bcd", "bcd"),
+                Arguments.of("ab+c", "ab"),
+                Arguments.of("status.code", "status"),
+                Arguments.of("^start$", "start"),
+                Arguments.of("(?<name>abcdef)xyz", "xyz"),
+                Arguments.of("(?:a|bcdef)xyz", "xyz"),
+                Arguments.of("([)]abcdef)xyz", "xyz"),
+                Arguments.of("(\\)abcdef)xyz", "xyz"),
+                Arguments.of("[abcdef]+xyz", "xyz"),
+                Arguments.of("[\\]abcdef]xyz", "xyz"),
+                Arguments.of("[a-z&&[^b]]xyz", "xyz"),
+                Arguments.of("\\d+ items", " items"),
+                Arguments.of("\\[%{HTTPDATE:timestamp}\\] \"", "] \""),
+                Arguments.of("100%", "100%"),
+                Arguments.of("?a", "a")
+        );
+    }
+}
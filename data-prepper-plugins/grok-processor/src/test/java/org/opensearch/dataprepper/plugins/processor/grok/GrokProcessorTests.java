@@ -20,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
@@ -35,11 +36,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
@@ -49,15 +45,15 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
-import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessor.EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.TOTAL_PATTERNS_ATTEMPTED_METADATA_KEY;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.TOTAL_TIME_SPENT_IN_GROK_METADATA_KEY;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
@@ -70,12 +66,6 @@ public class GrokProcessorTests {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
     private String messageInput;
 
-    @Mock
-    private ExecutorService executorService;
-
-    @Mock
-    private Future task;
-
     @Mock
     private GrokCompiler grokCompiler;
 
@@ -115,7 +105,7 @@ public class GrokProcessorTests {
     private final Map<String, List<String>> matchConfig = new HashMap<>();
 
     @BeforeEach
-    public void setup() throws TimeoutException, ExecutionException, InterruptedException {
+    public void setup() {
         configureDefaultGrokProcessorConfig();
 
         final List<String> matchPatterns = new ArrayList<>();
@@ -143,18 +133,13 @@ public class GrokProcessorTests {
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(0)), anyBoolean())).thenReturn(grok);
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(1)), anyBoolean())).thenReturn(grokSecondMatch);
 
-        lenient().when(grok.match(messageInput)).thenReturn(match);
+        lenient().when(grok.match(matchInput(messageInput))).thenReturn(match);
         lenient().when(match.capture()).thenReturn(capture);
-        lenient().when(executorService.submit(any(Runnable.class))).then(a -> {
-            a.<Runnable>getArgument(0).run();
-            return task;
-        });
-        lenient().when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(null);
     }
 
     private GrokProcessor createObjectUnderTest() {
         return new GrokProcessor(
-                pluginMetrics, grokProcessorConfig, grokCompiler, executorService, expressionEvaluator);
+                pluginMetrics, grokProcessorConfig, grokCompiler, expressionEvaluator);
     }
 
     @Test
@@ -168,7 +153,7 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testMatchMerge() throws JsonProcessingException, ExecutionException, InterruptedException, TimeoutException {
+    public void testMatchMerge() throws JsonProcessingException {
         when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(false);
 
         grokProcessor = createObjectUnderTest();
@@ -202,12 +187,10 @@ public class GrokProcessorTests {
         verify(grokProcessingMatchCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
         verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
-        verify(task).get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
-        verifyNoMoreInteractions(task);
     }
 
     @Test
-    public void testTarget() throws JsonProcessingException, ExecutionException, InterruptedException, TimeoutException {
+    public void testTarget() throws JsonProcessingException {
         when(grokProcessorConfig.getTargetKey()).thenReturn("test_target");
         grokProcessor = createObjectUnderTest();
 
@@ -238,8 +221,6 @@ public class GrokProcessorTests {
         verify(grokProcessingMatchCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
         verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
-        verify(task).get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
-        verifyNoMoreInteractions(task);
     }
 
     @Test
@@ -275,7 +256,7 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testMatchMergeCollisionStrings() throws JsonProcessingException, ExecutionException, InterruptedException, TimeoutException {
+    public void testMatchMergeCollisionStrings() throws JsonProcessingException {
         grokProcessor = createObjectUnderTest();
 
         capture.put("key_capture_1", "value_capture_1");
@@ -404,8 +385,9 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-        when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException {
+        when(grokProcessorConfig.getTimeoutMillis()).thenReturn(1);
+        when(grok.match(any(CharSequence.class))).thenAnswer(GrokProcessorTests::readUntilDeadline);
 
         grokProcessor = createObjectUnderTest();
 
@@ -422,13 +404,12 @@ public class GrokProcessorTests {
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), record);
-        verify(task).cancel(true);
         verify(grokProcessingTimeoutsCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
     }
 
     @Test
-    public void testThatProcessingWithTimeoutMillisOfZeroDoesNotInteractWithExecutorServiceAndReturnsCorrectResult() throws JsonProcessingException {
+    public void testThatProcessingWithTimeoutMillisOfZeroMatchesTheValueWithoutDeadlineAndReturnsCorrectResult() throws JsonProcessingException {
         when(grokProcessorConfig.getTimeoutMillis()).thenReturn(0);
         grokProcessor = createObjectUnderTest();
 
@@ -450,7 +431,7 @@ public class GrokProcessorTests {
         final Record<Event> resultRecord = buildRecordWithEvent(resultData);
 
         final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
-        verifyNoInteractions(executorService);
+        verify(grok).match(messageInput);
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -467,36 +448,10 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testShutdown_Successful() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-    }
-
-    @Test
-    public void testShutdown_Timeout() throws InterruptedException {
+    public void testShutdown() {
         grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
-
         grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
-    }
-
-    @Test
-    public void testShutdown_InterruptedException() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS)))
-                .thenThrow(new InterruptedException());
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
+        assertThat(grokProcessor.isReadyForShutdown(), equalTo(true));
     }
 
     @Nested
@@ -515,7 +470,7 @@ public class GrokProcessorTests {
         public void testNoCaptures() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -537,7 +492,7 @@ public class GrokProcessorTests {
             when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(true);
 
             when(match.capture()).thenReturn(Collections.emptyMap());
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(capture);
 
             grokProcessor = createObjectUnderTest();
@@ -560,12 +515,37 @@ public class GrokProcessorTests {
             verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchCounter, grokProcessingTimeoutsCounter);
         }
 
+        @Test
+        public void testPatternWithMissingRequiredLiteralIsNotAttempted() throws JsonProcessingException {
+            when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(true);
+
+            when(grok.getOriginalGrokPattern()).thenReturn("%{IP:client} " + UUID.randomUUID() + " %{WORD:method}");
+            when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
+            when(secondMatch.capture()).thenReturn(capture);
+            capture.put("key_capture_1", "value_capture_1");
+
+            grokProcessor = createObjectUnderTest();
+
+            final Map<String, Object> testData = new HashMap();
+            testData.put("message", messageInput);
+            final Record<Event> record = buildRecordWithEvent(testData);
+
+            final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
+
+            assertThat(grokkedRecords.size(), equalTo(1));
+            assertThat(grokkedRecords.get(0).getData().get("key_capture_1", String.class), equalTo("value_capture_1"));
+            assertThat(grokkedRecords.get(0).getData().getMetadata().getAttribute(TOTAL_PATTERNS_ATTEMPTED_METADATA_KEY), equalTo(1));
+            verify(grok, never()).match(any(CharSequence.class));
+            verify(grokProcessingMatchCounter, times(1)).increment();
+            verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
+        }
+
         @Test
         public void testMatchOnSecondPatternWithExistingMetadataForTotalPatternMatches() throws JsonProcessingException {
             when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(true);
 
             when(match.capture()).thenReturn(Collections.emptyMap());
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(capture);
 
             grokProcessor = createObjectUnderTest();
@@ -613,7 +593,7 @@ public class GrokProcessorTests {
             @Test
             public void testNoCapturesWithTag() throws JsonProcessingException {
                 grokProcessor = createObjectUnderTest();
-                lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+                lenient().when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
                 lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
                 final Map<String, Object> testData = new HashMap();
@@ -635,8 +615,9 @@ public class GrokProcessorTests {
             }
 
             @Test
-            public void timeout_exception_tags_the_event() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+            public void timeout_exception_tags_the_event() throws JsonProcessingException {
+                when(grokProcessorConfig.getTimeoutMillis()).thenReturn(1);
+                when(grok.match(any(CharSequence.class))).thenAnswer(GrokProcessorTests::readUntilDeadline);
 
                 grokProcessor = createObjectUnderTest();
 
@@ -664,9 +645,10 @@ public class GrokProcessorTests {
 
             @Test
             public void timeout_exception_tags_the_event_with_tags_on_match_failure()
-                    throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
+                    throws JsonProcessingException {
                 when(grokProcessorConfig.getTagsOnTimeout()).thenReturn(Collections.emptyList());
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+                when(grokProcessorConfig.getTimeoutMillis()).thenReturn(1);
+                when(grok.match(any(CharSequence.class))).thenAnswer(GrokProcessorTests::readUntilDeadline);
 
                 grokProcessor = createObjectUnderTest();
 
@@ -691,9 +673,9 @@ public class GrokProcessorTests {
             }
 
             @ParameterizedTest
-            @ValueSource(classes = {ExecutionException.class, InterruptedException.class, RuntimeException.class})
-            public void execution_exception_tags_the_event(Class<Exception> exceptionClass) throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(exceptionClass);
+            @ValueSource(classes = {RuntimeException.class, IllegalStateException.class})
+            public void execution_exception_tags_the_event(Class<Exception> exceptionClass) throws JsonProcessingException {
+                when(grok.match(any(CharSequence.class))).thenThrow(exceptionClass);
 
                 grokProcessor = createObjectUnderTest();
 
@@ -722,7 +704,7 @@ public class GrokProcessorTests {
         public void testBreakOnMatchTrue() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -759,7 +741,7 @@ public class GrokProcessorTests {
             when(grokProcessorConfig.isBreakOnMatch()).thenReturn(false);
             grokProcessor = createObjectUnderTest();
 
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -855,6 +837,19 @@ public class GrokProcessorTests {
         lenient().when(grokProcessorConfig.getGrokWhen()).thenReturn(grokWhen);
     }
 
+    private static CharSequence matchInput(final String value) {
+        return argThat(input -> input != null && value.contentEquals(input));
+    }
+
+    private static Match readUntilDeadline(final InvocationOnMock invocation) {
+        final CharSequence input = invocation.getArgument(0);
+        while (true) {
+            for (int i = 0; i < input.length(); i++) {
+                input.charAt(i);
+            }
+        }
+    }
+
      private void assertRecordsAreEqual(final Record<Event> first, final Record<Event> second) throws JsonProcessingException {
         final Map<String, Object> recordMapFirst = OBJECT_MAPPER.readValue(first.getData().toJsonString(), MAP_TYPE_REFERENCE);
         final Map<String, Object> recordMapSecond = OBJECT_MAPPER.readValue(second.getData().toJsonString(), MAP_TYPE_REFERENCE);
@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.http.codec;
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -20,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -49,10 +51,60 @@ public class JsonCodec implements Codec<List<String>> {
         return jsonList;
     }
 
+    /**
+     * Parses the json array format HTTP data in a single streaming pass and passes the UTF-8 bytes of each object of
+     * the array, as they appear in the data, to the consumer. The objects are scanned but not parsed, so events built
+     * from these bytes with {@code withRawJsonData} can keep them unparsed. Null elements are skipped.
+     *
+     * @param httpData the json array format HTTP data
+     * @param objectConsumer receives the bytes of each object of the array in order
+     * @throws IOException if the data is not a json array of objects
+     */
+    public void parseRaw(final HttpData httpData, final Consumer<byte[]> objectConsumer) throws IOException {
+        final byte[] content = httpData.array();
+        try (final JsonParser jsonParser = mapper.createParser(content)) {
+            readStartOfArray(jsonParser);
+            JsonToken token;
+            while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.START_OBJECT) {
+                    final long objectStart = jsonParser.getTokenLocation().getByteOffset();
+                    if (objectStart < 0) {
+                        // the parser only reports byte offsets for UTF-8 data
+                        objectConsumer.accept(mapper.writeValueAsBytes(mapper.readTree(jsonParser)));
+                        continue;
+                    }
+                    jsonParser.skipChildren();
+                    final long objectEnd = jsonParser.getCurrentLocation().getByteOffset();
+                    objectConsumer.accept(Arrays.copyOfRange(content, (int) objectStart, (int) objectEnd));
+                } else if (token != JsonToken.VALUE_NULL) {
+                    throw new JsonParseException(jsonParser, "Expected a JSON object but found " + token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that the HTTP data is a json array of objects by scanning its tokens, without building the objects.
+     */
     @Override
     public void validate(final HttpData content) throws IOException {
-        mapper.readValue(content.toInputStream(),
-                LIST_OF_MAP_TYPE_REFERENCE);
+        try (final JsonParser jsonParser = JSON_FACTORY.createParser(content.array())) {
+            readStartOfArray(jsonParser);
+            JsonToken token;
+            while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.START_OBJECT) {
+                    jsonParser.skipChildren();
+                } else if (token != JsonToken.VALUE_NULL) {
+                    throw new JsonParseException(jsonParser, "Expected a JSON object but found " + token);
+                }
+            }
+        }
+    }
+
+    private static void readStartOfArray(final JsonParser jsonParser) throws IOException {
+        if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(jsonParser, "Input is not a valid JSON array.");
+        }
     }
 
     @Override
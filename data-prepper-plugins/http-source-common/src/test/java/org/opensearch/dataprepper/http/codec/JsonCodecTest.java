@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.http.codec;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.linecorp.armeria.common.HttpData;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -16,8 +18,10 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -228,6 +232,67 @@ class JsonCodecTest {
         assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson));
     }
 
+    @Test
+    void parseRaw_returns_the_bytes_of_each_object() throws IOException {
+        final List<String> rawObjects = new ArrayList<>();
+
+        objectUnderTest.parseRaw(HttpData.ofUtf8(" [ {\"a\":{\"b\":[1,{\"c\":\"}ὊὊὊ\"}]}} , null,\n{\"d\" : 2},{}] "),
+                rawObject -> rawObjects.add(new String(rawObject, StandardCharsets.UTF_8)));
+
+        assertThat(rawObjects, equalTo(List.of("{\"a\":{\"b\":[1,{\"c\":\"}ὊὊὊ\"}]}}", "{\"d\" : 2}", "{}")));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(GoodTestData.class)
+    void parseRaw_returns_the_same_objects_as_parse(final HttpData httpData) throws IOException {
+        final List<String> expectedJsonList = objectUnderTest.parse(httpData);
+        final List<ObjectNode> jsonObjects = new ArrayList<>();
+
+        objectUnderTest.parseRaw(httpData, rawObject -> jsonObjects.add(parseObject(rawObject)));
+
+        assertThat(jsonObjects.size(), equalTo(expectedJsonList.size()));
+        for (int i = 0; i < jsonObjects.size(); i++) {
+            assertThat(jsonObjects.get(i).toString(), equalTo(expectedJsonList.get(i)));
+        }
+    }
+
+    @Test
+    void parseRaw_with_data_which_is_not_utf_8_returns_each_object_as_utf_8() throws IOException {
+        final List<String> rawObjects = new ArrayList<>();
+
+        objectUnderTest.parseRaw(HttpData.wrap("[{\"a\":\"ὊὊὊ\"}, {\"b\":1}]".getBytes(StandardCharsets.UTF_16BE)),
+                rawObject -> rawObjects.add(new String(rawObject, StandardCharsets.UTF_8)));
+
+        assertThat(rawObjects, equalTo(List.of("{\"a\":\"ὊὊὊ\"}", "{\"b\":1}")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"a\":\"b\"}", "non json content", "[{\"a\":\"b\"}, 1]", "[\"a\"]", "[{\"a\":\"b\"}", "[{\"a\":}]", ""})
+    void parseRaw_throws_for_invalid_data(final String data) {
+        final Consumer<byte[]> objectConsumer = mock(Consumer.class);
+
+        assertThrows(IOException.class, () -> objectUnderTest.parseRaw(HttpData.ofUtf8(data), objectConsumer));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[{\"a\":\"b\"}, 1]", "[[{\"a\":\"b\"}]]", "[{\"a\":\"b\"}", "[{\"a\":{\"b\":}}]", ""})
+    void validate_with_invalid_array_elements_should_throw(final String data) {
+        assertThrows(IOException.class, () -> objectUnderTest.validate(HttpData.ofUtf8(data)));
+    }
+
+    @Test
+    void validate_with_nested_objects_and_null_elements() throws IOException {
+        objectUnderTest.validate(HttpData.ofUtf8("[{\"a\":{\"b\":[{\"c\":1}]}}, null, {}]"));
+    }
+
+    private static ObjectNode parseObject(final byte[] rawObject) {
+        try {
+            return (ObjectNode) new ObjectMapper().readTree(rawObject);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     static class GoodTestData implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) {
@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpMethod;
@@ -15,15 +17,21 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.http.codec.JsonCodec;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.log.JacksonLog;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.Mockito.mock;
@@ -60,6 +68,53 @@ public class LogHTTPServiceMeasure {
         }
     }
 
+    /**
+     * A request which the service either parses into logs for an event buffer or validates before writing its bytes
+     * to a byte buffer without an optimal request size.
+     */
+    @State(Scope.Benchmark)
+    public static class UnsplitRequestState {
+        @Param({"true", "false"})
+        private boolean byteBuffer;
+
+        private HttpData httpData;
+        private LogHTTPService logHTTPService;
+        private ServiceRequestContext serviceRequestContext;
+        private RequestHeaders requestHeaders;
+
+        @Setup
+        public void setUp() throws IOException {
+            byte[] jsonContent = new TestGenerator().createJson(1024 * 1024);
+            httpData = HttpData.ofUtf8(new String(jsonContent));
+
+            final Buffer buffer = mock(Buffer.class, withSettings().stubOnly());
+            when(buffer.isByteBuffer()).thenReturn(byteBuffer);
+            when(buffer.getMaxRequestSize()).thenReturn(Optional.empty());
+            when(buffer.getOptimalRequestSize()).thenReturn(Optional.empty());
+
+            serviceRequestContext = mock(ServiceRequestContext.class);
+            logHTTPService = new LogHTTPService((int) Duration.ofSeconds(10).toMillis(), buffer, PluginMetrics.fromPrefix("testing"), null);
+
+            requestHeaders = RequestHeaders.builder()
+                    .method(HttpMethod.POST)
+                    .path("/test")
+                    .build();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RequestBodyState {
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final JsonCodec jsonCodec = new JsonCodec();
+        private HttpData httpData;
+
+        @Setup
+        public void setUp() throws IOException {
+            byte[] jsonContent = new TestGenerator().createJson(1024 * 1024);
+            httpData = HttpData.ofUtf8(new String(jsonContent));
+        }
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     @Warmup(iterations = 1)
@@ -68,4 +123,55 @@ public class LogHTTPServiceMeasure {
         AggregatedHttpRequest aggregatedHttpRequest = AggregatedHttpRequest.of(benchmarkState.requestHeaders, benchmarkState.httpData);
         return benchmarkState.logHTTPService.doPost(benchmarkState.serviceRequestContext, aggregatedHttpRequest);
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public HttpResponse measure_doPost_unsplit(UnsplitRequestState state) throws Exception {
+        AggregatedHttpRequest aggregatedHttpRequest = AggregatedHttpRequest.of(state.requestHeaders, state.httpData);
+        return state.logHTTPService.doPost(state.serviceRequestContext, aggregatedHttpRequest);
+    }
+
+    /**
+     * Builds logs the way the service did before streaming: parse into maps, write each map to a string and parse
+     * each string again into a log.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public void measure_build_logs_from_strings(RequestBodyState state, Blackhole blackhole) throws IOException {
+        for (final String json : state.jsonCodec.parse(state.httpData)) {
+            blackhole.consume(JacksonLog.builder().withData(json).getThis().build());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public void measure_build_logs_from_raw_json(RequestBodyState state, Blackhole blackhole) throws IOException {
+        state.jsonCodec.parseRaw(state.httpData, rawJsonObject ->
+                blackhole.consume(JacksonLog.builder().withRawJsonData(rawJsonObject).getThis().build()));
+    }
+
+    /**
+     * Validates the way the service did before streaming, by deserializing the request into maps.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public List<Map<String, Object>> measure_validate_with_maps(RequestBodyState state) throws IOException {
+        return state.objectMapper.readValue(state.httpData.toInputStream(), new TypeReference<>() {});
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public void measure_validate_streaming(RequestBodyState state) throws IOException {
+        state.jsonCodec.validate(state.httpData);
+    }
 }
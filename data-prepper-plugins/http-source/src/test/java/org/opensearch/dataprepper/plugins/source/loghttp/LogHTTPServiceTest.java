@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.source.loghttp;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
@@ -137,6 +138,24 @@ class LogHTTPServiceTest {
         verify(requestProcessDuration, times(1)).recordCallable(ArgumentMatchers.<Callable<HttpResponse>>any());
     }
 
+    @Test
+    public void testHTTPRequestSuccess_writes_each_json_object_as_a_log() throws Exception {
+        final Buffer<Record<Log>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_CAPACITY, 8, "test-pipeline");
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, blockingBuffer, pluginMetrics, null);
+        final AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(2);
+        final List<Map<String, Object>> expectedLogs = mapper.readValue(testRequest.contentUtf8(), new TypeReference<>() {});
+
+        final AggregatedHttpResponse postResponse = logHTTPService.doPost(serviceRequestContext, testRequest).aggregate().get();
+
+        assertEquals(HttpStatus.OK, postResponse.status());
+        final List<Record<Log>> records = new ArrayList<>(blockingBuffer.read(TEST_TIMEOUT_IN_MILLIS).getKey());
+        assertThat(records.size(), equalTo(2));
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(records.get(i).getData().toMap(), equalTo(expectedLogs.get(i)));
+            assertThat(records.get(i).getData().toJsonString(), equalTo(mapper.writeValueAsString(expectedLogs.get(i))));
+        }
+    }
+
     @Test
     public void testHTTPRequestBadRequest() throws Exception {
         // Prepare
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.commons.lang3.Range;
@@ -433,37 +434,33 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         try {
             if (value instanceof JsonDataWithSchema) {
                 JsonDataWithSchema j = (JsonDataWithSchema)consumerRecord.value();
-                value = objectMapper.readValue(j.getPayload(), Map.class);
+                value = toJsonObject(objectMapper.readTree(j.getPayload()));
             } else if (schema == MessageFormat.AVRO || value instanceof GenericRecord) {
                 final JsonParser jsonParser = jsonFactory.createParser((String)consumerRecord.value().toString());
-                value = objectMapper.readValue(jsonParser, Map.class);
+                value = toJsonObject(objectMapper.readTree(jsonParser));
             } else if (schema == MessageFormat.PLAINTEXT) {
                 value = (String)consumerRecord.value();
                 plainTextMode = true;
             } else if (schema == MessageFormat.JSON) {
-                value = objectMapper.convertValue(value, Map.class);
+                value = toJsonObject(value == null || value instanceof JsonNode ? (JsonNode) value : objectMapper.valueToTree(value));
             }
         } catch (Exception e){
             LOG.error("Failed to parse JSON or AVRO record", e);
             topicMetrics.getNumberOfRecordsFailedToParse().increment();
         }
-        if (!plainTextMode) {
-            if (!(value instanceof Map)) {
-                data.put(key, value);
-            } else {
-                Map<String, Object> valueMap = (Map<String, Object>)value;
-                if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_FIELD) {
-                    valueMap.put("kafka_key", key);
-                }
-                data = valueMap;
+        if (!plainTextMode && value instanceof ObjectNode) {
+            final ObjectNode valueNode = (ObjectNode) value;
+            if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_FIELD) {
+                valueNode.put("kafka_key", key);
             }
+            event = JacksonLog.builder().withJsonData(valueNode).getThis().build();
         } else {
-            if (Objects.isNull(key)) {
+            if (plainTextMode && Objects.isNull(key)) {
                 key = DEFAULT_KEY;
             }
             data.put(key, value);
+            event = JacksonLog.builder().withData(data).build();
         }
-        event = JacksonLog.builder().withData(data).build();
         EventMetadata eventMetadata = event.getMetadata();
         if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_METADATA) {
             eventMetadata.setAttribute("kafka_key", key);
@@ -487,6 +484,20 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         return new Record<Event>(event);
     }
 
+    /**
+     * Returns the parsed value of a record as the data of its event, without converting it to a map first. A JSON null
+     * is returned as null, and any other value which is not a JSON object fails the parsing of the record.
+     */
+    private static ObjectNode toJsonObject(final JsonNode jsonNode) {
+        if (jsonNode == null || jsonNode.isNull()) {
+            return null;
+        }
+        if (!jsonNode.isObject()) {
+            throw new IllegalArgumentException("The record value is not a JSON object");
+        }
+        return (ObjectNode) jsonNode;
+    }
+
     private void processRecord(final AcknowledgementSet acknowledgementSet, final Record<Event> record) {
         // Always add record to acknowledgementSet before adding to
         // buffer because another thread may take and process
@@ -568,7 +579,9 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
                     } else {
                         JsonNode jsonNode = objectMapper.readValue(decompressedInputStream, JsonNode.class);
 
-                        Event event = JacksonLog.builder().withData(jsonNode).build();
+                        Event event = jsonNode instanceof ObjectNode
+                                ? JacksonLog.builder().withJsonData((ObjectNode) jsonNode).getThis().build()
+                                : JacksonLog.builder().withData(jsonNode).build();
                         Record<Event> record = new Record<>(event);
                         processRecord(acknowledgementSet, record);
                     }
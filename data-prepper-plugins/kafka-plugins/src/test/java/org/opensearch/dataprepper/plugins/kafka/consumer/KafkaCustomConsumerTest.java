@@ -62,6 +62,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -451,6 +452,34 @@ public class KafkaCustomConsumerTest {
         }
     }
 
+    @Test
+    public void testJsonConsumeRecordsWithNonObjectValue() throws Exception {
+        String topic = topicConfig.getName();
+        final ObjectMapper mapper = new ObjectMapper();
+        final Counter failedToParseCounter = mock(Counter.class);
+        when(topicMetrics.getNumberOfRecordsFailedToParse()).thenReturn(failedToParseCounter);
+        when(topicConfig.getSerdeFormat()).thenReturn(MessageFormat.JSON);
+        when(topicConfig.getKafkaKeyMode()).thenReturn(KafkaKeyMode.INCLUDE_AS_FIELD);
+        Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
+        ConsumerRecord<String, JsonNode> record1 = new ConsumerRecord<>(topic, testJsonPartition, 100L, testKey1,
+                mapper.convertValue(List.of(testValue1, testValue2), JsonNode.class));
+        records.put(new TopicPartition(topic, testJsonPartition), Arrays.asList(record1));
+        consumerRecords = new ConsumerRecords(records);
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(consumerRecords);
+        consumer = createObjectUnderTest("json", false);
+
+        consumer.onPartitionsAssigned(List.of(new TopicPartition(topic, testJsonPartition)));
+        consumer.consumeRecords();
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> bufferRecords = buffer.read(1000);
+        ArrayList<Record<Event>> bufferedRecords = new ArrayList<>(bufferRecords.getKey());
+        Assertions.assertEquals(1, bufferedRecords.size());
+        verify(failedToParseCounter).increment();
+
+        Event event = bufferedRecords.get(0).getData();
+        Assertions.assertEquals(List.of(testValue1, testValue2), event.get(testKey1, List.class));
+        Assertions.assertFalse(event.containsKey("kafka_key"));
+    }
+
     @Test
     public void testJsonDeserializationErrorWithAcknowledgements() throws Exception {
         String topic = topicConfig.getName();
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.keyvalue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares parsing with literal split characters against parsing with the equivalent delimiter regexes, on lines
+ * shaped like firewall logs with space separated pairs.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 5, time = 10)
+public class KeyValueProcessorBenchmark {
+    private static final int RECORD_COUNT = 100;
+    private static final int PAIRS_PER_LINE = 60;
+
+    @Param({"split_characters", "regex"})
+    private String delimiters;
+
+    private KeyValueProcessor keyValueProcessor;
+    private Collection<Record<Event>> records;
+
+    @Setup
+    public void setUp() {
+        final Map<String, Object> config = "regex".equals(delimiters)
+                ? Map.of("field_delimiter_regex", " ", "field_split_characters", "",
+                        "key_value_delimiter_regex", "=", "value_split_characters", "")
+                : Map.of("field_split_characters", " ", "value_split_characters", "=");
+        keyValueProcessor = new KeyValueProcessor(mock(PluginMetrics.class),
+                new ObjectMapper().convertValue(config, KeyValueProcessorConfig.class), mock(ExpressionEvaluator.class));
+
+        final StringBuilder line = new StringBuilder();
+        for (int i = 0; i < PAIRS_PER_LINE; i++) {
+            if (i > 0) {
+                line.append(' ');
+            }
+            line.append("field").append(i).append('=').append("value-").append(i * 31);
+        }
+        records = new ArrayList<>(RECORD_COUNT);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of("message", line.toString()))
+                    .build()));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Collection<Record<Event>> benchmark_parse_pairs() {
+        return keyValueProcessor.doExecute(records);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.keyvalue;
+
+/**
+ * The characters of a split characters option when each of them is a literal delimiter, so that input can be split by
+ * comparing characters instead of by matching the regular expression built from them.
+ */
+class DelimiterCharacters {
+    private static final String REGEX_METACHARACTERS = "\\.[]{}()*+?^$|";
+
+    private final String characters;
+
+    private DelimiterCharacters(final String characters) {
+        this.characters = characters;
+    }
+
+    /**
+     * @return the delimiter characters, or null if any of them is not matched literally by the regular expression
+     */
+    static DelimiterCharacters fromSplitCharacters(final String splitCharacters) {
+        for (int i = 0; i < splitCharacters.length(); i++) {
+            final char c = splitCharacters.charAt(i);
+            if (REGEX_METACHARACTERS.indexOf(c) >= 0 || Character.isSurrogate(c)) {
+                return null;
+            }
+        }
+        return new DelimiterCharacters(splitCharacters);
+    }
+
+    boolean isDelimiter(final char c) {
+        return characters.indexOf(c) >= 0;
+    }
+
+    /**
+     * @return the index of the first delimiter between start, inclusive, and end, exclusive, or -1 if there is none
+     */
+    int indexIn(final String input, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (isDelimiter(input.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
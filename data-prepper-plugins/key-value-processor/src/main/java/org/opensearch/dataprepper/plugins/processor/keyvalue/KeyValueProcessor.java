@@ -52,6 +52,9 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
 
     private final Pattern fieldDelimiterPattern;
     private final Pattern keyValueDelimiterPattern;
+    private final DelimiterCharacters fieldDelimiters;
+    private final DelimiterCharacters keyValueDelimiters;
+    private final ObjectMapper mapper = new ObjectMapper();
     private final Set<String> includeKeysSet = new HashSet<String>();
     private final Set<String> excludeKeysSet = new HashSet<String>();
     private final HashMap<String, Object> defaultValuesMap = new HashMap<>();
@@ -89,6 +92,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             }
 
             fieldDelimiterPattern = Pattern.compile(keyValueProcessorConfig.getFieldDelimiterRegex());
+            fieldDelimiters = null;
 
             if (keyValueProcessorConfig.getRecursive()) {
                 if (fieldDelimiterPattern.matcher(delimiterBracketCheck).matches()) {
@@ -97,17 +101,21 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             }
         } else {
             String regex;
+            String splitCharacters;
             if (keyValueProcessorConfig.getFieldSplitCharacters().isEmpty()) {
                 regex = KeyValueProcessorConfig.DEFAULT_FIELD_SPLIT_CHARACTERS;
+                splitCharacters = KeyValueProcessorConfig.DEFAULT_FIELD_SPLIT_CHARACTERS;
             } else {
                 if (keyValueProcessorConfig.getRecursive()
                     && keyValueProcessorConfig.getFieldSplitCharacters().length() != 1) {
                     throw new IllegalArgumentException("While recursive is true, the set field split characters is limited to one character only.");
                 }
                 regex = buildRegexFromCharacters(keyValueProcessorConfig.getFieldSplitCharacters());
+                splitCharacters = keyValueProcessorConfig.getFieldSplitCharacters();
             }
 
             fieldDelimiterPattern = Pattern.compile(regex);
+            fieldDelimiters = DelimiterCharacters.fromSplitCharacters(splitCharacters);
 
             if (keyValueProcessorConfig.getRecursive()
                 && fieldDelimiterPattern.matcher(delimiterBracketCheck).matches()) {
@@ -125,6 +133,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             }
 
             keyValueDelimiterPattern = Pattern.compile(keyValueProcessorConfig.getKeyValueDelimiterRegex());
+            keyValueDelimiters = null;
 
             if (keyValueProcessorConfig.getRecursive()
                 && keyValueDelimiterPattern.matcher(delimiterBracketCheck).matches()) {
@@ -132,8 +141,10 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             }
         } else {
             String regex;
+            String splitCharacters;
             if (keyValueProcessorConfig.getValueSplitCharacters().isEmpty()) {
                 regex = KeyValueProcessorConfig.DEFAULT_VALUE_SPLIT_CHARACTERS;
+                splitCharacters = KeyValueProcessorConfig.DEFAULT_VALUE_SPLIT_CHARACTERS;
             } else {
                 if (keyValueProcessorConfig.getRecursive()
                     && keyValueProcessorConfig.getValueSplitCharacters().length() != 1) {
@@ -141,9 +152,11 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
                 }
 
                 regex = buildRegexFromCharacters(keyValueProcessorConfig.getValueSplitCharacters());
+                splitCharacters = keyValueProcessorConfig.getValueSplitCharacters();
             }
 
             keyValueDelimiterPattern = Pattern.compile(regex);
+            keyValueDelimiters = DelimiterCharacters.fromSplitCharacters(splitCharacters);
 
             if (keyValueProcessorConfig.getRecursive()
                 && keyValueDelimiterPattern.matcher(delimiterBracketCheck).matches()) {
@@ -345,8 +358,6 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
 
     @Override
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        final ObjectMapper mapper = new ObjectMapper();
-
         for (final Record<Event> record : records) {
             final Map<String, Object> outputMap = new HashMap<>();
             final Event recordEvent = record.getData();
@@ -361,12 +372,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
                 if (groupsRaw == null) {
                     continue;
                 }
-                String[] groups;
-                if (keyValueProcessorConfig.getValueGrouping()) {
-                    groups = parseWithValueGrouping(groupsRaw).stream().toArray(String[]::new);
-                } else {
-                    groups = fieldDelimiterPattern.split(groupsRaw, 0);
-                }
+                final List<String> groups = keyValueProcessorConfig.getValueGrouping() ? parseWithValueGrouping(groupsRaw) : null;
 
                 if (keyValueProcessorConfig.getRecursive()) {
                     try {
@@ -378,7 +384,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
                     }
                 } else {
                     try {
-                        outputMap.putAll(createNonRecursedMap(groups));
+                        outputMap.putAll(createNonRecursedMap(groupsRaw, groups));
                     } catch (Exception e) {
                         LOG.error("Non-recursive parsing ran into an unexpected error", e);
                         recordEvent.getMetadata().addTags(tagsOnFailure);
@@ -436,7 +442,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
                 }
             }
 
-            if (bracketStack.isEmpty() && fieldDelimiterPattern.matcher(String.valueOf(input.charAt(i))).matches()) {
+            if (bracketStack.isEmpty() && isFieldDelimiter(input.charAt(i))) {
                 String pair = input.substring(pairStart, i);
                 pairs.add(pair);
                 pairStart = i + 1;
@@ -457,7 +463,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             bracketStack.clear();
 
             for (int i = 0; i < pair.length(); i++) {
-                if (bracketStack.isEmpty() && keyValueDelimiterPattern.matcher(String.valueOf(pair.charAt(i))).matches()) {
+                if (bracketStack.isEmpty() && isKeyValueDelimiter(pair.charAt(i))) {
                     keyString = pair.substring(keyStart, i).stripTrailing();
                     valueStart = i + 1;
                     while(pair.charAt(valueStart) == whitespaceChar) {
@@ -509,57 +515,119 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             group.charAt(group.length()-1) == stringLiteralCharacter;
     }
 
-    private Map<String, Object> createNonRecursedMap(String[] groups) {
-        Map<String, Object> nonRecursedMap = new LinkedHashMap<>();
-        List<Object> valueList;
+    private boolean isFieldDelimiter(final char c) {
+        return fieldDelimiters != null ? fieldDelimiters.isDelimiter(c) : fieldDelimiterPattern.matcher(String.valueOf(c)).matches();
+    }
+
+    private boolean isKeyValueDelimiter(final char c) {
+        return keyValueDelimiters != null ? keyValueDelimiters.isDelimiter(c) : keyValueDelimiterPattern.matcher(String.valueOf(c)).matches();
+    }
+
+    private Map<String, Object> createNonRecursedMap(final String groupsRaw, final List<String> groups) {
+        final Map<String, Object> nonRecursedMap = new LinkedHashMap<>();
+
+        if (groups != null) {
+            for (final String group : groups) {
+                addGroup(nonRecursedMap, group, 0, group.length());
+            }
+        } else if (fieldDelimiters != null) {
+            addGroupsSplitByFieldDelimiters(nonRecursedMap, groupsRaw);
+        } else {
+            for (final String group : fieldDelimiterPattern.split(groupsRaw, 0)) {
+                addGroup(nonRecursedMap, group, 0, group.length());
+            }
+        }
 
-        for(final String group : groups) {
+        return nonRecursedMap;
+    }
+
+    /**
+     * Adds the groups between field delimiters the way {@link Pattern#split(CharSequence, int)} with a limit of zero
+     * would split them, without creating the array of groups. Trailing empty groups are dropped unless the whole input
+     * is empty.
+     */
+    private void addGroupsSplitByFieldDelimiters(final Map<String, Object> nonRecursedMap, final String groupsRaw) {
+        int end = groupsRaw.length();
+        while (end > 0 && fieldDelimiters.isDelimiter(groupsRaw.charAt(end - 1))) {
+            end--;
+        }
+        if (end == 0 && !groupsRaw.isEmpty()) {
+            return;
+        }
+
+        int start = 0;
+        for (int i = 0; i < end; i++) {
+            if (fieldDelimiters.isDelimiter(groupsRaw.charAt(i))) {
+                addGroup(nonRecursedMap, groupsRaw, start, i);
+                start = i + 1;
+            }
+        }
+        addGroup(nonRecursedMap, groupsRaw, start, end);
+    }
+
+    private void addGroup(final Map<String, Object> nonRecursedMap, final String input, final int start, final int end) {
+        if (stringLiteralCharacter != null) {
+            final String group = input.substring(start, end);
             if (isIgnoredGroup(group)) {
                 if (validKeyAndValue(group, null)) {
                     nonRecursedMap.put(group, null);
                 }
-                continue;
+                return;
             }
+        }
 
-            final String[] terms = keyValueDelimiterPattern.split(group, 2);
-            String key = terms[0];
-            Object value;
-
-            if (terms.length == 2) {
-                value = terms[1];
+        final String key;
+        String matchedValue = null;
+        if (keyValueDelimiters != null) {
+            final int delimiterIndex = keyValueDelimiters.indexIn(input, start, end);
+            if (delimiterIndex < 0) {
+                key = input.substring(start, end);
             } else {
-                LOG.debug("Unsuccessful match: '{}'", terms[0]);
-                value = keyValueProcessorConfig.getNonMatchValue();
+                key = input.substring(start, delimiterIndex);
+                matchedValue = input.substring(delimiterIndex + 1, end);
+            }
+        } else {
+            final String[] terms = keyValueDelimiterPattern.split(input.substring(start, end), 2);
+            key = terms[0];
+            if (terms.length == 2) {
+                matchedValue = terms[1];
             }
+        }
 
-            if (nonRecursedMap.containsKey(key)) {
-                Object existingValue = nonRecursedMap.get(key);
+        final Object value;
+        if (matchedValue != null) {
+            value = matchedValue;
+        } else {
+            LOG.debug("Unsuccessful match: '{}'", key);
+            value = keyValueProcessorConfig.getNonMatchValue();
+        }
 
-                if (existingValue instanceof List) {
-                    valueList = (List<Object>) existingValue;
-                } else {
-                    valueList = new ArrayList<Object>();
-                    valueList.add(existingValue);
-                    if (validKeyAndValue(key, valueList)) {
-                        nonRecursedMap.put(key, valueList);
-                    }
+        if (nonRecursedMap.containsKey(key)) {
+            final Object existingValue = nonRecursedMap.get(key);
+            final List<Object> valueList;
+
+            if (existingValue instanceof List) {
+                valueList = (List<Object>) existingValue;
+            } else {
+                valueList = new ArrayList<Object>();
+                valueList.add(existingValue);
+                if (validKeyAndValue(key, valueList)) {
+                    nonRecursedMap.put(key, valueList);
                 }
+            }
 
-                if (keyValueProcessorConfig.getSkipDuplicateValues()) {
-                    if (!valueList.contains(value)) {
-                        valueList.add(value);
-                    }
-                } else {
+            if (keyValueProcessorConfig.getSkipDuplicateValues()) {
+                if (!valueList.contains(value)) {
                     valueList.add(value);
                 }
             } else {
-                if (validKeyAndValue(key, value)) {
-                    nonRecursedMap.put(key, value);
-                }
+                valueList.add(value);
+            }
+        } else {
+            if (validKeyAndValue(key, value)) {
+                nonRecursedMap.put(key, value);
             }
         }
-
-        return nonRecursedMap;
     }
 
     private Map<String, Object> executeConfigs(Map<String, Object> map) {
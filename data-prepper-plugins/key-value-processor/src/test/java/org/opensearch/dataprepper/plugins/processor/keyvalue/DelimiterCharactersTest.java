@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.keyvalue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DelimiterCharactersTest {
+
+    @Test
+    void fromSplitCharacters_returns_delimiters_for_literal_characters() {
+        final DelimiterCharacters objectUnderTest = DelimiterCharacters.fromSplitCharacters("&; ");
+
+        assertThat(objectUnderTest, notNullValue());
+        assertThat(objectUnderTest.isDelimiter('&'), equalTo(true));
+        assertThat(objectUnderTest.isDelimiter(' '), equalTo(true));
+        assertThat(objectUnderTest.isDelimiter('='), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"|", "&.", "\\t", "(", "&$", "\uD83D\uDE00"})
+    void fromSplitCharacters_returns_null_for_characters_with_a_regex_meaning(final String splitCharacters) {
+        assertThat(DelimiterCharacters.fromSplitCharacters(splitCharacters), nullValue());
+    }
+
+    @Test
+    void indexIn_returns_the_first_delimiter_in_the_span() {
+        final DelimiterCharacters objectUnderTest = DelimiterCharacters.fromSplitCharacters("=:");
+
+        assertThat(objectUnderTest.indexIn("a=b:c", 0, 5), equalTo(1));
+        assertThat(objectUnderTest.indexIn("a=b:c", 2, 5), equalTo(3));
+        assertThat(objectUnderTest.indexIn("a=b:c", 2, 3), equalTo(-1));
+    }
+}
@@ -1005,6 +1005,73 @@ public class KeyValueProcessorTests {
         assertThat(record.getData().getMetadata().hasTags(List.of("tag1", "tag2")), is(true));
     }
 
+    @ParameterizedTest
+    @MethodSource("getLiteralDelimiterTestdata")
+    void testLiteralSplitCharactersParseTheSameAsEquivalentRegexes(final Character stringLiteralCharacter, final String input) {
+        lenient().when(mockConfig.getStringLiteralCharacter()).thenReturn(stringLiteralCharacter);
+        lenient().when(mockConfig.getTagsOnFailure()).thenReturn(List.of("tag1"));
+        lenient().when(mockConfig.getFieldSplitCharacters()).thenReturn("&;");
+        lenient().when(mockConfig.getValueSplitCharacters()).thenReturn("=:");
+        final Record<Event> literalRecord = getMessage(input);
+        createObjectUnderTest().doExecute(Collections.singletonList(literalRecord));
+
+        lenient().when(mockConfig.getFieldDelimiterRegex()).thenReturn("&|;");
+        lenient().when(mockConfig.getFieldSplitCharacters()).thenReturn(null);
+        lenient().when(mockConfig.getKeyValueDelimiterRegex()).thenReturn("=|:");
+        lenient().when(mockConfig.getValueSplitCharacters()).thenReturn(null);
+        final Record<Event> regexRecord = getMessage(input);
+        createObjectUnderTest().doExecute(Collections.singletonList(regexRecord));
+
+        assertThat(literalRecord.getData().toMap(), equalTo(regexRecord.getData().toMap()));
+        assertThat(literalRecord.getData().getMetadata().hasTags(List.of("tag1")),
+                equalTo(regexRecord.getData().getMetadata().hasTags(List.of("tag1"))));
+    }
+
+    private static Stream<Arguments> getLiteralDelimiterTestdata() {
+        final List<String> inputs = List.of("", "&;&", "&key1=value1", "key1=value1&;key2:value2&&",
+                "key1=value1=value2;key1", "=value1&key2=", "key1=value1&\"key2\"&key1=value3", "\"\"&key1=value1");
+        final List<Arguments> arguments = new ArrayList<>();
+        for (final String input : inputs) {
+            arguments.add(Arguments.of(null, input));
+            arguments.add(Arguments.of('\"', input));
+        }
+        return arguments.stream();
+    }
+
+    @Test
+    void testSplitCharactersWithRegexMetacharacterKeyValueProcessor() {
+        when(mockConfig.getFieldSplitCharacters()).thenReturn("&$");
+
+        final Record<Event> record = getMessage("key1=value1&key2=value2");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) createObjectUnderTest().doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(2));
+        assertThatKeyEquals(parsed_message, "key1", "value1");
+        assertThatKeyEquals(parsed_message, "key2", "value2");
+    }
+
+    @Test
+    void testRecursiveWithRegexDelimitersKvProcessor() {
+        when(mockConfig.getRecursive()).thenReturn(true);
+        when(mockConfig.getFieldDelimiterRegex()).thenReturn("&");
+        when(mockConfig.getFieldSplitCharacters()).thenReturn(null);
+        when(mockConfig.getKeyValueDelimiterRegex()).thenReturn("=");
+        when(mockConfig.getValueSplitCharacters()).thenReturn(null);
+
+        final Record<Event> record = getMessage("item1=[item1-subitem1=item1-subitem1-value&item1-subitem2=item1-subitem2-value]&item2=item2-value");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) createObjectUnderTest().doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        final Map<String, Object> expectedValueMap = new HashMap<>();
+        expectedValueMap.put("item1-subitem1", "item1-subitem1-value");
+        expectedValueMap.put("item1-subitem2", "item1-subitem2-value");
+
+        assertThat(parsed_message.size(), equalTo(2));
+        assertThatKeyEquals(parsed_message, "item1", expectedValueMap);
+        assertThatKeyEquals(parsed_message, "item2", "item2-value");
+    }
+
     @Test
     void testShutdownIsReady() {
         assertThat(createObjectUnderTest().isReadyForShutdown(), is(true));
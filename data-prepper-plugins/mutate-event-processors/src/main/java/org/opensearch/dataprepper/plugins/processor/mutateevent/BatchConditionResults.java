@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.mutateevent;
+
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.expression.ExpressionParsingException;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * The results of evaluating a processor's when condition against a batch of records. An event for which the condition
+ * could not be evaluated, including every event when the condition does not parse, is evaluated again on its own when
+ * it is checked. The failure is thus thrown while the processor handles that event, as it was when the condition was
+ * evaluated one event at a time, and the processor logs and tags the event as before.
+ */
+class BatchConditionResults {
+    private final ExpressionEvaluator expressionEvaluator;
+    private final String condition;
+    private final BitSet matchingRecords;
+    private final BitSet failedRecords;
+
+    private BatchConditionResults(final ExpressionEvaluator expressionEvaluator, final String condition,
+                                  final BitSet matchingRecords, final BitSet failedRecords) {
+        this.expressionEvaluator = expressionEvaluator;
+        this.condition = condition;
+        this.matchingRecords = matchingRecords;
+        this.failedRecords = failedRecords;
+    }
+
+    /**
+     * @param expressionEvaluator the evaluator of the condition
+     * @param condition the when condition, or null if the processor applies to every event
+     * @param records the batch of records
+     * @return the results of the condition for the batch
+     */
+    static BatchConditionResults evaluate(final ExpressionEvaluator expressionEvaluator, final String condition,
+                                          final Collection<Record<Event>> records) {
+        if (condition == null) {
+            return new BatchConditionResults(expressionEvaluator, null, null, null);
+        }
+        final BitSet failedRecords = new BitSet();
+        BitSet matchingRecords;
+        try {
+            matchingRecords = expressionEvaluator.evaluateConditionalBatch(condition, records, failedRecords);
+        } catch (final ExpressionParsingException e) {
+            matchingRecords = new BitSet();
+            failedRecords.set(0, records.size());
+        }
+        return new BatchConditionResults(expressionEvaluator, condition, matchingRecords, failedRecords);
+    }
+
+    /**
+     * @param recordIndex the index of the record in the batch
+     * @param event the event of the record
+     * @return whether the processor applies to the event
+     * @throws RuntimeException if the condition cannot be evaluated against the event
+     */
+    boolean matches(final int recordIndex, final Event event) {
+        if (condition == null) {
+            return true;
+        }
+        if (failedRecords.get(recordIndex)) {
+            return expressionEvaluator.evaluateConditional(condition, event);
+        }
+        return matchingRecords.get(recordIndex);
+    }
+}
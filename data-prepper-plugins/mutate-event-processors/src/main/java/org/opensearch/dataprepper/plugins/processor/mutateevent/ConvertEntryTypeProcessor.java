@@ -33,7 +33,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -168,12 +167,15 @@ public class ConvertEntryTypeProcessor  extends AbstractProcessor<Record<Event>,
 
     @Override
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
+        final BatchConditionResults whenResults = BatchConditionResults.evaluate(expressionEvaluator, convertWhen, records);
+        int recordIndex = -1;
         for(final Record<Event> record : records) {
+            recordIndex++;
             final Event recordEvent = record.getData();
 
             try {
 
-                if (Objects.nonNull(convertWhen) && !expressionEvaluator.evaluateConditional(convertWhen, recordEvent)) {
+                if (!whenResults.matches(recordIndex, recordEvent)) {
                     continue;
                 }
 
@@ -50,12 +50,15 @@ public class ListToMapProcessor extends AbstractProcessor<Record<Event>, Record<
 
     @Override
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
+        final BatchConditionResults whenResults = BatchConditionResults.evaluate(expressionEvaluator, config.getListToMapWhen(), records);
+        int recordIndex = -1;
         for (final Record<Event> record : records) {
+            recordIndex++;
             final Event recordEvent = record.getData();
 
             try {
 
-                if (Objects.nonNull(config.getListToMapWhen()) && !expressionEvaluator.evaluateConditional(config.getListToMapWhen(), recordEvent)) {
+                if (!whenResults.matches(recordIndex, recordEvent)) {
                     continue;
                 }
 
@@ -54,12 +54,15 @@ public class MapToListProcessor extends AbstractProcessor<Record<Event>, Record<
 
     @Override
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
+        final BatchConditionResults whenResults = BatchConditionResults.evaluate(expressionEvaluator, config.getMapToListWhen(), records);
+        int recordIndex = -1;
         for (final Record<Event> record : records) {
+            recordIndex++;
             final Event recordEvent = record.getData();
 
             try {
 
-                if (config.getMapToListWhen() != null && !expressionEvaluator.evaluateConditional(config.getMapToListWhen(), recordEvent)) {
+                if (!whenResults.matches(recordIndex, recordEvent)) {
                     continue;
                 }
 
@@ -20,7 +20,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.regex.Pattern;
 
 @DataPrepperPlugin(name = "select_entries", pluginType = Processor.class, pluginConfigurationType = SelectEntriesProcessorConfig.class)
@@ -50,10 +49,13 @@ public class SelectEntriesProcessor extends AbstractProcessor<Record<Event>, Rec
 
     @Override
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
+        final BatchConditionResults whenResults = BatchConditionResults.evaluate(expressionEvaluator, selectWhen, records);
+        int recordIndex = -1;
         for(final Record<Event> record : records) {
+            recordIndex++;
             final Event recordEvent = record.getData();
 
-            if (Objects.nonNull(selectWhen) && !expressionEvaluator.evaluateConditional(selectWhen, recordEvent)) {
+            if (!whenResults.matches(recordIndex, recordEvent)) {
                 continue;
             }
             // To handle nested case, just get the values and store
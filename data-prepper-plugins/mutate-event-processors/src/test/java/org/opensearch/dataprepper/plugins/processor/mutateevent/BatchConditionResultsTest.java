@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.mutateevent;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.expression.ExpressionParsingException;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchConditionResultsTest {
+    @Mock
+    private ExpressionEvaluator expressionEvaluator;
+
+    @Test
+    void matches_every_event_without_a_condition() {
+        final Event event = mock(Event.class);
+
+        final BatchConditionResults objectUnderTest = BatchConditionResults.evaluate(expressionEvaluator, null, List.of(new Record<>(event)));
+
+        assertThat(objectUnderTest.matches(0, event), is(true));
+        verifyNoInteractions(expressionEvaluator);
+    }
+
+    @Test
+    void matches_uses_the_batch_results() {
+        final String condition = UUID.randomUUID().toString();
+        final List<Record<Event>> records = List.of(new Record<>(mock(Event.class)), new Record<>(mock(Event.class)));
+        final BitSet matchingRecords = new BitSet();
+        matchingRecords.set(1);
+        when(expressionEvaluator.evaluateConditionalBatch(eq(condition), eq(records), any(BitSet.class))).thenReturn(matchingRecords);
+
+        final BatchConditionResults objectUnderTest = BatchConditionResults.evaluate(expressionEvaluator, condition, records);
+
+        assertThat(objectUnderTest.matches(0, records.get(0).getData()), is(false));
+        assertThat(objectUnderTest.matches(1, records.get(1).getData()), is(true));
+    }
+
+    @Test
+    void matches_evaluates_failed_events_again_so_that_the_failure_is_thrown() {
+        final String condition = UUID.randomUUID().toString();
+        final List<Record<Event>> records = List.of(new Record<>(mock(Event.class)), new Record<>(mock(Event.class)));
+        when(expressionEvaluator.evaluateConditionalBatch(eq(condition), eq(records), any(BitSet.class)))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(2, BitSet.class).set(0);
+                    return new BitSet();
+                });
+        when(expressionEvaluator.evaluateConditional(condition, records.get(0).getData())).thenThrow(ClassCastException.class);
+
+        final BatchConditionResults objectUnderTest = BatchConditionResults.evaluate(expressionEvaluator, condition, records);
+
+        assertThrows(ClassCastException.class, () -> objectUnderTest.matches(0, records.get(0).getData()));
+        assertThat(objectUnderTest.matches(1, records.get(1).getData()), is(false));
+    }
+
+    @Test
+    void matches_throws_the_parsing_failure_for_each_event_when_the_condition_does_not_parse() {
+        final String condition = UUID.randomUUID().toString();
+        final List<Record<Event>> records = List.of(new Record<>(mock(Event.class)), new Record<>(mock(Event.class)));
+        when(expressionEvaluator.evaluateConditionalBatch(eq(condition), eq(records), any(BitSet.class)))
+                .thenThrow(ExpressionParsingException.class);
+        when(expressionEvaluator.evaluateConditional(eq(condition), any(Event.class))).thenThrow(ExpressionParsingException.class);
+
+        final BatchConditionResults objectUnderTest = BatchConditionResults.evaluate(expressionEvaluator, condition, records);
+
+        assertThrows(ExpressionParsingException.class, () -> objectUnderTest.matches(0, records.get(0).getData()));
+        assertThrows(ExpressionParsingException.class, () -> objectUnderTest.matches(1, records.get(1).getData()));
+    }
+}
@@ -26,6 +26,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.math.BigDecimal;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -40,6 +41,8 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
@@ -354,7 +357,7 @@ public class ConvertEntryTypeProcessorTests {
         when(expressionEvaluator.isValidExpressionStatement(convertWhen)).thenReturn(true);
 
         final Record<Event> record = getMessage(UUID.randomUUID().toString(), testValue);
-        when(expressionEvaluator.evaluateConditional(convertWhen, record.getData())).thenReturn(false);
+        when(expressionEvaluator.evaluateConditionalBatch(eq(convertWhen), eq(Collections.singletonList(record)), any(BitSet.class))).thenReturn(new BitSet());
         typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
         Event event = executeAndGetProcessedEvent(record);
         assertThat(event.get(TEST_KEY, Integer.class), equalTo(testValue));
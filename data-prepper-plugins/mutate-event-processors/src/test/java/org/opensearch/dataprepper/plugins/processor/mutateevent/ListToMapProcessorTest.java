@@ -17,6 +17,7 @@ import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.record.Record;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -28,6 +29,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
@@ -346,7 +349,7 @@ class ListToMapProcessorTest {
         final ListToMapProcessor processor = createObjectUnderTest();
         final Record<Event> testRecord = createTestRecord();
 
-        when(expressionEvaluator.evaluateConditional(whenCondition, testRecord.getData())).thenReturn(false);
+        when(expressionEvaluator.evaluateConditionalBatch(eq(whenCondition), eq(Collections.singletonList(testRecord)), any(BitSet.class))).thenReturn(new BitSet());
         final List<Record<Event>> resultRecord = (List<Record<Event>>) processor.doExecute(Collections.singletonList(testRecord));
 
         assertThat(resultRecord.size(), is(1));
@@ -355,6 +358,32 @@ class ListToMapProcessorTest {
         assertThat(resultEvent.toMap(), equalTo(testRecord.getData().toMap()));
     }
 
+    @Test
+    public void testFailureTagsAreAdded_when_the_when_condition_cannot_be_evaluated() {
+        final String whenCondition = UUID.randomUUID().toString();
+        final List<String> testTags = List.of("tag1", "tag2");
+        when(mockConfig.getListToMapWhen()).thenReturn(whenCondition);
+        when(mockConfig.getTagsOnFailure()).thenReturn(testTags);
+        when(expressionEvaluator.isValidExpressionStatement(whenCondition)).thenReturn(true);
+
+        final ListToMapProcessor processor = createObjectUnderTest();
+        final Record<Event> testRecord = createTestRecord();
+
+        when(expressionEvaluator.evaluateConditionalBatch(eq(whenCondition), eq(Collections.singletonList(testRecord)), any(BitSet.class)))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(2, BitSet.class).set(0);
+                    return new BitSet();
+                });
+        when(expressionEvaluator.evaluateConditional(whenCondition, testRecord.getData())).thenThrow(ClassCastException.class);
+        final List<Record<Event>> resultRecord = (List<Record<Event>>) processor.doExecute(Collections.singletonList(testRecord));
+
+        assertThat(resultRecord.size(), is(1));
+
+        final Event resultEvent = resultRecord.get(0).getData();
+        assertThat(resultEvent.containsKey("a"), is(false));
+        assertThat(resultEvent.getMetadata().getTags(), is(new HashSet<>(testTags)));
+    }
+
     private ListToMapProcessor createObjectUnderTest() {
         return new ListToMapProcessor(pluginMetrics, mockConfig, expressionEvaluator);
     }
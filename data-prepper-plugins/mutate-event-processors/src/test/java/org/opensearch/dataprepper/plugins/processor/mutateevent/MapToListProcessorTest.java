@@ -19,6 +19,7 @@ import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -31,6 +32,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
@@ -331,7 +334,7 @@ class MapToListProcessorTest {
 
         final MapToListProcessor processor = createObjectUnderTest();
         final Record<Event> testRecord = createTestRecord();
-        when(expressionEvaluator.evaluateConditional(whenCondition, testRecord.getData())).thenReturn(false);
+        when(expressionEvaluator.evaluateConditionalBatch(eq(whenCondition), eq(Collections.singletonList(testRecord)), any(BitSet.class))).thenReturn(new BitSet());
         final List<Record<Event>> resultRecord = (List<Record<Event>>) processor.doExecute(Collections.singletonList(testRecord));
 
         assertThat(resultRecord.size(), is(1));
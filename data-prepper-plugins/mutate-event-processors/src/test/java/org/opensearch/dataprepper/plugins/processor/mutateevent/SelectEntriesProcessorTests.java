@@ -17,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -27,6 +28,8 @@ import java.util.regex.Pattern;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -106,7 +109,7 @@ public class SelectEntriesProcessorTests {
         final String value2 = UUID.randomUUID().toString();
         record.getData().put("key1", value1);
         record.getData().put("key2", value2);
-        when(expressionEvaluator.evaluateConditional(selectWhen, record.getData())).thenReturn(false);
+        when(expressionEvaluator.evaluateConditionalBatch(eq(selectWhen), eq(Collections.singletonList(record)), any(BitSet.class))).thenReturn(new BitSet());
         final List<Record<Event>> editedRecords = (List<Record<Event>>) processor.doExecute(Collections.singletonList(record));
         assertThat(editedRecords.get(0).getData().containsKey("key1"), is(true));
         assertThat(editedRecords.get(0).getData().containsKey("key2"), is(true));
@@ -116,6 +119,27 @@ public class SelectEntriesProcessorTests {
         assertThat(editedRecords.get(0).getData().get("key2", String.class), equalTo(value2));
     }
 
+    @Test
+    public void testSelectEntriesProcessorWithConditionOnlySelectsFromMatchingRecords() {
+        when(mockConfig.getIncludeKeys()).thenReturn(List.of("key1"));
+        final String selectWhen = "/message == \""+UUID.randomUUID().toString()+"\"";
+        when(expressionEvaluator.isValidExpressionStatement(selectWhen)).thenReturn(true);
+        when(mockConfig.getSelectWhen()).thenReturn(selectWhen);
+        final SelectEntriesProcessor processor = createObjectUnderTest();
+        final List<Record<Event>> records = List.of(getEvent("first"), getEvent("second"));
+        for (final Record<Event> record : records) {
+            record.getData().put("key1", UUID.randomUUID().toString());
+        }
+        final BitSet matchingRecords = new BitSet();
+        matchingRecords.set(1);
+        when(expressionEvaluator.evaluateConditionalBatch(eq(selectWhen), eq(records), any(BitSet.class))).thenReturn(matchingRecords);
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) processor.doExecute(records);
+        assertThat(editedRecords.get(0).getData().containsKey("message"), is(true));
+        assertThat(editedRecords.get(0).getData().containsKey("key1"), is(true));
+        assertThat(editedRecords.get(1).getData().containsKey("message"), is(false));
+        assertThat(editedRecords.get(1).getData().containsKey("key1"), is(true));
+    }
+
     @Test
     public void testNestedSelectEntriesProcessor() {
         when(mockConfig.getIncludeKeys()).thenReturn(List.of("nested/key1", "nested/nested2/key2"));
@@ -52,6 +52,11 @@ public class NewlineDelimitedInputCodec implements InputCodec {
         }
     }
 
+    @Override
+    public boolean isSplittableOnLines() {
+        return skipLines == 0 && headerDestination == null;
+    }
+
     private void parseBufferedReader(final BufferedReader reader, final Consumer<Record<Event>> eventConsumer) throws IOException {
         final boolean doAddHeaderToOutgoingEvents = Objects.nonNull(headerDestination);
         boolean hasReadHeader = false;
@@ -283,6 +283,25 @@ class NewlineDelimitedInputCodecTest {
         return stringWriter.toString();
     }
 
+    @Test
+    void isSplittableOnLines_returns_true_without_skipped_lines_or_header() {
+        assertThat(createObjectUnderTest().isSplittableOnLines(), equalTo(true));
+    }
+
+    @Test
+    void isSplittableOnLines_returns_false_when_skipping_lines() {
+        when(config.getSkipLines()).thenReturn(1);
+
+        assertThat(createObjectUnderTest().isSplittableOnLines(), equalTo(false));
+    }
+
+    @Test
+    void isSplittableOnLines_returns_false_with_header_destination() {
+        when(config.getHeaderDestination()).thenReturn(UUID.randomUUID().toString());
+
+        assertThat(createObjectUnderTest().isSplittableOnLines(), equalTo(false));
+    }
+
     private void reflectivelySetField(final NewlineDelimitedInputConfig newlineDelimitedInputConfig, final String fieldName, final Object value)
             throws NoSuchFieldException, IllegalAccessException {
         final Field field = NewlineDelimitedInputConfig.class.getDeclaredField(fieldName);
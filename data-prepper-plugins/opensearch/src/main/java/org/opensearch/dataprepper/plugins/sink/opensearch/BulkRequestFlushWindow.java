@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs bulk request flushes in the background with a bounded number of requests in flight. Submitting a flush blocks
+ * the calling thread while the window is full, which applies backpressure to the pipeline workers, and otherwise
+ * returns immediately so that the worker can continue building the next bulk request.
+ * <p>
+ * Each worker has at most one flush in flight. Submitting a flush first waits for the previous flush of the same
+ * worker, so the bulk requests of a worker reach OpenSearch in the order they were built and an update or delete of a
+ * document cannot overtake an earlier index of it.
+ */
+class BulkRequestFlushWindow {
+    private static final Logger LOG = LoggerFactory.getLogger(BulkRequestFlushWindow.class);
+    static final String BULK_REQUESTS_IN_FLIGHT = "bulkRequestsInFlight";
+    static final String BULK_REQUEST_WINDOW_WAIT_TIME = "bulkRequestWindowWaitTime";
+
+    private final int maxInFlightRequests;
+    private final Semaphore windowSlots;
+    private final AtomicInteger requestsInFlight;
+    private final Timer windowWaitTimer;
+    private final ExecutorService executorService;
+    private final Map<Long, Future<?>> lastFlushes;
+
+    BulkRequestFlushWindow(final int maxInFlightRequests, final PluginMetrics pluginMetrics) {
+        this(maxInFlightRequests, pluginMetrics,
+                Executors.newFixedThreadPool(maxInFlightRequests, BackgroundThreadFactory.defaultExecutorThreadFactory("opensearch-sink-bulk-flush")));
+    }
+
+    BulkRequestFlushWindow(final int maxInFlightRequests, final PluginMetrics pluginMetrics, final ExecutorService executorService) {
+        if (maxInFlightRequests <= 0) {
+            throw new IllegalArgumentException("maxInFlightRequests must be greater than 0");
+        }
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.windowSlots = new Semaphore(maxInFlightRequests);
+        this.requestsInFlight = new AtomicInteger();
+        pluginMetrics.gauge(BULK_REQUESTS_IN_FLIGHT, requestsInFlight, AtomicInteger::get);
+        this.windowWaitTimer = pluginMetrics.timer(BULK_REQUEST_WINDOW_WAIT_TIME);
+        this.executorService = executorService;
+        this.lastFlushes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Waits for the previous flush of the worker and for a free slot in the window, and then runs the flush in the
+     * background. Once the window has been shut down, the flush runs on the calling thread instead.
+     *
+     * @param workerId identifies the worker submitting the flush
+     * @param flush the flush of a complete bulk request
+     * @throws InterruptedException if interrupted while waiting, in which case the flush is not run
+     */
+    void submit(final long workerId, final Runnable flush) throws InterruptedException {
+        final long waitStart = System.nanoTime();
+        awaitFlush(lastFlushes.remove(workerId));
+        if (executorService.isShutdown()) {
+            flush.run();
+            return;
+        }
+        windowSlots.acquire();
+        windowWaitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+
+        requestsInFlight.incrementAndGet();
+        final Future<?> future;
+        try {
+            future = executorService.submit(() -> {
+                try {
+                    flush.run();
+                } catch (final Exception e) {
+                    LOG.error("Unexpected exception while flushing a bulk request.", e);
+                } finally {
+                    requestsInFlight.decrementAndGet();
+                    windowSlots.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            requestsInFlight.decrementAndGet();
+            windowSlots.release();
+            LOG.debug("The bulk request flush window has been shut down. Flushing on the current thread.");
+            flush.run();
+            return;
+        }
+        lastFlushes.put(workerId, future);
+    }
+
+    /**
+     * Submits the flush like {@link #submit(long, Runnable)} and then waits for it to complete, so that the caller does
+     * not return while the bulk request is still in flight. The flush still takes a slot of the window and keeps the
+     * order of the bulk requests of the worker.
+     *
+     * @param workerId identifies the worker submitting the flush
+     * @param flush the flush of a complete bulk request
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void submitAndWait(final long workerId, final Runnable flush) throws InterruptedException {
+        submit(workerId, flush);
+        awaitFlush(lastFlushes.remove(workerId));
+    }
+
+    int getRequestsInFlight() {
+        return requestsInFlight.get();
+    }
+
+    /**
+     * Stops accepting flushes and waits for the flushes in flight to complete.
+     *
+     * @param timeout the maximum time to wait for the flushes in flight
+     */
+    void shutdown(final Duration timeout) {
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOG.warn("{} of at most {} bulk requests were still in flight after waiting {}.",
+                        requestsInFlight.get(), maxInFlightRequests, timeout);
+                cancelQueuedFlushes();
+            }
+        } catch (final InterruptedException e) {
+            cancelQueuedFlushes();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops the flushes in flight and cancels the queued ones, so that no worker waits on a flush which never runs.
+     */
+    private void cancelQueuedFlushes() {
+        for (final Runnable queuedFlush : executorService.shutdownNow()) {
+            if (queuedFlush instanceof Future) {
+                ((Future<?>) queuedFlush).cancel(false);
+            }
+        }
+    }
+
+    private static void awaitFlush(final Future<?> flush) throws InterruptedException {
+        if (flush == null) {
+            return;
+        }
+        try {
+            flush.get();
+        } catch (final CancellationException e) {
+            LOG.debug("The previous bulk request flush was cancelled during shutdown.");
+        } catch (final ExecutionException e) {
+            LOG.error("Unexpected exception while flushing a bulk request.", e.getCause());
+        }
+    }
+}
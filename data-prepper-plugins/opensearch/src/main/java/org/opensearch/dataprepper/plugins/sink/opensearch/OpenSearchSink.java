@@ -32,6 +32,8 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor
 import org.opensearch.dataprepper.model.configuration.PipelineDescription;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.InternalEventHandle;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 import org.opensearch.dataprepper.model.failures.DlqObject;
 import org.opensearch.dataprepper.model.opensearch.OpenSearchBulkActions;
@@ -78,6 +80,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -109,6 +112,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
 
   private static final Logger LOG = LoggerFactory.getLogger(OpenSearchSink.class);
   private static final int INITIALIZE_RETRY_WAIT_TIME_MS = 5000;
+  private static final Duration BULK_REQUEST_FLUSH_WINDOW_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
   private final AwsCredentialsSupplier awsCredentialsSupplier;
 
   private DlqWriter dlqWriter;
@@ -120,6 +124,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   private Supplier<AccumulatingBulkRequest> bulkRequestSupplier;
   private BulkRetryStrategy bulkRetryStrategy;
   private BulkApiWrapper bulkApiWrapper;
+  private BulkRequestFlushWindow bulkRequestFlushWindow;
   private final long bulkSize;
   private final long flushTimeout;
   private final IndexType indexType;
@@ -306,6 +311,11 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
       queryExecutorService.submit(existingDocumentQueryManager);
     }
 
+    final int maxInFlightBulkRequests = openSearchSinkConfig.getIndexConfiguration().getMaxInFlightBulkRequests();
+    if (maxInFlightBulkRequests > 0) {
+      bulkRequestFlushWindow = new BulkRequestFlushWindow(maxInFlightBulkRequests, pluginMetrics);
+    }
+
     this.initialized = true;
     LOG.info("Initialized OpenSearch sink");
   }
@@ -563,6 +573,38 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   }
 
   private void flushBatch(AccumulatingBulkRequest accumulatingBulkRequest) {
+    if (bulkRequestFlushWindow != null) {
+      try {
+        final Runnable flush = () -> executeBulkRequest(accumulatingBulkRequest);
+        if (hasOperationsWithoutAcknowledgements(accumulatingBulkRequest)) {
+          bulkRequestFlushWindow.submitAndWait(Thread.currentThread().getId(), flush);
+        } else {
+          bulkRequestFlushWindow.submit(Thread.currentThread().getId(), flush);
+        }
+        return;
+      } catch (final InterruptedException e) {
+        LOG.warn("Interrupted while waiting to flush a bulk request in the background. Flushing it on the current thread.");
+        Thread.currentThread().interrupt();
+      }
+    }
+    executeBulkRequest(accumulatingBulkRequest);
+  }
+
+  /**
+   * The buffer checkpoints records without an acknowledgement set as soon as {@link #doOutput} returns, so their bulk
+   * request has to complete before the worker returns.
+   */
+  private static boolean hasOperationsWithoutAcknowledgements(final AccumulatingBulkRequest accumulatingBulkRequest) {
+    for (final Object operation : accumulatingBulkRequest.getOperations()) {
+      final EventHandle eventHandle = ((BulkOperationWrapper) operation).getEventHandle();
+      if (!(eventHandle instanceof InternalEventHandle) || !((InternalEventHandle) eventHandle).hasAcknowledgementSet()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void executeBulkRequest(final AccumulatingBulkRequest accumulatingBulkRequest) {
     bulkRequestTimer.record(() -> {
       try {
         LOG.debug("Sending data to OpenSearch");
@@ -671,6 +713,9 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   @Override
   public void shutdown() {
     super.shutdown();
+    if (bulkRequestFlushWindow != null) {
+      bulkRequestFlushWindow.shutdown(BULK_REQUEST_FLUSH_WINDOW_SHUTDOWN_TIMEOUT);
+    }
     closeFiles();
     openSearchClient.shutdown();
     if (queryExecutorService != null && existingDocumentQueryManager != null) {
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import java.util.zip.Deflater;
+
+/**
+ * Estimates the gzip compressed size of a sequence of newline-delimited documents. Each document is streamed once
+ * into a single {@link Deflater}, so the cost of an estimate is proportional to the documents added since the
+ * previous estimate rather than to all documents added so far.
+ * <p>
+ * Instances are not thread-safe.
+ */
+class CompressedSizeEstimator {
+    /**
+     * The 10 byte gzip header plus the 8 byte CRC-32 and size trailer wrapped around the deflate stream.
+     */
+    static final int GZIP_HEADER_AND_TRAILER_LENGTH = 18;
+    private static final byte[] DOCUMENT_SEPARATOR = {'\n'};
+    private static final int OUTPUT_BUFFER_SIZE = 8192;
+
+    private final Deflater deflater;
+    private final byte[] outputBuffer;
+    private long compressedBytes;
+    private boolean ended;
+
+    CompressedSizeEstimator() {
+        deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        outputBuffer = new byte[OUTPUT_BUFFER_SIZE];
+    }
+
+    /**
+     * Adds a document, followed by a newline, to the compressed stream.
+     *
+     * @param document the serialized document, or null to add only the newline
+     */
+    void addDocument(final byte[] document) {
+        if (ended) {
+            throw new IllegalStateException("Cannot add documents after the estimator has ended.");
+        }
+        if (document != null) {
+            compress(document);
+        }
+        compress(DOCUMENT_SEPARATOR);
+    }
+
+    /**
+     * Flushes the documents added so far and returns the compressed size of the stream, including the gzip header
+     * and trailer.
+     *
+     * @return the estimated gzip compressed size in bytes
+     */
+    long getCompressedSize() {
+        if (!ended) {
+            int compressedLength;
+            do {
+                compressedLength = deflater.deflate(outputBuffer, 0, outputBuffer.length, Deflater.SYNC_FLUSH);
+                compressedBytes += compressedLength;
+            } while (compressedLength == outputBuffer.length);
+        }
+        return compressedBytes + GZIP_HEADER_AND_TRAILER_LENGTH;
+    }
+
+    /**
+     * Releases the native resources of the {@link Deflater}. {@link #getCompressedSize()} keeps returning the last
+     * compressed size after this is called.
+     */
+    void end() {
+        if (!ended) {
+            getCompressedSize();
+            deflater.end();
+            ended = true;
+        }
+    }
+
+    private void compress(final byte[] input) {
+        deflater.setInput(input);
+        while (!deflater.needsInput()) {
+            compressedBytes += deflater.deflate(outputBuffer, 0, outputBuffer.length, Deflater.NO_FLUSH);
+        }
+    }
+}
@@ -11,14 +11,9 @@ import org.opensearch.client.opensearch.core.BulkRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
-import java.io.ObjectOutputStream;
-import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.zip.GZIPOutputStream;
 
 public class JavaClientAccumulatingCompressedBulkRequest implements AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> {
     private static final Logger LOG = LoggerFactory.getLogger(JavaClientAccumulatingCompressedBulkRequest.class);
@@ -33,6 +28,9 @@ public class JavaClientAccumulatingCompressedBulkRequest implements Accumulating
     private int operationCount = 0;
     private int timesSampled = 0;
     private BulkRequest builtRequest;
+    private CompressedSizeEstimator compressedSizeEstimator;
+    private boolean compressedSizeEstimatorEnded = false;
+    private int operationsEstimated = 0;
 
     public JavaClientAccumulatingCompressedBulkRequest(final BulkRequest.Builder bulkRequestBuilder, final long targetBulkSize,
                                                        final int maxLocalCompressionsForEstimation) {
@@ -71,6 +69,9 @@ public class JavaClientAccumulatingCompressedBulkRequest implements Accumulating
             sampledOperationSize = (double) currentBulkSize / (double) bulkOperations.size();
             updateTargetSampleSize();
             timesSampled++;
+            if (timesSampled == maxLocalCompressionsForEstimation) {
+                endCompressedSizeEstimator();
+            }
         } else {
             currentBulkSize += sampledOperationSize;
         }
@@ -86,6 +87,7 @@ public class JavaClientAccumulatingCompressedBulkRequest implements Accumulating
         if (currentBulkSize == 0) {
             currentBulkSize = estimateBulkSize();
         }
+        endCompressedSizeEstimator();
 
         return currentBulkSize;
     }
@@ -102,41 +104,64 @@ public class JavaClientAccumulatingCompressedBulkRequest implements Accumulating
 
     @Override
     public BulkRequest getRequest() {
-        if(builtRequest == null)
+        if(builtRequest == null) {
             builtRequest = bulkRequestBuilder.build();
+            endCompressedSizeEstimator();
+        }
         return builtRequest;
     }
 
+    /**
+     * Streams the documents added since the previous estimate into the compressed size estimator, so that each
+     * document is compressed at most once per request. The estimator is created on the first estimate. Once it has
+     * ended, an estimate compresses all documents with a short-lived estimator instead.
+     */
     private long estimateBulkSize() {
-        final List<Object> documents = bulkOperations.stream()
-                .map(this::mapBulkOperationToDocument)
-                .collect(Collectors.toList());
-
-        try {
-            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            final GZIPOutputStream gzipOut = new GZIPOutputStream(baos);
-            final ObjectOutputStream objectOut = new ObjectOutputStream(gzipOut);
-            objectOut.writeObject(documents);
-            objectOut.close();
-
-            return baos.toByteArray().length;
-        } catch (final Exception e) {
-            throw new RuntimeException("Caught exception measuring compressed bulk request size.", e);
+        if (compressedSizeEstimatorEnded) {
+            final CompressedSizeEstimator estimator = new CompressedSizeEstimator();
+            try {
+                for (final BulkOperationWrapper bulkOperation : bulkOperations) {
+                    estimator.addDocument(getSerializedDocument(bulkOperation));
+                }
+                return estimator.getCompressedSize();
+            } finally {
+                estimator.end();
+            }
+        }
+
+        if (compressedSizeEstimator == null) {
+            compressedSizeEstimator = new CompressedSizeEstimator();
+        }
+        for (; operationsEstimated < bulkOperations.size(); operationsEstimated++) {
+            compressedSizeEstimator.addDocument(getSerializedDocument(bulkOperations.get(operationsEstimated)));
+        }
+        return compressedSizeEstimator.getCompressedSize();
+    }
+
+    /**
+     * Releases the native memory of the compressed size estimator. This is called once sampling is done or the
+     * request is built, rather than leaving the {@link java.util.zip.Deflater} to be cleaned up by the garbage collector.
+     */
+    private void endCompressedSizeEstimator() {
+        if (compressedSizeEstimator != null) {
+            compressedSizeEstimator.end();
+            compressedSizeEstimator = null;
         }
+        compressedSizeEstimatorEnded = true;
     }
 
-    private Object mapBulkOperationToDocument(final BulkOperationWrapper bulkOperation) {
+    private byte[] getSerializedDocument(final BulkOperationWrapper bulkOperation) {
         final Object anyDocument = bulkOperation.getDocument();
 
         if (anyDocument == null) {
-            return new SerializedJsonImpl(null);
+            return null;
         }
 
-        if (!(anyDocument instanceof Serializable)) {
-            throw new IllegalArgumentException("Only classes implementing Serializable are permitted for accumulating bulk requests. " + bulkOperation);
+        if (!(anyDocument instanceof SerializedJson)) {
+            throw new IllegalArgumentException("Only SerializedJson documents are permitted for accumulating compressed bulk requests. " + bulkOperation);
         }
 
-        return anyDocument;
+        return ((SerializedJson) anyDocument).getSerializedJson();
     }
 
     private void updateTargetSampleSize() {
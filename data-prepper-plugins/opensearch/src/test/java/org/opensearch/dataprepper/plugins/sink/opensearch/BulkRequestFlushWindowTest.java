@@ -0,0 +1,305 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkRequestFlushWindowTest {
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Timer windowWaitTimer;
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private BulkRequestFlushWindow createObjectUnderTest(final int maxInFlightRequests) {
+        when(pluginMetrics.timer(BulkRequestFlushWindow.BULK_REQUEST_WINDOW_WAIT_TIME)).thenReturn(windowWaitTimer);
+        return new BulkRequestFlushWindow(maxInFlightRequests, pluginMetrics, executorService);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_when_max_in_flight_requests_is_not_positive(final int maxInFlightRequests) {
+        assertThrows(IllegalArgumentException.class, () -> new BulkRequestFlushWindow(maxInFlightRequests, pluginMetrics, executorService));
+    }
+
+    @Test
+    void constructor_registers_in_flight_gauge() {
+        createObjectUnderTest(2);
+
+        verify(pluginMetrics).gauge(eq(BulkRequestFlushWindow.BULK_REQUESTS_IN_FLIGHT), any(AtomicInteger.class), any());
+    }
+
+    @Test
+    void submit_runs_flush_in_background_and_records_wait_time() throws InterruptedException {
+        final BulkRequestFlushWindow objectUnderTest = createObjectUnderTest(2);
+        final CountDownLatch flushed = new CountDownLatch(1);
+
+        objectUnderTest.submit(1, flushed::countDown);
+
+        assertThat(flushed.await(5, TimeUnit.SECONDS), equalTo(true));
+        verify(windowWaitTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(objectUnderTest.getRequestsInFlight(), equalTo(0)));
+    }
+
+    @Test
+    void submit_blocks_while_window_is_full() throws InterruptedException {
+        final BulkRequestFlushWindow objectUnderTest = createObjectUnderTest(2);
+        final CountDownLatch releaseFlushes = new CountDownLatch(1);
+        final Runnable blockedFlush = () -> {
+            try {
+                releaseFlushes.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        objectUnderTest.submit(1, blockedFlush);
+        objectUnderTest.submit(2, blockedFlush);
+        assertThat(objectUnderTest.getRequestsInFlight(), equalTo(2));
+
+        final AtomicBoolean thirdSubmitted = new AtomicBoolean(false);
+        final Thread submitter = new Thread(() -> {
+            try {
+                objectUnderTest.submit(3, () -> { });
+                thirdSubmitted.set(true);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        submitter.start();
+
+        submitter.join(200);
+        assertThat(thirdSubmitted.get(), equalTo(false));
+
+        releaseFlushes.countDown();
+        submitter.join(5000);
+        assertThat(thirdSubmitted.get(), equalTo(true));
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(objectUnderTest.getRequestsInFlight(), equalTo(0)));
+    }
+
+    @Test
+    void submit_releases_slot_when_flush_throws() throws InterruptedException {
+        final BulkRequestFlushWindow objectUnderTest = createObjectUnderTest(1);
+
+        objectUnderTest.submit(1, () -> {
+            throw new RuntimeException("flush failed");
+        });
+
+        final CountDownLatch flushed = new CountDownLatch(1);
+        objectUnderTest.submit(2, flushed::countDown);
+
+        assertThat(flushed.await(5, TimeUnit.SECONDS), equalTo(true));
+    }
+
+    @Test
+    void submit_releases_slot_and_flushes_on_calling_thread_when_executor_rejects() throws InterruptedException {
+        final ExecutorService rejectingExecutorService = mock(ExecutorService.class);
+        doThrow(RejectedExecutionException.class).when(rejectingExecutorService).submit(any(Runnable.class));
+        when(pluginMetrics.timer(BulkRequestFlushWindow.BULK_REQUEST_WINDOW_WAIT_TIME)).thenReturn(windowWaitTimer);
+        final BulkRequestFlushWindow objectUnderTest = new BulkRequestFlushWindow(1, pluginMetrics, rejectingExecutorService);
+        final AtomicInteger flushes = new AtomicInteger();
+
+        objectUnderTest.submit(1, flushes::incrementAndGet);
+        objectUnderTest.submit(1, flushes::incrementAndGet);
+
+        assertThat(flushes.get(), equalTo(2));
+        assertThat(objectUnderTest.getRequestsInFlight(), equalTo(0));
+    }
+
+    @Test
+    void submit_waits_for_the_previous_flush_of_the_same_worker() throws InterruptedException {
+        final BulkRequestFlushWindow objectUnderTest = createObjectUnderTest(4);
+        final CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+        final AtomicBoolean firstFlushCompleted = new AtomicBoolean(false);
+        final AtomicBoolean secondFlushStartedAfterFirst = new AtomicBoolean(false);
+        final CountDownLatch secondFlushed = new CountDownLatch(1);
+
+        objectUnderTest.submit(1, () -> {
+            try {
+                releaseFirstFlush.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            firstFlushCompleted.set(true);
+        });
+
+        final AtomicBoolean secondSubmitted = new AtomicBoolean(false);
+        final Thread submitter = new Thread(() -> {
+            try {
+                objectUnderTest.submit(1, () -> {
+                    secondFlushStartedAfterFirst.set(firstFlushCompleted.get());
+                    secondFlushed.countDown();
+                });
+                secondSubmitted.set(true);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        submitter.start();
+
+        submitter.join(200);
+        assertThat(secondSubmitted.get(), equalTo(false));
+
+        releaseFirstFlush.countDown();
+        assertThat(secondFlushed.await(5, TimeUnit.SECONDS), equalTo(true));
+        assertThat(secondFlushStartedAfterFirst.get(), equalTo(true));
+    }
+
+    @Test
+    void submit_does_not_wait_for_the_flushes_of_other_workers() throws InterruptedException {
+        final BulkRequestFlushWindow objectUnderTest = createObjectUnderTest(2);
+        final CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+        final CountDownLatch secondFlushed = new CountDownLatch(1);
+
+        objectUnderTest.submit(1, () -> {
+            try {
+                releaseFirstFlush.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        objectUnderTest.submit(2, secondFlushed::countDown);
+
+        assertThat(secondFlushed.await(5, TimeUnit.SECONDS), equalTo(true));
+        releaseFirstFlush.countDown();
+    }
+
+    @Test
+    void submitAndWait_does_not_return_until_a_failing_flush_completes() throws InterruptedException {
+        final BulkRequestFlushWindow objectUnderTest = createObjectUnderTest(2);
+        final CountDownLatch releaseFlush = new CountDownLatch(1);
+        final AtomicBoolean flushFailed = new AtomicBoolean(false);
+
+        final AtomicBoolean returned = new AtomicBoolean(false);
+        final Thread worker = new Thread(() -> {
+            try {
+                objectUnderTest.submitAndWait(1, () -> {
+                    try {
+                        releaseFlush.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    flushFailed.set(true);
+                    throw new RuntimeException("flush failed");
+                });
+                returned.set(true);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        worker.start();
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(objectUnderTest.getRequestsInFlight(), equalTo(1)));
+        worker.join(200);
+        assertThat(returned.get(), equalTo(false));
+
+        releaseFlush.countDown();
+        worker.join(5000);
+        assertThat(flushFailed.get(), equalTo(true));
+        assertThat(returned.get(), equalTo(true));
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(objectUnderTest.getRequestsInFlight(), equalTo(0)));
+    }
+
+    @Test
+    void submitAndWait_waits_for_the_previous_flush_of_the_same_worker() throws InterruptedException {
+        final BulkRequestFlushWindow objectUnderTest = createObjectUnderTest(2);
+        final CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+        final AtomicBoolean firstFlushed = new AtomicBoolean(false);
+        final AtomicBoolean firstFlushedBeforeSecond = new AtomicBoolean(false);
+        final AtomicBoolean secondFlushed = new AtomicBoolean(false);
+
+        objectUnderTest.submit(1, () -> {
+            try {
+                releaseFirstFlush.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            firstFlushed.set(true);
+        });
+        releaseFirstFlush.countDown();
+        objectUnderTest.submitAndWait(1, () -> {
+            firstFlushedBeforeSecond.set(firstFlushed.get());
+            secondFlushed.set(true);
+        });
+
+        assertThat(secondFlushed.get(), equalTo(true));
+        assertThat(firstFlushedBeforeSecond.get(), equalTo(true));
+    }
+
+    @Test
+    void submit_after_shutdown_flushes_on_calling_thread() throws InterruptedException {
+        final BulkRequestFlushWindow objectUnderTest = createObjectUnderTest(1);
+        objectUnderTest.shutdown(Duration.ofSeconds(5));
+        final Thread callingThread = Thread.currentThread();
+        final AtomicBoolean flushedOnCallingThread = new AtomicBoolean(false);
+
+        objectUnderTest.submit(1, () -> flushedOnCallingThread.set(Thread.currentThread() == callingThread));
+
+        assertThat(flushedOnCallingThread.get(), equalTo(true));
+    }
+
+    @Test
+    void shutdown_waits_for_flushes_in_flight() throws InterruptedException {
+        final BulkRequestFlushWindow objectUnderTest = createObjectUnderTest(2);
+        final AtomicBoolean flushCompleted = new AtomicBoolean(false);
+
+        objectUnderTest.submit(1, () -> {
+            try {
+                Thread.sleep(100);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flushCompleted.set(true);
+        });
+        objectUnderTest.shutdown(Duration.ofSeconds(5));
+
+        assertThat(flushCompleted.get(), equalTo(true));
+        assertThat(executorService.isTerminated(), equalTo(true));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompressedSizeEstimatorTest {
+
+    @Test
+    void getCompressedSize_without_documents_returns_gzip_overhead_of_empty_stream() {
+        final CompressedSizeEstimator objectUnderTest = new CompressedSizeEstimator();
+
+        assertThat(objectUnderTest.getCompressedSize(), greaterThan((long) CompressedSizeEstimator.GZIP_HEADER_AND_TRAILER_LENGTH - 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100, 5000})
+    void getCompressedSize_is_close_to_gzip_size_of_newline_delimited_documents(final int documentCount) throws IOException {
+        final CompressedSizeEstimator objectUnderTest = new CompressedSizeEstimator();
+        final List<byte[]> documents = new ArrayList<>();
+        for (int i = 0; i < documentCount; i++) {
+            final byte[] document = ("{\"message\":\"" + RandomStringUtils.randomAlphabetic(20) + "\",\"status\":" + (i % 5) + "}")
+                    .getBytes(StandardCharsets.UTF_8);
+            documents.add(document);
+            objectUnderTest.addDocument(document);
+        }
+
+        final long gzipSize = gzipSize(documents);
+        assertThat((double) objectUnderTest.getCompressedSize(), closeTo(gzipSize, Math.max(16, gzipSize * 0.05)));
+    }
+
+    @Test
+    void getCompressedSize_grows_as_documents_are_added_between_estimates() {
+        final CompressedSizeEstimator objectUnderTest = new CompressedSizeEstimator();
+        objectUnderTest.addDocument(RandomStringUtils.randomAlphanumeric(1000).getBytes(StandardCharsets.UTF_8));
+        final long firstSize = objectUnderTest.getCompressedSize();
+
+        objectUnderTest.addDocument(RandomStringUtils.randomAlphanumeric(1000).getBytes(StandardCharsets.UTF_8));
+
+        assertThat(objectUnderTest.getCompressedSize(), greaterThan(firstSize + 500));
+    }
+
+    @Test
+    void addDocument_with_null_document_adds_only_separator() {
+        final CompressedSizeEstimator objectUnderTest = new CompressedSizeEstimator();
+        objectUnderTest.addDocument(null);
+
+        assertThat(objectUnderTest.getCompressedSize(), greaterThan((long) CompressedSizeEstimator.GZIP_HEADER_AND_TRAILER_LENGTH));
+    }
+
+    @Test
+    void end_keeps_last_compressed_size_and_rejects_further_documents() {
+        final CompressedSizeEstimator objectUnderTest = new CompressedSizeEstimator();
+        objectUnderTest.addDocument(RandomStringUtils.randomAlphanumeric(100).getBytes(StandardCharsets.UTF_8));
+        final long compressedSize = objectUnderTest.getCompressedSize();
+
+        objectUnderTest.end();
+        objectUnderTest.end();
+
+        assertThat(objectUnderTest.getCompressedSize(), equalTo(compressedSize));
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.addDocument(new byte[] {'a'}));
+    }
+
+    private static long gzipSize(final List<byte[]> documents) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            for (final byte[] document : documents) {
+                gzipOutputStream.write(document);
+                gzipOutputStream.write('\n');
+            }
+        }
+        return byteArrayOutputStream.size();
+    }
+}
@@ -15,12 +15,9 @@ import org.opensearch.client.opensearch.core.bulk.BulkOperation;
 import org.opensearch.client.opensearch.core.bulk.IndexOperation;
 import org.opensearch.dataprepper.plugins.sink.opensearch.BulkOperationWrapper;
 
-import java.io.ByteArrayOutputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.sameInstance;
@@ -83,7 +80,7 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
 
     @ParameterizedTest
     @ValueSource(ints = {1, 2, 3, 10})
-    void getEstimatedSizeInBytes_returns_the_current_size(final int operationCount) throws Exception {
+    void getEstimatedSizeInBytes_returns_the_current_size(final int operationCount) {
         final JavaClientAccumulatingCompressedBulkRequest objectUnderTest = createObjectUnderTest();
         final long arbitraryDocumentSize = 175;
         long expectedDocumentSize = 0;
@@ -102,7 +99,7 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
 
     @ParameterizedTest
     @ValueSource(ints = {1, 2, 3, 10})
-    void getEstimatedSizeInBytes_returns_the_operation_overhead_if_requests_have_no_documents(final int operationCount) throws Exception {
+    void getEstimatedSizeInBytes_returns_the_operation_overhead_if_requests_have_no_documents(final int operationCount) {
         final JavaClientAccumulatingCompressedBulkRequest objectUnderTest = createObjectUnderTest();
         final SizedDocument emptyDocument = generateDocumentWithLength(0);
         final long expectedDocumentSize = getDocumentExpectedLength(emptyDocument);
@@ -133,7 +130,7 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
 
     @ParameterizedTest
     @ValueSource(longs = {0, 1, 2, 10, 50, 100})
-    void estimateSizeInBytesWithDocument_on_new_object_returns_estimated_document_size(long inputDocumentSize) throws Exception {
+    void estimateSizeInBytesWithDocument_on_new_object_returns_estimated_document_size(long inputDocumentSize) {
         final SizedDocument document = generateDocumentWithLength(inputDocumentSize);
         final long expectedDocumentSize = getDocumentExpectedLength(document);
         final BulkOperationWrapper bulkOperation = new BulkOperationWrapper(createBulkOperation(document));
@@ -173,7 +170,7 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
     }
 
     @Test
-    void addOperation_throws_when_document_is_not_Serializable() {
+    void addOperation_throws_when_document_is_not_SerializedJson() {
         final BulkOperationWrapper bulkOperation = new BulkOperationWrapper(createBulkOperation(new Object()));
 
         final JavaClientAccumulatingCompressedBulkRequest objectUnderTest = createObjectUnderTest();
@@ -211,6 +208,27 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
         verify(bulkRequestBuilder, times(1)).build();
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void getEstimatedSizeInBytes_after_getRequest_estimates_all_documents(final int maxLocalCompressionsForEstimation) {
+        when(bulkRequestBuilder.build()).thenReturn(mock(BulkRequest.class));
+        final JavaClientAccumulatingCompressedBulkRequest objectUnderTest =
+                new JavaClientAccumulatingCompressedBulkRequest(bulkRequestBuilder, 5 * 1024 * 1024, maxLocalCompressionsForEstimation, 100);
+        final CompressedSizeEstimator compressedSizeEstimator = new CompressedSizeEstimator();
+        for (int i = 0; i < 5; i++) {
+            final SizedDocument document = generateDocumentWithLength(175);
+            compressedSizeEstimator.addDocument(((SerializedJson) document).getSerializedJson());
+            objectUnderTest.addOperation(new BulkOperationWrapper(createBulkOperation(document)));
+        }
+        final long expectedSize = compressedSizeEstimator.getCompressedSize();
+        compressedSizeEstimator.end();
+
+        objectUnderTest.getRequest();
+
+        assertThat(objectUnderTest.getEstimatedSizeInBytes(), equalTo(expectedSize));
+        assertThat(objectUnderTest.getEstimatedSizeInBytes(), equalTo(expectedSize));
+    }
+
     private BulkOperation createBulkOperation(Object document) {
         final IndexOperation indexOperation = mock(IndexOperation.class);
         when(indexOperation.document()).thenReturn(document);
@@ -232,16 +250,11 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
         return new SerializedJsonImpl(documentBytes);
     }
 
-    private long getDocumentExpectedLength(final SizedDocument sizedDocument) throws Exception {
-        final List<Object> docList = new ArrayList<>();
-        docList.add(sizedDocument);
-
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        final GZIPOutputStream gzipOut = new GZIPOutputStream(baos);
-        final ObjectOutputStream objectOut = new ObjectOutputStream(gzipOut);
-        objectOut.writeObject(docList);
-        objectOut.close();
-
-        return baos.toByteArray().length;
+    private long getDocumentExpectedLength(final SizedDocument sizedDocument) {
+        final CompressedSizeEstimator compressedSizeEstimator = new CompressedSizeEstimator();
+        compressedSizeEstimator.addDocument(((SerializedJson) sizedDocument).getSerializedJson());
+        final long expectedLength = compressedSizeEstimator.getCompressedSize();
+        compressedSizeEstimator.end();
+        return expectedLength;
     }
 }
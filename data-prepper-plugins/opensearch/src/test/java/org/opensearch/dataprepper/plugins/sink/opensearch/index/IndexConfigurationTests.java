@@ -369,6 +369,7 @@ public class IndexConfigurationTests {
         assertEquals(60_000L, indexConfiguration.getFlushTimeout());
         assertEquals(false, indexConfiguration.isEstimateBulkSizeUsingCompression());
         assertEquals(2, indexConfiguration.getMaxLocalCompressionsForEstimation());
+        assertEquals(0, indexConfiguration.getMaxInFlightBulkRequests());
         assertEquals("${hashId}", indexConfiguration.getDocumentId());
     }
 
@@ -384,6 +385,7 @@ public class IndexConfigurationTests {
                 null, testIndexAlias, defaultTemplateFilePath, null, testBulkSize, testFlushTimeout, testIdField);
         metaData.put(IndexConfiguration.ESTIMATE_BULK_SIZE_USING_COMPRESSION, true);
         metaData.put(IndexConfiguration.MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION, 5);
+        metaData.put(IndexConfiguration.MAX_IN_FLIGHT_BULK_REQUESTS, 4);
         final OpenSearchSinkConfig openSearchSinkConfig = getOpenSearchSinkConfig(metaData);
         final IndexConfiguration indexConfiguration = IndexConfiguration.readIndexConfig(openSearchSinkConfig);
         assertEquals(IndexType.CUSTOM, indexConfiguration.getIndexType());
@@ -393,6 +395,7 @@ public class IndexConfigurationTests {
         assertEquals(testFlushTimeout, indexConfiguration.getFlushTimeout());
         assertEquals(true, indexConfiguration.isEstimateBulkSizeUsingCompression());
         assertEquals(5, indexConfiguration.getMaxLocalCompressionsForEstimation());
+        assertEquals(4, indexConfiguration.getMaxInFlightBulkRequests());
         assertEquals(testIdField, indexConfiguration.getDocumentId());
     }
 
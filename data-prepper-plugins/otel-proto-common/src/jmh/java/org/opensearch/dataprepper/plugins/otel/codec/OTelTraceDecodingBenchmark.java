@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Span;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compares decoding an <code>ExportTraceServiceRequest</code> with the node tree span decoder against building each
+ * span with the span builder. The requests resemble the ones sent by instrumented HTTP services: a few resources,
+ * each with one instrumentation scope and a batch of spans carrying the common HTTP and database attributes.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class OTelTraceDecodingBenchmark {
+    private static final String[] SERVICE_NAMES = {"frontend", "checkout", "cart", "payment", "auth"};
+    private static final String[] ROUTES = {"/", "/api/checkout", "/api/cart/{id}", "/api/payment", "/login"};
+
+    @Param({"512"})
+    private int spansPerRequest;
+
+    @Param({"4"})
+    private int resourcesPerRequest;
+
+    private final OTelProtoOpensearchCodec.OTelProtoDecoder decoder = new OTelProtoOpensearchCodec.OTelProtoDecoder();
+    private ExportTraceServiceRequest request;
+    private Instant timeReceived;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(0);
+        final ExportTraceServiceRequest.Builder requestBuilder = ExportTraceServiceRequest.newBuilder();
+        final int spansPerResource = spansPerRequest / resourcesPerRequest;
+        for (int resourceIndex = 0; resourceIndex < resourcesPerRequest; resourceIndex++) {
+            final String serviceName = SERVICE_NAMES[resourceIndex % SERVICE_NAMES.length];
+            final ScopeSpans.Builder scopeSpansBuilder = ScopeSpans.newBuilder()
+                    .setScope(InstrumentationScope.newBuilder()
+                            .setName("io.opentelemetry.armeria-1.3")
+                            .setVersion("1.32.0-alpha"));
+            ByteString traceId = null;
+            ByteString rootSpanId = null;
+            for (int spanIndex = 0; spanIndex < spansPerResource; spanIndex++) {
+                final boolean isRoot = spanIndex % 8 == 0;
+                if (isRoot) {
+                    traceId = randomBytes(random, 16);
+                }
+                final ByteString spanId = randomBytes(random, 8);
+                final long startTime = 1_700_000_000_000_000_000L + random.nextInt(1_000_000_000);
+                final String route = ROUTES[random.nextInt(ROUTES.length)];
+                final Span.Builder spanBuilder = Span.newBuilder()
+                        .setTraceId(traceId)
+                        .setSpanId(spanId)
+                        .setParentSpanId(isRoot ? ByteString.EMPTY : rootSpanId)
+                        .setName("GET " + route)
+                        .setKind(isRoot ? Span.SpanKind.SPAN_KIND_SERVER : Span.SpanKind.SPAN_KIND_CLIENT)
+                        .setStartTimeUnixNano(startTime)
+                        .setEndTimeUnixNano(startTime + random.nextInt(50_000_000))
+                        .setStatus(Status.newBuilder().setCode(Status.StatusCode.STATUS_CODE_OK))
+                        .addAttributes(stringAttribute("http.method", "GET"))
+                        .addAttributes(stringAttribute("http.route", route))
+                        .addAttributes(stringAttribute("http.scheme", "https"))
+                        .addAttributes(stringAttribute("net.peer.name", serviceName + ".internal"))
+                        .addAttributes(stringAttribute("user_agent.original", "Mozilla/5.0 (X11; Linux x86_64)"))
+                        .addAttributes(KeyValue.newBuilder().setKey("http.status_code")
+                                .setValue(AnyValue.newBuilder().setIntValue(200)))
+                        .addAttributes(KeyValue.newBuilder().setKey("net.peer.port")
+                                .setValue(AnyValue.newBuilder().setIntValue(8080)));
+                if (spanIndex % 4 == 1) {
+                    spanBuilder.addAttributes(stringAttribute("db.system", "postgresql"))
+                            .addAttributes(stringAttribute("db.statement", "SELECT * FROM orders WHERE id = ?"))
+                            .addEvents(Span.Event.newBuilder()
+                                    .setName("query")
+                                    .setTimeUnixNano(startTime + 1_000)
+                                    .addAttributes(stringAttribute("db.rows", "1")));
+                }
+                if (isRoot) {
+                    rootSpanId = spanId;
+                }
+                scopeSpansBuilder.addSpans(spanBuilder);
+            }
+            requestBuilder.addResourceSpans(ResourceSpans.newBuilder()
+                    .setResource(Resource.newBuilder()
+                            .addAttributes(stringAttribute("service.name", serviceName))
+                            .addAttributes(stringAttribute("service.version", "1.4.2"))
+                            .addAttributes(stringAttribute("host.name", "ip-10-0-" + resourceIndex + "-17"))
+                            .addAttributes(stringAttribute("telemetry.sdk.language", "java"))
+                            .addAttributes(stringAttribute("telemetry.sdk.name", "opentelemetry"))
+                            .addAttributes(stringAttribute("telemetry.sdk.version", "1.32.0")))
+                    .addScopeSpans(scopeSpansBuilder));
+        }
+        request = requestBuilder.build();
+        timeReceived = Instant.now();
+    }
+
+    @Benchmark
+    public void decodeToNodeTree(final Blackhole blackhole) {
+        blackhole.consume(decoder.parseExportTraceServiceRequest(request, timeReceived));
+    }
+
+    @Benchmark
+    public void decodeWithSpanBuilder(final Blackhole blackhole) {
+        for (final ResourceSpans resourceSpans : request.getResourceSpansList()) {
+            final String serviceName = decoder.getServiceName(resourceSpans.getResource()).orElse(null);
+            final Map<String, Object> resourceAttributes = decoder.getResourceAttributes(resourceSpans.getResource());
+            for (final ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+                for (final Span span : scopeSpans.getSpansList()) {
+                    blackhole.consume(decoder.parseSpan(span,
+                            OTelProtoOpensearchCodec.getInstrumentationScopeAttributes(scopeSpans.getScope()),
+                            serviceName, resourceAttributes, timeReceived));
+                }
+            }
+        }
+    }
+
+    private static KeyValue stringAttribute(final String key, final String value) {
+        return KeyValue.newBuilder().setKey(key).setValue(AnyValue.newBuilder().setStringValue(value)).build();
+    }
+
+    private static ByteString randomBytes(final Random random, final int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+}
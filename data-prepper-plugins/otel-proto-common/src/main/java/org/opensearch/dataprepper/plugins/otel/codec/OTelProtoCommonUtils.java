@@ -6,11 +6,12 @@
 package org.opensearch.dataprepper.plugins.otel.codec;
 
 import com.google.protobuf.ByteString;
-import org.apache.commons.codec.binary.Hex;
 import java.time.Instant;
 
 public class OTelProtoCommonUtils {
     public static final long NANO_MULTIPLIER = 1_000 * 1_000 * 1_000;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     public static String convertUnixNanosToISO8601(final long unixNano) {
         return Instant.ofEpochSecond(0L, unixNano).toString();
     }
@@ -20,8 +21,18 @@ public class OTelProtoCommonUtils {
         return instant.getEpochSecond() * NANO_MULTIPLIER + instant.getNano();
     }
 
+    /**
+     * Encodes the bytes as lower case hex digits. The bytes are read in place, without copying them to an array.
+     */
     public static String convertByteStringToString(ByteString bs) {
-        return Hex.encodeHexString(bs.toByteArray());
+        final int size = bs.size();
+        final char[] hexDigits = new char[2 * size];
+        for (int i = 0; i < size; i++) {
+            final int b = bs.byteAt(i) & 0xFF;
+            hexDigits[2 * i] = HEX_DIGITS[b >>> 4];
+            hexDigits[2 * i + 1] = HEX_DIGITS[b & 0x0F];
+        }
+        return new String(hexDigits);
     }
 
 }
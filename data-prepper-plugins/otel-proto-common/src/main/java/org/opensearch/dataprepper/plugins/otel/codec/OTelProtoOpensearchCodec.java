@@ -153,6 +153,7 @@ public class OTelProtoOpensearchCodec {
     }
 
     public static class OTelProtoDecoder implements OTelProtoCodec.OTelProtoDecoder {
+        private final OTelProtoSpanNodeDecoder spanNodeDecoder = new OTelProtoSpanNodeDecoder();
 
         public List<Span> parseExportTraceServiceRequest(final ExportTraceServiceRequest exportTraceServiceRequest, final Instant timeReceived) {
             return exportTraceServiceRequest.getResourceSpansList().stream()
@@ -227,25 +228,15 @@ public class OTelProtoOpensearchCodec {
         }
 
         protected List<Span> parseResourceSpans(final ResourceSpans resourceSpans, final Instant timeReceived) {
-            final String serviceName = getServiceName(resourceSpans.getResource()).orElse(null);
-            final Map<String, Object> resourceAttributes = getResourceAttributes(resourceSpans.getResource());
-
             if (!resourceSpans.getScopeSpansList().isEmpty()) {
-                return parseScopeSpans(resourceSpans.getScopeSpansList(), serviceName, resourceAttributes, timeReceived);
+                final String serviceName = getServiceName(resourceSpans.getResource()).orElse(null);
+                return spanNodeDecoder.parseResourceSpans(resourceSpans, serviceName, timeReceived);
             }
 
             LOG.debug("No spans found to parse from ResourceSpans object: {}", resourceSpans);
             return Collections.emptyList();
         }
 
-        private List<Span> parseScopeSpans(final List<ScopeSpans> scopeSpansList, final String serviceName, final Map<String, Object> resourceAttributes, final Instant timeReceived) {
-            return scopeSpansList.stream()
-                    .map(scopeSpans -> parseSpans(scopeSpans.getSpansList(), scopeSpans.getScope(),
-                            OTelProtoOpensearchCodec::getInstrumentationScopeAttributes, serviceName, resourceAttributes, timeReceived))
-                    .flatMap(Collection::stream)
-                    .collect(Collectors.toList());
-        }
-
         private Map<String, List<ScopeSpans>> splitScopeSpansByTraceId(final List<ScopeSpans> scopeSpansList) {
             Map<String, List<ScopeSpans>> result = new HashMap<>();
             for (ScopeSpans ss: scopeSpansList) {
@@ -283,18 +274,6 @@ public class OTelProtoOpensearchCodec {
             return result;
         }
 
-        private <T> List<Span> parseSpans(final List<io.opentelemetry.proto.trace.v1.Span> spans, final T scope,
-                                          final Function<T, Map<String, Object>> scopeAttributesGetter,
-                                          final String serviceName, final Map<String, Object> resourceAttributes,
-                                          final Instant timeReceived) {
-            return spans.stream()
-                    .map(span -> {
-                        final Map<String, Object> scopeAttributes = scopeAttributesGetter.apply(scope);
-                        return parseSpan(span, scopeAttributes, serviceName, resourceAttributes, timeReceived);
-                    })
-                    .collect(Collectors.toList());
-        }
-
         protected List<OpenTelemetryLog> processLogsList(final List<LogRecord> logsList,
                                                          final String serviceName,
                                                          final Map<String, Object> ils,
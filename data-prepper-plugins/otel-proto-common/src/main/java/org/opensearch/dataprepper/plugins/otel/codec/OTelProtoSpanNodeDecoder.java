@@ -0,0 +1,243 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCommonUtils.convertByteStringToString;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCommonUtils.convertUnixNanosToISO8601;
+
+/**
+ * Decodes protobuf spans into {@link JacksonSpan} events by writing the fields straight into the node tree of each
+ * event, instead of collecting them into maps and beans which are then converted to a tree. The resource and scope
+ * attributes are converted once for all the spans which share them, and the renamed attribute keys are cached.
+ * <p>
+ * The events are the same as the ones built by {@link OTelProtoOpensearchCodec.OTelProtoDecoder#parseSpan}.
+ */
+class OTelProtoSpanNodeDecoder {
+    static final int MAX_CACHED_KEYS = 10_000;
+
+    private static final Function<String, String> SCOPE_ATTRIBUTES_REPLACE_DOT_WITH_AT =
+            key -> OTelProtoOpensearchCodec.INSTRUMENTATION_SCOPE_ATTRIBUTES + "." + OTelProtoOpensearchCodec.REPLACE_DOT_WITH_AT.apply(key);
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+    private static final String TRACE_ID_KEY = "traceId";
+    private static final String SPAN_ID_KEY = "spanId";
+    private static final String TRACE_STATE_KEY = "traceState";
+    private static final String PARENT_SPAN_ID_KEY = "parentSpanId";
+    private static final String NAME_KEY = "name";
+    private static final String KIND_KEY = "kind";
+    private static final String TIME_KEY = "time";
+    private static final String START_TIME_KEY = "startTime";
+    private static final String END_TIME_KEY = "endTime";
+    private static final String ATTRIBUTES_KEY = "attributes";
+    private static final String DROPPED_ATTRIBUTES_COUNT_KEY = "droppedAttributesCount";
+    private static final String EVENTS_KEY = "events";
+    private static final String DROPPED_EVENTS_COUNT_KEY = "droppedEventsCount";
+    private static final String LINKS_KEY = "links";
+    private static final String DROPPED_LINKS_COUNT_KEY = "droppedLinksCount";
+    private static final String DURATION_IN_NANOS_KEY = "durationInNanos";
+    private static final String STATUS_CODE_KEY = "statusCode";
+
+    private final Map<String, String> spanAttributeKeys = new ConcurrentHashMap<>();
+    private final Map<String, String> resourceAttributeKeys = new ConcurrentHashMap<>();
+    private final Map<String, String> scopeAttributeKeys = new ConcurrentHashMap<>();
+    private final Map<String, String> attributeKeys = new ConcurrentHashMap<>();
+
+    List<Span> parseResourceSpans(final ResourceSpans resourceSpans, final String serviceName, final Instant timeReceived) {
+        final JsonNode serviceNameNode = serviceName == null ? NullNode.getInstance() : TextNode.valueOf(serviceName);
+        final Map<String, JsonNode> resourceAttributes = new HashMap<>();
+        putAttributes(resourceAttributes, resourceSpans.getResource().getAttributesList(), resourceAttributeKeys,
+                OTelProtoOpensearchCodec.RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+
+        final List<Span> spans = new ArrayList<>();
+        for (final ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+            final Map<String, JsonNode> sharedAttributes = new HashMap<>(resourceAttributes);
+            putScopeAttributes(sharedAttributes, scopeSpans.getScope());
+            for (final io.opentelemetry.proto.trace.v1.Span span : scopeSpans.getSpansList()) {
+                spans.add(parseSpan(span, serviceNameNode, sharedAttributes, timeReceived));
+            }
+        }
+        return spans;
+    }
+
+    Span parseSpan(final io.opentelemetry.proto.trace.v1.Span span, final JsonNode serviceName,
+                   final Map<String, JsonNode> sharedAttributes, final Instant timeReceived) {
+        final ObjectNode spanNode = NODE_FACTORY.objectNode();
+        final boolean isRoot = span.getParentSpanId().isEmpty();
+        final String endTime = convertUnixNanosToISO8601(span.getEndTimeUnixNano());
+        final long durationInNanos = span.getEndTimeUnixNano() - span.getStartTimeUnixNano();
+
+        spanNode.put(TRACE_ID_KEY, convertByteStringToString(span.getTraceId()));
+        spanNode.put(SPAN_ID_KEY, convertByteStringToString(span.getSpanId()));
+        spanNode.put(TRACE_STATE_KEY, span.getTraceState());
+        spanNode.put(PARENT_SPAN_ID_KEY, convertByteStringToString(span.getParentSpanId()));
+        spanNode.put(NAME_KEY, span.getName());
+        spanNode.set(JacksonSpan.SERVICE_NAME_KEY, serviceName);
+        spanNode.put(KIND_KEY, span.getKind().name());
+        spanNode.put(START_TIME_KEY, convertUnixNanosToISO8601(span.getStartTimeUnixNano()));
+        spanNode.put(END_TIME_KEY, endTime);
+        spanNode.set(ATTRIBUTES_KEY, getSpanAttributes(span, sharedAttributes));
+        spanNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, span.getDroppedAttributesCount());
+        spanNode.set(EVENTS_KEY, getEvents(span));
+        spanNode.put(DROPPED_EVENTS_COUNT_KEY, span.getDroppedEventsCount());
+        spanNode.set(LINKS_KEY, getLinks(span));
+        spanNode.put(DROPPED_LINKS_COUNT_KEY, span.getDroppedLinksCount());
+        spanNode.set(JacksonSpan.TRACE_GROUP_KEY, isRoot ? TextNode.valueOf(span.getName()) : NullNode.getInstance());
+        spanNode.put(DURATION_IN_NANOS_KEY, durationInNanos);
+
+        final ObjectNode traceGroupFields = spanNode.putObject(JacksonSpan.TRACE_GROUP_FIELDS_KEY);
+        if (isRoot) {
+            traceGroupFields.put(END_TIME_KEY, endTime);
+            traceGroupFields.put(DURATION_IN_NANOS_KEY, durationInNanos);
+            traceGroupFields.put(STATUS_CODE_KEY, span.getStatus().getCodeValue());
+        } else {
+            traceGroupFields.putNull(END_TIME_KEY);
+            traceGroupFields.putNull(DURATION_IN_NANOS_KEY);
+            traceGroupFields.putNull(STATUS_CODE_KEY);
+        }
+
+        final JacksonSpan.Builder builder = JacksonSpan.builder().withTimeReceived(timeReceived);
+        builder.withJsonData(spanNode);
+        return builder.build();
+    }
+
+    private void putScopeAttributes(final Map<String, JsonNode> attributes, final InstrumentationScope scope) {
+        if (!scope.getName().isEmpty()) {
+            attributes.put(OTelProtoOpensearchCodec.INSTRUMENTATION_SCOPE_NAME, TextNode.valueOf(scope.getName()));
+        }
+        if (!scope.getVersion().isEmpty()) {
+            attributes.put(OTelProtoOpensearchCodec.INSTRUMENTATION_SCOPE_VERSION, TextNode.valueOf(scope.getVersion()));
+        }
+        putAttributes(attributes, scope.getAttributesList(), scopeAttributeKeys, SCOPE_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+    }
+
+    private ObjectNode getSpanAttributes(final io.opentelemetry.proto.trace.v1.Span span, final Map<String, JsonNode> sharedAttributes) {
+        final Map<String, JsonNode> attributes = new HashMap<>(
+                (span.getAttributesCount() + sharedAttributes.size() + 2) * 4 / 3 + 1);
+        putAttributes(attributes, span.getAttributesList(), spanAttributeKeys,
+                OTelProtoOpensearchCodec.SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+        attributes.putAll(sharedAttributes);
+        final Status status = span.getStatus();
+        attributes.put(OTelProtoOpensearchCodec.STATUS_CODE, IntNode.valueOf(status.getCodeValue()));
+        if (!status.getMessage().isEmpty()) {
+            attributes.put(OTelProtoOpensearchCodec.STATUS_MESSAGE, TextNode.valueOf(status.getMessage()));
+        }
+        return new ObjectNode(NODE_FACTORY, attributes);
+    }
+
+    private ArrayNode getEvents(final io.opentelemetry.proto.trace.v1.Span span) {
+        final ArrayNode events = NODE_FACTORY.arrayNode(span.getEventsCount());
+        for (final io.opentelemetry.proto.trace.v1.Span.Event event : span.getEventsList()) {
+            checkArgument(!event.getName().isEmpty(), "name cannot be an empty string");
+            final ObjectNode eventNode = events.addObject();
+            eventNode.put(NAME_KEY, event.getName());
+            eventNode.put(TIME_KEY, convertUnixNanosToISO8601(event.getTimeUnixNano()));
+            eventNode.set(ATTRIBUTES_KEY, getAttributes(event.getAttributesList()));
+            eventNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, event.getDroppedAttributesCount());
+        }
+        return events;
+    }
+
+    private ArrayNode getLinks(final io.opentelemetry.proto.trace.v1.Span span) {
+        final ArrayNode links = NODE_FACTORY.arrayNode(span.getLinksCount());
+        for (final io.opentelemetry.proto.trace.v1.Span.Link link : span.getLinksList()) {
+            checkArgument(!link.getTraceId().isEmpty(), "traceId cannot be an empty string");
+            checkArgument(!link.getSpanId().isEmpty(), "spanId cannot be an empty String");
+            final ObjectNode linkNode = links.addObject();
+            linkNode.put(TRACE_ID_KEY, convertByteStringToString(link.getTraceId()));
+            linkNode.put(SPAN_ID_KEY, convertByteStringToString(link.getSpanId()));
+            linkNode.put(TRACE_STATE_KEY, link.getTraceState());
+            linkNode.set(ATTRIBUTES_KEY, getAttributes(link.getAttributesList()));
+            linkNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, link.getDroppedAttributesCount());
+        }
+        return links;
+    }
+
+    private ObjectNode getAttributes(final List<KeyValue> keyValues) {
+        final Map<String, JsonNode> attributes = new HashMap<>();
+        putAttributes(attributes, keyValues, attributeKeys, OTelProtoOpensearchCodec.REPLACE_DOT_WITH_AT);
+        return new ObjectNode(NODE_FACTORY, attributes);
+    }
+
+    private void putAttributes(final Map<String, JsonNode> attributes, final List<KeyValue> keyValues,
+                               final Map<String, String> keyCache, final Function<String, String> keyFunction) {
+        for (final KeyValue keyValue : keyValues) {
+            final String key = getKey(keyValue.getKey(), keyCache, keyFunction);
+            if (attributes.put(key, toJsonNode(keyValue.getValue())) != null) {
+                throw new IllegalStateException(String.format("Duplicate key %s", key));
+            }
+        }
+    }
+
+    /**
+     * @return the converted key, which is cached until the cache holds {@link #MAX_CACHED_KEYS} keys
+     */
+    private static String getKey(final String key, final Map<String, String> keyCache, final Function<String, String> keyFunction) {
+        final String cachedKey = keyCache.get(key);
+        if (cachedKey != null) {
+            return cachedKey;
+        }
+        final String convertedKey = keyFunction.apply(key);
+        if (keyCache.size() < MAX_CACHED_KEYS) {
+            keyCache.put(key, convertedKey);
+        }
+        return convertedKey;
+    }
+
+    /**
+     * Converts a value in the same way as {@link OTelProtoOpensearchCodec#convertAnyValue(AnyValue)}, so arrays and
+     * key-value lists are stored as JSON strings.
+     */
+    static JsonNode toJsonNode(final AnyValue value) {
+        switch (value.getValueCase()) {
+            case VALUE_NOT_SET:
+            case STRING_VALUE:
+                return TextNode.valueOf(value.getStringValue());
+            case BOOL_VALUE:
+                return BooleanNode.valueOf(value.getBoolValue());
+            case INT_VALUE:
+                return LongNode.valueOf(value.getIntValue());
+            case DOUBLE_VALUE:
+                return DoubleNode.valueOf(value.getDoubleValue());
+            case ARRAY_VALUE:
+            case KVLIST_VALUE:
+                return TextNode.valueOf((String) OTelProtoOpensearchCodec.convertAnyValue(value));
+            default:
+                throw new OTelDecodingException("Unknown case");
+        }
+    }
+
+    private static void checkArgument(final boolean expression, final String message) {
+        if (!expression) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
@@ -34,4 +34,14 @@ public class OTelProtoCommonUtilsTest {
         final String testString = UUID.randomUUID().toString();
         assertThat(ByteString.copyFrom(Hex.decodeHex(OTelProtoCommonUtils.convertByteStringToString(ByteString.copyFromUtf8(testString)))).toStringUtf8(), equalTo(testString));
     }
+
+    @Test
+    public void test_convertByteStringToString_encodes_lower_case_hex() {
+        final byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        assertThat(OTelProtoCommonUtils.convertByteStringToString(ByteString.copyFrom(bytes)), equalTo(Hex.encodeHexString(bytes)));
+        assertThat(OTelProtoCommonUtils.convertByteStringToString(ByteString.EMPTY), equalTo(""));
+    }
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.ArrayValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.common.v1.KeyValueList;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OTelProtoSpanNodeDecoderTest {
+    private static final Random RANDOM = new Random();
+    private static final long START_TIME = 1_590_328_860_000_000_000L;
+
+    private final OTelProtoOpensearchCodec.OTelProtoDecoder builderDecoder = new OTelProtoOpensearchCodec.OTelProtoDecoder();
+
+    private static ByteString randomId(final int length) {
+        final byte[] bytes = new byte[length];
+        RANDOM.nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+
+    private static KeyValue keyValue(final String key, final AnyValue value) {
+        return KeyValue.newBuilder().setKey(key).setValue(value).build();
+    }
+
+    private static AnyValue stringValue(final String value) {
+        return AnyValue.newBuilder().setStringValue(value).build();
+    }
+
+    private static io.opentelemetry.proto.trace.v1.Span.Builder span(final ByteString traceId, final ByteString parentSpanId) {
+        return io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                .setTraceId(traceId)
+                .setSpanId(randomId(8))
+                .setParentSpanId(parentSpanId)
+                .setTraceState("state")
+                .setName(UUID.randomUUID().toString())
+                .setKind(io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER)
+                .setStartTimeUnixNano(START_TIME)
+                .setEndTimeUnixNano(START_TIME + 12_345_678L);
+    }
+
+    private ResourceSpans createResourceSpans() {
+        final ByteString traceId = randomId(16);
+        final io.opentelemetry.proto.trace.v1.Span root = span(traceId, ByteString.EMPTY)
+                .addAttributes(keyValue("http.method", stringValue("GET")))
+                .addAttributes(keyValue("http.status_code", AnyValue.newBuilder().setIntValue(200).build()))
+                .addAttributes(keyValue("error", AnyValue.newBuilder().setBoolValue(false).build()))
+                .addAttributes(keyValue("sample.rate", AnyValue.newBuilder().setDoubleValue(0.25).build()))
+                .addAttributes(keyValue("empty", AnyValue.getDefaultInstance()))
+                .addAttributes(keyValue("tags", AnyValue.newBuilder().setArrayValue(ArrayValue.newBuilder()
+                        .addValues(stringValue("a")).addValues(stringValue("b"))).build()))
+                .addAttributes(keyValue("db.details", AnyValue.newBuilder().setKvlistValue(KeyValueList.newBuilder()
+                        .addValues(keyValue("statement.params", stringValue("us-east-1")))).build()))
+                .setDroppedAttributesCount(1)
+                .setStatus(Status.newBuilder().setCode(Status.StatusCode.STATUS_CODE_ERROR).setMessage("failed"))
+                .addEvents(io.opentelemetry.proto.trace.v1.Span.Event.newBuilder()
+                        .setName("exception")
+                        .setTimeUnixNano(START_TIME + 1_000L)
+                        .addAttributes(keyValue("exception.type", stringValue("IOException")))
+                        .setDroppedAttributesCount(2))
+                .setDroppedEventsCount(3)
+                .addLinks(io.opentelemetry.proto.trace.v1.Span.Link.newBuilder()
+                        .setTraceId(randomId(16))
+                        .setSpanId(randomId(8))
+                        .setTraceState("link state")
+                        .addAttributes(keyValue("link.kind", stringValue("follows")))
+                        .setDroppedAttributesCount(4))
+                .setDroppedLinksCount(5)
+                .build();
+        final io.opentelemetry.proto.trace.v1.Span child = span(traceId, root.getSpanId())
+                .setKind(io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_CLIENT)
+                .addAttributes(keyValue("http.method", stringValue("POST")))
+                .build();
+
+        return ResourceSpans.newBuilder()
+                .setResource(Resource.newBuilder()
+                        .addAttributes(keyValue("service.name", stringValue("frontend")))
+                        .addAttributes(keyValue("host.name", stringValue("host-1"))))
+                .addScopeSpans(ScopeSpans.newBuilder()
+                        .setScope(InstrumentationScope.newBuilder()
+                                .setName("my.library")
+                                .setVersion("1.0.0")
+                                .addAttributes(keyValue("my.scope.attribute", AnyValue.newBuilder().setIntValue(7).build())))
+                        .addSpans(root)
+                        .addSpans(child))
+                .addScopeSpans(ScopeSpans.newBuilder()
+                        .addSpans(span(traceId, root.getSpanId()).build()))
+                .build();
+    }
+
+    @Test
+    void parseResourceSpans_builds_the_same_events_as_the_span_builder() {
+        final ResourceSpans resourceSpans = createResourceSpans();
+        final Instant timeReceived = Instant.now();
+        final String serviceName = builderDecoder.getServiceName(resourceSpans.getResource()).orElse(null);
+
+        final List<Span> spans = new OTelProtoSpanNodeDecoder().parseResourceSpans(resourceSpans, serviceName, timeReceived);
+
+        assertThat(spans, hasSize(3));
+        int index = 0;
+        for (final ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+            for (final io.opentelemetry.proto.trace.v1.Span span : scopeSpans.getSpansList()) {
+                final JacksonSpan expected = (JacksonSpan) builderDecoder.parseSpan(span,
+                        OTelProtoOpensearchCodec.getInstrumentationScopeAttributes(scopeSpans.getScope()), serviceName,
+                        builderDecoder.getResourceAttributes(resourceSpans.getResource()), timeReceived);
+                final JacksonSpan actual = (JacksonSpan) spans.get(index++);
+
+                assertThat(actual.getJsonNode(), equalTo(expected.getJsonNode()));
+                assertThat(actual.getMetadata().getEventType(), equalTo(expected.getMetadata().getEventType()));
+                assertThat(actual.getMetadata().getTimeReceived(), equalTo(timeReceived));
+                assertThat(actual.getTraceGroupFields(), equalTo(expected.getTraceGroupFields()));
+                assertThat(actual.getEvents(), hasSize(expected.getEvents().size()));
+                assertThat(actual.getLinks(), hasSize(expected.getLinks().size()));
+            }
+        }
+    }
+
+    @Test
+    void parseResourceSpans_without_service_name_builds_the_same_events_as_the_span_builder() {
+        final io.opentelemetry.proto.trace.v1.Span span = span(randomId(16), ByteString.EMPTY).build();
+        final ResourceSpans resourceSpans = ResourceSpans.newBuilder()
+                .addScopeSpans(ScopeSpans.newBuilder().addSpans(span))
+                .build();
+        final Instant timeReceived = Instant.now();
+
+        final List<Span> spans = new OTelProtoSpanNodeDecoder().parseResourceSpans(resourceSpans, null, timeReceived);
+
+        final JacksonSpan expected = (JacksonSpan) builderDecoder.parseSpan(span,
+                OTelProtoOpensearchCodec.getInstrumentationScopeAttributes(InstrumentationScope.getDefaultInstance()), null,
+                builderDecoder.getResourceAttributes(Resource.getDefaultInstance()), timeReceived);
+        assertThat(spans, hasSize(1));
+        assertThat(((JacksonSpan) spans.get(0)).getJsonNode(), equalTo(expected.getJsonNode()));
+    }
+
+    @Test
+    void parseResourceSpans_converts_attribute_keys_beyond_the_cached_keys() {
+        final OTelProtoSpanNodeDecoder objectUnderTest = new OTelProtoSpanNodeDecoder();
+        final io.opentelemetry.proto.trace.v1.Span.Builder spanBuilder = span(randomId(16), ByteString.EMPTY);
+        for (int i = 0; i < OTelProtoSpanNodeDecoder.MAX_CACHED_KEYS + 10; i++) {
+            spanBuilder.addAttributes(keyValue("key." + i, stringValue("value")));
+        }
+        final ResourceSpans resourceSpans = ResourceSpans.newBuilder()
+                .addScopeSpans(ScopeSpans.newBuilder().addSpans(spanBuilder))
+                .build();
+
+        for (int round = 0; round < 2; round++) {
+            final Span span = objectUnderTest.parseResourceSpans(resourceSpans, null, Instant.now()).get(0);
+            assertThat(span.getAttributes().get("span.attributes.key@0"), equalTo("value"));
+            assertThat(span.getAttributes().get("span.attributes.key@" + (OTelProtoSpanNodeDecoder.MAX_CACHED_KEYS + 9)), equalTo("value"));
+        }
+    }
+
+    @Test
+    void parseResourceSpans_throws_on_duplicate_attribute_keys() {
+        final ResourceSpans resourceSpans = ResourceSpans.newBuilder()
+                .addScopeSpans(ScopeSpans.newBuilder().addSpans(span(randomId(16), ByteString.EMPTY)
+                        .addAttributes(keyValue("key", stringValue("first")))
+                        .addAttributes(keyValue("key", stringValue("second")))))
+                .build();
+
+        assertThrows(IllegalStateException.class,
+                () -> new OTelProtoSpanNodeDecoder().parseResourceSpans(resourceSpans, null, Instant.now()));
+    }
+
+    @Test
+    void parseResourceSpans_throws_on_event_without_name() {
+        final ResourceSpans resourceSpans = ResourceSpans.newBuilder()
+                .addScopeSpans(ScopeSpans.newBuilder().addSpans(span(randomId(16), ByteString.EMPTY)
+                        .addEvents(io.opentelemetry.proto.trace.v1.Span.Event.newBuilder().setTimeUnixNano(START_TIME))))
+                .build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new OTelProtoSpanNodeDecoder().parseResourceSpans(resourceSpans, null, Instant.now()));
+    }
+
+    @Test
+    void parseResourceSpans_throws_on_link_without_ids() {
+        final ResourceSpans withoutTraceId = ResourceSpans.newBuilder()
+                .addScopeSpans(ScopeSpans.newBuilder().addSpans(span(randomId(16), ByteString.EMPTY)
+                        .addLinks(io.opentelemetry.proto.trace.v1.Span.Link.newBuilder().setSpanId(randomId(8)))))
+                .build();
+        final ResourceSpans withoutSpanId = ResourceSpans.newBuilder()
+                .addScopeSpans(ScopeSpans.newBuilder().addSpans(span(randomId(16), ByteString.EMPTY)
+                        .addLinks(io.opentelemetry.proto.trace.v1.Span.Link.newBuilder().setTraceId(randomId(16)))))
+                .build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new OTelProtoSpanNodeDecoder().parseResourceSpans(withoutTraceId, null, Instant.now()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OTelProtoSpanNodeDecoder().parseResourceSpans(withoutSpanId, null, Instant.now()));
+    }
+
+    @Test
+    void parseResourceSpans_throws_on_span_without_span_id() {
+        final ResourceSpans resourceSpans = ResourceSpans.newBuilder()
+                .addScopeSpans(ScopeSpans.newBuilder().addSpans(span(randomId(16), ByteString.EMPTY)
+                        .setSpanId(ByteString.EMPTY)))
+                .build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new OTelProtoSpanNodeDecoder().parseResourceSpans(resourceSpans, null, Instant.now()));
+    }
+}
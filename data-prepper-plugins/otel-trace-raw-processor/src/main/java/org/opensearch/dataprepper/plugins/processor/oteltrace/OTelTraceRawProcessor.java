@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.processor.oteltrace;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
@@ -19,12 +20,12 @@ import org.opensearch.dataprepper.model.trace.Span;
 import io.micrometer.core.instrument.util.StringUtils;
 import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
 import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceGroup;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +33,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -42,12 +44,24 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
     private static final Logger LOG = LoggerFactory.getLogger(OTelTraceRawProcessor.class);
     public static final String TRACE_GROUP_CACHE_COUNT_METRIC_NAME = "traceGroupCacheCount";
     public static final String SPAN_SET_COUNT_METRIC_NAME = "spanSetCount";
+    public static final String SPAN_SET_BYTES_METRIC_NAME = "spanSetBytes";
+    public static final String TRACES_FLUSHED_BY_MEMORY_LIMIT_METRIC_NAME = "tracesFlushedByMemoryLimit";
 
     private final long traceFlushInterval;
 
-    private final Map<String, SpanSet> traceIdSpanSetMap = new ConcurrentHashMap<>();
+    private final long spanBufferMaxBytes;
 
-    private final Cache<String, TraceGroup> traceIdTraceGroupCache;
+    private final boolean isSpanBufferBounded;
+
+    private final Map<TraceIdKey, SpanSet> traceIdSpanSetMap = new ConcurrentHashMap<>();
+
+    private final SpanSetExpiryIndex spanSetExpiryIndex = new SpanSetExpiryIndex();
+
+    private final AtomicLong spanSetBytes = new AtomicLong();
+
+    private final Counter tracesFlushedByMemoryLimitCounter;
+
+    private final Cache<TraceIdKey, TraceGroup> traceIdTraceGroupCache;
 
     private long lastTraceFlushTime = 0L;
 
@@ -62,6 +76,9 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
                                  final PluginMetrics pluginMetrics) {
         super(pluginMetrics);
         traceFlushInterval = SEC_TO_MILLIS * otelTraceRawProcessorConfig.getTraceFlushIntervalSeconds();
+        spanBufferMaxBytes = otelTraceRawProcessorConfig.getSpanBufferMaxSize() != null ?
+                otelTraceRawProcessorConfig.getSpanBufferMaxSize().getBytes() : Long.MAX_VALUE;
+        isSpanBufferBounded = otelTraceRawProcessorConfig.getSpanBufferMaxSize() != null;
         traceIdTraceGroupCache = Caffeine.newBuilder()
           .maximumSize(otelTraceRawProcessorConfig.getTraceGroupCacheMaxSize())
           .expireAfterWrite(otelTraceRawProcessorConfig.getTraceGroupCacheTimeToLive().toMillis(), TimeUnit.MILLISECONDS)
@@ -70,6 +87,8 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
 
         pluginMetrics.gauge(TRACE_GROUP_CACHE_COUNT_METRIC_NAME, traceIdTraceGroupCache, cache -> (double) cache.estimatedSize());
         pluginMetrics.gauge(SPAN_SET_COUNT_METRIC_NAME, traceIdSpanSetMap, cache -> (double) cache.size());
+        pluginMetrics.gauge(SPAN_SET_BYTES_METRIC_NAME, spanSetBytes, AtomicLong::get);
+        tracesFlushedByMemoryLimitCounter = pluginMetrics.counter(TRACES_FLUSHED_BY_MEMORY_LIMIT_METRIC_NAME);
 
         LOG.info("Configured Trace Raw Processor with a trace flush interval of {} ms.", traceFlushInterval);
     }
@@ -92,6 +111,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
         }
 
         processedSpans.addAll(getTracesToFlushByGarbageCollection());
+        processedSpans.addAll(getTracesToFlushByMemoryLimit());
 
         return processedSpans.stream().map(Record::new).collect(Collectors.toList());
     }
@@ -123,20 +143,20 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      */
     private List<Span> processRootSpan(final Span parentSpan) {
         final TraceGroup traceGroup = TraceGroup.fromSpan(parentSpan);
-        final String parentSpanTraceId = parentSpan.getTraceId();
-        traceIdTraceGroupCache.put(parentSpanTraceId, traceGroup);
+        final TraceIdKey parentSpanTraceIdKey = TraceIdKey.fromTraceId(parentSpan.getTraceId());
+        traceIdTraceGroupCache.put(parentSpanTraceIdKey, traceGroup);
 
         final List<Span> recordsToFlush = new LinkedList<>();
         recordsToFlush.add(parentSpan);
 
-        final SpanSet spanSet = traceIdSpanSetMap.get(parentSpanTraceId);
+        final SpanSet spanSet = traceIdSpanSetMap.remove(parentSpanTraceIdKey);
         if (spanSet != null) {
+            spanSetBytes.addAndGet(-spanSet.getSizeInBytes());
+            spanSetExpiryIndex.remove(spanSet);
             for (final Span span : spanSet.getSpans()) {
                 fillInTraceGroupInfo(span, traceGroup);
                 recordsToFlush.add(span);
             }
-
-            traceIdSpanSetMap.remove(parentSpanTraceId);
         }
 
         return recordsToFlush;
@@ -150,18 +170,19 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      * @return Optional containing childSpan if its traceGroup is in memory, otherwise an empty Optional
      */
     private Optional<Span> processChildSpan(final Span childSpan) {
-        final String childSpanTraceId = childSpan.getTraceId();
-        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(childSpanTraceId);
+        final TraceIdKey childSpanTraceIdKey = TraceIdKey.fromTraceId(childSpan.getTraceId());
+        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(childSpanTraceIdKey);
 
         if (traceGroup != null) {
             fillInTraceGroupInfo(childSpan, traceGroup);
             return Optional.of(childSpan);
         } else {
-            traceIdSpanSetMap.compute(childSpanTraceId, (traceId, spanSet) -> {
+            traceIdSpanSetMap.compute(childSpanTraceIdKey, (traceIdKey, spanSet) -> {
                 if (spanSet == null) {
-                    spanSet = new SpanSet();
+                    spanSet = new SpanSet(traceIdKey, isSpanBufferBounded);
+                    spanSetExpiryIndex.add(spanSet);
                 }
-                spanSet.addSpan(childSpan);
+                spanSetBytes.addAndGet(spanSet.addSpan(childSpan));
                 return spanSet;
             });
 
@@ -173,6 +194,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      * Periodically flush spans from memory. Typically all spans of a trace are written
      * once the trace's root span arrives, however some child spans my arrive after the root span.
      * This method ensures "orphaned" child spans are eventually flushed from memory.
+     * Only the traces in the buckets of the expiry index which are due are visited.
      * @return List of RawSpans to be sent down the pipeline
      */
     private List<Span> getTracesToFlushByGarbageCollection() {
@@ -186,30 +208,9 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
                     final long now = System.currentTimeMillis();
                     lastTraceFlushTime = now;
 
-                    final Iterator<Map.Entry<String, SpanSet>> entryIterator = traceIdSpanSetMap.entrySet().iterator();
-                    while (entryIterator.hasNext()) {
-                        final Map.Entry<String, SpanSet> entry = entryIterator.next();
-                        final String traceId = entry.getKey();
-                        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(traceId);
-                        final SpanSet spanSet = entry.getValue();
-                        final long traceTime = spanSet.getTimeSeen();
-                        if (now - traceTime >= traceFlushInterval || isShuttingDown) {
-                            final Set<Span> spans = spanSet.getSpans();
-                            if (traceGroup != null) {
-                                spans.forEach(span -> {
-                                    fillInTraceGroupInfo(span, traceGroup);
-                                    fillInServiceName(span);
-                                    recordsToFlush.add(span);
-                                });
-                            } else {
-                                LOG.warn("There are {} spans with missing trace groups. Unable to populate with trace group information.", spans.size());
-                                spans.forEach(span -> {
-                                    recordsToFlush.add(span);
-                                    LOG.debug("Missing trace group for SpanId: {}", span.getSpanId());
-                                });
-                            }
-                            entryIterator.remove();
-                        }
+                    final long lastTimeSeenToFlush = isShuttingDown ? Long.MAX_VALUE : now - traceFlushInterval;
+                    for (final SpanSet spanSet : spanSetExpiryIndex.removeSeenAtOrBefore(lastTimeSeenToFlush)) {
+                        flushSpanSet(spanSet, recordsToFlush);
                     }
                     if (!recordsToFlush.isEmpty()) {
                         LOG.info("Flushing {} records", recordsToFlush.size());
@@ -223,6 +224,62 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
         return recordsToFlush;
     }
 
+    /**
+     * Flushes the traces which were seen first, before their flush interval, while the estimated size of the buffered
+     * spans exceeds the configured maximum. The sizes are only estimated when a maximum is configured.
+     * @return List of RawSpans to be sent down the pipeline
+     */
+    private List<Span> getTracesToFlushByMemoryLimit() {
+        final List<Span> recordsToFlush = new LinkedList<>();
+
+        if (spanSetBytes.get() > spanBufferMaxBytes && traceFlushLock.tryLock()) {
+            try {
+                int flushedTraces = 0;
+                for (final SpanSet spanSet : spanSetExpiryIndex.removeOldest(spanSetBytes.get() - spanBufferMaxBytes)) {
+                    if (flushSpanSet(spanSet, recordsToFlush)) {
+                        flushedTraces++;
+                    }
+                }
+                tracesFlushedByMemoryLimitCounter.increment(flushedTraces);
+                LOG.debug("Flushed {} traces with {} spans early as the buffered spans exceed {} bytes",
+                        flushedTraces, recordsToFlush.size(), spanBufferMaxBytes);
+            } finally {
+                traceFlushLock.unlock();
+            }
+        }
+
+        return recordsToFlush;
+    }
+
+    /**
+     * Removes a span set which was removed from the expiry index from memory, and adds its spans to the records to
+     * flush.
+     * @return true if the span set was still in memory
+     */
+    private boolean flushSpanSet(final SpanSet spanSet, final List<Span> recordsToFlush) {
+        if (!traceIdSpanSetMap.remove(spanSet.getTraceIdKey(), spanSet)) {
+            return false;
+        }
+        spanSetBytes.addAndGet(-spanSet.getSizeInBytes());
+
+        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(spanSet.getTraceIdKey());
+        final Set<Span> spans = spanSet.getSpans();
+        if (traceGroup != null) {
+            spans.forEach(span -> {
+                fillInTraceGroupInfo(span, traceGroup);
+                fillInServiceName(span);
+                recordsToFlush.add(span);
+            });
+        } else {
+            LOG.warn("There are {} spans with missing trace groups. Unable to populate with trace group information.", spans.size());
+            spans.forEach(span -> {
+                recordsToFlush.add(span);
+                LOG.debug("Missing trace group for SpanId: {}", span.getSpanId());
+            });
+        }
+        return true;
+    }
+
     private void fillInTraceGroupInfo(final Span span, final TraceGroup traceGroup) {
         span.setTraceGroup(traceGroup.getTraceGroup());
         span.setTraceGroupFields(traceGroup.getTraceGroupFields());
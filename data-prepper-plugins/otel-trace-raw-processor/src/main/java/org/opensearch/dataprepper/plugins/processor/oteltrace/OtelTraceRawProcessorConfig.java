@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonClassDescription;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.opensearch.dataprepper.model.types.ByteCount;
 
 import java.time.Duration;
 
@@ -36,6 +37,13 @@ public class OtelTraceRawProcessorConfig {
             "Default is <code>1000000</code>.")
     private long traceGroupCacheMaxSize = MAX_TRACE_ID_CACHE_SIZE;
 
+    @JsonProperty("span_buffer_max_size")
+    @JsonPropertyDescription("Represents the maximum estimated size of the descendant spans held in memory while " +
+            "waiting for their root span, such as <code>512mb</code>. When it is exceeded, the traces which were seen " +
+            "first are flushed before their <code>trace_flush_interval</code>. By default, there is no maximum size " +
+            "and the sizes of the spans are not estimated.")
+    private ByteCount spanBufferMaxSize;
+
     public long getTraceFlushIntervalSeconds() {
         return traceFlushInterval;
     }
@@ -47,4 +55,8 @@ public class OtelTraceRawProcessorConfig {
     public long getTraceGroupCacheMaxSize() {
         return traceGroupCacheMaxSize;
     }
+
+    public ByteCount getSpanBufferMaxSize() {
+        return spanBufferMaxSize;
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Indexes span sets by the time they were first seen, in buckets of {@link #BUCKET_WIDTH_MILLIS}, so that finding the
+ * span sets to flush visits only the buckets which are due instead of every buffered trace.
+ */
+class SpanSetExpiryIndex {
+    static final long BUCKET_WIDTH_MILLIS = 1_000L;
+
+    private final Map<Long, Set<SpanSet>> spanSetsByBucket = new ConcurrentHashMap<>();
+
+    void add(final SpanSet spanSet) {
+        spanSetsByBucket.compute(getBucket(spanSet.getTimeSeen()), (bucket, spanSets) -> {
+            final Set<SpanSet> bucketSpanSets = spanSets != null ? spanSets : ConcurrentHashMap.newKeySet();
+            bucketSpanSets.add(spanSet);
+            return bucketSpanSets;
+        });
+    }
+
+    void remove(final SpanSet spanSet) {
+        spanSetsByBucket.computeIfPresent(getBucket(spanSet.getTimeSeen()), (bucket, spanSets) -> {
+            spanSets.remove(spanSet);
+            return spanSets.isEmpty() ? null : spanSets;
+        });
+    }
+
+    /**
+     * Removes the span sets which were first seen at or before a time.
+     *
+     * @param time the time in milliseconds since the epoch
+     * @return the removed span sets
+     */
+    List<SpanSet> removeSeenAtOrBefore(final long time) {
+        final long lastBucket = getBucket(time);
+        final List<SpanSet> removedSpanSets = new ArrayList<>();
+        for (final Long bucket : spanSetsByBucket.keySet()) {
+            if (bucket <= lastBucket) {
+                spanSetsByBucket.computeIfPresent(bucket, (key, spanSets) -> {
+                    spanSets.removeIf(spanSet -> {
+                        if (spanSet.getTimeSeen() <= time) {
+                            removedSpanSets.add(spanSet);
+                            return true;
+                        }
+                        return false;
+                    });
+                    return spanSets.isEmpty() ? null : spanSets;
+                });
+            }
+        }
+        return removedSpanSets;
+    }
+
+    /**
+     * Removes the span sets in the oldest buckets until their estimated size reaches a number of bytes.
+     *
+     * @param sizeInBytes the estimated size to remove
+     * @return the removed span sets
+     */
+    List<SpanSet> removeOldest(final long sizeInBytes) {
+        final List<Long> buckets = new ArrayList<>(spanSetsByBucket.keySet());
+        Collections.sort(buckets);
+        final List<SpanSet> removedSpanSets = new ArrayList<>();
+        final long[] removedSizeInBytes = {0L};
+        for (final Long bucket : buckets) {
+            if (removedSizeInBytes[0] >= sizeInBytes) {
+                break;
+            }
+            spanSetsByBucket.computeIfPresent(bucket, (key, spanSets) -> {
+                final Iterator<SpanSet> iterator = spanSets.iterator();
+                while (iterator.hasNext() && removedSizeInBytes[0] < sizeInBytes) {
+                    final SpanSet spanSet = iterator.next();
+                    iterator.remove();
+                    removedSpanSets.add(spanSet);
+                    removedSizeInBytes[0] += spanSet.getSizeInBytes();
+                }
+                return spanSets.isEmpty() ? null : spanSets;
+            });
+        }
+        return removedSpanSets;
+    }
+
+    private static long getBucket(final long time) {
+        return Math.floorDiv(time, BUCKET_WIDTH_MILLIS);
+    }
+}
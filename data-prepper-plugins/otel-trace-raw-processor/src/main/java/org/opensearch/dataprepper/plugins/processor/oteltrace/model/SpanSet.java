@@ -5,19 +5,44 @@
 
 package org.opensearch.dataprepper.plugins.processor.oteltrace.model;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.opensearch.dataprepper.model.trace.Span;
 import com.google.common.collect.Sets;
 
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class SpanSet {
+    /**
+     * The estimated heap size of a JSON node and of a set or object entry which refers to it.
+     */
+    static final long NODE_SIZE_IN_BYTES = 48L;
 
+    private final TraceIdKey traceIdKey;
     private final Set<Span> spans;
     private final long timeSeen;
+    private final boolean isSizeEstimated;
+    private final AtomicLong sizeInBytes = new AtomicLong();
 
-    public SpanSet() {
+    public SpanSet(final TraceIdKey traceIdKey) {
+        this(traceIdKey, true);
+    }
+
+    /**
+     * @param traceIdKey the trace id of the spans
+     * @param isSizeEstimated whether to estimate the heap size of the spans which are added
+     */
+    public SpanSet(final TraceIdKey traceIdKey, final boolean isSizeEstimated) {
+        this.traceIdKey = traceIdKey;
         this.spans = Sets.newConcurrentHashSet();
         this.timeSeen = System.currentTimeMillis();
+        this.isSizeEstimated = isSizeEstimated;
+    }
+
+    public TraceIdKey getTraceIdKey() {
+        return traceIdKey;
     }
 
     public Set<Span> getSpans() {
@@ -28,7 +53,46 @@ public class SpanSet {
         return timeSeen;
     }
 
-    public void addSpan(final Span span) {
-        spans.add(span);
+    /**
+     * @return the estimated heap size of the spans in the set, or 0 if sizes are not estimated
+     */
+    public long getSizeInBytes() {
+        return sizeInBytes.get();
+    }
+
+    /**
+     * Adds the span to the set.
+     *
+     * @param span the span
+     * @return the estimated heap size which the set grew by, or 0 if sizes are not estimated
+     */
+    public long addSpan(final Span span) {
+        if (!spans.add(span) || !isSizeEstimated) {
+            return 0L;
+        }
+        final long spanSizeInBytes = estimateSizeInBytes(span.getJsonNode());
+        sizeInBytes.addAndGet(spanSizeInBytes);
+        return spanSizeInBytes;
+    }
+
+    /**
+     * Estimates the heap size of a span from the nodes and the characters of its JSON tree.
+     */
+    static long estimateSizeInBytes(final JsonNode jsonNode) {
+        long size = NODE_SIZE_IN_BYTES;
+        if (jsonNode.isTextual()) {
+            size += jsonNode.textValue().length();
+        } else if (jsonNode.isObject()) {
+            final Iterator<Map.Entry<String, JsonNode>> fields = jsonNode.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                size += field.getKey().length() + estimateSizeInBytes(field.getValue());
+            }
+        } else if (jsonNode.isArray()) {
+            for (final JsonNode element : jsonNode) {
+                size += estimateSizeInBytes(element);
+            }
+        }
+        return size;
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace.model;
+
+import java.util.Objects;
+
+/**
+ * A compact key for a trace ID. The 32 lowercase hexadecimal characters of an OpenTelemetry trace ID are kept as two
+ * longs, and any other trace ID is kept as it is.
+ */
+public final class TraceIdKey {
+    private static final int HEX_TRACE_ID_LENGTH = 32;
+    private static final int HEX_CHARACTERS_PER_LONG = 16;
+
+    private final long high;
+    private final long low;
+    private final String traceId;
+
+    private TraceIdKey(final long high, final long low, final String traceId) {
+        this.high = high;
+        this.low = low;
+        this.traceId = traceId;
+    }
+
+    public static TraceIdKey fromTraceId(final String traceId) {
+        if (traceId == null || traceId.length() != HEX_TRACE_ID_LENGTH) {
+            return new TraceIdKey(0L, 0L, traceId);
+        }
+        long high = 0L;
+        long low = 0L;
+        for (int i = 0; i < HEX_TRACE_ID_LENGTH; i++) {
+            final int digit = hexDigit(traceId.charAt(i));
+            if (digit < 0) {
+                return new TraceIdKey(0L, 0L, traceId);
+            }
+            if (i < HEX_CHARACTERS_PER_LONG) {
+                high = high << 4 | digit;
+            } else {
+                low = low << 4 | digit;
+            }
+        }
+        return new TraceIdKey(high, low, null);
+    }
+
+    private static int hexDigit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof TraceIdKey)) {
+            return false;
+        }
+        final TraceIdKey otherKey = (TraceIdKey) other;
+        return high == otherKey.high && low == otherKey.low && Objects.equals(traceId, otherKey.traceId);
+    }
+
+    @Override
+    public int hashCode() {
+        if (traceId != null) {
+            return traceId.hashCode();
+        }
+        return 31 * Long.hashCode(high) + Long.hashCode(low);
+    }
+
+    @Override
+    public String toString() {
+        if (traceId != null) {
+            return traceId;
+        }
+        return toHex(high) + toHex(low);
+    }
+
+    private static String toHex(final long value) {
+        final String hex = Long.toHexString(value);
+        return "0".repeat(HEX_CHARACTERS_PER_LONG - hex.length()) + hex;
+    }
+}
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.processor.oteltrace;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
 import org.assertj.core.api.Assertions;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.AfterEach;
@@ -22,6 +23,7 @@ import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
 import org.opensearch.dataprepper.model.trace.JacksonSpan;
 import org.opensearch.dataprepper.model.trace.Span;
 import org.opensearch.dataprepper.model.trace.TraceGroupFields;
+import org.opensearch.dataprepper.model.types.ByteCount;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -44,6 +46,7 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -250,6 +253,83 @@ class OTelTraceRawProcessorTest {
         assertThat(actualFunction.applyAsDouble(actualMeasuredObject), equalTo(1.0));
     }
 
+    @Test
+    void testMetricsOnSpanSetBytes() {
+        reset(config, pluginMetrics);
+        when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
+        when(config.getTraceGroupCacheMaxSize()).thenReturn(OtelTraceRawProcessorConfig.MAX_TRACE_ID_CACHE_SIZE);
+        when(config.getTraceGroupCacheTimeToLive()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_ID_TTL);
+        when(config.getSpanBufferMaxSize()).thenReturn(ByteCount.parse("1mb"));
+        oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
+
+        ArgumentCaptor<Object> gaugeObjectArgumentCaptor = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<ToDoubleFunction> gaugeFunctionArgumentCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(pluginMetrics).gauge(eq(OTelTraceRawProcessor.SPAN_SET_BYTES_METRIC_NAME), gaugeObjectArgumentCaptor.capture(), gaugeFunctionArgumentCaptor.capture());
+        final Object actualMeasuredObject = gaugeObjectArgumentCaptor.getValue();
+        final ToDoubleFunction actualFunction = gaugeFunctionArgumentCaptor.getValue();
+
+        assertThat(actualFunction.applyAsDouble(actualMeasuredObject), equalTo(0.0));
+
+        oTelTraceRawProcessor.doExecute(TEST_ONE_TRACE_GROUP_MISSING_ROOT_RECORDS);
+
+        MatcherAssert.assertThat(actualFunction.applyAsDouble(actualMeasuredObject), greaterThan(0.0));
+
+        oTelTraceRawProcessor.doExecute(Collections.singletonList(new Record<>(TEST_TRACE_GROUP_2_ROOT_SPAN)));
+
+        assertThat(actualFunction.applyAsDouble(actualMeasuredObject), equalTo(0.0));
+    }
+
+    @Test
+    void testMetricsOnSpanSetBytes_without_spanBufferMaxSize_does_not_estimate_sizes() {
+        ArgumentCaptor<Object> gaugeObjectArgumentCaptor = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<ToDoubleFunction> gaugeFunctionArgumentCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(pluginMetrics).gauge(eq(OTelTraceRawProcessor.SPAN_SET_BYTES_METRIC_NAME), gaugeObjectArgumentCaptor.capture(), gaugeFunctionArgumentCaptor.capture());
+        final Object actualMeasuredObject = gaugeObjectArgumentCaptor.getValue();
+        final ToDoubleFunction actualFunction = gaugeFunctionArgumentCaptor.getValue();
+
+        final Collection<Record<Span>> processedRecords = oTelTraceRawProcessor.doExecute(TEST_ONE_TRACE_GROUP_MISSING_ROOT_RECORDS);
+
+        MatcherAssert.assertThat(processedRecords.size(), equalTo(0));
+        assertThat(actualFunction.applyAsDouble(actualMeasuredObject), equalTo(0.0));
+        assertFalse(oTelTraceRawProcessor.isReadyForShutdown());
+    }
+
+    @Test
+    void spanBufferMaxSize_flushes_traces_before_the_flush_interval() {
+        reset(config);
+        when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
+        when(config.getTraceGroupCacheMaxSize()).thenReturn(OtelTraceRawProcessorConfig.MAX_TRACE_ID_CACHE_SIZE);
+        when(config.getTraceGroupCacheTimeToLive()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_ID_TTL);
+        when(config.getSpanBufferMaxSize()).thenReturn(ByteCount.ofBytes(1));
+        final Counter tracesFlushedByMemoryLimitCounter = mock(Counter.class);
+        when(pluginMetrics.counter(OTelTraceRawProcessor.TRACES_FLUSHED_BY_MEMORY_LIMIT_METRIC_NAME)).thenReturn(tracesFlushedByMemoryLimitCounter);
+
+        oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
+
+        final Collection<Record<Span>> processedRecords = oTelTraceRawProcessor.doExecute(TEST_TWO_TRACE_GROUP_MISSING_ROOT_RECORDS);
+
+        MatcherAssert.assertThat(processedRecords.size(), equalTo(4));
+        MatcherAssert.assertThat(getMissingTraceGroupFieldsSpanCount(processedRecords), equalTo(4));
+        verify(tracesFlushedByMemoryLimitCounter).increment(2);
+        assertTrue(oTelTraceRawProcessor.isReadyForShutdown());
+    }
+
+    @Test
+    void spanBufferMaxSize_does_not_flush_traces_below_the_maximum_size() {
+        reset(config);
+        when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
+        when(config.getTraceGroupCacheMaxSize()).thenReturn(OtelTraceRawProcessorConfig.MAX_TRACE_ID_CACHE_SIZE);
+        when(config.getTraceGroupCacheTimeToLive()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_ID_TTL);
+        when(config.getSpanBufferMaxSize()).thenReturn(ByteCount.parse("1mb"));
+
+        oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
+
+        final Collection<Record<Span>> processedRecords = oTelTraceRawProcessor.doExecute(TEST_TWO_TRACE_GROUP_MISSING_ROOT_RECORDS);
+
+        MatcherAssert.assertThat(processedRecords.size(), equalTo(0));
+        assertFalse(oTelTraceRawProcessor.isReadyForShutdown());
+    }
+
     @ParameterizedTest
     @CsvSource({
             "0, 4",
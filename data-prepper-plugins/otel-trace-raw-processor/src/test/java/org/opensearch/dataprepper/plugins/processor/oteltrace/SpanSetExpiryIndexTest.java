@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+class SpanSetExpiryIndexTest {
+    private static final long TIME = 1_700_000_000_000L;
+
+    private SpanSetExpiryIndex objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        objectUnderTest = new SpanSetExpiryIndex();
+    }
+
+    private static SpanSet createSpanSet(final long timeSeen, final long sizeInBytes) {
+        final SpanSet spanSet = mock(SpanSet.class);
+        lenient().when(spanSet.getTimeSeen()).thenReturn(timeSeen);
+        lenient().when(spanSet.getSizeInBytes()).thenReturn(sizeInBytes);
+        return spanSet;
+    }
+
+    @Test
+    void removeSeenAtOrBefore_removes_only_the_span_sets_seen_at_or_before_the_time() {
+        final SpanSet first = createSpanSet(TIME, 10);
+        final SpanSet sameBucketAsFirst = createSpanSet(TIME + 1, 10);
+        final SpanSet sameBucketAfterTime = createSpanSet(TIME + 2, 10);
+        final SpanSet laterBucket = createSpanSet(TIME + 5 * SpanSetExpiryIndex.BUCKET_WIDTH_MILLIS, 10);
+        List.of(first, sameBucketAsFirst, sameBucketAfterTime, laterBucket).forEach(objectUnderTest::add);
+
+        assertThat(objectUnderTest.removeSeenAtOrBefore(TIME + 1), containsInAnyOrder(first, sameBucketAsFirst));
+        assertThat(objectUnderTest.removeSeenAtOrBefore(TIME + 1), empty());
+        assertThat(objectUnderTest.removeSeenAtOrBefore(Long.MAX_VALUE), containsInAnyOrder(sameBucketAfterTime, laterBucket));
+        assertThat(objectUnderTest.removeSeenAtOrBefore(Long.MAX_VALUE), empty());
+    }
+
+    @Test
+    void remove_removes_the_span_set_from_its_bucket() {
+        final SpanSet removed = createSpanSet(TIME, 10);
+        final SpanSet remaining = createSpanSet(TIME, 10);
+        final SpanSet removedFromOwnBucket = createSpanSet(TIME + SpanSetExpiryIndex.BUCKET_WIDTH_MILLIS, 10);
+        List.of(removed, remaining, removedFromOwnBucket).forEach(objectUnderTest::add);
+
+        objectUnderTest.remove(removed);
+        objectUnderTest.remove(removedFromOwnBucket);
+        objectUnderTest.remove(removedFromOwnBucket);
+
+        assertThat(objectUnderTest.removeSeenAtOrBefore(Long.MAX_VALUE), contains(remaining));
+    }
+
+    @Test
+    void removeOldest_removes_span_sets_from_the_oldest_buckets_until_the_size_is_reached() {
+        final SpanSet oldest = createSpanSet(TIME, 10);
+        final SpanSet middle = createSpanSet(TIME + SpanSetExpiryIndex.BUCKET_WIDTH_MILLIS, 10);
+        final SpanSet newest = createSpanSet(TIME + 2 * SpanSetExpiryIndex.BUCKET_WIDTH_MILLIS, 10);
+        List.of(newest, oldest, middle).forEach(objectUnderTest::add);
+
+        assertThat(objectUnderTest.removeOldest(15), contains(oldest, middle));
+        assertThat(objectUnderTest.removeOldest(0), empty());
+        assertThat(objectUnderTest.removeOldest(Long.MAX_VALUE), contains(newest));
+        assertThat(objectUnderTest.removeOldest(Long.MAX_VALUE), empty());
+    }
+
+    @Test
+    void removeOldest_keeps_the_rest_of_a_bucket_once_the_size_is_reached() {
+        final SpanSet first = createSpanSet(TIME, 10);
+        final SpanSet second = createSpanSet(TIME, 10);
+        List.of(first, second).forEach(objectUnderTest::add);
+
+        final List<SpanSet> removed = objectUnderTest.removeOldest(5);
+        final List<SpanSet> remaining = objectUnderTest.removeSeenAtOrBefore(TIME);
+
+        assertThat(removed, hasSize(1));
+        assertThat(remaining, hasSize(1));
+        assertThat(List.of(removed.get(0), remaining.get(0)), containsInAnyOrder(first, second));
+    }
+}
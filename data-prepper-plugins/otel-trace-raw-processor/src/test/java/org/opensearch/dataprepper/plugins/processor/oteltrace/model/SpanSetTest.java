@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SpanSetTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void addSpan_accounts_for_the_estimated_size_of_each_span_once() throws Exception {
+        final TraceIdKey traceIdKey = TraceIdKey.fromTraceId(UUID.randomUUID().toString());
+        final JsonNode jsonNode = OBJECT_MAPPER.readTree("{\"name\":\"abc\",\"attributes\":{\"key\":[1,\"de\"]},\"durationInNanos\":5}");
+        final Span span = mock(Span.class);
+        when(span.getJsonNode()).thenReturn(jsonNode);
+        final long before = System.currentTimeMillis();
+
+        final SpanSet objectUnderTest = new SpanSet(traceIdKey);
+
+        assertThat(objectUnderTest.getTraceIdKey(), sameInstance(traceIdKey));
+        assertThat(objectUnderTest.getTimeSeen(), greaterThanOrEqualTo(before));
+        assertThat(objectUnderTest.getTimeSeen(), lessThanOrEqualTo(System.currentTimeMillis()));
+        assertThat(objectUnderTest.getSizeInBytes(), equalTo(0L));
+
+        final long expectedSizeInBytes = 7 * SpanSet.NODE_SIZE_IN_BYTES + "name".length() + "abc".length() +
+                "attributes".length() + "key".length() + "de".length() + "durationInNanos".length();
+        assertThat(objectUnderTest.addSpan(span), equalTo(expectedSizeInBytes));
+        assertThat(objectUnderTest.addSpan(span), equalTo(0L));
+        assertThat(objectUnderTest.getSizeInBytes(), equalTo(expectedSizeInBytes));
+        assertThat(objectUnderTest.getSpans(), hasItem(span));
+    }
+
+    @Test
+    void addSpan_does_not_estimate_the_size_when_sizes_are_not_estimated() {
+        final Span span = mock(Span.class);
+
+        final SpanSet objectUnderTest = new SpanSet(TraceIdKey.fromTraceId(UUID.randomUUID().toString()), false);
+
+        assertThat(objectUnderTest.addSpan(span), equalTo(0L));
+        assertThat(objectUnderTest.getSizeInBytes(), equalTo(0L));
+        assertThat(objectUnderTest.getSpans(), hasItem(span));
+        verifyNoInteractions(span);
+    }
+}
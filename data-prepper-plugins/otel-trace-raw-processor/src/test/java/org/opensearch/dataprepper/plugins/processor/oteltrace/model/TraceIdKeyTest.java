@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TraceIdKeyTest {
+    @ParameterizedTest
+    @ValueSource(strings = {"0123456789abcdef0fedcba987654321", "00000000000000000000000000000001",
+            "ffffffffffffffffffffffffffffffff", "TRACE_ID_1", "0123456789ABCDEF0FEDCBA987654321",
+            "0123456789abcdef0fedcba98765432g", "0123456789abcdef0fedcba98765432/", "0123456789abcdef", ""})
+    void fromTraceId_returns_keys_which_are_equal_for_equal_trace_ids(final String traceId) {
+        final TraceIdKey traceIdKey = TraceIdKey.fromTraceId(traceId);
+        final TraceIdKey otherTraceIdKey = TraceIdKey.fromTraceId(new String(traceId));
+
+        assertThat(traceIdKey, equalTo(otherTraceIdKey));
+        assertThat(traceIdKey.hashCode(), equalTo(otherTraceIdKey.hashCode()));
+        assertThat(traceIdKey.toString(), equalTo(traceId));
+    }
+
+    @Test
+    void fromTraceId_returns_keys_which_differ_for_different_trace_ids() {
+        final String traceId = UUID.randomUUID().toString().replace("-", "");
+        final TraceIdKey traceIdKey = TraceIdKey.fromTraceId(traceId);
+
+        assertThat(traceIdKey, not(equalTo(TraceIdKey.fromTraceId(traceId.substring(1) + "0"))));
+        assertThat(traceIdKey, not(equalTo(TraceIdKey.fromTraceId(traceId.substring(0, 16) + "ffffffffffffffff"))));
+        assertThat(traceIdKey, not(equalTo(TraceIdKey.fromTraceId(traceId.toUpperCase() + "_"))));
+        assertThat(TraceIdKey.fromTraceId("00000000000000000000000000000000"), not(equalTo(TraceIdKey.fromTraceId("TRACE_ID_1"))));
+        assertThat(traceIdKey, not(equalTo((Object) traceId)));
+        assertThat(traceIdKey, equalTo(traceIdKey));
+    }
+
+    @Test
+    void fromTraceId_with_null_trace_id() {
+        assertThat(TraceIdKey.fromTraceId(null), equalTo(TraceIdKey.fromTraceId(null)));
+        assertThat(TraceIdKey.fromTraceId(null).hashCode(), equalTo(TraceIdKey.fromTraceId(null).hashCode()));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounds the number of multipart part uploads which are in flight across all the {@link S3OutputStream}s of a sink.
+ * A part upload which exceeds the bound is queued and started once another part upload completes, so a stream never
+ * blocks while it is written. Writers wait for the queue with {@link #awaitPartUploadCapacity()} before they take any
+ * lock, which bounds the memory held by the queued parts.
+ * <p>
+ * It also keeps the size of the parts which are still being uploaded after their stream was closed. Those parts are
+ * no longer in any group, so the sink adds them to the size of its groups when checking the aggregate threshold.
+ */
+public class PartUploadLimiter {
+    private final int maximumPartUploads;
+    private final Queue<Runnable> queuedPartUploads = new ArrayDeque<>();
+    private int partUploadsInFlight;
+    private final AtomicLong closedStreamBytesInFlight = new AtomicLong();
+
+    public PartUploadLimiter(final int maximumPartUploads) {
+        if (maximumPartUploads < 1) {
+            throw new IllegalArgumentException("The maximum number of in flight part uploads must be at least 1.");
+        }
+        this.maximumPartUploads = maximumPartUploads;
+    }
+
+    /**
+     * @return the size in bytes of the parts which are in flight for streams which have been closed
+     */
+    public long getClosedStreamBytesInFlight() {
+        return closedStreamBytesInFlight.get();
+    }
+
+    /**
+     * Waits until fewer than the maximum number of part uploads are queued. Queued part uploads only wait for part
+     * uploads which have started, so this must be called without holding a lock which a writer may hold.
+     */
+    public synchronized void awaitPartUploadCapacity() {
+        while (queuedPartUploads.size() >= maximumPartUploads) {
+            try {
+                wait();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Starts the part upload now if fewer than the maximum number of part uploads are in flight, and otherwise queues
+     * it. The part upload must call {@link #release()} once it has completed.
+     *
+     * @param partUpload starts the upload of a part
+     */
+    void start(final Runnable partUpload) {
+        synchronized (this) {
+            queuedPartUploads.add(partUpload);
+        }
+        startQueuedPartUploads();
+    }
+
+    void release() {
+        synchronized (this) {
+            partUploadsInFlight--;
+        }
+        startQueuedPartUploads();
+    }
+
+    synchronized int getQueuedPartUploads() {
+        return queuedPartUploads.size();
+    }
+
+    void addClosedStreamBytesInFlight(final long bytes) {
+        closedStreamBytesInFlight.addAndGet(bytes);
+    }
+
+    private void startQueuedPartUploads() {
+        while (true) {
+            final Runnable partUpload;
+            synchronized (this) {
+                if (queuedPartUploads.isEmpty() || partUploadsInFlight >= maximumPartUploads) {
+                    return;
+                }
+                partUpload = queuedPartUploads.poll();
+                partUploadsInFlight++;
+                notifyAll();
+            }
+            partUpload.run();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
@@ -19,21 +20,25 @@ import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
-import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+/**
+ * An output stream which writes to an S3 multipart upload. The data is cut into parts of a fixed size while it is
+ * written and each full part is uploaded in the background, so the object is uploaded while it is still being built.
+ * Writing never waits for a part upload. The part uploads are started by a {@link PartUploadLimiter}, which bounds
+ * the part uploads across all the streams of a sink and queues the others, and the writers wait for the queue before
+ * they write to a stream.
+ */
 public class S3OutputStream extends PositionOutputStream {
     private static final Logger LOG = LoggerFactory.getLogger(S3OutputStream.class);
 
@@ -44,6 +49,11 @@ public class S3OutputStream extends PositionOutputStream {
      */
     protected static final int BUFFER_SIZE = 10 * 1024 * 1024;
 
+    /**
+     * Default number of parts which are uploaded at the same time
+     */
+    protected static final int MAX_PARTS_IN_FLIGHT = 4;
+
     /**
      * The bucket-name on Amazon S3
      */
@@ -54,19 +64,37 @@ public class S3OutputStream extends PositionOutputStream {
      */
     private final String key;
 
+    /**
+     * The size of each part except the last one
+     */
+    private final int partSize;
+
     /**
      * The temporary buffer used for storing the chunks
      */
-    private final byte[] buf;
+    private byte[] buf;
 
     private final S3AsyncClient s3Client;
 
     private final BucketOwnerProvider bucketOwnerProvider;
 
+    private final PartUploadLimiter partUploadLimiter;
+
+    /**
+     * The size of the parts whose upload has not completed, including the queued parts, guarded by this stream
+     */
+    private long bytesInFlight;
+
+    /**
+     * The uploads of the parts which have been started, in part number order
+     */
+    private final List<CompletableFuture<CompletedPart>> partUploads;
+
     /**
-     * Collection of the etags for the parts that have been uploaded
+     * Part buffers whose upload has completed, which are reused for the next parts
      */
-    private final List<String> etags;
+    private final Queue<byte[]> freeBuffers;
+
     /**
      * The position in the buffer
      */
@@ -78,15 +106,13 @@ public class S3OutputStream extends PositionOutputStream {
     /**
      * indicates whether the stream is still open / valid
      */
-    private boolean open;
+    private volatile boolean open;
 
     /**
      * The default bucket to send to when upload fails with dynamic bucket
      */
     private final String defaultBucket;
 
-    private final ExecutorService executorService;
-
     /**
      * Creates a new S3 OutputStream
      *
@@ -101,27 +127,68 @@ public class S3OutputStream extends PositionOutputStream {
                           final Supplier<String> keySupplier,
                           final String defaultBucket,
                           final BucketOwnerProvider bucketOwnerProvider) {
+        this(s3Client, bucketSupplier, keySupplier, defaultBucket, bucketOwnerProvider, new PartUploadLimiter(MAX_PARTS_IN_FLIGHT));
+    }
+
+    /**
+     * Creates a new S3 OutputStream
+     *
+     * @param s3Client the AmazonS3 client
+     * @param bucketSupplier  name of the bucket
+     * @param keySupplier     path within the bucket
+     * @param defaultBucket default bucket
+     * @param bucketOwnerProvider bucket owner provider
+     * @param partUploadLimiter the limiter of the part uploads which is shared by the streams of the sink
+     */
+    public S3OutputStream(final S3AsyncClient s3Client,
+                          final Supplier<String> bucketSupplier,
+                          final Supplier<String> keySupplier,
+                          final String defaultBucket,
+                          final BucketOwnerProvider bucketOwnerProvider,
+                          final PartUploadLimiter partUploadLimiter) {
+        this(s3Client, bucketSupplier, keySupplier, defaultBucket, bucketOwnerProvider, partUploadLimiter, BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new S3 OutputStream
+     *
+     * @param s3Client the AmazonS3 client
+     * @param bucketSupplier  name of the bucket
+     * @param keySupplier     path within the bucket
+     * @param defaultBucket default bucket
+     * @param bucketOwnerProvider bucket owner provider
+     * @param partUploadLimiter the limiter of the part uploads which is shared by the streams of the sink
+     * @param partSize the size of each part except the last one
+     */
+    public S3OutputStream(final S3AsyncClient s3Client,
+                          final Supplier<String> bucketSupplier,
+                          final Supplier<String> keySupplier,
+                          final String defaultBucket,
+                          final BucketOwnerProvider bucketOwnerProvider,
+                          final PartUploadLimiter partUploadLimiter,
+                          final int partSize) {
+        if (partSize < 1) {
+            throw new IllegalArgumentException("The part size must be at least 1.");
+        }
         this.s3Client = s3Client;
         this.bucket = bucketSupplier.get();
         this.key = keySupplier.get();
-        buf = new byte[BUFFER_SIZE];
+        this.partSize = partSize;
+        buf = new byte[partSize];
         position = 0;
-        etags = new ArrayList<>();
+        partUploads = new ArrayList<>();
+        freeBuffers = new ConcurrentLinkedQueue<>();
         open = true;
         this.defaultBucket = defaultBucket;
-        this.executorService = Executors.newSingleThreadExecutor();
         this.bucketOwnerProvider = bucketOwnerProvider;
+        this.partUploadLimiter = partUploadLimiter;
     }
 
     @Override
     public void write(int b) {
         assertOpen();
         if (position >= buf.length) {
-            try {
-                flushBufferAndRewind();
-            } catch (ExecutionException | InterruptedException e) {
-                throw new RuntimeException(e);
-            }
+            flushBufferAndRewind();
         }
         buf[position++] = (byte) b;
     }
@@ -154,11 +221,7 @@ public class S3OutputStream extends PositionOutputStream {
         while (len > (size = buf.length - position)) {
             System.arraycopy(byteArray, ofs, buf, position, size);
             position += size;
-            try {
-                flushBufferAndRewind();
-            } catch (ExecutionException | InterruptedException e) {
-                throw new RuntimeException(e);
-            }
+            flushBufferAndRewind();
 
             ofs += size;
             len -= size;
@@ -174,49 +237,54 @@ public class S3OutputStream extends PositionOutputStream {
     public void flush() {
     }
 
+    /**
+     * Uploads the last part and completes the multipart upload once all the parts have been uploaded. If a part or the
+     * completion fails, the multipart upload is aborted so that S3 does not keep its parts.
+     *
+     * @param runOnCompletion called with whether the upload succeeded
+     * @param runOnError called with the failure of the upload
+     * @return a future which completes with the multipart upload, or null if the stream was already closed or the
+     * upload could not be started
+     */
     public CompletableFuture<?> close(final Consumer<Boolean> runOnCompletion, final Consumer<Throwable> runOnError) {
-        if (open) {
+        synchronized (this) {
+            if (!open) {
+                return null;
+            }
             open = false;
-            try {
-                possiblyStartMultipartUpload();
-
-                if (position > 0) {
-                    uploadPart();
-                }
-
-                CompletedPart[] completedParts = new CompletedPart[etags.size()];
-                for (int i = 0; i < etags.size(); i++) {
-                    completedParts[i] = CompletedPart.builder()
-                            .eTag(etags.get(i))
-                            .partNumber(i + 1)
-                            .build();
-                }
-
-                LOG.debug("Completing S3 multipart upload with {} parts.", completedParts.length);
+            partUploadLimiter.addClosedStreamBytesInFlight(bytesInFlight);
+        }
 
-                CompletedMultipartUpload completedMultipartUpload = CompletedMultipartUpload.builder()
-                        .parts(completedParts)
-                        .build();
-                CompleteMultipartUploadRequest completeMultipartUploadRequest = CompleteMultipartUploadRequest.builder()
-                        .bucket(bucket)
-                        .expectedBucketOwner(bucketOwnerProvider.getBucketOwner(defaultBucket).orElse(null))
-                        .key(key)
-                        .uploadId(uploadId)
-                        .multipartUpload(completedMultipartUpload)
-                        .build();
-                CompletableFuture<CompleteMultipartUploadResponse> multipartUploadResponseCompletableFuture = s3Client.completeMultipartUpload(completeMultipartUploadRequest);
+        final CompletableFuture<CompleteMultipartUploadResponse> multipartUploadResponseCompletableFuture;
+        try {
+            possiblyStartMultipartUpload();
 
-                multipartUploadResponseCompletableFuture.join();
+            if (position > 0) {
+                uploadPart();
+            }
+            buf = null;
+            freeBuffers.clear();
+
+            final List<CompletableFuture<CompletedPart>> completedPartFutures = new ArrayList<>(partUploads);
+            multipartUploadResponseCompletableFuture = CompletableFuture.allOf(completedPartFutures.toArray(new CompletableFuture[0]))
+                    .thenCompose(ignored -> completeMultipartUpload(completedPartFutures));
+        } catch (final Exception e) {
+            CompletableFuture.allOf(partUploads.toArray(new CompletableFuture[0]))
+                    .whenComplete((ignored, throwable) -> abortMultipartUpload());
+            runOnError.accept(e);
+            runOnCompletion.accept(false);
+            return null;
+        }
 
+        return multipartUploadResponseCompletableFuture.whenComplete((response, throwable) -> {
+            if (throwable == null) {
                 runOnCompletion.accept(true);
-                return multipartUploadResponseCompletableFuture;
-            } catch (final Exception e) {
-                runOnError.accept(e);
+            } else {
+                abortMultipartUpload();
+                runOnError.accept(throwable);
                 runOnCompletion.accept(false);
             }
-        }
-
-        return null;
+        });
     }
 
     public String getKey() {
@@ -229,12 +297,21 @@ public class S3OutputStream extends PositionOutputStream {
         }
     }
 
-    private void flushBufferAndRewind() throws ExecutionException, InterruptedException {
+    private void flushBufferAndRewind() {
         possiblyStartMultipartUpload();
         uploadPart();
+        buf = nextBuffer();
         position = 0;
     }
 
+    /**
+     * Returns a buffer for the next part, reusing the buffer of a part which has been uploaded when there is one.
+     */
+    private byte[] nextBuffer() {
+        final byte[] freeBuffer = freeBuffers.poll();
+        return freeBuffer != null ? freeBuffer : new byte[partSize];
+    }
+
     private void possiblyStartMultipartUpload() {
         if (uploadId == null) {
 
@@ -255,33 +332,114 @@ public class S3OutputStream extends PositionOutputStream {
         }
     }
 
+    /**
+     * Hands the buffer to the part upload limiter as the next part, which starts its upload once it has room for it.
+     * The buffer is not copied, so it must not be written to until the upload has completed; it is then returned to the
+     * free buffers.
+     */
     private void uploadPart() {
-        int partNumber = etags.size() + 1;
+        final int partNumber = partUploads.size() + 1;
+        final byte[] partBuffer = buf;
+        final int partLength = position;
         UploadPartRequest uploadRequest = UploadPartRequest.builder()
                 .bucket(bucket)
                 .expectedBucketOwner(bucketOwnerProvider.getBucketOwner(defaultBucket).orElse(null))
                 .key(key)
                 .uploadId(uploadId)
                 .partNumber(partNumber)
-                .contentLength((long) position)
+                .contentLength((long) partLength)
                 .build();
 
-        final InputStream inputStream = new ByteArrayInputStream(buf, 0, position);
+        final AsyncRequestBody asyncRequestBody = AsyncRequestBody.fromByteBufferUnsafe(ByteBuffer.wrap(partBuffer, 0, partLength));
 
-        AsyncRequestBody asyncRequestBody = AsyncRequestBody.fromInputStream(inputStream, (long) position, executorService);
+        LOG.debug("Writing {} bytes to S3 multipart part number {}.", partLength, partNumber);
 
-        LOG.debug("Writing {} bytes to S3 multipart part number {}.", buf.length, partNumber);
+        addBytesInFlight(partLength);
+        final CompletableFuture<CompletedPart> partUpload = new CompletableFuture<>();
+        partUploads.add(partUpload);
+        partUploadLimiter.start(() -> {
+            CompletableFuture<CompletedPart> uploadPartResponse;
+            try {
+                uploadPartResponse = s3Client.uploadPart(uploadRequest, asyncRequestBody)
+                        .thenApply(response -> CompletedPart.builder()
+                                .eTag(response.eTag())
+                                .partNumber(partNumber)
+                                .build());
+            } catch (final RuntimeException e) {
+                uploadPartResponse = CompletableFuture.failedFuture(e);
+            }
+            uploadPartResponse.whenComplete((completedPart, throwable) -> {
+                addBytesInFlight(-partLength);
+                if (open) {
+                    freeBuffers.offer(partBuffer);
+                }
+                partUploadLimiter.release();
+                if (throwable == null) {
+                    partUpload.complete(completedPart);
+                } else {
+                    partUpload.completeExceptionally(throwable);
+                }
+            });
+        });
+    }
 
-        CompletableFuture<UploadPartResponse> uploadPartResponseFuture = s3Client.uploadPart(uploadRequest, asyncRequestBody);
+    /**
+     * Tracks the size of the parts in flight. Once the stream is closed, the size is also tracked by the part upload
+     * limiter, since the stream is no longer counted in the size of its group.
+     */
+    private synchronized void addBytesInFlight(final long bytes) {
+        bytesInFlight += bytes;
+        if (!open) {
+            partUploadLimiter.addClosedStreamBytesInFlight(bytes);
+        }
+    }
 
-        final UploadPartResponse uploadPartResponse = uploadPartResponseFuture.join();
+    private void abortMultipartUpload() {
+        if (uploadId == null) {
+            return;
+        }
+        LOG.debug("Aborting S3 multipart upload {} bucket='{}',key='{}'.", uploadId, bucket, key);
+        final AbortMultipartUploadRequest abortMultipartUploadRequest = AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .expectedBucketOwner(bucketOwnerProvider.getBucketOwner(defaultBucket).orElse(null))
+                .key(key)
+                .uploadId(uploadId)
+                .build();
+        try {
+            s3Client.abortMultipartUpload(abortMultipartUploadRequest).whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    LOG.warn("Failed to abort S3 multipart upload {} for key {}.", uploadId, key, throwable);
+                }
+            });
+        } catch (final RuntimeException e) {
+            LOG.warn("Failed to abort S3 multipart upload {} for key {}.", uploadId, key, e);
+        }
+    }
+
+    private CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(final List<CompletableFuture<CompletedPart>> completedPartFutures) {
+        final CompletedPart[] completedParts = new CompletedPart[completedPartFutures.size()];
+        for (int i = 0; i < completedParts.length; i++) {
+            completedParts[i] = completedPartFutures.get(i).join();
+        }
+
+        LOG.debug("Completing S3 multipart upload with {} parts.", completedParts.length);
 
-        etags.add(uploadPartResponse.eTag());
+        CompletedMultipartUpload completedMultipartUpload = CompletedMultipartUpload.builder()
+                .parts(completedParts)
+                .build();
+        CompleteMultipartUploadRequest completeMultipartUploadRequest = CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .expectedBucketOwner(bucketOwnerProvider.getBucketOwner(defaultBucket).orElse(null))
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(completedMultipartUpload)
+                .build();
+        return s3Client.completeMultipartUpload(completeMultipartUploadRequest);
     }
 
     @Override
     public long getPos() throws IOException {
-        return position + (long) etags.size() * (long) BUFFER_SIZE;
+        return position + (long) partUploads.size() * (long) partSize;
     }
 
     private void createMultipartUpload() {
@@ -297,4 +455,3 @@ public class S3OutputStream extends PositionOutputStream {
         uploadId = response.uploadId();
     }
 }
-
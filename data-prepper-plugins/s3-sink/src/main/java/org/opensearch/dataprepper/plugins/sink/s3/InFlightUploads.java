@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of S3 uploads which are in flight across all the threads writing to the sink. Starting an upload
+ * when the window is full waits for the oldest upload to complete.
+ * <p>
+ * An upload leaves the window when its future completes or when it is finished by the thread which started it, so the
+ * window never depends on the completion callback alone.
+ */
+class InFlightUploads {
+    private static final Logger LOG = LoggerFactory.getLogger(InFlightUploads.class);
+
+    private final Semaphore permits;
+    private final Queue<Upload> uploads = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger numberOfUploads = new AtomicInteger();
+
+    InFlightUploads(final int maximumUploads) {
+        if (maximumUploads < 1) {
+            throw new IllegalArgumentException("The maximum number of in flight uploads must be at least 1.");
+        }
+        permits = new Semaphore(maximumUploads);
+    }
+
+    /**
+     * Starts an upload once the window has room for it. This must not be called while holding a lock which the
+     * uploads in flight need in order to complete.
+     *
+     * @param uploadStarter starts the upload and returns its future, if any
+     * @return the started upload, if the starter returned a future
+     */
+    Optional<Upload> start(final Supplier<Optional<CompletableFuture<?>>> uploadStarter) {
+        acquirePermit();
+        final Optional<CompletableFuture<?>> future;
+        try {
+            future = uploadStarter.get();
+        } catch (final RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        if (future.isEmpty()) {
+            permits.release();
+            return Optional.empty();
+        }
+
+        final Upload upload = new Upload(future.get());
+        uploads.add(upload);
+        numberOfUploads.incrementAndGet();
+        future.get().whenComplete((result, throwable) -> upload.finish());
+        return Optional.of(upload);
+    }
+
+    /**
+     * @return the number of uploads in flight
+     */
+    int getNumberOfUploads() {
+        return numberOfUploads.get();
+    }
+
+    private void acquirePermit() {
+        while (!permits.tryAcquire()) {
+            final Upload oldestUpload = uploads.peek();
+            if (oldestUpload == null) {
+                permits.acquireUninterruptibly();
+                return;
+            }
+            oldestUpload.await();
+        }
+    }
+
+    class Upload {
+        private final CompletableFuture<?> future;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private Upload(final CompletableFuture<?> future) {
+            this.future = future;
+        }
+
+        CompletableFuture<?> getFuture() {
+            return future;
+        }
+
+        /**
+         * Waits for the upload to complete and removes it from the window.
+         */
+        void await() {
+            try {
+                future.join();
+            } catch (final Exception e) {
+                LOG.debug("Upload completed exceptionally while waiting for room in the upload window", e);
+            }
+            finish();
+        }
+
+        /**
+         * Removes the upload from the window. This has no effect once the upload has been removed.
+         */
+        void finish() {
+            if (finished.compareAndSet(false, true)) {
+                uploads.remove(this);
+                numberOfUploads.decrementAndGet();
+                permits.release();
+            }
+        }
+    }
+}
@@ -21,14 +21,17 @@ import org.opensearch.dataprepper.model.sink.OutputCodecContext;
 import org.opensearch.dataprepper.model.sink.Sink;
 import org.opensearch.dataprepper.model.sink.SinkContext;
 import org.opensearch.dataprepper.plugins.codec.parquet.ParquetOutputCodec;
+import org.opensearch.dataprepper.plugins.codec.parquet.PartUploadLimiter;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferFactory;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferTypeOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.CodecBufferFactory;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.CompressionBufferFactory;
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.MultipartBufferFactory;
 import org.opensearch.dataprepper.plugins.sink.s3.codec.BufferedCodec;
 import org.opensearch.dataprepper.plugins.sink.s3.codec.CodecFactory;
 import org.opensearch.dataprepper.model.codec.CompressionEngine;
 import org.opensearch.dataprepper.plugins.sink.s3.compression.CompressionOption;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.ClientOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.grouping.S3GroupIdentifierFactory;
 import org.opensearch.dataprepper.plugins.sink.s3.grouping.S3GroupManager;
 import org.opensearch.dataprepper.plugins.sink.s3.ownership.BucketOwnerProvider;
@@ -85,7 +88,10 @@ public class S3Sink extends AbstractSink<Record<Event>> {
         sinkInitialized = Boolean.FALSE;
 
         final S3AsyncClient s3Client = ClientFactory.createS3AsyncClient(s3SinkConfig, awsCredentialsSupplier);
-        BufferFactory innerBufferFactory = s3SinkConfig.getBufferType().getBufferFactory();
+        final PartUploadLimiter partUploadLimiter = new PartUploadLimiter(s3SinkConfig.getClientOptions() != null ?
+                s3SinkConfig.getClientOptions().getMaxConnections() : ClientOptions.DEFAULT_MAX_CONNECTIONS);
+        BufferFactory innerBufferFactory = s3SinkConfig.getBufferType() == BufferTypeOptions.MULTI_PART ?
+                new MultipartBufferFactory(partUploadLimiter) : s3SinkConfig.getBufferType().getBufferFactory();
         if(testCodec instanceof ParquetOutputCodec && s3SinkConfig.getBufferType() != BufferTypeOptions.INMEMORY) {
             throw new InvalidPluginConfigurationException("The Parquet sink codec is an in_memory buffer only.");
         }
@@ -132,7 +138,7 @@ public class S3Sink extends AbstractSink<Record<Event>> {
         final S3GroupManager s3GroupManager = new S3GroupManager(s3SinkConfig, s3GroupIdentifierFactory, bufferFactory, codecFactory, s3Client, bucketOwnerProvider);
 
 
-        s3SinkService = new S3SinkService(s3SinkConfig, s3OutputCodecContext, RETRY_FLUSH_BACKOFF, pluginMetrics, s3GroupManager);
+        s3SinkService = new S3SinkService(s3SinkConfig, s3OutputCodecContext, RETRY_FLUSH_BACKOFF, pluginMetrics, s3GroupManager, partUploadLimiter);
     }
 
     private S3BucketSelector loadS3BucketSelector(PluginFactory pluginFactory) {
@@ -7,13 +7,16 @@ package org.opensearch.dataprepper.plugins.sink.s3;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.sink.OutputCodecContext;
 import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.codec.parquet.PartUploadLimiter;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.ClientOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.grouping.S3Group;
 import org.opensearch.dataprepper.plugins.sink.s3.grouping.S3GroupManager;
 import org.slf4j.Logger;
@@ -24,9 +27,12 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -44,11 +50,16 @@ public class S3SinkService {
     public static final String NUMBER_OF_RECORDS_FLUSHED_TO_S3_FAILED = "s3SinkObjectsEventsFailed";
 
     private static final String CURRENT_S3_GROUPS = "s3SinkNumberOfGroups";
+    static final String LOCK_WAIT_TIME = "s3SinkLockWaitTime";
+    static final String UPLOADS_IN_FLIGHT = "s3SinkUploadsInFlight";
+    static final int NUMBER_OF_GROUP_LOCKS = 16;
 
     static final String NUMBER_OF_GROUPS_FORCE_FLUSHED = "s3SinkObjectsForceFlushed";
     static final String S3_OBJECTS_SIZE = "s3SinkObjectSizeBytes";
     private final S3SinkConfig s3SinkConfig;
-    private final Lock reentrantLock;
+    private final Lock[] groupLocks;
+    private final Lock aggregateFlushLock;
+    private final InFlightUploads inFlightUploads;
     private final int maxEvents;
     private final ByteCount maxBytes;
     private final Duration maxCollectionDuration;
@@ -60,27 +71,38 @@ public class S3SinkService {
     private final DistributionSummary s3ObjectSizeSummary;
 
     private final Counter numberOfObjectsForceFlushed;
+    private final Timer lockWaitTimer;
     private final OutputCodecContext codecContext;
     private final Duration retrySleepTime;
 
     private final S3GroupManager s3GroupManager;
 
+    private final PartUploadLimiter partUploadLimiter;
+
     /**
      * @param s3SinkConfig  s3 sink related configuration.
      * @param codecContext codecContext.
      * @param retrySleepTime retrySleepTime
      * @param pluginMetrics pluginMetrics
      * @param s3GroupManager s3GroupManager
+     * @param partUploadLimiter the limiter of the multipart part uploads of the sink
      */
     public S3SinkService(final S3SinkConfig s3SinkConfig,
                          final OutputCodecContext codecContext,
                          final Duration retrySleepTime,
                          final PluginMetrics pluginMetrics,
-                         final S3GroupManager s3GroupManager) {
+                         final S3GroupManager s3GroupManager,
+                         final PartUploadLimiter partUploadLimiter) {
         this.s3SinkConfig = s3SinkConfig;
         this.codecContext = codecContext;
         this.retrySleepTime = retrySleepTime;
-        reentrantLock = new ReentrantLock();
+        groupLocks = new Lock[NUMBER_OF_GROUP_LOCKS];
+        for (int i = 0; i < groupLocks.length; i++) {
+            groupLocks[i] = new ReentrantLock();
+        }
+        aggregateFlushLock = new ReentrantLock();
+        inFlightUploads = new InFlightUploads(s3SinkConfig.getClientOptions() != null ?
+                s3SinkConfig.getClientOptions().getMaxConnections() : ClientOptions.DEFAULT_MAX_CONNECTIONS);
 
         maxEvents = s3SinkConfig.getThresholdOptions().getEventCount();
         maxBytes = s3SinkConfig.getThresholdOptions().getMaximumSize();
@@ -95,12 +117,21 @@ public class S3SinkService {
         s3ObjectSizeSummary = pluginMetrics.summary(S3_OBJECTS_SIZE);
         numberOfObjectsForceFlushed = pluginMetrics.counter(NUMBER_OF_GROUPS_FORCE_FLUSHED);
         pluginMetrics.gauge(CURRENT_S3_GROUPS, s3GroupManager, S3GroupManager::getNumberOfGroups);
+        lockWaitTimer = pluginMetrics.timer(LOCK_WAIT_TIME);
+        pluginMetrics.gauge(UPLOADS_IN_FLIGHT, inFlightUploads, InFlightUploads::getNumberOfUploads);
 
 
         this.s3GroupManager = s3GroupManager;
+        this.partUploadLimiter = partUploadLimiter;
     }
 
     /**
+     * Writes records to their groups. The groups are guarded by a set of striped locks rather than a single lock, so
+     * threads writing to different groups do not wait for each other. Flushed groups are uploaded after their lock is
+     * released, within a bounded window of in flight uploads, and the uploads are awaited outside of any lock. Writing
+     * to a group never waits for a multipart part upload; instead, the writer waits for the queued part uploads before
+     * it takes the lock of the group.
+     *
      * @param records received records and add into buffer.
      */
     void output(Collection<Record<Event>> records) {
@@ -111,55 +142,97 @@ public class S3SinkService {
 
         List<Event> failedEvents = new ArrayList<>();
         Exception sampleException = null;
-        reentrantLock.lock();
-        try {
-            final List<CompletableFuture<?>> completableFutures = new ArrayList<>();
-            for (Record<Event> record : records) {
-                final Event event = record.getData();
-                try {
-                    final S3Group s3Group = s3GroupManager.getOrCreateGroupForEvent(event);
-                    final Buffer currentBuffer = s3Group.getBuffer();
-                    final OutputCodec codec = s3Group.getOutputCodec();
 
-                    if (currentBuffer.getEventCount() == 0) {
-                        codec.start(currentBuffer.getOutputStream(), event, codecContext);
-                    }
+        final Map<S3Group, List<Event>> eventsByGroup = new LinkedHashMap<>();
+        for (Record<Event> record : records) {
+            final Event event = record.getData();
+            try {
+                eventsByGroup.computeIfAbsent(s3GroupManager.getOrCreateGroupForEvent(event), group -> new ArrayList<>()).add(event);
+            } catch (Exception ex) {
+                if(sampleException == null) {
+                    sampleException = ex;
+                }
 
-                    codec.writeEvent(event, currentBuffer.getOutputStream());
-                    int count = currentBuffer.getEventCount() + 1;
-                    currentBuffer.setEventCount(count);
-                    s3Group.addEventHandle(event.getEventHandle());
+                failedEvents.add(event);
+            }
+        }
 
-                    flushToS3IfNeeded(completableFutures, s3Group, false);
-                } catch (Exception ex) {
-                    if(sampleException == null) {
-                        sampleException = ex;
+        final List<InFlightUploads.Upload> uploads = new ArrayList<>();
+        final List<S3Group> flushedGroups = new ArrayList<>();
+        for (final Map.Entry<S3Group, List<Event>> groupEvents : eventsByGroup.entrySet()) {
+            S3Group s3Group = groupEvents.getKey();
+            partUploadLimiter.awaitPartUploadCapacity();
+            Lock lock = lockGroup(s3Group);
+            try {
+                for (final Event event : groupEvents.getValue()) {
+                    try {
+                        while (lock == null || s3Group.isFlushed()) {
+                            if (lock != null) {
+                                lock.unlock();
+                                lock = null;
+                                startUploads(flushedGroups, uploads);
+                            }
+                            s3Group = s3GroupManager.getOrCreateGroupForEvent(event);
+                            lock = lockGroup(s3Group);
+                        }
+                        final Buffer currentBuffer = s3Group.getBuffer();
+                        final OutputCodec codec = s3Group.getOutputCodec();
+
+                        if (currentBuffer.getEventCount() == 0) {
+                            codec.start(currentBuffer.getOutputStream(), event, codecContext);
+                        }
+
+                        codec.writeEvent(event, currentBuffer.getOutputStream());
+                        int count = currentBuffer.getEventCount() + 1;
+                        currentBuffer.setEventCount(count);
+                        s3Group.addEventHandle(event.getEventHandle());
+
+                        completeGroupIfNeeded(flushedGroups, s3Group, false);
+                    } catch (Exception ex) {
+                        if(sampleException == null) {
+                            sampleException = ex;
+                        }
+
+                        failedEvents.add(event);
                     }
-
-                    failedEvents.add(event);
+                }
+            } finally {
+                if (lock != null) {
+                    lock.unlock();
                 }
             }
+            startUploads(flushedGroups, uploads);
+        }
 
-            for (final S3Group s3Group : s3GroupManager.getS3GroupEntries()) {
-                flushToS3IfNeeded(completableFutures, s3Group, false);
+        for (final S3Group s3Group : s3GroupManager.getS3GroupEntries()) {
+            final Lock lock = lockGroup(s3Group);
+            try {
+                if (!s3Group.isFlushed()) {
+                    completeGroupIfNeeded(flushedGroups, s3Group, false);
+                }
+            } finally {
+                lock.unlock();
             }
+            startUploads(flushedGroups, uploads);
+        }
 
-            if (s3SinkConfig.getAggregateThresholdOptions() != null) {
-                checkAggregateThresholdsAndFlushIfNeeded(completableFutures);
+        if (s3SinkConfig.getAggregateThresholdOptions() != null && aggregateFlushLock.tryLock()) {
+            try {
+                checkAggregateThresholdsAndFlushIfNeeded(flushedGroups, uploads);
+            } finally {
+                aggregateFlushLock.unlock();
             }
+        }
 
-            if (!completableFutures.isEmpty()) {
-                try {
-                    CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture[0]))
-                            .thenRun(() -> LOG.debug("All {} requests to S3 have completed", completableFutures.size()))
-                            .join();
-                } catch (final Exception e) {
-                    LOG.warn("There was an exception while waiting for all requests to complete", e);
-                }
-
+        if (!uploads.isEmpty()) {
+            try {
+                CompletableFuture.allOf(uploads.stream().map(InFlightUploads.Upload::getFuture).toArray(CompletableFuture[]::new))
+                        .thenRun(() -> LOG.debug("All {} requests to S3 have completed", uploads.size()))
+                        .join();
+            } catch (final Exception e) {
+                LOG.warn("There was an exception while waiting for all requests to complete", e);
             }
-        } finally {
-            reentrantLock.unlock();
+            uploads.forEach(InFlightUploads.Upload::finish);
         }
 
         if(!failedEvents.isEmpty()) {
@@ -171,44 +244,33 @@ public class S3SinkService {
         }
     }
 
+    private Lock lockGroup(final S3Group s3Group) {
+        final Lock lock = groupLocks[Math.floorMod(System.identityHashCode(s3Group), groupLocks.length)];
+        final long lockStartTime = System.nanoTime();
+        lock.lock();
+        lockWaitTimer.record(System.nanoTime() - lockStartTime, TimeUnit.NANOSECONDS);
+        return lock;
+    }
+
     /**
-     * @param completableFutures completableFutures
+     * Removes the group and completes its codec when a threshold is exceeded. The caller must hold the lock of the
+     * group, and must start the upload of the flushed groups after releasing it.
+     *
+     * @param flushedGroups the groups which are ready to be uploaded
      * @param s3Group s3 group
      * @param forceFlush force flush flag
      * @return whether the flush was attempted
      */
-    private boolean flushToS3IfNeeded(final List<CompletableFuture<?>> completableFutures, final S3Group s3Group, final boolean forceFlush) {
+    private boolean completeGroupIfNeeded(final List<S3Group> flushedGroups, final S3Group s3Group, final boolean forceFlush) {
         LOG.trace("Flush to S3 check: currentBuffer.size={}, currentBuffer.events={}, currentBuffer.duration={}",
                 s3Group.getBuffer().getSize(), s3Group.getBuffer().getEventCount(), s3Group.getBuffer().getDuration());
         if (forceFlush || ThresholdCheck.checkThresholdExceed(s3Group.getBuffer(), maxEvents, maxBytes, maxCollectionDuration)) {
 
             s3GroupManager.removeGroup(s3Group);
+            s3Group.markFlushed();
             try {
-
                 s3Group.getOutputCodec().complete(s3Group.getBuffer().getOutputStream());
-                String s3Key = s3Group.getBuffer().getKey();
-                LOG.info("Writing {} to S3 with {} events and size of {} bytes.",
-                        s3Key, s3Group.getBuffer().getEventCount(), s3Group.getBuffer().getSize());
-
-                final Consumer<Boolean> consumeOnGroupCompletion = (success) -> {
-                    if (success) {
-
-                        LOG.info("Successfully saved {} to S3.", s3Key);
-                        numberOfRecordsSuccessCounter.increment(s3Group.getBuffer().getEventCount());
-                        objectsSucceededCounter.increment();
-                        s3ObjectSizeSummary.record(s3Group.getBuffer().getSize());
-                        s3Group.releaseEventHandles(true);
-                    } else {
-                        LOG.error("Failed to save {} to S3.", s3Key);
-                        numberOfRecordsFailedCounter.increment(s3Group.getBuffer().getEventCount());
-                        objectsFailedCounter.increment();
-                        s3Group.releaseEventHandles(false);
-                    }
-                };
-
-                final Optional<CompletableFuture<?>> completableFuture = s3Group.getBuffer().flushToS3(consumeOnGroupCompletion, this::handleFailures);
-                completableFuture.ifPresent(completableFutures::add);
-
+                flushedGroups.add(s3Group);
                 return true;
             } catch (final IOException e) {
                 LOG.error("Exception while completing codec", e);
@@ -218,13 +280,44 @@ public class S3SinkService {
         return false;
     }
 
+    private void startUploads(final List<S3Group> flushedGroups, final List<InFlightUploads.Upload> uploads) {
+        for (final S3Group s3Group : flushedGroups) {
+            inFlightUploads.start(() -> flushToS3(s3Group)).ifPresent(uploads::add);
+        }
+        flushedGroups.clear();
+    }
+
+    private Optional<CompletableFuture<?>> flushToS3(final S3Group s3Group) {
+        String s3Key = s3Group.getBuffer().getKey();
+        LOG.info("Writing {} to S3 with {} events and size of {} bytes.",
+                s3Key, s3Group.getBuffer().getEventCount(), s3Group.getBuffer().getSize());
+
+        final Consumer<Boolean> consumeOnGroupCompletion = (success) -> {
+            if (success) {
+
+                LOG.info("Successfully saved {} to S3.", s3Key);
+                numberOfRecordsSuccessCounter.increment(s3Group.getBuffer().getEventCount());
+                objectsSucceededCounter.increment();
+                s3ObjectSizeSummary.record(s3Group.getBuffer().getSize());
+                s3Group.releaseEventHandles(true);
+            } else {
+                LOG.error("Failed to save {} to S3.", s3Key);
+                numberOfRecordsFailedCounter.increment(s3Group.getBuffer().getEventCount());
+                objectsFailedCounter.increment();
+                s3Group.releaseEventHandles(false);
+            }
+        };
+
+        return s3Group.getBuffer().flushToS3(consumeOnGroupCompletion, this::handleFailures);
+    }
+
     private void handleFailures(final Throwable e) {
         LOG.error("Exception occurred while uploading records to s3 bucket: {}", e.getMessage());
     }
 
-    private void checkAggregateThresholdsAndFlushIfNeeded(final List<CompletableFuture<?>> completableFutures) {
-        long currentTotalGroupSize = s3GroupManager.recalculateAndGetGroupSize();
-        LOG.debug("Total groups size is {} bytes", currentTotalGroupSize);
+    private void checkAggregateThresholdsAndFlushIfNeeded(final List<S3Group> flushedGroups, final List<InFlightUploads.Upload> uploads) {
+        long currentTotalGroupSize = s3GroupManager.recalculateAndGetGroupSize() + partUploadLimiter.getClosedStreamBytesInFlight();
+        LOG.debug("Total groups size, including the parts still uploading for flushed groups, is {} bytes", currentTotalGroupSize);
 
         final long aggregateThresholdBytes = s3SinkConfig.getAggregateThresholdOptions().getMaximumSize().getBytes();
         final double aggregateThresholdFlushRatio = s3SinkConfig.getAggregateThresholdOptions().getFlushCapacityRatio();
@@ -235,7 +328,14 @@ public class S3SinkService {
             for (final S3Group s3Group : s3GroupManager.getS3GroupsSortedBySize()) {
                 LOG.info("Forcing a flush of object with key {} due to aggregate_threshold of {} bytes being reached", s3Group.getBuffer().getKey(), aggregateThresholdBytes);
 
-                final boolean flushed = flushToS3IfNeeded(completableFutures, s3Group, true);
+                final boolean flushed;
+                final Lock lock = lockGroup(s3Group);
+                try {
+                    flushed = !s3Group.isFlushed() && completeGroupIfNeeded(flushedGroups, s3Group, true);
+                } finally {
+                    lock.unlock();
+                }
+                startUploads(flushedGroups, uploads);
                 numberOfObjectsForceFlushed.increment();
 
                 if (flushed) {
@@ -5,7 +5,9 @@
 
 package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
 
+import org.opensearch.dataprepper.plugins.codec.parquet.PartUploadLimiter;
 import org.opensearch.dataprepper.plugins.codec.parquet.S3OutputStream;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.ClientOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.ownership.BucketOwnerProvider;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 
@@ -15,6 +17,19 @@ import java.util.function.Function;
 
 
 public class MultipartBufferFactory implements BufferFactory {
+    private final PartUploadLimiter partUploadLimiter;
+
+    public MultipartBufferFactory() {
+        this(new PartUploadLimiter(ClientOptions.DEFAULT_MAX_CONNECTIONS));
+    }
+
+    /**
+     * @param partUploadLimiter the limiter of the part uploads which is shared by the buffers of the sink
+     */
+    public MultipartBufferFactory(final PartUploadLimiter partUploadLimiter) {
+        this.partUploadLimiter = partUploadLimiter;
+    }
+
     @Override
     public Buffer getBuffer(final S3AsyncClient s3Client,
                             final Supplier<String> bucketSupplier,
@@ -22,6 +37,6 @@ public class MultipartBufferFactory implements BufferFactory {
                             final String defaultBucket,
                             final Function<Integer, Map<String, String>> metadataSupplier,
                             final BucketOwnerProvider bucketOwnerProvider) {
-        return new MultipartBuffer(new S3OutputStream(s3Client, bucketSupplier, keySupplier, defaultBucket, bucketOwnerProvider));
+        return new MultipartBuffer(new S3OutputStream(s3Client, bucketSupplier, keySupplier, defaultBucket, bucketOwnerProvider, partUploadLimiter));
     }
 }
@@ -14,7 +14,7 @@ import org.hibernate.validator.constraints.time.DurationMin;
 import java.time.Duration;
 
 public class ClientOptions {
-    private static final int DEFAULT_MAX_CONNECTIONS = 50;
+    public static final int DEFAULT_MAX_CONNECTIONS = 50;
     private static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(10);
 
     @JsonProperty("max_connections")
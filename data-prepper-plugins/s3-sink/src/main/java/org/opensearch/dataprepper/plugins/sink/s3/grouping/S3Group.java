@@ -22,6 +22,8 @@ public class S3Group implements Comparable<S3Group> {
 
     private final Collection<EventHandle> groupEventHandles;
 
+    private boolean flushed;
+
     public S3Group(final S3GroupIdentifier s3GroupIdentifier,
                    final Buffer buffer,
                    final OutputCodec outputCodec) {
@@ -41,6 +43,18 @@ public class S3Group implements Comparable<S3Group> {
 
     S3GroupIdentifier getS3GroupIdentifier() { return s3GroupIdentifier; }
 
+    /**
+     * Marks this group as flushed. A flushed group has been removed from the {@link S3GroupManager} and its codec has
+     * been completed, so no more events may be written to it. Callers must hold the lock which guards this group.
+     */
+    public void markFlushed() {
+        flushed = true;
+    }
+
+    public boolean isFlushed() {
+        return flushed;
+    }
+
     public void addEventHandle(final EventHandle eventHandle) {
         groupEventHandles.add(eventHandle);
     }
@@ -17,8 +17,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -61,31 +63,47 @@ public class S3GroupManager {
     public int getNumberOfGroups() { return allGroups.size(); }
 
     public void removeGroup(final S3Group s3Group) {
-        allGroups.remove(s3Group.getS3GroupIdentifier());
+        allGroups.remove(s3Group.getS3GroupIdentifier(), s3Group);
     }
 
     public Collection<S3Group> getS3GroupEntries() {
         return allGroups.values();
     }
 
+    /**
+     * @return the groups ordered from the largest to the smallest buffer. The buffer sizes are read once before
+     * sorting, since events may be written to the buffers while the groups are sorted.
+     */
     public Collection<S3Group> getS3GroupsSortedBySize() {
-        return allGroups.values().stream().sorted(Collections.reverseOrder()).collect(Collectors.toList());
+        final List<Map.Entry<S3Group, Long>> groupSizes = new ArrayList<>(allGroups.size());
+        for (final S3Group s3Group : allGroups.values()) {
+            groupSizes.add(new AbstractMap.SimpleImmutableEntry<>(s3Group, s3Group.getBuffer().getSize()));
+        }
+        groupSizes.sort(Map.Entry.<S3Group, Long>comparingByValue().reversed());
+        return groupSizes.stream().map(Map.Entry::getKey).collect(Collectors.toList());
     }
 
+    /**
+     * Gets the group for an event, creating it when no group exists for the event's group identifier. This may be
+     * called concurrently; at most one group is created for an identifier.
+     *
+     * @param event the event
+     * @return the group for the event
+     */
     public S3Group getOrCreateGroupForEvent(final Event event) {
 
         final S3GroupIdentifier s3GroupIdentifier = s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(event);
 
-        if (allGroups.containsKey(s3GroupIdentifier)) {
-            return allGroups.get(s3GroupIdentifier);
-        } else {
-            final Buffer bufferForNewGroup =  bufferFactory.getBuffer(s3Client, s3GroupIdentifier::getFullBucketName, s3GroupIdentifier::getGroupIdentifierFullObjectKey, s3SinkConfig.getDefaultBucket(), s3GroupIdentifier::getMetadata,  bucketOwnerProvider);
-            final OutputCodec outputCodec = codecFactory.provideCodec();
-            final S3Group s3Group = new S3Group(s3GroupIdentifier, bufferForNewGroup, outputCodec);
-            allGroups.put(s3GroupIdentifier, s3Group);
-            LOG.debug("Created a new S3 group. Total number of groups: {}", allGroups.size());
-            return s3Group;
+        final S3Group existingGroup = allGroups.get(s3GroupIdentifier);
+        if (existingGroup != null) {
+            return existingGroup;
         }
+        return allGroups.computeIfAbsent(s3GroupIdentifier, identifier -> {
+            final Buffer bufferForNewGroup =  bufferFactory.getBuffer(s3Client, identifier::getFullBucketName, identifier::getGroupIdentifierFullObjectKey, s3SinkConfig.getDefaultBucket(), identifier::getMetadata,  bucketOwnerProvider);
+            final OutputCodec outputCodec = codecFactory.provideCodec();
+            LOG.debug("Created a new S3 group. Total number of groups: {}", allGroups.size() + 1);
+            return new S3Group(identifier, bufferForNewGroup, outputCodec);
+        });
     }
 
     public long recalculateAndGetGroupSize() {
@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PartUploadLimiterTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void constructor_throws_with_invalid_maximum_part_uploads(final int maximumPartUploads) {
+        assertThrows(IllegalArgumentException.class, () -> new PartUploadLimiter(maximumPartUploads));
+    }
+
+    @Test
+    void start_runs_the_part_uploads_up_to_the_maximum_and_queues_the_others() {
+        final PartUploadLimiter objectUnderTest = new PartUploadLimiter(2);
+        final AtomicInteger startedPartUploads = new AtomicInteger();
+
+        objectUnderTest.start(startedPartUploads::incrementAndGet);
+        objectUnderTest.start(startedPartUploads::incrementAndGet);
+        objectUnderTest.start(startedPartUploads::incrementAndGet);
+
+        assertThat(startedPartUploads.get(), equalTo(2));
+        assertThat(objectUnderTest.getQueuedPartUploads(), equalTo(1));
+
+        objectUnderTest.release();
+
+        assertThat(startedPartUploads.get(), equalTo(3));
+        assertThat(objectUnderTest.getQueuedPartUploads(), equalTo(0));
+    }
+
+    @Test
+    void awaitPartUploadCapacity_waits_while_the_maximum_part_uploads_are_queued() throws Exception {
+        final PartUploadLimiter objectUnderTest = new PartUploadLimiter(1);
+        objectUnderTest.start(() -> { });
+        objectUnderTest.start(() -> { });
+        assertThat(objectUnderTest.getQueuedPartUploads(), equalTo(1));
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> await = executorService.submit(objectUnderTest::awaitPartUploadCapacity);
+
+            Thread.sleep(100);
+            assertThat(await.isDone(), equalTo(false));
+
+            objectUnderTest.release();
+
+            await.get(5, TimeUnit.SECONDS);
+            assertThat(objectUnderTest.getQueuedPartUploads(), equalTo(0));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void awaitPartUploadCapacity_does_not_wait_when_no_part_uploads_are_queued() {
+        final PartUploadLimiter objectUnderTest = new PartUploadLimiter(1);
+        objectUnderTest.start(() -> { });
+
+        objectUnderTest.awaitPartUploadCapacity();
+
+        assertThat(objectUnderTest.getQueuedPartUploads(), equalTo(0));
+    }
+}
@@ -8,20 +8,26 @@ package org.opensearch.dataprepper.plugins.codec.parquet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.plugins.sink.s3.ownership.BucketOwnerProvider;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -32,8 +38,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -196,7 +205,7 @@ public class S3OutputStreamTest {
     }
 
     @Test
-    void close_with_upload_part_exception_completes_with_failure_and_returns_null() {
+    void close_with_upload_part_exception_completes_with_failure() {
         final byte[] bytes = new byte[25];
         final String uploadId = UUID.randomUUID().toString();
         final CreateMultipartUploadResponse createMultipartUploadResponse = mock(CreateMultipartUploadResponse.class);
@@ -208,12 +217,20 @@ public class S3OutputStreamTest {
         final CompletableFuture<UploadPartResponse> uploadPartResponseCompletableFuture = CompletableFuture.failedFuture(mockException);
         when(s3Client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenReturn(uploadPartResponseCompletableFuture);
 
+        when(s3Client.abortMultipartUpload(any(AbortMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(mock(AbortMultipartUploadResponse.class)));
+
         final S3OutputStream s3OutputStream = createObjectUnderTest();
 
         s3OutputStream.write(bytes);
 
         final CompletableFuture<?> completableFuture = s3OutputStream.close(runOnCompletion, runOnError);
-        assertThat(completableFuture, equalTo(null));
+        assertThat(completableFuture, notNullValue());
+        assertThat(completableFuture.isCompletedExceptionally(), equalTo(true));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+
+        final ArgumentCaptor<AbortMultipartUploadRequest> abortMultipartUploadRequestArgumentCaptor = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3Client).abortMultipartUpload(abortMultipartUploadRequestArgumentCaptor.capture());
+        assertThat(abortMultipartUploadRequestArgumentCaptor.getValue().uploadId(), equalTo(uploadId));
 
         final ArgumentCaptor<CreateMultipartUploadRequest> createMultipartUploadRequestArgumentCaptor = ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
         verify(s3Client).createMultipartUpload(createMultipartUploadRequestArgumentCaptor.capture());
@@ -242,4 +259,175 @@ public class S3OutputStreamTest {
         assertThat(exception, instanceOf(CompletionException.class));
         assertThat(exception.getCause(), equalTo(mockException));
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void constructor_throws_with_invalid_part_size(final int partSize) {
+        assertThrows(IllegalArgumentException.class,
+                () -> new S3OutputStream(s3Client, () -> bucket, () -> objectKey, defaultBucket, bucketOwnerProvider, new PartUploadLimiter(1), partSize));
+    }
+
+    @Test
+    void write_uploads_full_parts_before_close_and_completes_with_all_parts() throws IOException {
+        final CreateMultipartUploadResponse createMultipartUploadResponse = mock(CreateMultipartUploadResponse.class);
+        when(createMultipartUploadResponse.uploadId()).thenReturn(UUID.randomUUID().toString());
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(createMultipartUploadResponse));
+        final UploadPartResponse uploadPartResponse = mock(UploadPartResponse.class);
+        when(uploadPartResponse.eTag()).thenReturn(UUID.randomUUID().toString());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenReturn(CompletableFuture.completedFuture(uploadPartResponse));
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(mock(CompleteMultipartUploadResponse.class)));
+
+        final S3OutputStream s3OutputStream = new S3OutputStream(s3Client, () -> bucket, () -> objectKey, defaultBucket, bucketOwnerProvider, new PartUploadLimiter(2), 10);
+
+        s3OutputStream.write(new byte[25]);
+
+        assertThat(s3OutputStream.getPos(), equalTo(25L));
+        verify(s3Client, times(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+
+        final CompletableFuture<?> completableFuture = s3OutputStream.close(runOnCompletion, runOnError);
+        assertThat(completableFuture.isDone(), equalTo(true));
+        assertThat(completableFuture.isCompletedExceptionally(), equalTo(false));
+
+        final ArgumentCaptor<UploadPartRequest> uploadPartRequestArgumentCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(uploadPartRequestArgumentCaptor.capture(), any(AsyncRequestBody.class));
+        final List<UploadPartRequest> uploadPartRequests = uploadPartRequestArgumentCaptor.getAllValues();
+        assertThat(uploadPartRequests.get(0).partNumber(), equalTo(1));
+        assertThat(uploadPartRequests.get(0).contentLength(), equalTo(10L));
+        assertThat(uploadPartRequests.get(1).partNumber(), equalTo(2));
+        assertThat(uploadPartRequests.get(2).partNumber(), equalTo(3));
+        assertThat(uploadPartRequests.get(2).contentLength(), equalTo(5L));
+
+        final ArgumentCaptor<CompleteMultipartUploadRequest> completeMultipartUploadRequestArgumentCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeMultipartUploadRequestArgumentCaptor.capture());
+        final List<CompletedPart> completedParts = completeMultipartUploadRequestArgumentCaptor.getValue().multipartUpload().parts();
+        assertThat(completedParts.size(), equalTo(3));
+        for (int i = 0; i < completedParts.size(); i++) {
+            assertThat(completedParts.get(i).partNumber(), equalTo(i + 1));
+        }
+
+        verify(runOnCompletion).accept(true);
+    }
+
+    @Test
+    void write_queues_the_parts_beyond_the_part_upload_limiter_without_waiting() {
+        final CreateMultipartUploadResponse createMultipartUploadResponse = mock(CreateMultipartUploadResponse.class);
+        when(createMultipartUploadResponse.uploadId()).thenReturn(UUID.randomUUID().toString());
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(createMultipartUploadResponse));
+        final CompletableFuture<UploadPartResponse> firstPartFuture = new CompletableFuture<>();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenReturn(firstPartFuture);
+
+        final PartUploadLimiter partUploadLimiter = new PartUploadLimiter(1);
+        final S3OutputStream s3OutputStream = new S3OutputStream(s3Client, () -> bucket, () -> objectKey, defaultBucket, bucketOwnerProvider, partUploadLimiter, 10);
+
+        s3OutputStream.write(new byte[25]);
+
+        assertThat(s3OutputStream.getPos(), equalTo(25L));
+        verify(s3Client, times(1)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        assertThat(partUploadLimiter.getQueuedPartUploads(), equalTo(1));
+
+        firstPartFuture.complete(mock(UploadPartResponse.class));
+
+        verify(s3Client, times(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        assertThat(partUploadLimiter.getQueuedPartUploads(), equalTo(0));
+    }
+
+    @Test
+    void write_queues_the_parts_beyond_the_part_upload_limiter_shared_by_the_streams() {
+        final CreateMultipartUploadResponse createMultipartUploadResponse = mock(CreateMultipartUploadResponse.class);
+        when(createMultipartUploadResponse.uploadId()).thenReturn(UUID.randomUUID().toString());
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(createMultipartUploadResponse));
+        final CompletableFuture<UploadPartResponse> firstPartFuture = new CompletableFuture<>();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenReturn(firstPartFuture);
+
+        final PartUploadLimiter partUploadLimiter = new PartUploadLimiter(1);
+        final S3OutputStream firstStream = new S3OutputStream(s3Client, () -> bucket, () -> objectKey, defaultBucket, bucketOwnerProvider, partUploadLimiter, 10);
+        final S3OutputStream secondStream = new S3OutputStream(s3Client, () -> bucket, () -> objectKey, defaultBucket, bucketOwnerProvider, partUploadLimiter, 10);
+
+        firstStream.write(new byte[15]);
+        secondStream.write(new byte[15]);
+
+        verify(s3Client, times(1)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        assertThat(partUploadLimiter.getQueuedPartUploads(), equalTo(1));
+
+        firstPartFuture.complete(mock(UploadPartResponse.class));
+
+        verify(s3Client, times(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+    }
+
+    @Test
+    void close_aborts_the_multipart_upload_when_the_completion_fails() {
+        final String uploadId = UUID.randomUUID().toString();
+        final CreateMultipartUploadResponse createMultipartUploadResponse = mock(CreateMultipartUploadResponse.class);
+        when(createMultipartUploadResponse.uploadId()).thenReturn(uploadId);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(createMultipartUploadResponse));
+        final UploadPartResponse uploadPartResponse = mock(UploadPartResponse.class);
+        when(uploadPartResponse.eTag()).thenReturn(UUID.randomUUID().toString());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenReturn(CompletableFuture.completedFuture(uploadPartResponse));
+        final RuntimeException completionException = new RuntimeException(UUID.randomUUID().toString());
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenReturn(CompletableFuture.failedFuture(completionException));
+        when(s3Client.abortMultipartUpload(any(AbortMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(mock(AbortMultipartUploadResponse.class)));
+
+        final S3OutputStream s3OutputStream = createObjectUnderTest();
+        s3OutputStream.write(new byte[25]);
+
+        final CompletableFuture<?> completableFuture = s3OutputStream.close(runOnCompletion, runOnError);
+        assertThat(completableFuture.isCompletedExceptionally(), equalTo(true));
+
+        final ArgumentCaptor<AbortMultipartUploadRequest> abortMultipartUploadRequestArgumentCaptor = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3Client).abortMultipartUpload(abortMultipartUploadRequestArgumentCaptor.capture());
+        final AbortMultipartUploadRequest abortMultipartUploadRequest = abortMultipartUploadRequestArgumentCaptor.getValue();
+        assertThat(abortMultipartUploadRequest.bucket(), equalTo(bucket));
+        assertThat(abortMultipartUploadRequest.key(), equalTo(objectKey));
+        assertThat(abortMultipartUploadRequest.uploadId(), equalTo(uploadId));
+        verify(runOnCompletion).accept(false);
+    }
+
+    @Test
+    void close_a_second_time_returns_null_and_does_not_upload() {
+        final CreateMultipartUploadResponse createMultipartUploadResponse = mock(CreateMultipartUploadResponse.class);
+        when(createMultipartUploadResponse.uploadId()).thenReturn(UUID.randomUUID().toString());
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(createMultipartUploadResponse));
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenReturn(CompletableFuture.completedFuture(mock(UploadPartResponse.class)));
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(mock(CompleteMultipartUploadResponse.class)));
+
+        final S3OutputStream s3OutputStream = createObjectUnderTest();
+        s3OutputStream.write(new byte[25]);
+
+        assertThat(s3OutputStream.close(runOnCompletion, runOnError), notNullValue());
+        assertThat(s3OutputStream.close(runOnCompletion, runOnError), nullValue());
+
+        verify(s3Client, times(1)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        verify(runOnCompletion, times(1)).accept(true);
+    }
+
+    @Test
+    void close_counts_the_parts_in_flight_as_closed_stream_bytes_until_they_are_uploaded() {
+        final CreateMultipartUploadResponse createMultipartUploadResponse = mock(CreateMultipartUploadResponse.class);
+        when(createMultipartUploadResponse.uploadId()).thenReturn(UUID.randomUUID().toString());
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(createMultipartUploadResponse));
+        final CompletableFuture<UploadPartResponse> firstPartFuture = new CompletableFuture<>();
+        final CompletableFuture<UploadPartResponse> lastPartFuture = new CompletableFuture<>();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(firstPartFuture)
+                .thenReturn(lastPartFuture);
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(mock(CompleteMultipartUploadResponse.class)));
+
+        final PartUploadLimiter partUploadLimiter = new PartUploadLimiter(2);
+        final S3OutputStream s3OutputStream = new S3OutputStream(s3Client, () -> bucket, () -> objectKey, defaultBucket, bucketOwnerProvider, partUploadLimiter, 10);
+
+        s3OutputStream.write(new byte[15]);
+        assertThat(partUploadLimiter.getClosedStreamBytesInFlight(), equalTo(0L));
+
+        final CompletableFuture<?> completableFuture = s3OutputStream.close(runOnCompletion, runOnError);
+        assertThat(partUploadLimiter.getClosedStreamBytesInFlight(), equalTo(15L));
+
+        final UploadPartResponse uploadPartResponse = mock(UploadPartResponse.class);
+        firstPartFuture.complete(uploadPartResponse);
+        assertThat(partUploadLimiter.getClosedStreamBytesInFlight(), equalTo(5L));
+
+        lastPartFuture.complete(uploadPartResponse);
+        assertThat(partUploadLimiter.getClosedStreamBytesInFlight(), equalTo(0L));
+        assertThat(completableFuture.isDone(), equalTo(true));
+        verify(runOnCompletion).accept(true);
+    }
 }
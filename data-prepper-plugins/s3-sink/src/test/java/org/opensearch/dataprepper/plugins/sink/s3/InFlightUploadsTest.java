@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InFlightUploadsTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_when_maximum_uploads_is_less_than_one(final int maximumUploads) {
+        assertThrows(IllegalArgumentException.class, () -> new InFlightUploads(maximumUploads));
+    }
+
+    @Test
+    void start_counts_uploads_until_they_complete() {
+        final InFlightUploads objectUnderTest = new InFlightUploads(2);
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        final Optional<InFlightUploads.Upload> upload = objectUnderTest.start(() -> Optional.of(future));
+
+        assertThat(upload.isPresent(), equalTo(true));
+        assertThat(upload.get().getFuture(), equalTo(future));
+        assertThat(objectUnderTest.getNumberOfUploads(), equalTo(1));
+
+        future.complete(null);
+
+        assertThat(objectUnderTest.getNumberOfUploads(), equalTo(0));
+    }
+
+    @Test
+    void start_without_future_does_not_count_an_upload() {
+        final InFlightUploads objectUnderTest = new InFlightUploads(1);
+
+        assertThat(objectUnderTest.start(Optional::empty).isPresent(), equalTo(false));
+        assertThat(objectUnderTest.getNumberOfUploads(), equalTo(0));
+        assertThat(objectUnderTest.start(() -> Optional.of(new CompletableFuture<>())).isPresent(), equalTo(true));
+    }
+
+    @Test
+    void start_releases_the_window_when_the_starter_throws() {
+        final InFlightUploads objectUnderTest = new InFlightUploads(1);
+
+        assertThrows(RuntimeException.class, () -> objectUnderTest.start(() -> {
+            throw new RuntimeException();
+        }));
+
+        assertThat(objectUnderTest.getNumberOfUploads(), equalTo(0));
+        assertThat(objectUnderTest.start(() -> Optional.of(new CompletableFuture<>())).isPresent(), equalTo(true));
+    }
+
+    @Test
+    void finish_removes_an_upload_only_once() {
+        final InFlightUploads objectUnderTest = new InFlightUploads(2);
+        final InFlightUploads.Upload upload = objectUnderTest.start(() -> Optional.of(new CompletableFuture<>())).get();
+        objectUnderTest.start(() -> Optional.of(new CompletableFuture<>()));
+
+        upload.finish();
+        upload.finish();
+
+        assertThat(objectUnderTest.getNumberOfUploads(), equalTo(1));
+    }
+
+    @Test
+    void start_waits_for_the_oldest_upload_when_the_window_is_full() throws Exception {
+        final InFlightUploads objectUnderTest = new InFlightUploads(1);
+        final CompletableFuture<Void> firstFuture = new CompletableFuture<>();
+        objectUnderTest.start(() -> Optional.of(firstFuture));
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Optional<InFlightUploads.Upload>> secondUpload =
+                    executorService.submit(() -> objectUnderTest.start(() -> Optional.of(new CompletableFuture<>())));
+
+            Thread.sleep(100);
+            assertThat(secondUpload.isDone(), equalTo(false));
+
+            firstFuture.completeExceptionally(new RuntimeException());
+
+            assertThat(secondUpload.get(5, TimeUnit.SECONDS).isPresent(), equalTo(true));
+            assertThat(objectUnderTest.getNumberOfUploads(), equalTo(1));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
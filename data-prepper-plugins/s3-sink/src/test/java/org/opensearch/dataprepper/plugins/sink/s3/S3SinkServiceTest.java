@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.sink.s3;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,7 @@ import org.opensearch.dataprepper.model.plugin.PluginFactory;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.sink.OutputCodecContext;
 import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.codec.parquet.PartUploadLimiter;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferTypeOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.InMemoryBuffer;
@@ -49,6 +51,7 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -93,12 +96,15 @@ class S3SinkServiceTest {
 
     private Counter s3ObjectsForceFlushedCounter;
     private DistributionSummary s3ObjectSizeSummary;
+    private Timer lockWaitTimer;
     private Random random;
     private String tagsTargetKey;
     private AcknowledgementSet acknowledgementSet;
 
     private S3GroupManager s3GroupManager;
 
+    private PartUploadLimiter partUploadLimiter;
+
     @BeforeEach
     void setUp() {
 
@@ -122,8 +128,10 @@ class S3SinkServiceTest {
         Counter numberOfRecordsFailedCounter = mock(Counter.class);
         s3ObjectSizeSummary = mock(DistributionSummary.class);
         s3ObjectsForceFlushedCounter = mock(Counter.class);
+        lockWaitTimer = mock(Timer.class);
 
         s3GroupManager = mock(S3GroupManager.class);
+        partUploadLimiter = mock(PartUploadLimiter.class);
 
         when(objectKeyOptions.getNamePattern()).thenReturn(OBJECT_KEY_NAME_PATTERN);
         when(s3SinkConfig.getMaxUploadRetries()).thenReturn(MAX_RETRIES);
@@ -150,6 +158,7 @@ class S3SinkServiceTest {
         lenient().when(pluginMetrics.summary(S3SinkService.S3_OBJECTS_SIZE)).thenReturn(s3ObjectSizeSummary);
 
         lenient().when(pluginMetrics.counter(NUMBER_OF_GROUPS_FORCE_FLUSHED)).thenReturn(s3ObjectsForceFlushedCounter);
+        lenient().when(pluginMetrics.timer(S3SinkService.LOCK_WAIT_TIME)).thenReturn(lockWaitTimer);
 
         final AggregateThresholdOptions aggregateThresholdOptions = mock(AggregateThresholdOptions.class);
         when(aggregateThresholdOptions.getMaximumSize()).thenReturn(ByteCount.ofBytes(Integer.MAX_VALUE));
@@ -162,7 +171,7 @@ class S3SinkServiceTest {
     }
 
     private S3SinkService createObjectUnderTest() {
-        return new S3SinkService(s3SinkConfig, codecContext, Duration.ofMillis(100), pluginMetrics, s3GroupManager);
+        return new S3SinkService(s3SinkConfig, codecContext, Duration.ofMillis(100), pluginMetrics, s3GroupManager, partUploadLimiter);
     }
 
     @Test
@@ -591,6 +600,48 @@ class S3SinkServiceTest {
         verify(acknowledgementSet, never()).release(eventHandle2, false);
     }
 
+    @Test
+    void output_counts_the_parts_uploading_for_flushed_groups_toward_the_aggregate_threshold() throws IOException {
+        final long bytesThreshold = 100_000L;
+        final long bufferSize = 30_000L;
+
+        final AggregateThresholdOptions aggregateThresholdOptions = mock(AggregateThresholdOptions.class);
+        when(aggregateThresholdOptions.getMaximumSize()).thenReturn(ByteCount.ofBytes(bytesThreshold));
+        when(aggregateThresholdOptions.getFlushCapacityRatio()).thenReturn(0.5);
+        when(s3SinkConfig.getAggregateThresholdOptions()).thenReturn(aggregateThresholdOptions);
+        when(s3GroupManager.recalculateAndGetGroupSize()).thenReturn(bufferSize);
+        when(partUploadLimiter.getClosedStreamBytesInFlight()).thenReturn(bytesThreshold);
+
+        when(s3SinkConfig.getThresholdOptions().getMaximumSize()).thenReturn(ByteCount.parse("1gb"));
+
+        final Event event = mock(Event.class);
+        final S3Group s3Group = mock(S3Group.class);
+        final Buffer buffer = mock(Buffer.class);
+        when(s3Group.getOutputCodec()).thenReturn(codec);
+        when(buffer.getOutputStream()).thenReturn(mock(OutputStream.class));
+        when(buffer.getSize()).thenReturn(bufferSize);
+        when(s3Group.getBuffer()).thenReturn(buffer);
+        when(s3GroupManager.getOrCreateGroupForEvent(event)).thenReturn(s3Group);
+        when(s3GroupManager.getS3GroupEntries()).thenReturn(List.of(s3Group));
+        when(s3GroupManager.getS3GroupsSortedBySize()).thenReturn(List.of(s3Group));
+
+        doNothing().when(codec).start(any(OutputStream.class), any(Event.class), any(OutputCodecContext.class));
+        doNothing().when(codec).writeEvent(any(Event.class), any(OutputStream.class));
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+
+        try (final MockedStatic<CompletableFuture> completableFutureMockedStatic = mockStatic(CompletableFuture.class)) {
+            final CompletableFuture<Void> mockCompletableFuture = mock(CompletableFuture.class);
+            when(mockCompletableFuture.thenRun(any(Runnable.class))).thenReturn(mockCompletableFuture);
+            when(mockCompletableFuture.join()).thenReturn(null);
+            completableFutureMockedStatic.when(() -> CompletableFuture.allOf(any())).thenReturn(mockCompletableFuture);
+            s3SinkService.output(List.of(new Record<>(event)));
+        }
+
+        verify(buffer).flushToS3(any(Consumer.class), any(Consumer.class));
+        verify(s3GroupManager).removeGroup(s3Group);
+    }
+
     @Test
     void output_will_flush_the_largest_group_until_below_aggregate_threshold_when_aggregate_threshold_is_reached() throws IOException {
         final long bytesThreshold = 100_000L;
@@ -665,6 +716,99 @@ class S3SinkServiceTest {
         verify(s3ObjectsForceFlushedCounter, times(2)).increment();
     }
 
+    @Test
+    void output_registers_the_in_flight_uploads_gauge_and_records_lock_wait_time() throws IOException {
+        final Buffer buffer = mock(Buffer.class);
+        final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.getBuffer()).thenReturn(buffer);
+        when(s3Group.getOutputCodec()).thenReturn(codec);
+        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        s3SinkService.output(generateLessRandomStringEventRecord());
+
+        verify(pluginMetrics).gauge(eq(S3SinkService.UPLOADS_IN_FLIGHT), any(), any());
+        verify(lockWaitTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(codec, times(5)).writeEvent(any(Event.class), any());
+    }
+
+    @Test
+    void output_waits_for_part_upload_capacity_before_locking_the_group() throws IOException {
+        final Buffer buffer = mock(Buffer.class);
+        final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.getBuffer()).thenReturn(buffer);
+        when(s3Group.getOutputCodec()).thenReturn(codec);
+        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+
+        createObjectUnderTest().output(generateLessRandomStringEventRecord());
+
+        final InOrder inOrder = inOrder(partUploadLimiter, lockWaitTimer, codec);
+        inOrder.verify(partUploadLimiter).awaitPartUploadCapacity();
+        inOrder.verify(lockWaitTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        inOrder.verify(codec, times(5)).writeEvent(any(Event.class), any());
+    }
+
+    @Test
+    void output_writes_to_a_new_group_when_the_group_was_flushed_by_another_thread() throws IOException {
+        final S3Group flushedGroup = mock(S3Group.class);
+        when(flushedGroup.isFlushed()).thenReturn(true);
+
+        final Buffer buffer = mock(Buffer.class);
+        final OutputStream outputStream = mock(OutputStream.class);
+        when(buffer.getOutputStream()).thenReturn(outputStream);
+        final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.getBuffer()).thenReturn(buffer);
+        when(s3Group.getOutputCodec()).thenReturn(codec);
+
+        final Event event = JacksonEvent.fromMessage(UUID.randomUUID().toString());
+        when(s3GroupManager.getOrCreateGroupForEvent(event)).thenReturn(flushedGroup).thenReturn(s3Group);
+
+        createObjectUnderTest().output(Collections.singletonList(new Record<>(event)));
+
+        verify(codec).writeEvent(event, outputStream);
+        verify(s3Group).addEventHandle(event.getEventHandle());
+        verify(flushedGroup, never()).addEventHandle(any());
+        verify(flushedGroup, never()).getBuffer();
+    }
+
+    @Test
+    void output_does_not_flush_groups_already_flushed_by_another_thread() throws IOException {
+        final Buffer buffer = mock(Buffer.class);
+        when(buffer.getEventCount()).thenReturn(MAX_EVENTS + 1);
+        final S3Group flushedGroup = mock(S3Group.class);
+        when(flushedGroup.isFlushed()).thenReturn(true);
+        when(flushedGroup.getBuffer()).thenReturn(buffer);
+
+        when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.singletonList(flushedGroup));
+        when(s3GroupManager.getS3GroupsSortedBySize()).thenReturn(Collections.singletonList(flushedGroup));
+        when(s3GroupManager.recalculateAndGetGroupSize()).thenReturn((long) Integer.MAX_VALUE);
+
+        createObjectUnderTest().output(Collections.emptyList());
+
+        verify(s3GroupManager, never()).removeGroup(any(S3Group.class));
+        verify(flushedGroup, never()).markFlushed();
+        verify(codec, never()).complete(any(OutputStream.class));
+    }
+
+    @Test
+    void output_marks_groups_flushed_before_uploading_them() throws IOException {
+        final Buffer buffer = mock(Buffer.class);
+        when(buffer.getEventCount()).thenReturn(MAX_EVENTS + 1);
+        when(buffer.flushToS3(any(Consumer.class), any(Consumer.class))).thenReturn(Optional.empty());
+        final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.getBuffer()).thenReturn(buffer);
+        when(s3Group.getOutputCodec()).thenReturn(codec);
+        when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.singletonList(s3Group));
+
+        createObjectUnderTest().output(Collections.emptyList());
+
+        final InOrder inOrder = inOrder(s3GroupManager, s3Group, codec, buffer);
+        inOrder.verify(s3GroupManager).removeGroup(s3Group);
+        inOrder.verify(s3Group).markFlushed();
+        inOrder.verify(codec).complete(any());
+        inOrder.verify(buffer).flushToS3(any(Consumer.class), any(Consumer.class));
+    }
+
     private Collection<Record<Event>> generateRandomStringEventRecord() {
         return generateEventRecords(50);
     }
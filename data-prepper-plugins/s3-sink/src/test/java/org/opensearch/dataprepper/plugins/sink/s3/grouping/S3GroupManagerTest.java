@@ -18,15 +18,23 @@ import org.opensearch.dataprepper.plugins.sink.s3.codec.CodecFactory;
 import org.opensearch.dataprepper.plugins.sink.s3.ownership.BucketOwnerProvider;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import java.util.function.Function;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -258,4 +266,60 @@ public class S3GroupManagerTest {
         assertThat(objectUnderTest.getNumberOfGroups(), equalTo(2));
         assertThat(sortedGroupsAfterRemoval, contains(thirdGroup, firstGroup));
     }
+
+    @Test
+    void removeGroup_does_not_remove_the_group_which_replaced_it() {
+        final Event event = mock(Event.class);
+        final S3GroupIdentifier s3GroupIdentifier = mock(S3GroupIdentifier.class);
+        when(s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(event)).thenReturn(s3GroupIdentifier);
+        when(bufferFactory.getBuffer(eq(s3Client), any(Supplier.class), any(Supplier.class), any(), any(Function.class), eq(bucketOwnerProvider)))
+                .thenReturn(mock(Buffer.class)).thenReturn(mock(Buffer.class));
+
+        final S3GroupManager objectUnderTest = createObjectUnderTest();
+
+        final S3Group firstGroup = objectUnderTest.getOrCreateGroupForEvent(event);
+        objectUnderTest.removeGroup(firstGroup);
+        assertThat(objectUnderTest.hasNoGroups(), equalTo(true));
+
+        final S3Group secondGroup = objectUnderTest.getOrCreateGroupForEvent(event);
+        objectUnderTest.removeGroup(firstGroup);
+
+        assertThat(secondGroup, not(sameInstance(firstGroup)));
+        assertThat(objectUnderTest.getS3GroupEntries(), contains(secondGroup));
+    }
+
+    @Test
+    void getOrCreateGroupForEvent_creates_a_single_group_when_called_concurrently() throws Exception {
+        final Event event = mock(Event.class);
+        final S3GroupIdentifier s3GroupIdentifier = mock(S3GroupIdentifier.class);
+        when(s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(event)).thenReturn(s3GroupIdentifier);
+        when(bufferFactory.getBuffer(eq(s3Client), any(Supplier.class), any(Supplier.class), any(), any(Function.class), eq(bucketOwnerProvider)))
+                .thenAnswer(invocation -> mock(Buffer.class));
+
+        final S3GroupManager objectUnderTest = createObjectUnderTest();
+
+        final int numberOfThreads = 8;
+        final ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            final CountDownLatch startLatch = new CountDownLatch(1);
+            final List<Future<S3Group>> results = new ArrayList<>();
+            for (int i = 0; i < numberOfThreads; i++) {
+                results.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return objectUnderTest.getOrCreateGroupForEvent(event);
+                }));
+            }
+            startLatch.countDown();
+
+            final S3Group s3Group = results.get(0).get();
+            for (final Future<S3Group> result : results) {
+                assertThat(result.get(), sameInstance(s3Group));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(objectUnderTest.getNumberOfGroups(), equalTo(1));
+        verify(bufferFactory, times(1)).getBuffer(eq(s3Client), any(Supplier.class), any(Supplier.class), any(), any(Function.class), eq(bucketOwnerProvider));
+    }
 }
@@ -57,4 +57,15 @@ public class S3GroupTest {
         assertThat(largeGroup.compareTo(smallGroup), equalTo(1));
         assertThat(largeGroup.compareTo(anotherLargeGroup), equalTo(0));
     }
+
+    @Test
+    void markFlushed_marks_the_group_as_flushed() {
+        final S3Group objectUnderTest = new S3Group(mock(S3GroupIdentifier.class), mock(Buffer.class), mock(OutputCodec.class));
+
+        assertThat(objectUnderTest.isFlushed(), equalTo(false));
+
+        objectUnderTest.markFlushed();
+
+        assertThat(objectUnderTest.isFlushed(), equalTo(true));
+    }
 }
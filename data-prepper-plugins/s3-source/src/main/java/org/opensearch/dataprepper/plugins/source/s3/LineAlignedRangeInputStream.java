@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.apache.parquet.io.SeekableInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * An {@link InputStream} over the lines of a byte range of a {@link SeekableInputStream}. A line belongs to the range
+ * in which it starts, so the stream skips the partial line at the start of the range and reads past the end of the
+ * range to finish its last line. Reading adjacent ranges thus yields every line exactly once.
+ */
+class LineAlignedRangeInputStream extends InputStream {
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte NEWLINE = '\n';
+
+    private final SeekableInputStream inputStream;
+    private final long end;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] singleByte = new byte[1];
+    private int bufferPosition = 0;
+    private int bufferLimit = 0;
+    private long position;
+    private boolean finished = false;
+    private boolean aligned = false;
+
+    /**
+     * @param inputStream the stream to read the range from; it is closed along with this stream
+     * @param start the first byte of the range
+     * @param end the byte after the last byte of the range
+     */
+    LineAlignedRangeInputStream(final SeekableInputStream inputStream, final long start, final long end) {
+        this.inputStream = Objects.requireNonNull(inputStream);
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException("Invalid range [" + start + ", " + end + ").");
+        }
+        this.end = end;
+        this.position = start;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int bytesRead = read(singleByte, 0, 1);
+        return bytesRead == -1 ? -1 : singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (!aligned) {
+            alignToLineStart();
+        }
+        if (finished || (bufferPosition == bufferLimit && !fillBuffer())) {
+            finished = true;
+            return -1;
+        }
+
+        int bytesToCopy = Math.min(length, bufferLimit - bufferPosition);
+        if (position + bytesToCopy > end - 1) {
+            // The line ending at or after the last byte of the range is the last line of the range.
+            final int searchStart = (int) Math.max(0, end - 1 - position);
+            for (int i = searchStart; i < bytesToCopy; i++) {
+                if (buffer[bufferPosition + i] == NEWLINE) {
+                    bytesToCopy = i + 1;
+                    finished = true;
+                    break;
+                }
+            }
+        }
+
+        System.arraycopy(buffer, bufferPosition, bytes, offset, bytesToCopy);
+        bufferPosition += bytesToCopy;
+        position += bytesToCopy;
+        return bytesToCopy;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        inputStream.close();
+    }
+
+    /**
+     * Moves to the first line starting in the range. The line containing the byte before the range belongs to the
+     * previous range, so this skips through the first newline at or after that byte.
+     */
+    private void alignToLineStart() throws IOException {
+        aligned = true;
+        if (position == end) {
+            finished = true;
+            return;
+        }
+        if (position == 0) {
+            inputStream.seek(0);
+            return;
+        }
+
+        position--;
+        inputStream.seek(position);
+        while (bufferPosition < bufferLimit || fillBuffer()) {
+            final byte nextByte = buffer[bufferPosition++];
+            position++;
+            if (nextByte == NEWLINE) {
+                if (position >= end) {
+                    finished = true;
+                }
+                return;
+            }
+        }
+        finished = true;
+    }
+
+    private boolean fillBuffer() throws IOException {
+        final int bytesRead = inputStream.read(buffer, 0, BUFFER_SIZE);
+        if (bytesRead <= 0) {
+            return false;
+        }
+        bufferPosition = 0;
+        bufferLimit = bytesRead;
+        return true;
+    }
+}
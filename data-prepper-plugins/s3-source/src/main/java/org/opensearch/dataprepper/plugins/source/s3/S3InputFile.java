@@ -70,6 +70,18 @@ public class S3InputFile implements InputFile {
             s3Client, s3ObjectReference, bucketOwnerProvider, getMetadata(), s3ObjectPluginMetrics, DEFAULT_RETRY_DELAY, DEFAULT_RETRIES);
     }
 
+    /**
+     * Create an input stream from the input file which only requests the bytes before the read limit, until it reads
+     * past it
+     * @param readLimit the position before which reads are expected to end
+     * @return an implementation of a SeekableInputStream into the S3 object.
+     */
+    public SeekableInputStream newStream(final long readLimit) {
+        return new S3InputStream(
+            s3Client, s3ObjectReference, bucketOwnerProvider, getMetadata(), s3ObjectPluginMetrics, DEFAULT_RETRY_DELAY, DEFAULT_RETRIES,
+            readLimit);
+    }
+
     /**
      * Get the metadata of the S3 object. Cache the metadata to avoid subsequent headObject calls to S3
      * @return the metadata of the S3 object
@@ -2,6 +2,7 @@ package org.opensearch.dataprepper.plugins.source.s3;
 
 import com.google.common.base.Preconditions;
 import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
 import dev.failsafe.Failsafe;
 import dev.failsafe.FailsafeException;
 import dev.failsafe.RetryPolicy;
@@ -19,9 +20,11 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
+import java.io.ByteArrayInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
@@ -44,6 +47,17 @@ class S3InputStream extends SeekableInputStream {
 
     private static final int SKIP_SIZE = 1024 * 1024;
 
+    /**
+     * The number of bytes at the end of the object which are fetched in a single request when a reader seeks close to
+     * the end, as Parquet does to read its footer.
+     */
+    static final int FOOTER_PREFETCH_SIZE = 1024 * 1024;
+
+    /**
+     * Seeking into this many bytes at the end of an object larger than it prefetches the footer.
+     */
+    static final int FOOTER_PREFETCH_TRIGGER_SIZE = 64 * 1024;
+
     private final S3Client s3Client;
 
     private final S3ObjectReference s3ObjectReference;
@@ -56,8 +70,32 @@ class S3InputStream extends SeekableInputStream {
 
     private final GetObjectRequest.Builder getObjectRequestBuilder;
 
+    /**
+     * A stream opened before this position only requests the bytes before it. The rest of the object is requested
+     * when it is read.
+     */
+    private final long readLimit;
+
     private InputStream stream;
 
+    private InputStream objectStream;
+
+    private CountingInputStream countingObjectStream;
+
+    private byte[] footer;
+
+    private long footerStart;
+
+    private boolean seeked = false;
+
+    private long bytesFetched = 0;
+
+    private int getRequests = 0;
+
+    private int readCacheHits = 0;
+
+    private int readCacheMisses = 0;
+
     private final byte[] temp = new byte[COPY_BUFFER_SIZE];
 
     private long pos = 0;
@@ -81,8 +119,26 @@ class S3InputStream extends SeekableInputStream {
             final S3ObjectPluginMetrics s3ObjectPluginMetrics,
             final Duration retryDelay,
             final int retries
+    ) {
+        this(s3Client, s3ObjectReference, bucketOwnerProvider, metadata, s3ObjectPluginMetrics, retryDelay, retries, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param readLimit the position before which reads are expected to end; a stream opened before it only requests the
+     *                  bytes up to it, and requests the rest of the object only if it is read
+     */
+    public S3InputStream(
+            final S3Client s3Client,
+            final S3ObjectReference s3ObjectReference,
+            final BucketOwnerProvider bucketOwnerProvider,
+            final HeadObjectResponse metadata,
+            final S3ObjectPluginMetrics s3ObjectPluginMetrics,
+            final Duration retryDelay,
+            final int retries,
+            final long readLimit
     ) {
         this.s3Client = s3Client;
+        this.readLimit = readLimit;
         this.s3ObjectReference = s3ObjectReference;
         this.metadata = metadata;
         this.s3ObjectPluginMetrics = s3ObjectPluginMetrics;
@@ -135,6 +191,10 @@ class S3InputStream extends SeekableInputStream {
         closed = true;
         closeStream();
         s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary().record(bytesCounter.doubleValue());
+        s3ObjectPluginMetrics.getS3ObjectFetchedBytesSummary().record(bytesFetched);
+        s3ObjectPluginMetrics.getS3ObjectGetRequestsSummary().record(getRequests);
+        s3ObjectPluginMetrics.getS3ObjectReadCacheHitsCounter().increment(readCacheHits);
+        s3ObjectPluginMetrics.getS3ObjectReadCacheMissesCounter().increment(readCacheMisses);
     }
 
     /**
@@ -331,6 +391,7 @@ class S3InputStream extends SeekableInputStream {
 
         // this allows a seek beyond the end of the stream but the next read will fail
         next = newPos;
+        seeked = true;
     }
 
     // Implement all SeekableInputStream methods
@@ -474,28 +535,140 @@ class S3InputStream extends SeekableInputStream {
 
         // close the stream and open at desired position
         LOG.debug("Seek with new stream for {} to offset {}", s3ObjectReference, next);
+        final boolean reopening = stream != null;
         pos = next;
-        openStream();
+        openStream(reopening);
     }
 
     /**
-     * Open the stream to the S3 object
+     * Open the stream to the S3 object. Positions in the prefetched footer are read from memory, and a stream which
+     * starts before the footer only requests the bytes up to it. A stream which starts before the read limit only
+     * requests the bytes up to the limit, and continues with a request for the rest once it reaches it.
+     * @param reopening whether a seek replaces an open stream, which is counted as a read cache hit or miss
      * @throws IOException if the stream cannot be opened.
      */
-    private void openStream() throws IOException {
+    private void openStream(final boolean reopening) throws IOException {
         closeStream();
 
-        if (pos >= metadata.contentLength()) {
+        final long contentLength = metadata.contentLength();
+        if (pos >= contentLength) {
             stream = InputStream.nullInputStream();
             return;
         }
 
+        if (reopening) {
+            if (footer != null && pos >= footerStart) {
+                readCacheHits++;
+            } else {
+                readCacheMisses++;
+            }
+        }
+
+        if (footer == null && seeked && contentLength > FOOTER_PREFETCH_TRIGGER_SIZE &&
+                pos >= contentLength - FOOTER_PREFETCH_TRIGGER_SIZE) {
+            prefetchFooter(contentLength);
+        }
+
+        if (footer != null && pos >= footerStart) {
+            stream = footerStream(pos);
+            return;
+        }
+
+        final long objectStreamEnd = footer == null ? contentLength : footerStart;
+        final long requestEnd = pos < readLimit ? Math.min(readLimit, objectStreamEnd) : objectStreamEnd;
+        objectStream = getObject(range(pos, requestEnd, contentLength));
+        countingObjectStream = new CountingInputStream(objectStream);
+        final InputStream objectBytesStream = requestEnd == objectStreamEnd ? countingObjectStream :
+                new SequenceInputStream(countingObjectStream, new RemainingObjectStream(requestEnd, objectStreamEnd, contentLength));
+        stream = footer == null ? objectBytesStream : new SequenceInputStream(objectBytesStream, footerStream(footerStart));
+    }
+
+    private static String range(final long start, final long end, final long contentLength) {
+        return end == contentLength ? String.format("bytes=%s-", start) : String.format("bytes=%s-%s", start, end - 1);
+    }
+
+    /**
+     * Fetch the end of the object in a single request, so the footer reads of columnar formats are served from memory
+     * instead of each opening a new stream. The footer is requested again when reading it fails with a retryable
+     * exception.
+     * @throws IOException if the footer cannot be fetched.
+     */
+    private void prefetchFooter(final long contentLength) throws IOException {
+        final long start = Math.max(0, contentLength - FOOTER_PREFETCH_SIZE);
+        final String range = String.format("bytes=%s-%s", start, contentLength - 1);
+        try {
+            footer = Failsafe.with(retryPolicyReturningByteArray).get(() -> {
+                try (final InputStream footerObjectStream = getObject(range)) {
+                    return footerObjectStream.readAllBytes();
+                }
+            });
+        } catch (FailsafeException e) {
+            LOG.error("Failed to prefetch the footer with retries", e);
+            throw new IOException(e.getCause());
+        }
+        footerStart = start;
+        bytesFetched += footer.length;
+        LOG.debug("Prefetched {} bytes at the end of {}", footer.length, s3ObjectReference);
+    }
+
+    /**
+     * The bytes of the object after the end of a bounded request. They are requested when they are first read, and the
+     * request replaces the finished one as the object stream, so it is counted and aborted as usual.
+     */
+    private class RemainingObjectStream extends InputStream {
+        private final long start;
+        private final long end;
+        private final long contentLength;
+        private InputStream remainingStream;
+
+        private RemainingObjectStream(final long start, final long end, final long contentLength) {
+            this.start = start;
+            this.end = end;
+            this.contentLength = contentLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return openRemainingStream().read();
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            return openRemainingStream().read(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (remainingStream != null) {
+                remainingStream.close();
+            }
+        }
+
+        private InputStream openRemainingStream() throws IOException {
+            if (remainingStream == null) {
+                LOG.debug("Reading {} past the read limit from offset {}", s3ObjectReference, start);
+                bytesFetched += countingObjectStream.getCount();
+                objectStream = getObject(range(start, end, contentLength));
+                countingObjectStream = new CountingInputStream(objectStream);
+                remainingStream = countingObjectStream;
+            }
+            return remainingStream;
+        }
+    }
+
+    private InputStream footerStream(final long position) {
+        final int offset = (int) Math.min(position - footerStart, footer.length);
+        return new ByteArrayInputStream(footer, offset, footer.length - offset);
+    }
+
+    private InputStream getObject(final String range) throws IOException {
         final GetObjectRequest request = this.getObjectRequestBuilder
-                .range(String.format("bytes=%s-", pos))
+                .range(range)
                 .build();
 
+        getRequests++;
         try {
-            stream = s3Client.getObject(request, ResponseTransformer.toInputStream());
+            return s3Client.getObject(request, ResponseTransformer.toInputStream());
         } catch (Exception ex) {
             LOG.error("Error reading from S3 object: s3ObjectReference={}", s3ObjectReference);
             if (ex instanceof S3Exception) {
@@ -511,6 +684,10 @@ class S3InputStream extends SeekableInputStream {
      * @throws IOException if the stream cannot be closed.
      */
     private void closeStream() throws IOException {
+        if (countingObjectStream != null) {
+            bytesFetched += countingObjectStream.getCount();
+            countingObjectStream = null;
+        }
         if (stream != null) {
             // if we aren't at the end of the stream, and the stream is abortable, then
             // call abort() so we don't read the remaining data with the Apache HTTP client
@@ -525,6 +702,7 @@ class S3InputStream extends SeekableInputStream {
                 }
             }
             stream = null;
+            objectStream = null;
         }
     }
 
@@ -533,8 +711,8 @@ class S3InputStream extends SeekableInputStream {
      */
     private void abortStream() {
         try {
-            if (stream instanceof Abortable) {
-                ((Abortable) stream).abort();
+            if (objectStream instanceof Abortable) {
+                ((Abortable) objectStream).abort();
             }
         } catch (Exception e) {
             LOG.warn("An error occurred while aborting the stream", e);
@@ -689,7 +867,7 @@ class S3InputStream extends SeekableInputStream {
                     return supplier.get();
                 } catch (ConnectionClosedException | EOFException | SocketException | SocketTimeoutException e) {
                     LOG.warn("Resetting stream due to underlying socket exception", e);
-                    openStream();
+                    openStream(false);
                     throw e;
                 }
             });
@@ -36,4 +36,10 @@ public interface S3ObjectHandler {
      */
     void deleteS3Object(final S3ObjectReference s3ObjectReference);
 
+    /**
+     * Release the resources of the handler when the source stops
+     */
+    default void stop() {
+    }
+
 }
@@ -22,6 +22,10 @@ public class S3ObjectPluginMetrics {
     static final String S3_OBJECTS_SIZE = "s3ObjectSizeBytes";
     static final String S3_OBJECTS_NO_RECORDS_FOUND = "s3ObjectNoRecordsFound";
     static final String S3_OBJECTS_THROTTLED_METRIC_NAME = "s3ObjectsThrottled";
+    static final String S3_OBJECTS_FETCHED_BYTES = "s3ObjectFetchedBytes";
+    static final String S3_OBJECTS_GET_REQUESTS = "s3ObjectGetRequests";
+    static final String S3_OBJECTS_READ_CACHE_HITS = "s3ObjectReadCacheHits";
+    static final String S3_OBJECTS_READ_CACHE_MISSES = "s3ObjectReadCacheMisses";
     private final Counter s3ObjectsFailedCounter;
     private final Counter s3ObjectsThrottledCounter;
     private final Counter s3ObjectsFailedNotFoundCounter;
@@ -35,6 +39,10 @@ public class S3ObjectPluginMetrics {
 
     private final Counter s3ObjectsDeleteFailed;
     private final Counter s3ObjectReadFailedCounter;
+    private final DistributionSummary s3ObjectFetchedBytesSummary;
+    private final DistributionSummary s3ObjectGetRequestsSummary;
+    private final Counter s3ObjectReadCacheHitsCounter;
+    private final Counter s3ObjectReadCacheMissesCounter;
 
     public S3ObjectPluginMetrics(final PluginMetrics pluginMetrics){
         s3ObjectsFailedCounter = pluginMetrics.counter(S3_OBJECTS_FAILED_METRIC_NAME);
@@ -49,6 +57,10 @@ public class S3ObjectPluginMetrics {
         s3ObjectNoRecordsFound = pluginMetrics.counter(S3_OBJECTS_NO_RECORDS_FOUND);
         s3ObjectsDeleteFailed = pluginMetrics.counter(S3_OBJECTS_DELETE_FAILED_METRIC_NAME);
         s3ObjectReadFailedCounter = pluginMetrics.counter(S3_OBJECTS_READ_FAILED_METRIC_NAME);
+        s3ObjectFetchedBytesSummary = pluginMetrics.summary(S3_OBJECTS_FETCHED_BYTES);
+        s3ObjectGetRequestsSummary = pluginMetrics.summary(S3_OBJECTS_GET_REQUESTS);
+        s3ObjectReadCacheHitsCounter = pluginMetrics.counter(S3_OBJECTS_READ_CACHE_HITS);
+        s3ObjectReadCacheMissesCounter = pluginMetrics.counter(S3_OBJECTS_READ_CACHE_MISSES);
     }
 
     public Counter getS3ObjectsFailedCounter() {
@@ -94,4 +106,20 @@ public class S3ObjectPluginMetrics {
     public Counter getS3ObjectsDeleteFailed() { return s3ObjectsDeleteFailed; }
 
     public Counter getS3ObjectReadFailedCounter() { return s3ObjectReadFailedCounter; }
+
+    public DistributionSummary getS3ObjectFetchedBytesSummary() {
+        return s3ObjectFetchedBytesSummary;
+    }
+
+    public DistributionSummary getS3ObjectGetRequestsSummary() {
+        return s3ObjectGetRequestsSummary;
+    }
+
+    public Counter getS3ObjectReadCacheHitsCounter() {
+        return s3ObjectReadCacheHitsCounter;
+    }
+
+    public Counter getS3ObjectReadCacheMissesCounter() {
+        return s3ObjectReadCacheMissesCounter;
+    }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.opensearch.dataprepper.model.codec.InputCodec;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.RangeReadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectCSVOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectJsonOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectSerializationFormatOption;
@@ -38,7 +39,7 @@ public class S3ObjectRequest {
     private final S3SelectCSVOption s3SelectCSVOption;
     private final S3SelectJsonOption s3SelectJsonOption;
     private final String expressionType;
-
+    private final RangeReadOptions rangeReadOptions;
 
     private S3ObjectRequest(Builder builder) {
         this.buffer = builder.buffer;
@@ -59,6 +60,7 @@ public class S3ObjectRequest {
         this.s3SelectCSVOption = builder.s3SelectCSVOption;
         this.s3SelectJsonOption = builder.s3SelectJsonOption;
         this.expressionType = builder.expressionType;
+        this.rangeReadOptions = builder.rangeReadOptions;
     }
 
     public Buffer<Record<Event>> getBuffer() {
@@ -129,6 +131,10 @@ public class S3ObjectRequest {
         return expressionType;
     }
 
+    public RangeReadOptions getRangeReadOptions() {
+        return rangeReadOptions;
+    }
+
     public static class Builder {
         private final Buffer<Record<Event>> buffer;
         private final int numberOfRecordsToAccumulate;
@@ -147,6 +153,7 @@ public class S3ObjectRequest {
         private S3SelectCSVOption s3SelectCSVOption;
         private S3SelectJsonOption s3SelectJsonOption;
         private String expressionType;
+        private RangeReadOptions rangeReadOptions;
 
         public Builder(final Buffer<Record<Event>> buffer,
                        final int numberOfRecordsToAccumulate,
@@ -226,5 +233,10 @@ public class S3ObjectRequest {
             return this;
         }
 
+        public Builder rangeReadOptions(RangeReadOptions rangeReadOptions) {
+            this.rangeReadOptions = rangeReadOptions;
+            return this;
+        }
+
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.source.s3;
 
 import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.codec.InputCodec;
@@ -16,6 +17,7 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.source.coordinator.SourceCoordinator;
 import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 import org.opensearch.dataprepper.plugins.source.s3.ownership.BucketOwnerProvider;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.RangeReadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3DataSelection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,15 +25,23 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * Class responsible for taking an {@link S3ObjectReference} and creating all the necessary {@link Event}
@@ -47,6 +57,12 @@ class S3ObjectWorker implements S3ObjectHandler {
     private static final String KEY_KEY = "key";
     private static final String TIME_KEY = "time";
     private static final String LENGTH_KEY = "length";
+    private static final String RANGE_READ_THREAD_NAME_PREFIX = "s3-source-range-read";
+    /**
+     * How far past the end of its range a range requests up front to finish its last line. A longer line continues
+     * with a request for the rest of the object.
+     */
+    static final long LINE_READ_AHEAD_BYTES = 64 * 1024;
 
     private final S3Client s3Client;
     private final Buffer<Record<Event>> buffer;
@@ -58,6 +74,8 @@ class S3ObjectWorker implements S3ObjectHandler {
     private final int numberOfRecordsToAccumulate;
     private final BiConsumer<Event, S3ObjectReference> eventConsumer;
     private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    private final RangeReadOptions rangeReadOptions;
+    private final ExecutorService rangeReadExecutorService;
     private Instant lastModified;
 
     public S3ObjectWorker(final S3ObjectRequest s3ObjectRequest) {
@@ -71,6 +89,9 @@ class S3ObjectWorker implements S3ObjectHandler {
         this.s3Client = s3ObjectRequest.getS3Client();
         this.lastModified = Instant.now();
         this.s3ObjectPluginMetrics = s3ObjectRequest.getS3ObjectPluginMetrics();
+        this.rangeReadOptions = s3ObjectRequest.getRangeReadOptions();
+        this.rangeReadExecutorService = rangeReadOptions == null ? null : Executors.newFixedThreadPool(
+                rangeReadOptions.getParallelism(), BackgroundThreadFactory.defaultExecutorThreadFactory(RANGE_READ_THREAD_NAME_PREFIX));
     }
 
     public void processS3Object(final S3ObjectReference s3ObjectReference,
@@ -97,6 +118,13 @@ class S3ObjectWorker implements S3ObjectHandler {
         s3ObjectPluginMetrics.getS3ObjectsSucceededCounter().increment();
     }
 
+    @Override
+    public void stop() {
+        if (rangeReadExecutorService != null) {
+            rangeReadExecutorService.shutdownNow();
+        }
+    }
+
     @Override
     public void deleteS3Object(final S3ObjectReference s3ObjectReference) {
         final DeleteObjectRequest.Builder deleteRequestBuilder = DeleteObjectRequest.builder()
@@ -152,8 +180,7 @@ class S3ObjectWorker implements S3ObjectHandler {
             consumer.accept(new Record<>(event), S3DataSelection.METADATA_ONLY);
             return event.toJsonString().length();
         } else {
-            final CompressionOption fileCompressionOption = compressionOption != CompressionOption.AUTOMATIC ?
-                    compressionOption : CompressionOption.fromFileName(s3ObjectReference.getKey());
+            final CompressionOption fileCompressionOption = getFileCompressionOption(s3ObjectReference);
 
             try {
                 codec.parse(inputFile, fileCompressionOption.getDecompressionEngine(), record -> {
@@ -167,6 +194,82 @@ class S3ObjectWorker implements S3ObjectHandler {
         }
     }
 
+    /**
+     * Reads a large object as several byte ranges in parallel. Each range is parsed from the first line starting in
+     * it, so this only applies to codecs which read one record per line. Every range writes to the buffer through its
+     * own {@link BufferAccumulator}, while all the events share the acknowledgement set of the object. The ranges of
+     * all the objects share the range read thread pool, so the parallelism bounds the range reads of the source.
+     */
+    private void consumeS3ObjectInRanges(final S3InputFile inputFile,
+                                         final S3DataSelection dataSelection,
+                                         final Function<BufferAccumulator<Record<Event>>, BiConsumer<Record<Event>, S3DataSelection>> recordConsumerFactory,
+                                         final AtomicInteger recordsWritten) {
+        final long length = inputFile.getLength();
+        final long rangeSize = rangeReadOptions.getRangeSize().getBytes();
+        final int numberOfRanges = (int) ((length + rangeSize - 1) / rangeSize);
+        LOG.debug("Reading S3 object {} in {} ranges", inputFile.getObjectReference(), numberOfRanges);
+
+        final List<Future<Void>> rangeFutures = new ArrayList<>(numberOfRanges);
+        try {
+            for (long start = 0; start < length; start += rangeSize) {
+                final long rangeStart = start;
+                final long rangeEnd = Math.min(length, start + rangeSize);
+                rangeFutures.add(rangeReadExecutorService.submit(() -> {
+                    consumeS3ObjectRange(inputFile, rangeStart, rangeEnd, length, dataSelection, recordConsumerFactory, recordsWritten);
+                    return null;
+                }));
+            }
+            for (final Future<Void> rangeFuture : rangeFutures) {
+                rangeFuture.get();
+            }
+        } catch (final ExecutionException e) {
+            s3ObjectPluginMetrics.getS3ObjectReadFailedCounter().increment();
+            throw new S3ReadFailedException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            s3ObjectPluginMetrics.getS3ObjectReadFailedCounter().increment();
+            throw new S3ReadFailedException(e);
+        } finally {
+            rangeFutures.forEach(rangeFuture -> rangeFuture.cancel(true));
+        }
+    }
+
+    private void consumeS3ObjectRange(final S3InputFile inputFile,
+                                      final long start,
+                                      final long end,
+                                      final long length,
+                                      final S3DataSelection dataSelection,
+                                      final Function<BufferAccumulator<Record<Event>>, BiConsumer<Record<Event>, S3DataSelection>> recordConsumerFactory,
+                                      final AtomicInteger recordsWritten) throws IOException {
+        final BufferAccumulator<Record<Event>> rangeBufferAccumulator = BufferAccumulator.create(buffer, numberOfRecordsToAccumulate, bufferTimeout);
+        final BiConsumer<Record<Event>, S3DataSelection> consumer = recordConsumerFactory.apply(rangeBufferAccumulator);
+        try (final InputStream rangeInputStream = new LineAlignedRangeInputStream(
+                inputFile.newStream(Math.min(length, end + LINE_READ_AHEAD_BYTES)), start, end)) {
+            codec.parse(rangeInputStream, record -> consumer.accept(record, dataSelection));
+        }
+
+        try {
+            rangeBufferAccumulator.flush();
+        } catch (final Exception e) {
+            LOG.error("Failed writing S3 objects to buffer.", e);
+        }
+        recordsWritten.addAndGet(rangeBufferAccumulator.getTotalWritten());
+    }
+
+    private boolean shouldReadInRanges(final S3InputFile inputFile, final S3DataSelection dataSelection) {
+        if (rangeReadOptions == null || dataSelection == S3DataSelection.METADATA_ONLY || !codec.isSplittableOnLines() ||
+                getFileCompressionOption(inputFile.getObjectReference()) != CompressionOption.NONE) {
+            return false;
+        }
+        final long length = inputFile.getLength();
+        return length >= rangeReadOptions.getMinimumObjectSize().getBytes() && length > rangeReadOptions.getRangeSize().getBytes();
+    }
+
+    private CompressionOption getFileCompressionOption(final S3ObjectReference s3ObjectReference) {
+        return compressionOption != CompressionOption.AUTOMATIC ?
+                compressionOption : CompressionOption.fromFileName(s3ObjectReference.getKey());
+    }
+
     private void doProcessObject(final AcknowledgementSet acknowledgementSet,
                                final S3ObjectReference s3ObjectReference,
                                final BufferAccumulator<Record<Event>> bufferAccumulator,
@@ -182,11 +285,13 @@ class S3ObjectWorker implements S3ObjectHandler {
         final S3InputFile inputFile = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics);
 
         final AtomicInteger saveStateCounter = new AtomicInteger();
+        final AtomicInteger rangeRecordsWritten = new AtomicInteger();
         try {
             final Instant lastModifiedTime = inputFile.getLastModified();
             final Instant now = Instant.now();
             final Instant originationTime = (lastModifiedTime == null || lastModifiedTime.isAfter(now)) ? now : lastModifiedTime;
-            s3ObjectSize = consumeS3Object(inputFile, dataSelection, (record, objectDataSelection) -> {
+            final Function<BufferAccumulator<Record<Event>>, BiConsumer<Record<Event>, S3DataSelection>> recordConsumerFactory =
+                    accumulator -> (record, objectDataSelection) -> {
                 try {
                     Event event = record.getData();
                     // eventConsumer invoked only for S3DataSelection.DATA_AND_METADATA
@@ -202,9 +307,13 @@ class S3ObjectWorker implements S3ObjectHandler {
                     if (acknowledgementSet != null) {
                         acknowledgementSet.add(event);
                     }
-                    bufferAccumulator.add(record);
+                    accumulator.add(record);
+                    // Ranges of the same object call this concurrently, so only the thread which moves the
+                    // checkpoint time forward renews the partition.
+                    final long checkpointTime = lastCheckpointTime.get();
                     if (acknowledgementSet != null && sourceCoordinator != null && partitionKey != null &&
-                            (System.currentTimeMillis() - lastCheckpointTime.get() > DEFAULT_CHECKPOINT_INTERVAL_MILLS)) {
+                            (System.currentTimeMillis() - checkpointTime > DEFAULT_CHECKPOINT_INTERVAL_MILLS) &&
+                            lastCheckpointTime.compareAndSet(checkpointTime, System.currentTimeMillis())) {
                         LOG.debug("Renew partition ownership for the object {}", partitionKey);
                         sourceCoordinator.saveProgressStateForPartition(partitionKey, null);
                         lastCheckpointTime.set(System.currentTimeMillis());
@@ -213,7 +322,14 @@ class S3ObjectWorker implements S3ObjectHandler {
                 } catch (final Exception e) {
                     LOG.error("Failed writing S3 objects to buffer due to: {}", e.getMessage());
                 }
-            });
+            };
+
+            if (shouldReadInRanges(inputFile, dataSelection)) {
+                consumeS3ObjectInRanges(inputFile, dataSelection, recordConsumerFactory, rangeRecordsWritten);
+                s3ObjectSize = inputFile.getLength();
+            } else {
+                s3ObjectSize = consumeS3Object(inputFile, dataSelection, recordConsumerFactory.apply(bufferAccumulator));
+            }
 
         } catch (final Exception ex) {
             s3ObjectPluginMetrics.getS3ObjectsFailedCounter().increment();
@@ -226,7 +342,7 @@ class S3ObjectWorker implements S3ObjectHandler {
         } catch (final Exception e) {
             LOG.error("Failed writing S3 objects to buffer.", e);
         }
-        final int recordsWritten = bufferAccumulator.getTotalWritten();
+        final int recordsWritten = bufferAccumulator.getTotalWritten() + rangeRecordsWritten.get();
 
         if (recordsWritten == 0) {
             LOG.warn("Failed to find any records in S3 object: s3ObjectReference={}.", s3ObjectReference);
@@ -18,6 +18,7 @@ import org.opensearch.dataprepper.plugins.source.s3.configuration.AwsAuthenticat
 import org.opensearch.dataprepper.plugins.source.s3.configuration.NotificationSourceOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.NotificationTypeOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.OnErrorOption;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.RangeReadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanScanOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.SqsOptions;
@@ -95,6 +96,10 @@ public class S3SourceConfig {
     @Valid
     private S3ScanScanOptions s3ScanScanOptions;
 
+    @JsonProperty("range_reads")
+    @Valid
+    private RangeReadOptions rangeReadOptions;
+
     @JsonProperty("delete_s3_objects_on_read")
     private boolean deleteS3ObjectsOnRead = false;
 
@@ -139,6 +144,11 @@ public class S3SourceConfig {
         return true;
     }
 
+    @AssertTrue(message = "range_reads is not supported with s3_select")
+    boolean isRangeReadsNotUsingS3Select() {
+        return rangeReadOptions == null || s3SelectOptions == null;
+    }
+
     public NotificationTypeOption getNotificationType() {
         return notificationType;
     }
@@ -203,6 +213,10 @@ public class S3SourceConfig {
         return s3ScanScanOptions;
     }
 
+    public RangeReadOptions getRangeReadOptions() {
+        return rangeReadOptions;
+    }
+
     public boolean isDeleteS3ObjectsOnRead() {
         return deleteS3ObjectsOnRead;
     }
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.source.s3.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+/**
+ * Class consists the options for reading large objects as several byte ranges in parallel.
+ */
+public class RangeReadOptions {
+    static final String DEFAULT_MINIMUM_OBJECT_SIZE = "256mb";
+    static final String DEFAULT_RANGE_SIZE = "64mb";
+    static final int DEFAULT_PARALLELISM = 4;
+    private static final long MINIMUM_RANGE_SIZE_BYTES = 1024 * 1024;
+
+    @JsonProperty("minimum_object_size")
+    private ByteCount minimumObjectSize = ByteCount.parse(DEFAULT_MINIMUM_OBJECT_SIZE);
+
+    @JsonProperty("range_size")
+    private ByteCount rangeSize = ByteCount.parse(DEFAULT_RANGE_SIZE);
+
+    @JsonProperty("parallelism")
+    @Min(1)
+    @Max(64)
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    @AssertTrue(message = "range_size must be at least 1mb")
+    boolean isRangeSizeValid() {
+        return rangeSize != null && rangeSize.getBytes() >= MINIMUM_RANGE_SIZE_BYTES;
+    }
+
+    public ByteCount getMinimumObjectSize() {
+        return minimumObjectSize;
+    }
+
+    public ByteCount getRangeSize() {
+        return rangeSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+}
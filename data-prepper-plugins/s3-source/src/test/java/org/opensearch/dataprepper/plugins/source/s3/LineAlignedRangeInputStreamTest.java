@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.apache.parquet.io.DelegatingSeekableInputStream;
+import org.apache.parquet.io.SeekableInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class LineAlignedRangeInputStreamTest {
+
+    private static SeekableInputStream seekableInputStream(final byte[] bytes) {
+        final ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(bytes);
+        return new DelegatingSeekableInputStream(byteArrayInputStream) {
+            private long position = 0;
+
+            @Override
+            public long getPos() {
+                return position;
+            }
+
+            @Override
+            public void seek(final long newPosition) {
+                byteArrayInputStream.reset();
+                byteArrayInputStream.skip(newPosition);
+                position = newPosition;
+            }
+        };
+    }
+
+    private static String readRange(final String content, final long start, final long end) throws IOException {
+        try (final InputStream inputStream = new LineAlignedRangeInputStream(
+                seekableInputStream(content.getBytes(StandardCharsets.UTF_8)), start, end)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void constructor_throws_for_invalid_range() {
+        final SeekableInputStream inputStream = mock(SeekableInputStream.class);
+
+        assertThrows(IllegalArgumentException.class, () -> new LineAlignedRangeInputStream(inputStream, -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new LineAlignedRangeInputStream(inputStream, 10, 9));
+    }
+
+    @Test
+    void range_at_start_reads_through_the_end_of_its_last_line() throws IOException {
+        assertThat(readRange("first\nsecond\nthird\n", 0, 8), equalTo("first\nsecond\n"));
+    }
+
+    @Test
+    void range_skips_the_line_started_in_the_previous_range() throws IOException {
+        assertThat(readRange("first\nsecond\nthird\n", 8, 19), equalTo("third\n"));
+    }
+
+    @Test
+    void range_starting_at_a_line_start_keeps_that_line() throws IOException {
+        assertThat(readRange("first\nsecond\nthird\n", 6, 13), equalTo("second\n"));
+    }
+
+    @Test
+    void range_ending_on_a_newline_stops_at_that_newline() throws IOException {
+        assertThat(readRange("first\nsecond\nthird\n", 0, 6), equalTo("first\n"));
+    }
+
+    @Test
+    void range_inside_a_single_line_is_empty() throws IOException {
+        assertThat(readRange("first\nsecond\nthird\n", 8, 10), equalTo(""));
+    }
+
+    @Test
+    void range_reads_the_last_line_without_a_newline() throws IOException {
+        assertThat(readRange("first\nsecond", 3, 12), equalTo("second"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 64, 1000, 10_000})
+    void adjacent_ranges_read_every_byte_once(final int rangeSize) throws IOException {
+        final Random random = new Random();
+        final StringBuilder contentBuilder = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            contentBuilder.append(UUID.randomUUID().toString().repeat(random.nextInt(4))).append('\n');
+        }
+        final String content = contentBuilder.toString();
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (long start = 0; start < content.length(); start += rangeSize) {
+            outputStream.write(readRange(content, start, Math.min(content.length(), start + rangeSize)).getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8), equalTo(content));
+    }
+
+    @Test
+    void close_closes_the_underlying_stream() throws IOException {
+        final SeekableInputStream inputStream = mock(SeekableInputStream.class);
+
+        new LineAlignedRangeInputStream(inputStream, 0, 10).close();
+
+        verify(inputStream).close();
+    }
+}
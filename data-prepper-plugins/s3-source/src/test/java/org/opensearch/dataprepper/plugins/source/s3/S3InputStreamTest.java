@@ -21,9 +21,12 @@ import software.amazon.awssdk.services.s3.model.S3Exception;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -58,6 +61,10 @@ class S3InputStreamTest {
     @Mock(lenient = true)
     private S3ObjectPluginMetrics s3ObjectPluginMetrics;
     private DistributionSummary s3ObjectSizeProcessedSummary;
+    private DistributionSummary s3ObjectFetchedBytesSummary;
+    private DistributionSummary s3ObjectGetRequestsSummary;
+    private Counter s3ObjectReadCacheHitsCounter;
+    private Counter s3ObjectReadCacheMissesCounter;
     private Counter s3ObjectsFailedNotFoundCounter;
     private Counter s3ObjectsFailedAccessDeniedCounter;
     private Counter s3ObjectsThrottledCounter;
@@ -67,6 +74,10 @@ class S3InputStreamTest {
     @BeforeEach
     void setUp() {
         s3ObjectSizeProcessedSummary = mock(DistributionSummary.class);
+        s3ObjectFetchedBytesSummary = mock(DistributionSummary.class);
+        s3ObjectGetRequestsSummary = mock(DistributionSummary.class);
+        s3ObjectReadCacheHitsCounter = mock(Counter.class);
+        s3ObjectReadCacheMissesCounter = mock(Counter.class);
         s3ObjectsFailedNotFoundCounter = mock(Counter.class);
         s3ObjectsFailedAccessDeniedCounter = mock(Counter.class);
         s3ObjectsThrottledCounter = mock(Counter.class);
@@ -80,6 +91,21 @@ class S3InputStreamTest {
         when(s3ObjectPluginMetrics.getS3ObjectsFailedNotFoundCounter()).thenReturn(s3ObjectsFailedNotFoundCounter);
         when(s3ObjectPluginMetrics.getS3ObjectsFailedAccessDeniedCounter()).thenReturn(s3ObjectsFailedAccessDeniedCounter);
         when(s3ObjectPluginMetrics.getS3ObjectsThrottledCounter()).thenReturn(s3ObjectsThrottledCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectFetchedBytesSummary()).thenReturn(s3ObjectFetchedBytesSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectGetRequestsSummary()).thenReturn(s3ObjectGetRequestsSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectReadCacheHitsCounter()).thenReturn(s3ObjectReadCacheHitsCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectReadCacheMissesCounter()).thenReturn(s3ObjectReadCacheMissesCounter);
+    }
+
+    private void mockRangedGetObject(final byte[] objectBytes) {
+        when(metadata.contentLength()).thenReturn((long) objectBytes.length);
+        when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class))).thenAnswer(a -> {
+            final String range = a.getArgument(0, GetObjectRequest.class).range().substring("bytes=".length());
+            final String[] bounds = range.split("-", -1);
+            final int start = Integer.parseInt(bounds[0]);
+            final int end = bounds[1].isEmpty() ? objectBytes.length : Integer.parseInt(bounds[1]) + 1;
+            return new ByteArrayInputStream(Arrays.copyOfRange(objectBytes, start, end));
+        });
     }
 
     private S3InputStream createObjectUnderTest() {
@@ -538,6 +564,146 @@ class S3InputStreamTest {
         verify(s3ObjectSizeProcessedSummary).record(8.0);
     }
 
+    @Test
+    void close_records_fetched_bytes_and_get_requests_without_a_cache_miss_for_the_first_open() throws IOException {
+        InputStream inputStream = new ByteArrayInputStream("Test data".getBytes());
+        when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class))).thenReturn(inputStream);
+        final S3InputStream s3InputStream = createObjectUnderTest();
+
+        s3InputStream.readFully(new byte[4]);
+        s3InputStream.close();
+
+        verify(s3ObjectFetchedBytesSummary).record(4.0);
+        verify(s3ObjectGetRequestsSummary).record(1.0);
+        verify(s3ObjectReadCacheHitsCounter).increment(0.0);
+        verify(s3ObjectReadCacheMissesCounter).increment(0.0);
+    }
+
+    @Test
+    void close_records_a_cache_miss_for_each_stream_reopened_by_a_seek() throws IOException {
+        final byte[] objectBytes = new byte[1000];
+        new Random().nextBytes(objectBytes);
+        mockRangedGetObject(objectBytes);
+        final S3InputStream s3InputStream = createObjectUnderTest();
+
+        s3InputStream.readFully(new byte[100]);
+        s3InputStream.seek(10);
+        s3InputStream.readFully(new byte[10]);
+        s3InputStream.close();
+
+        verify(s3ObjectGetRequestsSummary).record(2.0);
+        verify(s3ObjectReadCacheHitsCounter).increment(0.0);
+        verify(s3ObjectReadCacheMissesCounter).increment(1.0);
+    }
+
+    @Test
+    void seek_near_the_end_of_a_large_object_requests_the_footer_again_when_reading_it_fails() throws IOException {
+        final byte[] objectBytes = new byte[4 * S3InputStream.FOOTER_PREFETCH_SIZE];
+        new Random().nextBytes(objectBytes);
+        final int length = objectBytes.length;
+        final int footerStart = length - S3InputStream.FOOTER_PREFETCH_SIZE;
+        when(metadata.contentLength()).thenReturn((long) length);
+        final InputStream failingStream = mock(InputStream.class);
+        when(failingStream.readAllBytes()).thenThrow(new SocketTimeoutException());
+        when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class)))
+                .thenReturn(failingStream)
+                .thenReturn(new ByteArrayInputStream(Arrays.copyOfRange(objectBytes, footerStart, length)));
+        final S3InputStream s3InputStream = createObjectUnderTest();
+
+        s3InputStream.seek(length - 8);
+        final byte[] footerLength = new byte[8];
+        s3InputStream.readFully(footerLength);
+        s3InputStream.close();
+
+        assertArrayEquals(Arrays.copyOfRange(objectBytes, length - 8, length), footerLength);
+        final ArgumentCaptor<GetObjectRequest> getObjectRequestArgumentCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, times(2)).getObject(getObjectRequestArgumentCaptor.capture(), any(ResponseTransformer.class));
+        assertThat(getObjectRequestArgumentCaptor.getAllValues().get(1).range(), equalTo("bytes=" + footerStart + "-" + (length - 1)));
+        verify(failingStream).close();
+    }
+
+    @Test
+    void seek_near_the_end_of_a_small_object_does_not_prefetch_the_footer() throws IOException {
+        final byte[] objectBytes = new byte[S3InputStream.FOOTER_PREFETCH_TRIGGER_SIZE];
+        new Random().nextBytes(objectBytes);
+        mockRangedGetObject(objectBytes);
+        final S3InputStream s3InputStream = createObjectUnderTest();
+
+        s3InputStream.seek(objectBytes.length - 8);
+        final byte[] bytes = new byte[8];
+        s3InputStream.readFully(bytes);
+        s3InputStream.close();
+
+        assertArrayEquals(Arrays.copyOfRange(objectBytes, objectBytes.length - 8, objectBytes.length), bytes);
+        final ArgumentCaptor<GetObjectRequest> getObjectRequestArgumentCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client).getObject(getObjectRequestArgumentCaptor.capture(), any(ResponseTransformer.class));
+        assertThat(getObjectRequestArgumentCaptor.getValue().range(), equalTo("bytes=" + (objectBytes.length - 8) + "-"));
+    }
+
+    @Test
+    void seek_near_the_end_of_a_large_object_prefetches_the_footer_and_reads_it_from_memory() throws IOException {
+        final byte[] objectBytes = new byte[4 * S3InputStream.FOOTER_PREFETCH_SIZE];
+        new Random().nextBytes(objectBytes);
+        mockRangedGetObject(objectBytes);
+        final int length = objectBytes.length;
+        final int footerStart = length - S3InputStream.FOOTER_PREFETCH_SIZE;
+        final S3InputStream s3InputStream = createObjectUnderTest();
+
+        s3InputStream.seek(length - 8);
+        final byte[] footerLength = new byte[8];
+        s3InputStream.readFully(footerLength);
+        s3InputStream.seek(length - 100);
+        final byte[] footer = new byte[92];
+        s3InputStream.readFully(footer);
+        s3InputStream.seek(100);
+        final byte[] columnChunk = new byte[100];
+        s3InputStream.readFully(columnChunk);
+        s3InputStream.seek(footerStart - 10);
+        final byte[] acrossFooterStart = new byte[20];
+        s3InputStream.readFully(acrossFooterStart);
+        s3InputStream.close();
+
+        assertArrayEquals(Arrays.copyOfRange(objectBytes, length - 8, length), footerLength);
+        assertArrayEquals(Arrays.copyOfRange(objectBytes, length - 100, length - 8), footer);
+        assertArrayEquals(Arrays.copyOfRange(objectBytes, 100, 200), columnChunk);
+        assertArrayEquals(Arrays.copyOfRange(objectBytes, footerStart - 10, footerStart + 10), acrossFooterStart);
+
+        final ArgumentCaptor<GetObjectRequest> getObjectRequestArgumentCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, times(2)).getObject(getObjectRequestArgumentCaptor.capture(), any(ResponseTransformer.class));
+        assertThat(getObjectRequestArgumentCaptor.getAllValues().get(0).range(), equalTo("bytes=" + footerStart + "-" + (length - 1)));
+        assertThat(getObjectRequestArgumentCaptor.getAllValues().get(1).range(), equalTo("bytes=100-" + (footerStart - 1)));
+        verify(s3ObjectFetchedBytesSummary).record((double) (length - 100));
+        verify(s3ObjectGetRequestsSummary).record(2.0);
+        verify(s3ObjectReadCacheHitsCounter).increment(1.0);
+        verify(s3ObjectReadCacheMissesCounter).increment(1.0);
+    }
+
+    @Test
+    void read_requests_the_bytes_before_the_read_limit_and_the_rest_of_the_object_only_when_it_reads_past_it() throws IOException {
+        final byte[] objectBytes = new byte[1000];
+        new Random().nextBytes(objectBytes);
+        mockRangedGetObject(objectBytes);
+        final int readLimit = 300;
+        final S3InputStream s3InputStream = new S3InputStream(
+                s3Client, s3ObjectReference, bucketOwnerProvider, metadata, s3ObjectPluginMetrics, RETRY_DELAY, RETRIES, readLimit);
+
+        s3InputStream.seek(100);
+        final byte[] beforeReadLimit = new byte[200];
+        s3InputStream.readFully(beforeReadLimit);
+        verify(s3Client).getObject(any(GetObjectRequest.class), any(ResponseTransformer.class));
+        final byte[] acrossReadLimit = new byte[400];
+        s3InputStream.readFully(acrossReadLimit);
+        s3InputStream.close();
+
+        assertArrayEquals(Arrays.copyOfRange(objectBytes, 100, 300), beforeReadLimit);
+        assertArrayEquals(Arrays.copyOfRange(objectBytes, 300, 700), acrossReadLimit);
+        final ArgumentCaptor<GetObjectRequest> getObjectRequestArgumentCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, times(2)).getObject(getObjectRequestArgumentCaptor.capture(), any(ResponseTransformer.class));
+        assertThat(getObjectRequestArgumentCaptor.getAllValues().get(0).range(), equalTo("bytes=100-" + (readLimit - 1)));
+        assertThat(getObjectRequestArgumentCaptor.getAllValues().get(1).range(), equalTo("bytes=" + readLimit + "-"));
+        verify(s3ObjectGetRequestsSummary).record(2.0);
+    }
+
     @Test
     void testS3ObjectsFailedNotFoundCounter() {
         when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class))).thenThrow(
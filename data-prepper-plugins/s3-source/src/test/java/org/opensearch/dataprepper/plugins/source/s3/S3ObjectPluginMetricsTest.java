@@ -36,6 +36,10 @@ public class S3ObjectPluginMetricsTest {
         when(pluginMetrics.summary(S3ObjectPluginMetrics.S3_OBJECTS_SIZE)).thenReturn(summary);
         when(pluginMetrics.summary(S3ObjectPluginMetrics.S3_OBJECTS_SIZE_PROCESSED)).thenReturn(summary);
         when(pluginMetrics.summary(S3ObjectPluginMetrics.S3_OBJECTS_EVENTS)).thenReturn(summary);
+        when(pluginMetrics.summary(S3ObjectPluginMetrics.S3_OBJECTS_FETCHED_BYTES)).thenReturn(summary);
+        when(pluginMetrics.summary(S3ObjectPluginMetrics.S3_OBJECTS_GET_REQUESTS)).thenReturn(summary);
+        when(pluginMetrics.counter(S3ObjectPluginMetrics.S3_OBJECTS_READ_CACHE_HITS)).thenReturn(counter);
+        when(pluginMetrics.counter(S3ObjectPluginMetrics.S3_OBJECTS_READ_CACHE_MISSES)).thenReturn(counter);
         S3ObjectPluginMetrics metrics = new S3ObjectPluginMetrics(pluginMetrics);
         assertThat(metrics.getS3ObjectEventsSummary(),sameInstance(summary));
         assertThat(metrics.getS3ObjectSizeSummary(),sameInstance(summary));
@@ -47,5 +51,9 @@ public class S3ObjectPluginMetricsTest {
         assertThat(metrics.getS3ObjectsFailedNotFoundCounter(),sameInstance(counter));
         assertThat(metrics.getS3ObjectsThrottledCounter(),sameInstance(counter));
         assertThat(metrics.getS3ObjectReadFailedCounter(),sameInstance(counter));
+        assertThat(metrics.getS3ObjectFetchedBytesSummary(),sameInstance(summary));
+        assertThat(metrics.getS3ObjectGetRequestsSummary(),sameInstance(summary));
+        assertThat(metrics.getS3ObjectReadCacheHitsCounter(),sameInstance(counter));
+        assertThat(metrics.getS3ObjectReadCacheMissesCounter(),sameInstance(counter));
     }
 }
@@ -17,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
+import org.opensearch.dataprepper.event.TestEventFactory;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.codec.DecompressionEngine;
@@ -27,8 +28,12 @@ import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.io.InputFile;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.source.coordinator.SourceCoordinator;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+import org.opensearch.dataprepper.plugins.codec.newline.NewlineDelimitedInputCodec;
+import org.opensearch.dataprepper.plugins.codec.newline.NewlineDelimitedInputConfig;
 import org.opensearch.dataprepper.plugins.source.s3.ownership.BucketOwnerProvider;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.RangeReadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3DataSelection;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -43,15 +48,23 @@ import software.amazon.awssdk.services.s3.model.S3Exception;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -59,14 +72,19 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -117,6 +135,14 @@ class S3ObjectWorkerTest {
     @Mock
     private DistributionSummary s3ObjectEventsSummary;
     @Mock
+    private DistributionSummary s3ObjectFetchedBytesSummary;
+    @Mock
+    private DistributionSummary s3ObjectGetRequestsSummary;
+    @Mock
+    private Counter s3ObjectReadCacheHitsCounter;
+    @Mock
+    private Counter s3ObjectReadCacheMissesCounter;
+    @Mock
     private BiConsumer<Event, S3ObjectReference> eventConsumer;
     private String bucketName;
     private String key;
@@ -161,6 +187,10 @@ class S3ObjectWorkerTest {
 
         s3ObjectPluginMetrics = mock(S3ObjectPluginMetrics.class);
         lenient().when(s3ObjectPluginMetrics.getS3ObjectReadTimer()).thenReturn(s3ObjectReadTimer);
+        lenient().when(s3ObjectPluginMetrics.getS3ObjectFetchedBytesSummary()).thenReturn(s3ObjectFetchedBytesSummary);
+        lenient().when(s3ObjectPluginMetrics.getS3ObjectGetRequestsSummary()).thenReturn(s3ObjectGetRequestsSummary);
+        lenient().when(s3ObjectPluginMetrics.getS3ObjectReadCacheHitsCounter()).thenReturn(s3ObjectReadCacheHitsCounter);
+        lenient().when(s3ObjectPluginMetrics.getS3ObjectReadCacheMissesCounter()).thenReturn(s3ObjectReadCacheMissesCounter);
         objectSize = random.nextInt(100_000) + 10_000;
 
         exceptionThrownByCallable = null;
@@ -190,6 +220,34 @@ class S3ObjectWorkerTest {
         return new S3ObjectWorker(request);
     }
 
+    private S3ObjectWorker createObjectUnderTest(final InputCodec codec, final RangeReadOptions rangeReadOptions) {
+        final S3ObjectRequest request = new S3ObjectRequest
+                .Builder(buffer, recordsToAccumulate, bufferTimeout, s3ObjectPluginMetrics)
+                .bucketOwnerProvider(bucketOwnerProvider)
+                .eventConsumer(eventConsumer).codec(codec).s3Client(s3Client)
+                .compressionOption(CompressionOption.NONE)
+                .rangeReadOptions(rangeReadOptions)
+                .build();
+        return new S3ObjectWorker(request);
+    }
+
+    private void mockRangedGetObject(final byte[] objectBytes) {
+        when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class))).thenAnswer(a -> {
+            final String[] range = a.getArgument(0, GetObjectRequest.class).range().substring("bytes=".length()).split("-", -1);
+            final int start = Integer.parseInt(range[0]);
+            final int end = range[1].isEmpty() ? objectBytes.length : Integer.parseInt(range[1]) + 1;
+            return new ByteArrayInputStream(Arrays.copyOfRange(objectBytes, start, end));
+        });
+    }
+
+    private RangeReadOptions createRangeReadOptions(final long rangeSize) {
+        final RangeReadOptions rangeReadOptions = mock(RangeReadOptions.class);
+        lenient().when(rangeReadOptions.getMinimumObjectSize()).thenReturn(ByteCount.ofBytes(1));
+        lenient().when(rangeReadOptions.getRangeSize()).thenReturn(ByteCount.ofBytes(rangeSize));
+        lenient().when(rangeReadOptions.getParallelism()).thenReturn(3);
+        return rangeReadOptions;
+    }
+
     @Test
     void processS3Object_calls_getObject_with_correct_GetObjectRequest() throws IOException {
         when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
@@ -555,6 +613,150 @@ class S3ObjectWorkerTest {
         verify(s3ObjectSizeProcessedSummary).record(inputStringLength);
     }
 
+    @Test
+    void processS3Object_with_range_reads_writes_every_line_once() throws IOException {
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            lines.add(UUID.randomUUID() + "-" + "x".repeat(random.nextInt(200)));
+        }
+        final byte[] objectBytes = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        when(headObjectResponse.contentLength()).thenReturn((long) objectBytes.length);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        mockRangedGetObject(objectBytes);
+        final List<String> messagesWritten = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(a -> {
+            final Collection<Record<Event>> records = a.getArgument(0);
+            records.forEach(record -> messagesWritten.add(record.getData().get("message", String.class)));
+            return null;
+        }).when(buffer).writeAll(any(Collection.class), anyInt());
+        when(s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary()).thenReturn(s3ObjectSizeProcessedSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectEventsSummary()).thenReturn(s3ObjectEventsSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectsSucceededCounter()).thenReturn(s3ObjectsSucceededCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectSizeSummary()).thenReturn(s3ObjectSizeSummary);
+        final InputCodec newlineCodec = new NewlineDelimitedInputCodec(new NewlineDelimitedInputConfig(), TestEventFactory.getTestEventFactory());
+
+        final long rangeSize = objectBytes.length / 7;
+        final long numberOfRanges = (objectBytes.length + rangeSize - 1) / rangeSize;
+
+        createObjectUnderTest(newlineCodec, createRangeReadOptions(rangeSize))
+                .processS3Object(s3ObjectReference, S3DataSelection.DATA_AND_METADATA, acknowledgementSet, null, null);
+
+        assertThat(messagesWritten, containsInAnyOrder(lines.toArray()));
+        verify(acknowledgementSet, times(lines.size())).add(any(Event.class));
+        verify(eventConsumer, times(lines.size())).accept(any(Event.class), any(S3ObjectReference.class));
+        verify(s3Client, times((int) numberOfRanges)).getObject(any(GetObjectRequest.class), any(ResponseTransformer.class));
+        verify(s3ObjectEventsSummary).record(lines.size());
+        verify(s3ObjectSizeSummary).record(objectBytes.length);
+        verify(s3ObjectsSucceededCounter).increment();
+    }
+
+    @Test
+    void processS3Object_with_range_reads_requests_bounded_ranges_and_the_rest_of_a_long_last_line() throws IOException {
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            lines.add(UUID.randomUUID().toString());
+        }
+        lines.add("x".repeat((int) (2 * S3ObjectWorker.LINE_READ_AHEAD_BYTES)));
+        for (int i = 0; i < 20; i++) {
+            lines.add(UUID.randomUUID().toString());
+        }
+        final byte[] objectBytes = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        when(headObjectResponse.contentLength()).thenReturn((long) objectBytes.length);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        mockRangedGetObject(objectBytes);
+        final List<String> messagesWritten = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(a -> {
+            final Collection<Record<Event>> records = a.getArgument(0);
+            records.forEach(record -> messagesWritten.add(record.getData().get("message", String.class)));
+            return null;
+        }).when(buffer).writeAll(any(Collection.class), anyInt());
+        when(s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary()).thenReturn(s3ObjectSizeProcessedSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectEventsSummary()).thenReturn(s3ObjectEventsSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectsSucceededCounter()).thenReturn(s3ObjectsSucceededCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectSizeSummary()).thenReturn(s3ObjectSizeSummary);
+        final InputCodec newlineCodec = new NewlineDelimitedInputCodec(new NewlineDelimitedInputConfig(), TestEventFactory.getTestEventFactory());
+        final long rangeSize = 1000;
+
+        createObjectUnderTest(newlineCodec, createRangeReadOptions(rangeSize))
+                .processS3Object(s3ObjectReference, S3DataSelection.DATA_AND_METADATA, acknowledgementSet, null, null);
+
+        assertThat(messagesWritten, containsInAnyOrder(lines.toArray()));
+        final ArgumentCaptor<GetObjectRequest> getObjectRequestArgumentCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, atLeast(1)).getObject(getObjectRequestArgumentCaptor.capture(), any(ResponseTransformer.class));
+        final List<String> ranges = getObjectRequestArgumentCaptor.getAllValues().stream()
+                .map(GetObjectRequest::range)
+                .collect(Collectors.toList());
+        final long firstRangeRequestEnd = rangeSize + S3ObjectWorker.LINE_READ_AHEAD_BYTES;
+        assertThat(ranges, hasItem("bytes=0-" + (firstRangeRequestEnd - 1)));
+        assertThat(ranges, hasItem("bytes=" + firstRangeRequestEnd + "-"));
+    }
+
+    @Test
+    void processS3Object_with_range_reads_throws_after_stop() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(codec.isSplittableOnLines()).thenReturn(true);
+        when(s3ObjectPluginMetrics.getS3ObjectsFailedCounter()).thenReturn(s3ObjectsFailedCounter);
+        lenient().when(s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary()).thenReturn(s3ObjectSizeProcessedSummary);
+        final S3ObjectWorker objectUnderTest = createObjectUnderTest(codec, createRangeReadOptions(objectSize / 4));
+
+        objectUnderTest.stop();
+
+        assertThrows(RejectedExecutionException.class, () -> objectUnderTest
+                .processS3Object(s3ObjectReference, S3DataSelection.DATA_AND_METADATA, acknowledgementSet, null, null));
+        verify(s3ObjectsFailedCounter).increment();
+    }
+
+    @Test
+    void processS3Object_with_range_reads_parses_the_whole_object_when_the_codec_is_not_splittable() throws Exception {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(s3ObjectPluginMetrics.getS3ObjectEventsSummary()).thenReturn(s3ObjectEventsSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectsSucceededCounter()).thenReturn(s3ObjectsSucceededCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectSizeSummary()).thenReturn(s3ObjectSizeSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectNoRecordsFound()).thenReturn(s3ObjectNoRecordsFound);
+
+        createObjectUnderTest(codec, createRangeReadOptions(objectSize / 4))
+                .processS3Object(s3ObjectReference, S3DataSelection.DATA_AND_METADATA, acknowledgementSet, null, null);
+
+        verify(codec).parse(any(InputFile.class), any(DecompressionEngine.class), any(Consumer.class));
+        verify(codec, never()).parse(any(InputStream.class), any(Consumer.class));
+    }
+
+    @Test
+    void processS3Object_with_range_reads_parses_the_whole_object_when_it_is_smaller_than_the_minimum() throws Exception {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(codec.isSplittableOnLines()).thenReturn(true);
+        when(s3ObjectPluginMetrics.getS3ObjectEventsSummary()).thenReturn(s3ObjectEventsSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectsSucceededCounter()).thenReturn(s3ObjectsSucceededCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectSizeSummary()).thenReturn(s3ObjectSizeSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectNoRecordsFound()).thenReturn(s3ObjectNoRecordsFound);
+        final RangeReadOptions rangeReadOptions = createRangeReadOptions(objectSize / 4);
+        when(rangeReadOptions.getMinimumObjectSize()).thenReturn(ByteCount.ofBytes(objectSize + 1));
+
+        createObjectUnderTest(codec, rangeReadOptions)
+                .processS3Object(s3ObjectReference, S3DataSelection.DATA_AND_METADATA, acknowledgementSet, null, null);
+
+        verify(codec).parse(any(InputFile.class), any(DecompressionEngine.class), any(Consumer.class));
+        verify(codec, never()).parse(any(InputStream.class), any(Consumer.class));
+    }
+
+    @Test
+    void processS3Object_with_range_reads_throws_and_increments_s3ObjectReadFailed_counter_when_a_range_fails() throws Exception {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(codec.isSplittableOnLines()).thenReturn(true);
+        when(s3ObjectPluginMetrics.getS3ObjectsFailedCounter()).thenReturn(s3ObjectsFailedCounter);
+        final Counter s3ObjectReadFailedCounter = mock(Counter.class);
+        when(s3ObjectPluginMetrics.getS3ObjectReadFailedCounter()).thenReturn(s3ObjectReadFailedCounter);
+        lenient().when(s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary()).thenReturn(s3ObjectSizeProcessedSummary);
+        doThrow(IOException.class).when(codec).parse(any(InputStream.class), any(Consumer.class));
+
+        assertThrows(S3ReadFailedException.class, () -> createObjectUnderTest(codec, createRangeReadOptions(objectSize / 4))
+                .processS3Object(s3ObjectReference, S3DataSelection.DATA_AND_METADATA, acknowledgementSet, null, null));
+
+        verify(s3ObjectReadFailedCounter, times(1)).increment();
+        verify(s3ObjectsFailedCounter).increment();
+        verify(s3ObjectsSucceededCounter, never()).increment();
+    }
+
     @Test
     void deleteS3Object_calls_delete_object_with_expected_request_success() {
         final ArgumentCaptor<DeleteObjectRequest> deleteObjectRequestArgumentCaptor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
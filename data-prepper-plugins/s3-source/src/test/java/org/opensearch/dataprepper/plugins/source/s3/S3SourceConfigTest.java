@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.NotificationSourceOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.OnErrorOption;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.RangeReadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.FolderPartitioningOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanScanOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectOptions;
@@ -139,4 +140,20 @@ class S3SourceConfigTest {
         ReflectivelySetField.setField(S3SourceConfig.class, s3SourceConfig, "dataSelection", S3DataSelection.METADATA_ONLY);
         assertThat(s3SourceConfig.getDataSelection(), equalTo(S3DataSelection.METADATA_ONLY));
     }
+
+    @Test
+    void getRangeReadOptions_returns_null_by_default() {
+        assertThat(new S3SourceConfig().getRangeReadOptions(), equalTo(null));
+        assertTrue(new S3SourceConfig().isRangeReadsNotUsingS3Select());
+    }
+
+    @Test
+    void range_reads_is_not_supported_with_s3Select() throws NoSuchFieldException, IllegalAccessException {
+        final S3SourceConfig s3SourceConfig = new S3SourceConfig();
+        ReflectivelySetField.setField(S3SourceConfig.class, s3SourceConfig, "rangeReadOptions", new RangeReadOptions());
+        assertTrue(s3SourceConfig.isRangeReadsNotUsingS3Select());
+
+        ReflectivelySetField.setField(S3SourceConfig.class, s3SourceConfig, "s3SelectOptions", mock(S3SelectOptions.class));
+        assertFalse(s3SourceConfig.isRangeReadsNotUsingS3Select());
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.source.s3.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RangeReadOptionsTest {
+
+    @Test
+    void default_values_test() {
+        final RangeReadOptions rangeReadOptions = new RangeReadOptions();
+
+        assertThat(rangeReadOptions.getMinimumObjectSize(), equalTo(ByteCount.parse(RangeReadOptions.DEFAULT_MINIMUM_OBJECT_SIZE)));
+        assertThat(rangeReadOptions.getRangeSize(), equalTo(ByteCount.parse(RangeReadOptions.DEFAULT_RANGE_SIZE)));
+        assertThat(rangeReadOptions.getParallelism(), equalTo(RangeReadOptions.DEFAULT_PARALLELISM));
+        assertThat(rangeReadOptions.isRangeSizeValid(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1mb", "64mb", "1gb"})
+    void isRangeSizeValid_returns_true_for_ranges_of_at_least_one_megabyte(final String rangeSize) throws NoSuchFieldException, IllegalAccessException {
+        final RangeReadOptions rangeReadOptions = new RangeReadOptions();
+        ReflectivelySetField.setField(RangeReadOptions.class, rangeReadOptions, "rangeSize", ByteCount.parse(rangeSize));
+
+        assertThat(rangeReadOptions.isRangeSizeValid(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0b", "1kb", "1023kb"})
+    void isRangeSizeValid_returns_false_for_ranges_smaller_than_one_megabyte(final String rangeSize) throws NoSuchFieldException, IllegalAccessException {
+        final RangeReadOptions rangeReadOptions = new RangeReadOptions();
+        ReflectivelySetField.setField(RangeReadOptions.class, rangeReadOptions, "rangeSize", ByteCount.parse(rangeSize));
+
+        assertThat(rangeReadOptions.isRangeSizeValid(), equalTo(false));
+    }
+
+    @Test
+    void isRangeSizeValid_returns_false_without_range_size() throws NoSuchFieldException, IllegalAccessException {
+        final RangeReadOptions rangeReadOptions = new RangeReadOptions();
+        ReflectivelySetField.setField(RangeReadOptions.class, rangeReadOptions, "rangeSize", null);
+
+        assertThat(rangeReadOptions.isRangeSizeValid(), equalTo(false));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.plugins.processor.ServiceMapStatefulProcessor.ServiceMapStateData;
+import org.opensearch.dataprepper.plugins.processor.state.MapDbProcessorState;
+import org.opensearch.dataprepper.processor.state.ProcessorState;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+
+/**
+ * Compares the state stores of the <code>service_map</code> processor for a window of spans: putting the spans,
+ * looking up the parent of each span while iterating over the window, and clearing the window on rotation.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class ServiceMapStateStoreBenchmark {
+    private static final String[] SERVICE_NAMES = {"frontend", "checkout", "cart", "payment", "auth"};
+    private static final String[] SPAN_NAMES = {"GET /", "POST /checkout", "getCart", "charge", "login"};
+
+    @Param({"mapdb", "in_memory"})
+    private String stateStore;
+
+    @Param({"10000"})
+    private int spansPerWindow;
+
+    private File dbPath;
+    private ProcessorState<byte[], ServiceMapStateData> window;
+    private byte[][] spanIds;
+    private ServiceMapStateData[] stateData;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final Random random = new Random(0);
+        spanIds = new byte[spansPerWindow][];
+        stateData = new ServiceMapStateData[spansPerWindow];
+        byte[] traceId = null;
+        for (int i = 0; i < spansPerWindow; i++) {
+            spanIds[i] = randomBytes(random, InMemorySpanState.SPAN_ID_LENGTH);
+            final boolean isRoot = i % 10 == 0;
+            if (isRoot) {
+                traceId = randomBytes(random, InMemorySpanState.TRACE_ID_LENGTH);
+            }
+            stateData[i] = new ServiceMapStateData(SERVICE_NAMES[i % SERVICE_NAMES.length],
+                    isRoot ? null : spanIds[i - 1], traceId, "SPAN_KIND_CLIENT", SPAN_NAMES[i % SPAN_NAMES.length]);
+        }
+
+        if (StateStoreType.fromOptionValue(stateStore) == StateStoreType.IN_MEMORY) {
+            window = new InMemorySpanState();
+        } else {
+            dbPath = Files.createTempDirectory("service-map-benchmark").toFile();
+            window = new MapDbProcessorState<>(dbPath, "db-benchmark", 1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        window.delete();
+        if (dbPath != null) {
+            dbPath.delete();
+        }
+    }
+
+    @Benchmark
+    public void putIterateAndRotateWindow(final Blackhole blackhole) {
+        for (int i = 0; i < spansPerWindow; i++) {
+            window.put(spanIds[i], stateData[i]);
+        }
+        window.iterate((spanId, child) -> {
+            if (child.parentSpanId != null) {
+                blackhole.consume(window.get(child.parentSpanId));
+            }
+            return null;
+        }, 1, 0);
+        window.clear();
+    }
+
+    private static byte[] randomBytes(final Random random, final int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import org.opensearch.dataprepper.plugins.processor.ServiceMapStatefulProcessor.ServiceMapStateData;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The state data of the spans in a window, keyed by span id. The parent span id and the trace id are stored as longs
+ * and the service name, span kind and span name as codes of the strings of the window.
+ */
+class InMemorySpanState extends InMemoryWindowState<ServiceMapStateData> {
+    static final int SPAN_ID_LENGTH = 8;
+    static final int TRACE_ID_LENGTH = 16;
+
+    private long[] parentSpanIds;
+    private boolean[] hasParentSpanIds;
+    private long[] traceIdHighs;
+    private long[] traceIdLows;
+    private int[] serviceNames;
+    private int[] spanKinds;
+    private int[] names;
+
+    InMemorySpanState() {
+        super(SPAN_ID_LENGTH);
+    }
+
+    @Override
+    boolean canEncode(final ServiceMapStateData value) {
+        return (value.parentSpanId == null || value.parentSpanId.length == SPAN_ID_LENGTH)
+                && value.traceId != null && value.traceId.length == TRACE_ID_LENGTH;
+    }
+
+    @Override
+    void allocateValues(final int capacity) {
+        parentSpanIds = new long[capacity];
+        hasParentSpanIds = new boolean[capacity];
+        traceIdHighs = new long[capacity];
+        traceIdLows = new long[capacity];
+        serviceNames = new int[capacity];
+        spanKinds = new int[capacity];
+        names = new int[capacity];
+    }
+
+    @Override
+    void writeValue(final int slot, final ServiceMapStateData value) {
+        hasParentSpanIds[slot] = value.parentSpanId != null;
+        parentSpanIds[slot] = value.parentSpanId != null ? ByteBuffer.wrap(value.parentSpanId).getLong() : 0L;
+        final ByteBuffer traceId = ByteBuffer.wrap(value.traceId);
+        traceIdHighs[slot] = traceId.getLong();
+        traceIdLows[slot] = traceId.getLong();
+        serviceNames[slot] = encodeString(value.serviceName);
+        spanKinds[slot] = encodeString(value.spanKind);
+        names[slot] = encodeString(value.name);
+    }
+
+    @Override
+    ServiceMapStateData readValue(final int slot) {
+        return new ServiceMapStateData(
+                decodeString(serviceNames[slot]),
+                hasParentSpanIds[slot] ? ByteBuffer.allocate(SPAN_ID_LENGTH).putLong(parentSpanIds[slot]).array() : null,
+                ByteBuffer.allocate(TRACE_ID_LENGTH).putLong(traceIdHighs[slot]).putLong(traceIdLows[slot]).array(),
+                decodeString(spanKinds[slot]),
+                decodeString(names[slot]));
+    }
+
+    @Override
+    void moveValues(final int newCapacity, final int[] newSlots) {
+        final long[] oldParentSpanIds = parentSpanIds;
+        final boolean[] oldHasParentSpanIds = hasParentSpanIds;
+        final long[] oldTraceIdHighs = traceIdHighs;
+        final long[] oldTraceIdLows = traceIdLows;
+        final int[] oldServiceNames = serviceNames;
+        final int[] oldSpanKinds = spanKinds;
+        final int[] oldNames = names;
+        allocateValues(newCapacity);
+        for (int oldSlot = 0; oldSlot < newSlots.length; oldSlot++) {
+            final int newSlot = newSlots[oldSlot];
+            if (newSlot >= 0) {
+                parentSpanIds[newSlot] = oldParentSpanIds[oldSlot];
+                hasParentSpanIds[newSlot] = oldHasParentSpanIds[oldSlot];
+                traceIdHighs[newSlot] = oldTraceIdHighs[oldSlot];
+                traceIdLows[newSlot] = oldTraceIdLows[oldSlot];
+                serviceNames[newSlot] = oldServiceNames[oldSlot];
+                spanKinds[newSlot] = oldSpanKinds[oldSlot];
+                names[newSlot] = oldNames[oldSlot];
+            }
+        }
+    }
+
+    @Override
+    int getValueBytesPerSlot() {
+        return 3 * Long.BYTES + 1 + 3 * Integer.BYTES;
+    }
+}
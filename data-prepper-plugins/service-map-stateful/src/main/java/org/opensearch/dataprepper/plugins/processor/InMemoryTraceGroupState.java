@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+/**
+ * The trace group names of the traces in a window, keyed by trace id. The names are stored as codes of the strings of
+ * the window.
+ */
+class InMemoryTraceGroupState extends InMemoryWindowState<String> {
+    private int[] traceGroupNames;
+
+    InMemoryTraceGroupState() {
+        super(InMemorySpanState.TRACE_ID_LENGTH);
+    }
+
+    @Override
+    boolean canEncode(final String value) {
+        return true;
+    }
+
+    @Override
+    void allocateValues(final int capacity) {
+        traceGroupNames = new int[capacity];
+    }
+
+    @Override
+    void writeValue(final int slot, final String value) {
+        traceGroupNames[slot] = encodeString(value);
+    }
+
+    @Override
+    String readValue(final int slot) {
+        return decodeString(traceGroupNames[slot]);
+    }
+
+    @Override
+    void moveValues(final int newCapacity, final int[] newSlots) {
+        final int[] oldTraceGroupNames = traceGroupNames;
+        allocateValues(newCapacity);
+        for (int oldSlot = 0; oldSlot < newSlots.length; oldSlot++) {
+            if (newSlots[oldSlot] >= 0) {
+                traceGroupNames[newSlots[oldSlot]] = oldTraceGroupNames[oldSlot];
+            }
+        }
+    }
+
+    @Override
+    int getValueBytesPerSlot() {
+        return Integer.BYTES;
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import org.opensearch.dataprepper.processor.state.ProcessorState;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+
+/**
+ * A window of service map state held on the heap. Keys of the expected length, 8 byte span ids or 16 byte trace ids,
+ * are stored as primitive longs in an open addressing table and subclasses store the values in parallel arrays, so
+ * that no objects are allocated per entry. Keys of any other length are kept in a regular map.
+ * <p>
+ * Clearing the window only advances the generation which marks the occupied slots, so a window keeps its capacity
+ * across rotations and grows to the number of spans seen in a window duration.
+ *
+ * @param <V> the type of the values
+ */
+abstract class InMemoryWindowState<V> implements ProcessorState<byte[], V> {
+    static final int INITIAL_CAPACITY = 1 << 10;
+    static final int NO_STRING = -1;
+
+    private final int keyLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<ByteBuffer, V> irregularEntries = new HashMap<>();
+    private final Map<String, Integer> stringCodes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private long[] keyHighs;
+    private long[] keyLows;
+    private int[] generations;
+    private int generation = 1;
+    private int size;
+
+    InMemoryWindowState(final int keyLength) {
+        if (keyLength != Long.BYTES && keyLength != 2 * Long.BYTES) {
+            throw new IllegalArgumentException("Key length must be 8 or 16 bytes.");
+        }
+        this.keyLength = keyLength;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @return whether the value can be stored in the value arrays
+     */
+    abstract boolean canEncode(V value);
+
+    /**
+     * Allocates the value arrays. This is called from the constructor, so the value arrays must not have field
+     * initializers.
+     */
+    abstract void allocateValues(int capacity);
+
+    abstract void writeValue(int slot, V value);
+
+    abstract V readValue(int slot);
+
+    /**
+     * Moves the values to newly allocated value arrays after the table has grown.
+     *
+     * @param newCapacity the capacity of the new value arrays
+     * @param newSlots the new slot of each old slot, or -1 for unoccupied slots
+     */
+    abstract void moveValues(int newCapacity, int[] newSlots);
+
+    /**
+     * @return the number of bytes each slot uses in the value arrays
+     */
+    abstract int getValueBytesPerSlot();
+
+    int encodeString(final String string) {
+        if (string == null) {
+            return NO_STRING;
+        }
+        return stringCodes.computeIfAbsent(string, key -> {
+            strings.add(key);
+            return strings.size() - 1;
+        });
+    }
+
+    String decodeString(final int code) {
+        return code == NO_STRING ? null : strings.get(code);
+    }
+
+    @Override
+    public void put(final byte[] key, final V value) {
+        lock.writeLock().lock();
+        try {
+            if (key.length != keyLength || !canEncode(value)) {
+                removeFromTable(key);
+                irregularEntries.put(ByteBuffer.wrap(key.clone()), value);
+                return;
+            }
+            if (!irregularEntries.isEmpty()) {
+                irregularEntries.remove(ByteBuffer.wrap(key));
+            }
+            final long high = getHigh(key);
+            final long low = getLow(key);
+            int slot = findSlot(high, low);
+            if (generations[slot] != generation) {
+                if (2 * (size + 1) > generations.length) {
+                    grow();
+                    slot = findSlot(high, low);
+                }
+                keyHighs[slot] = high;
+                keyLows[slot] = low;
+                generations[slot] = generation;
+                size++;
+            }
+            writeValue(slot, value);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public V get(final byte[] key) {
+        lock.readLock().lock();
+        try {
+            if (key.length != keyLength) {
+                return irregularEntries.get(ByteBuffer.wrap(key));
+            }
+            final int slot = findSlot(getHigh(key), getLow(key));
+            if (generations[slot] == generation) {
+                return readValue(slot);
+            }
+            return irregularEntries.isEmpty() ? null : irregularEntries.get(ByteBuffer.wrap(key));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return a copy of the entries of this window
+     */
+    @Override
+    public Map<byte[], V> getAll() {
+        final Map<byte[], V> entries = new LinkedHashMap<>();
+        for (final Map.Entry<byte[], V> entry : getEntries(1, 0)) {
+            entries.put(entry.getKey(), entry.getValue());
+        }
+        return entries;
+    }
+
+    @Override
+    public <R> List<R> iterate(final BiFunction<byte[], V, R> fn) {
+        return iterate(fn, 1, 0);
+    }
+
+    /**
+     * Iterates over a segment of the table slots. The entries of the segment are copied before the function is
+     * applied, so the function may read this window.
+     */
+    @Override
+    public <R> List<R> iterate(final BiFunction<byte[], V, R> fn, final int segments, final int index) {
+        final List<Map.Entry<byte[], V>> entries = getEntries(segments, index);
+        final List<R> returnList = new ArrayList<>(entries.size());
+        for (final Map.Entry<byte[], V> entry : entries) {
+            returnList.add(fn.apply(entry.getKey(), entry.getValue()));
+        }
+        return returnList;
+    }
+
+    private List<Map.Entry<byte[], V>> getEntries(final int segments, final int index) {
+        lock.readLock().lock();
+        try {
+            final List<Map.Entry<byte[], V>> entries = new ArrayList<>();
+            if (size + irregularEntries.size() == 0) {
+                return entries;
+            }
+            final int capacity = generations.length;
+            final int from = (int) ((long) capacity * index / segments);
+            final int to = (int) ((long) capacity * (index + 1) / segments);
+            for (int slot = from; slot < to; slot++) {
+                if (generations[slot] == generation) {
+                    entries.add(new AbstractMap.SimpleImmutableEntry<>(toKey(keyHighs[slot], keyLows[slot]), readValue(slot)));
+                }
+            }
+            for (final Map.Entry<ByteBuffer, V> entry : irregularEntries.entrySet()) {
+                if (Math.floorMod(entry.getKey().hashCode(), segments) == index) {
+                    entries.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey().array().clone(), entry.getValue()));
+                }
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return size + irregularEntries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the estimated number of bytes used by the table and the strings of this window
+     */
+    @Override
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long sizeInBytes = (long) generations.length * (2 * Long.BYTES + Integer.BYTES + getValueBytesPerSlot());
+            for (final String string : strings) {
+                sizeInBytes += string.length();
+            }
+            return sizeInBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            if (generation == Integer.MAX_VALUE) {
+                Arrays.fill(generations, 0);
+                generation = 0;
+            }
+            generation++;
+            size = 0;
+            irregularEntries.clear();
+            stringCodes.clear();
+            strings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete() {
+        lock.writeLock().lock();
+        try {
+            clear();
+            allocate(INITIAL_CAPACITY);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keyHighs = new long[capacity];
+        keyLows = new long[capacity];
+        generations = new int[capacity];
+        allocateValues(capacity);
+    }
+
+    private void grow() {
+        final long[] oldKeyHighs = keyHighs;
+        final long[] oldKeyLows = keyLows;
+        final int[] oldGenerations = generations;
+        final int newCapacity = oldGenerations.length * 2;
+        keyHighs = new long[newCapacity];
+        keyLows = new long[newCapacity];
+        generations = new int[newCapacity];
+        final int[] newSlots = new int[oldGenerations.length];
+        for (int oldSlot = 0; oldSlot < oldGenerations.length; oldSlot++) {
+            if (oldGenerations[oldSlot] != generation) {
+                newSlots[oldSlot] = -1;
+                continue;
+            }
+            final int newSlot = findSlot(oldKeyHighs[oldSlot], oldKeyLows[oldSlot]);
+            keyHighs[newSlot] = oldKeyHighs[oldSlot];
+            keyLows[newSlot] = oldKeyLows[oldSlot];
+            generations[newSlot] = generation;
+            newSlots[oldSlot] = newSlot;
+        }
+        moveValues(newCapacity, newSlots);
+    }
+
+    private void removeFromTable(final byte[] key) {
+        if (key.length != keyLength) {
+            return;
+        }
+        final int slot = findSlot(getHigh(key), getLow(key));
+        if (generations[slot] != generation) {
+            return;
+        }
+        final List<Map.Entry<byte[], V>> displacedEntries = new ArrayList<>();
+        generations[slot] = 0;
+        size--;
+        final int mask = generations.length - 1;
+        for (int next = (slot + 1) & mask; generations[next] == generation; next = (next + 1) & mask) {
+            displacedEntries.add(new AbstractMap.SimpleImmutableEntry<>(toKey(keyHighs[next], keyLows[next]), readValue(next)));
+            generations[next] = 0;
+            size--;
+        }
+        for (final Map.Entry<byte[], V> entry : displacedEntries) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * @return the slot which holds the key, or the unoccupied slot where it belongs
+     */
+    private int findSlot(final long high, final long low) {
+        final int mask = generations.length - 1;
+        int slot = hash(high, low) & mask;
+        while (generations[slot] == generation && (keyHighs[slot] != high || keyLows[slot] != low)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(final long high, final long low) {
+        long hash = high * 0x9E3779B97F4A7C15L ^ low;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+
+    private long getHigh(final byte[] key) {
+        return ByteBuffer.wrap(key, 0, Long.BYTES).getLong();
+    }
+
+    private long getLow(final byte[] key) {
+        return keyLength == Long.BYTES ? 0L : ByteBuffer.wrap(key, Long.BYTES, Long.BYTES).getLong();
+    }
+
+    private byte[] toKey(final long high, final long low) {
+        final ByteBuffer key = ByteBuffer.allocate(keyLength).putLong(high);
+        if (keyLength > Long.BYTES) {
+            key.putLong(low);
+        }
+        return key.array();
+    }
+}
@@ -19,6 +19,7 @@ public class ServiceMapProcessorConfig {
     static final int DEFAULT_WINDOW_DURATION = 180;
     static final String DEFAULT_DB_PATH = "data/service-map/";
     static final String DB_PATH = "db_path";
+    static final String STATE_STORE = "state_store";
 
     @JsonProperty(value = WINDOW_DURATION, defaultValue = "" + DEFAULT_WINDOW_DURATION)
     @JsonPropertyDescription("Represents the fixed time window, in seconds, " +
@@ -31,6 +32,12 @@ public class ServiceMapProcessorConfig {
             "when processing service-map data.")
     private String dbPath = DEFAULT_DB_PATH;
 
+    @JsonProperty(value = STATE_STORE, defaultValue = "mapdb")
+    @JsonPropertyDescription("Where the spans and trace groups of the current and previous windows are kept. " +
+            "<code>mapdb</code> keeps them in MapDB. <code>in_memory</code> keeps them in compact tables on the heap, " +
+            "which avoids serializing every span. Default is <code>mapdb</code>.")
+    private StateStoreType stateStore = StateStoreType.MAPDB;
+
     public int getWindowDuration() {
         return windowDuration;
     }
@@ -38,4 +45,8 @@ public class ServiceMapProcessorConfig {
     public String getDbPath() {
         return dbPath;
     }
+
+    public StateStoreType getStateStore() {
+        return stateStore;
+    }
 }
@@ -23,6 +23,7 @@ import com.google.common.collect.Sets;
 import com.google.common.primitives.SignedBytes;
 import org.apache.commons.codec.binary.Hex;
 import org.opensearch.dataprepper.plugins.processor.state.MapDbProcessorState;
+import org.opensearch.dataprepper.processor.state.ProcessorState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +34,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -65,16 +67,17 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     private static long windowDurationMillis;
     private static CyclicBarrier allThreadsCyclicBarrier;
 
-    private static volatile MapDbProcessorState<ServiceMapStateData> previousWindow;
-    private static volatile MapDbProcessorState<ServiceMapStateData> currentWindow;
-    private static volatile MapDbProcessorState<String> previousTraceGroupWindow;
-    private static volatile MapDbProcessorState<String> currentTraceGroupWindow;
+    private static volatile ProcessorState<byte[], ServiceMapStateData> previousWindow;
+    private static volatile ProcessorState<byte[], ServiceMapStateData> currentWindow;
+    private static volatile ProcessorState<byte[], String> previousTraceGroupWindow;
+    private static volatile ProcessorState<byte[], String> currentTraceGroupWindow;
     private static volatile Set<ServiceNodeData> previousIsolatedServiceNodes;
     private static volatile Set<ServiceNodeData> currentIsolatedServiceNodes;
     //TODO: Consider keeping this state in a db
     private static final Set<ServiceMapRelationship> RELATIONSHIP_STATE = Sets.newConcurrentHashSet();
     private static File dbPath;
     private static Clock clock;
+    private static StateStoreType stateStoreType;
 
     private final int thisProcessorId;
 
@@ -87,7 +90,8 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
                 new File(serviceMapProcessorConfig.getDbPath()),
                 Clock.systemUTC(),
                 pipelineDescription.getNumberOfProcessWorkers(),
-                pluginMetrics);
+                pluginMetrics,
+                serviceMapProcessorConfig.getStateStore());
     }
 
     ServiceMapStatefulProcessor(final long windowDurationMillis,
@@ -95,6 +99,15 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
                                        final Clock clock,
                                        final int processWorkers,
                                        final PluginMetrics pluginMetrics) {
+        this(windowDurationMillis, databasePath, clock, processWorkers, pluginMetrics, StateStoreType.MAPDB);
+    }
+
+    ServiceMapStatefulProcessor(final long windowDurationMillis,
+                                       final File databasePath,
+                                       final Clock clock,
+                                       final int processWorkers,
+                                       final PluginMetrics pluginMetrics,
+                                       final StateStoreType stateStoreType) {
         super(pluginMetrics);
 
         ServiceMapStatefulProcessor.clock = clock;
@@ -103,12 +116,21 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         if (isMasterInstance()) {
             previousTimestamp = ServiceMapStatefulProcessor.clock.millis();
             ServiceMapStatefulProcessor.windowDurationMillis = windowDurationMillis;
-            ServiceMapStatefulProcessor.dbPath = createPath(databasePath);
-
-            currentWindow = new MapDbProcessorState<>(dbPath, getNewDbName(), processWorkers);
-            previousWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + EMPTY_SUFFIX, processWorkers);
-            currentTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName(), processWorkers);
-            previousTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName() + EMPTY_SUFFIX, processWorkers);
+            ServiceMapStatefulProcessor.stateStoreType = stateStoreType;
+
+            if (stateStoreType == StateStoreType.IN_MEMORY) {
+                currentWindow = new InMemorySpanState();
+                previousWindow = new InMemorySpanState();
+                currentTraceGroupWindow = new InMemoryTraceGroupState();
+                previousTraceGroupWindow = new InMemoryTraceGroupState();
+            } else {
+                ServiceMapStatefulProcessor.dbPath = createPath(databasePath);
+
+                currentWindow = new MapDbProcessorState<>(dbPath, getNewDbName(), processWorkers);
+                previousWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + EMPTY_SUFFIX, processWorkers);
+                currentTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName(), processWorkers);
+                previousTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName() + EMPTY_SUFFIX, processWorkers);
+            }
             currentIsolatedServiceNodes = Sets.newConcurrentHashSet();
             previousIsolatedServiceNodes = Sets.newConcurrentHashSet();
 
@@ -148,10 +170,12 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     @Override
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
         final Collection<Record<Event>> relationships = windowDurationHasPassed() ? evaluateEdges() : EMPTY_COLLECTION;
-        final Map<byte[], ServiceMapStateData> batchStateData = new TreeMap<>(SignedBytes.lexicographicalComparator());
+        // MapDB inserts the batch in key order, the in-memory tables do not need the keys sorted
+        final Map<byte[], ServiceMapStateData> batchStateData = stateStoreType == StateStoreType.IN_MEMORY ?
+                new LinkedHashMap<>() : new TreeMap<>(SignedBytes.lexicographicalComparator());
         records.forEach(i -> processSpan((Span) i.getData(), batchStateData));
         try {
-            currentWindow.putAll(batchStateData);
+            batchStateData.forEach(currentWindow::put);
         } catch (RuntimeException e) {
             LOG.error("Caught exception trying to put batch state data", e);
         }
@@ -225,15 +249,13 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         }
     }
 
-    private Collection<Record<Event>> iterateProcessorState(final MapDbProcessorState<ServiceMapStateData> processorState) {
+    private Collection<Record<Event>> iterateProcessorState(final ProcessorState<byte[], ServiceMapStateData> processorState) {
         final Collection<Record<Event>> serviceDependencyRecords = new HashSet<>();
 
-        if (processorState.getAll() != null && !processorState.getAll().isEmpty()) {
-            processorState.getIterator(processorsCreated.get(), thisProcessorId).forEachRemaining(entry -> {
-                final ServiceMapStateData child = entry.getValue();
-
+        if (processorState.size() > 0) {
+            processorState.iterate((spanId, child) -> {
                 if (child.parentSpanId == null) {
-                    return;
+                    return null;
                 }
 
                 ServiceMapStateData parent = currentWindow.get(child.parentSpanId);
@@ -243,7 +265,7 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
 
                 final String traceGroupName = getTraceGroupName(child.traceId);
                 if (parent == null || parent.serviceName.equals(child.serviceName)) {
-                    return;
+                    return null;
                 }
 
                 previousIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, parent.serviceName));
@@ -261,7 +283,8 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
                 // check if relationshipState has the above
                 addServiceMapRelationship(serviceDependencyRecords, destinationRelationship);
                 addServiceMapRelationship(serviceDependencyRecords, targetRelationship);
-            });
+                return null;
+            }, processorsCreated.get(), thisProcessorId);
         }
 
         return serviceDependencyRecords;
@@ -340,14 +363,14 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     private void rotateWindows() throws InterruptedException {
         LOG.debug("Rotating service map windows at " + clock.instant().toString());
 
-        MapDbProcessorState tempWindow = previousWindow;
+        final ProcessorState<byte[], ServiceMapStateData> tempWindow = previousWindow;
         previousWindow = currentWindow;
         currentWindow = tempWindow;
         currentWindow.clear();
 
-        tempWindow = previousTraceGroupWindow;
+        final ProcessorState<byte[], String> tempTraceGroupWindow = previousTraceGroupWindow;
         previousTraceGroupWindow = currentTraceGroupWindow;
-        currentTraceGroupWindow = tempWindow;
+        currentTraceGroupWindow = tempTraceGroupWindow;
         currentTraceGroupWindow.clear();
 
         Set<ServiceNodeData> tempNodesWindow = previousIsolatedServiceNodes;
@@ -422,7 +445,7 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         return Collections.singleton("traceId");
     }
 
-    private static class ServiceMapStateData implements Serializable {
+    static class ServiceMapStateData implements Serializable {
         public String serviceName;
         public byte[] parentSpanId;
         public byte[] traceId;
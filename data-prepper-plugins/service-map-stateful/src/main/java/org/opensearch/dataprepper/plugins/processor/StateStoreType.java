@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Where the <code>service_map</code> processor keeps the spans and trace groups of its windows.
+ */
+public enum StateStoreType {
+    MAPDB("mapdb"),
+    IN_MEMORY("in_memory");
+
+    private static final Map<String, StateStoreType> OPTIONS_MAP = Arrays.stream(StateStoreType.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+
+    StateStoreType(final String option) {
+        this.option = option;
+    }
+
+    @JsonCreator
+    static StateStoreType fromOptionValue(final String option) {
+        return OPTIONS_MAP.get(option.toLowerCase());
+    }
+
+    @JsonValue
+    public String getOptionValue() {
+        return option;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.plugins.processor.ServiceMapStatefulProcessor.ServiceMapStateData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InMemorySpanStateTest {
+    private InMemorySpanState objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        objectUnderTest = new InMemorySpanState();
+    }
+
+    private static ServiceMapStateData createStateData(final byte[] parentSpanId, final byte[] traceId) {
+        return new ServiceMapStateData(UUID.randomUUID().toString(), parentSpanId, traceId, "SPAN_KIND_CLIENT", null);
+    }
+
+    private static void assertStateData(final ServiceMapStateData actual, final ServiceMapStateData expected) {
+        assertThat(actual, notNullValue());
+        assertThat(actual.serviceName, equalTo(expected.serviceName));
+        assertThat(actual.parentSpanId, equalTo(expected.parentSpanId));
+        assertThat(actual.traceId, equalTo(expected.traceId));
+        assertThat(actual.spanKind, equalTo(expected.spanKind));
+        assertThat(actual.name, equalTo(expected.name));
+    }
+
+    @Test
+    void put_and_get_return_the_state_data_of_many_spans() {
+        final List<byte[]> spanIds = new ArrayList<>();
+        final List<ServiceMapStateData> stateData = new ArrayList<>();
+        for (int i = 0; i < 4 * InMemoryWindowState.INITIAL_CAPACITY; i++) {
+            final byte[] spanId = ServiceMapTestUtils.getRandomBytes(InMemorySpanState.SPAN_ID_LENGTH);
+            final ServiceMapStateData value = createStateData(
+                    i % 2 == 0 ? null : ServiceMapTestUtils.getRandomBytes(InMemorySpanState.SPAN_ID_LENGTH),
+                    ServiceMapTestUtils.getRandomBytes(InMemorySpanState.TRACE_ID_LENGTH));
+            objectUnderTest.put(spanId, value);
+            spanIds.add(spanId);
+            stateData.add(value);
+        }
+
+        assertThat(objectUnderTest.size(), equalTo((long) spanIds.size()));
+        for (int i = 0; i < spanIds.size(); i++) {
+            assertStateData(objectUnderTest.get(spanIds.get(i).clone()), stateData.get(i));
+        }
+        assertThat(objectUnderTest.get(ServiceMapTestUtils.getRandomBytes(InMemorySpanState.SPAN_ID_LENGTH)), nullValue());
+        assertThat(objectUnderTest.getAll().size(), equalTo(spanIds.size()));
+        assertThat(objectUnderTest.sizeInBytes(), greaterThan(0L));
+    }
+
+    @Test
+    void put_replaces_the_state_data_of_a_span() {
+        final byte[] spanId = ServiceMapTestUtils.getRandomBytes(InMemorySpanState.SPAN_ID_LENGTH);
+        final ServiceMapStateData irregular = createStateData(ServiceMapTestUtils.getRandomBytes(4),
+                ServiceMapTestUtils.getRandomBytes(InMemorySpanState.TRACE_ID_LENGTH));
+        final ServiceMapStateData regular = createStateData(null, ServiceMapTestUtils.getRandomBytes(InMemorySpanState.TRACE_ID_LENGTH));
+
+        objectUnderTest.put(spanId, regular);
+        objectUnderTest.put(spanId, irregular);
+        assertThat(objectUnderTest.size(), equalTo(1L));
+        assertStateData(objectUnderTest.get(spanId), irregular);
+
+        objectUnderTest.put(spanId, regular);
+        assertThat(objectUnderTest.size(), equalTo(1L));
+        assertStateData(objectUnderTest.get(spanId), regular);
+    }
+
+    @Test
+    void put_keeps_the_other_spans_of_a_probe_sequence_when_a_span_moves_out_of_the_table() {
+        final List<byte[]> spanIds = new ArrayList<>();
+        for (int i = 0; i < InMemoryWindowState.INITIAL_CAPACITY / 4; i++) {
+            final byte[] spanId = ServiceMapTestUtils.getRandomBytes(InMemorySpanState.SPAN_ID_LENGTH);
+            objectUnderTest.put(spanId, createStateData(null, ServiceMapTestUtils.getRandomBytes(InMemorySpanState.TRACE_ID_LENGTH)));
+            spanIds.add(spanId);
+        }
+
+        for (final byte[] spanId : spanIds.subList(0, spanIds.size() / 2)) {
+            objectUnderTest.put(spanId, createStateData(null, ServiceMapTestUtils.getRandomBytes(3)));
+        }
+
+        assertThat(objectUnderTest.size(), equalTo((long) spanIds.size()));
+        for (final byte[] spanId : spanIds) {
+            assertThat(objectUnderTest.get(spanId), notNullValue());
+        }
+    }
+
+    @Test
+    void irregular_span_ids_and_state_data_are_kept() {
+        final byte[] shortSpanId = ServiceMapTestUtils.getRandomBytes(4);
+        final byte[] spanId = ServiceMapTestUtils.getRandomBytes(InMemorySpanState.SPAN_ID_LENGTH);
+        final ServiceMapStateData shortSpanIdStateData = createStateData(null, ServiceMapTestUtils.getRandomBytes(InMemorySpanState.TRACE_ID_LENGTH));
+        final ServiceMapStateData missingTraceIdStateData = createStateData(null, null);
+
+        objectUnderTest.put(shortSpanId, shortSpanIdStateData);
+        objectUnderTest.put(spanId, missingTraceIdStateData);
+
+        assertThat(objectUnderTest.size(), equalTo(2L));
+        assertStateData(objectUnderTest.get(shortSpanId.clone()), shortSpanIdStateData);
+        assertStateData(objectUnderTest.get(spanId.clone()), missingTraceIdStateData);
+        assertThat(objectUnderTest.get(ServiceMapTestUtils.getRandomBytes(4)), nullValue());
+    }
+
+    @Test
+    void iterate_segments_cover_each_span_once() {
+        final Set<String> expectedSpanIds = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            final byte[] spanId = ServiceMapTestUtils.getRandomBytes(i % 10 == 0 ? 4 : InMemorySpanState.SPAN_ID_LENGTH);
+            objectUnderTest.put(spanId, createStateData(null, ServiceMapTestUtils.getRandomBytes(InMemorySpanState.TRACE_ID_LENGTH)));
+            expectedSpanIds.add(Arrays.toString(spanId));
+        }
+
+        final List<String> iteratedSpanIds = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            iteratedSpanIds.addAll(objectUnderTest.iterate((spanId, stateData) -> {
+                assertThat(objectUnderTest.get(spanId), notNullValue());
+                return Arrays.toString(spanId);
+            }, 3, index));
+        }
+
+        assertThat(iteratedSpanIds.size(), equalTo(expectedSpanIds.size()));
+        assertThat(new HashSet<>(iteratedSpanIds), equalTo(expectedSpanIds));
+        assertThat(new HashSet<>(objectUnderTest.iterate((spanId, stateData) -> Arrays.toString(spanId))), equalTo(expectedSpanIds));
+    }
+
+    @Test
+    void clear_and_delete_remove_all_spans() {
+        final byte[] spanId = ServiceMapTestUtils.getRandomBytes(InMemorySpanState.SPAN_ID_LENGTH);
+        final byte[] shortSpanId = ServiceMapTestUtils.getRandomBytes(4);
+        objectUnderTest.put(spanId, createStateData(null, ServiceMapTestUtils.getRandomBytes(InMemorySpanState.TRACE_ID_LENGTH)));
+        objectUnderTest.put(shortSpanId, createStateData(null, ServiceMapTestUtils.getRandomBytes(InMemorySpanState.TRACE_ID_LENGTH)));
+
+        objectUnderTest.clear();
+
+        assertThat(objectUnderTest.size(), equalTo(0L));
+        assertThat(objectUnderTest.get(spanId), nullValue());
+        assertThat(objectUnderTest.get(shortSpanId), nullValue());
+        assertThat(objectUnderTest.iterate((key, value) -> key, 2, 0), empty());
+
+        final ServiceMapStateData stateData = createStateData(null, ServiceMapTestUtils.getRandomBytes(InMemorySpanState.TRACE_ID_LENGTH));
+        objectUnderTest.put(spanId, stateData);
+        assertStateData(objectUnderTest.get(spanId), stateData);
+
+        objectUnderTest.delete();
+
+        assertThat(objectUnderTest.size(), equalTo(0L));
+        final Map<byte[], ServiceMapStateData> all = objectUnderTest.getAll();
+        assertThat(all.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void constructor_throws_for_unsupported_key_length() {
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryWindowState<String>(4) {
+            @Override
+            boolean canEncode(final String value) {
+                return true;
+            }
+
+            @Override
+            void allocateValues(final int capacity) {
+            }
+
+            @Override
+            void writeValue(final int slot, final String value) {
+            }
+
+            @Override
+            String readValue(final int slot) {
+                return null;
+            }
+
+            @Override
+            void moveValues(final int newCapacity, final int[] newSlots) {
+            }
+
+            @Override
+            int getValueBytesPerSlot() {
+                return 0;
+            }
+        });
+    }
+}
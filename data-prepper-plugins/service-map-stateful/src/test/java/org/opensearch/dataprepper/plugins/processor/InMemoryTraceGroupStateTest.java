@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+class InMemoryTraceGroupStateTest {
+    private InMemoryTraceGroupState objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        objectUnderTest = new InMemoryTraceGroupState();
+    }
+
+    @Test
+    void put_and_get_return_the_trace_group_names_of_many_traces() {
+        final List<byte[]> traceIds = new ArrayList<>();
+        final List<String> traceGroupNames = new ArrayList<>();
+        for (int i = 0; i < 4 * InMemoryWindowState.INITIAL_CAPACITY; i++) {
+            final byte[] traceId = ServiceMapTestUtils.getRandomBytes(InMemorySpanState.TRACE_ID_LENGTH);
+            final String traceGroupName = "traceGroup" + (i % 10);
+            objectUnderTest.put(traceId, traceGroupName);
+            traceIds.add(traceId);
+            traceGroupNames.add(traceGroupName);
+        }
+
+        assertThat(objectUnderTest.size(), equalTo((long) traceIds.size()));
+        for (int i = 0; i < traceIds.size(); i++) {
+            assertThat(objectUnderTest.get(traceIds.get(i).clone()), equalTo(traceGroupNames.get(i)));
+        }
+        assertThat(objectUnderTest.get(ServiceMapTestUtils.getRandomBytes(InMemorySpanState.TRACE_ID_LENGTH)), nullValue());
+        assertThat(objectUnderTest.sizeInBytes(), greaterThan(0L));
+    }
+
+    @Test
+    void irregular_trace_ids_are_kept() {
+        final byte[] traceId = ServiceMapTestUtils.getRandomBytes(8);
+        final String traceGroupName = UUID.randomUUID().toString();
+
+        objectUnderTest.put(traceId, traceGroupName);
+
+        assertThat(objectUnderTest.get(traceId.clone()), equalTo(traceGroupName));
+        assertThat(objectUnderTest.getAll().size(), equalTo(1));
+    }
+
+    @Test
+    void clear_removes_the_trace_group_names() {
+        final byte[] traceId = ServiceMapTestUtils.getRandomBytes(InMemorySpanState.TRACE_ID_LENGTH);
+        objectUnderTest.put(traceId, UUID.randomUUID().toString());
+
+        objectUnderTest.clear();
+
+        assertThat(objectUnderTest.size(), equalTo(0L));
+        assertThat(objectUnderTest.get(traceId), nullValue());
+
+        objectUnderTest.put(traceId, "traceGroup");
+        assertThat(objectUnderTest.get(traceId), equalTo("traceGroup"));
+    }
+}
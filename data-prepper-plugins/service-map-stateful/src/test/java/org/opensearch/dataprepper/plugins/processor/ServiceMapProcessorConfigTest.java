@@ -25,6 +25,7 @@ class ServiceMapProcessorConfigTest {
     void testDefaultConfig() {
         assertThat(serviceMapProcessorConfig.getWindowDuration(), equalTo(DEFAULT_WINDOW_DURATION));
         assertThat(serviceMapProcessorConfig.getDbPath(), equalTo(ServiceMapProcessorConfig.DEFAULT_DB_PATH));
+        assertThat(serviceMapProcessorConfig.getStateStore(), equalTo(StateStoreType.MAPDB));
     }
 
     @Test
@@ -42,5 +43,11 @@ class ServiceMapProcessorConfigTest {
                 "dbPath",
                 testDbPath);
         assertThat(serviceMapProcessorConfig.getDbPath(), equalTo(testDbPath));
+        ReflectivelySetField.setField(
+                ServiceMapProcessorConfig.class,
+                serviceMapProcessorConfig,
+                "stateStore",
+                StateStoreType.IN_MEMORY);
+        assertThat(serviceMapProcessorConfig.getStateStore(), equalTo(StateStoreType.IN_MEMORY));
     }
 }
\ No newline at end of file
@@ -11,6 +11,8 @@ import org.apache.commons.codec.binary.Hex;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mockito;
 import org.opensearch.dataprepper.metrics.MetricNames;
 import org.opensearch.dataprepper.metrics.MetricsTestUtil;
@@ -83,6 +85,7 @@ public class ServiceMapStatefulProcessorTest {
         reflectivelySetField(ServiceMapStatefulProcessor.class, "windowDurationMillis", 0);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "dbPath", null);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "clock", null);
+        reflectivelySetField(ServiceMapStatefulProcessor.class, "stateStoreType", null);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "currentWindow", null);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "previousWindow", null);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "currentTraceGroupWindow", null);
@@ -136,15 +139,16 @@ public class ServiceMapStatefulProcessorTest {
                 serviceMapProcessorConfig, pluginMetrics, pipelineDescription);
     }
 
-    @Test
-    public void testTraceGroupsWithEventRecordData() throws Exception {
+    @ParameterizedTest
+    @EnumSource(StateStoreType.class)
+    public void testTraceGroupsWithEventRecordData(final StateStoreType stateStoreType) throws Exception {
         final Clock clock = Mockito.mock(Clock.class);
         Mockito.when(clock.millis()).thenReturn(1L);
         Mockito.when(clock.instant()).thenReturn(Instant.now());
         ExecutorService threadpool = Executors.newCachedThreadPool();
         final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
-        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginMetrics);
-        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginMetrics);
+        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginMetrics, stateStoreType);
+        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginMetrics, stateStoreType);
 
         final byte[] rootSpanId1Bytes = ServiceMapTestUtils.getRandomBytes(8);
         final byte[] rootSpanId2Bytes = ServiceMapTestUtils.getRandomBytes(8);
@@ -335,15 +339,16 @@ public class ServiceMapStatefulProcessorTest {
         serviceMapStateful2.shutdown();
     }
 
-    @Test
-    public void testTraceGroupsWithIsolatedServiceEventRecordData() throws Exception {
+    @ParameterizedTest
+    @EnumSource(StateStoreType.class)
+    public void testTraceGroupsWithIsolatedServiceEventRecordData(final StateStoreType stateStoreType) throws Exception {
         final Clock clock = Mockito.mock(Clock.class);
         Mockito.when(clock.millis()).thenReturn(1L);
         Mockito.when(clock.instant()).thenReturn(Instant.now());
         ExecutorService threadpool = Executors.newCachedThreadPool();
         final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
-        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginMetrics);
-        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginMetrics);
+        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginMetrics, stateStoreType);
+        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginMetrics, stateStoreType);
 
         final byte[] rootSpanIdBytes = ServiceMapTestUtils.getRandomBytes(8);
         final byte[] traceIdBytes = ServiceMapTestUtils.getRandomBytes(16);
@@ -395,10 +400,11 @@ public class ServiceMapStatefulProcessorTest {
         assertTrue(relationshipsFound.contains(frontend));
     }
 
-    @Test
-    public void testPrepareForShutdownWithEventRecordData() {
+    @ParameterizedTest
+    @EnumSource(StateStoreType.class)
+    public void testPrepareForShutdownWithEventRecordData(final StateStoreType stateStoreType) {
         final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
-        final ServiceMapStatefulProcessor serviceMapStateful = new ServiceMapStatefulProcessor(100, path, Clock.systemUTC(), 1, pluginMetrics);
+        final ServiceMapStatefulProcessor serviceMapStateful = new ServiceMapStatefulProcessor(100, path, Clock.systemUTC(), 1, pluginMetrics, stateStoreType);
 
         final byte[] rootSpanId1Bytes = ServiceMapTestUtils.getRandomBytes(8);
         final byte[] traceId1Bytes = ServiceMapTestUtils.getRandomBytes(16);
@@ -424,6 +430,18 @@ public class ServiceMapStatefulProcessorTest {
         serviceMapStateful.shutdown();
     }
 
+    @Test
+    public void testDataPrepperConstructorWithInMemoryStateStore() {
+        when(pipelineDescription.getNumberOfProcessWorkers()).thenReturn(4);
+        when(serviceMapProcessorConfig.getStateStore()).thenReturn(StateStoreType.IN_MEMORY);
+        final ServiceMapStatefulProcessor serviceMapStatefulProcessor = new ServiceMapStatefulProcessor(
+                serviceMapProcessorConfig, pluginMetrics, pipelineDescription);
+
+        assertTrue(serviceMapStatefulProcessor.isReadyForShutdown());
+        assertThat(serviceMapStatefulProcessor.getSpansDbCount(), equalTo(0.0));
+        assertThat(serviceMapStatefulProcessor.getTraceGroupDbCount(), equalTo(0.0));
+    }
+
     @Test
     public void testGetIdentificationKeys() {
         when(pipelineDescription.getNumberOfProcessWorkers()).thenReturn(4);
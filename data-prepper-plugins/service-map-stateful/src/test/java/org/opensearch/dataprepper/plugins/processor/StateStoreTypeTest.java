@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class StateStoreTypeTest {
+
+    @ParameterizedTest
+    @EnumSource(StateStoreType.class)
+    void fromOptionValue(final StateStoreType value) {
+        assertThat(StateStoreType.fromOptionValue(value.getOptionValue()), is(value));
+        assertThat(StateStoreType.fromOptionValue(value.getOptionValue().toUpperCase()), is(value));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"MAPDB, mapdb", "IN_MEMORY, in_memory"})
+    void getOptionValue_returns_expected_name(final StateStoreType stateStoreType, final String expectedString) {
+        assertThat(stateStoreType.getOptionValue(), equalTo(expectedString));
+    }
+}
@@ -12,6 +12,7 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -25,9 +26,12 @@ import org.opensearch.dataprepper.model.record.Record;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import static org.mockito.Mockito.mock;
@@ -106,6 +110,79 @@ public class TranslateProcessorBenchmark {
         }
     }
 
+    /**
+     * Targets with many numeric ranges or many regex patterns, where the lookup of a value dominates the translation.
+     */
+    @State(Scope.Benchmark)
+    public static class LargeTableState {
+        private static final int RECORD_COUNT = 1000;
+        private static final int RANGE_WIDTH = 10;
+
+        @Param({"100", "10000"})
+        private int tableSize;
+
+        private TranslateProcessor rangeProcessor;
+        private TranslateProcessor patternProcessor;
+        private Collection<Record<Event>> rangeRecords;
+        private Collection<Record<Event>> patternRecords;
+
+        @Setup
+        public void setUp() {
+            final ObjectMapper objectMapper = new ObjectMapper();
+            final Random random = new Random(1);
+
+            final Map<String, Object> rangeMappings = new LinkedHashMap<>();
+            for (int i = 0; i < tableSize; i++) {
+                rangeMappings.put(i * RANGE_WIDTH + "-" + (i * RANGE_WIDTH + RANGE_WIDTH - 1), "range_" + i);
+            }
+            rangeProcessor = createProcessor(objectMapper, Map.of("map", rangeMappings));
+
+            final Map<String, Object> patterns = new LinkedHashMap<>();
+            for (int i = 0; i < tableSize; i++) {
+                patterns.put("^" + toWord(i) + "-[0-9]+$", "pattern_" + i);
+            }
+            patternProcessor = createProcessor(objectMapper, Map.of("regex", Map.of("patterns", patterns)));
+
+            rangeRecords = new ArrayList<>(RECORD_COUNT);
+            patternRecords = new ArrayList<>(RECORD_COUNT);
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                final int entry = random.nextInt(tableSize);
+                rangeRecords.add(createRecord(String.valueOf(entry * RANGE_WIDTH + random.nextInt(RANGE_WIDTH))));
+                patternRecords.add(createRecord(toWord(entry) + "-" + random.nextInt(1000)));
+            }
+        }
+
+        private TranslateProcessor createProcessor(final ObjectMapper objectMapper, final Map<String, Object> targetMappings) {
+            final Map<String, Object> target = new LinkedHashMap<>(targetMappings);
+            target.put("target", "targetField");
+            final Map<String, Object> config = Map.of("mappings", List.of(Map.of(
+                    "source", "sourceField",
+                    "targets", List.of(target))));
+            return new TranslateProcessor(mock(PluginMetrics.class), objectMapper.convertValue(config, TranslateProcessorConfig.class),
+                    mock(ExpressionEvaluator.class), TestEventKeyFactory.getTestEventFactory());
+        }
+
+        private static Record<Event> createRecord(final String sourceValue) {
+            return new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of("sourceField", sourceValue))
+                    .build());
+        }
+
+        /**
+         * Spells a number with letters, so that the patterns start with different literals.
+         */
+        private static String toWord(final int number) {
+            final StringBuilder word = new StringBuilder();
+            int remaining = number;
+            do {
+                word.append((char) ('a' + remaining % 26));
+                remaining /= 26;
+            } while (remaining > 0);
+            return word.toString();
+        }
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     public void benchmark_static_key_translation(BenchmarkState state) {
@@ -129,4 +206,16 @@ public class TranslateProcessorBenchmark {
     public void benchmark_nested_path_translation(BenchmarkState state) {
         state.nestedPathProcessor.doExecute(state.nestedPathRecords);
     }
-}
\ No newline at end of file
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void benchmark_large_range_table(LargeTableState state) {
+        state.rangeProcessor.doExecute(state.rangeRecords);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void benchmark_large_pattern_table(LargeTableState state) {
+        state.patternProcessor.doExecute(state.patternRecords);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The regex mappings of a target in configuration order. Each pattern keeps the literal which every match of it must
+ * start with, when it has one. For exact matching, patterns are grouped by the first character of that literal so
+ * that a value is only matched against the patterns which can start with its first character. For partial matching,
+ * patterns whose literal does not occur in the value are skipped without running their regular expressions.
+ */
+class PatternLookup {
+    private static final String METACHARACTERS = "\\[](){}.*+?^$|";
+    private static final String OPTIONAL_QUANTIFIERS = "?*{";
+    private static final int[] NO_INDEXES = new int[0];
+
+    private final Pattern[] patterns;
+    private final Object[] values;
+    private final String[] literalPrefixes;
+    private final boolean exact;
+    private final int[] unprefixedIndexes;
+    private final Map<Character, int[]> indexesByFirstCharacter = new HashMap<>();
+
+    PatternLookup(final Map<Pattern, Object> compiledPatterns, final boolean exact) {
+        this.exact = exact;
+        patterns = compiledPatterns.keySet().toArray(new Pattern[0]);
+        values = compiledPatterns.values().toArray();
+        literalPrefixes = new String[patterns.length];
+
+        final List<Integer> unprefixed = new ArrayList<>();
+        final Map<Character, List<Integer>> prefixedByFirstCharacter = new HashMap<>();
+        for (int i = 0; i < patterns.length; i++) {
+            literalPrefixes[i] = findLiteralPrefix(patterns[i]);
+            if (literalPrefixes[i].isEmpty()) {
+                unprefixed.add(i);
+            } else {
+                prefixedByFirstCharacter.computeIfAbsent(literalPrefixes[i].charAt(0), c -> new ArrayList<>()).add(i);
+            }
+        }
+        unprefixedIndexes = toArray(unprefixed);
+        for (final Map.Entry<Character, List<Integer>> entry : prefixedByFirstCharacter.entrySet()) {
+            indexesByFirstCharacter.put(entry.getKey(), merge(toArray(entry.getValue()), unprefixedIndexes));
+        }
+    }
+
+    /**
+     * @return the value of the first pattern, in configuration order, which matches the source value, or empty if
+     * none matches
+     */
+    Optional<Object> get(final String sourceValue) {
+        if (exact) {
+            final int[] candidates = sourceValue.isEmpty() ? unprefixedIndexes :
+                    indexesByFirstCharacter.getOrDefault(sourceValue.charAt(0), unprefixedIndexes);
+            for (final int index : candidates) {
+                if (sourceValue.startsWith(literalPrefixes[index]) && patterns[index].matcher(sourceValue).matches()) {
+                    return Optional.of(values[index]);
+                }
+            }
+            return Optional.empty();
+        }
+        for (int index = 0; index < patterns.length; index++) {
+            if (!sourceValue.contains(literalPrefixes[index])) {
+                continue;
+            }
+            final Matcher matcher = patterns[index].matcher(sourceValue);
+            if (matcher.matches()) {
+                return Optional.of(values[index]);
+            }
+            if (matcher.find()) {
+                return Optional.of(matcher.replaceAll((String) values[index]));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds the literal characters which every match of a pattern starts with.
+     *
+     * @return the literal, or an empty string if the pattern has none or uses a construct which could make it optional
+     */
+    static String findLiteralPrefix(final Pattern pattern) {
+        final String regex = pattern.pattern();
+        if (pattern.flags() != 0 || regex.indexOf('|') >= 0) {
+            return "";
+        }
+        final StringBuilder prefix = new StringBuilder();
+        int i = regex.startsWith("^") ? 1 : 0;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            final char literal;
+            if (c == '\\') {
+                if (Character.isLetterOrDigit(regex.charAt(i + 1)) || Character.isSurrogate(regex.charAt(i + 1))) {
+                    break;
+                }
+                literal = regex.charAt(i + 1);
+                i += 2;
+            } else if (METACHARACTERS.indexOf(c) >= 0 || Character.isSurrogate(c)) {
+                break;
+            } else {
+                literal = c;
+                i++;
+            }
+            if (i < regex.length() && OPTIONAL_QUANTIFIERS.indexOf(regex.charAt(i)) >= 0) {
+                break;
+            }
+            prefix.append(literal);
+            if (i < regex.length() && regex.charAt(i) == '+') {
+                break;
+            }
+        }
+        return prefix.toString();
+    }
+
+    private static int[] toArray(final List<Integer> indexes) {
+        return indexes.isEmpty() ? NO_INDEXES : indexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] merge(final int[] first, final int[] second) {
+        final int[] merged = new int[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < first.length && j < second.length) {
+            merged[k++] = first[i] < second[j] ? first[i++] : second[j++];
+        }
+        while (i < first.length) {
+            merged[k++] = first[i++];
+        }
+        while (j < second.length) {
+            merged[k++] = second[j++];
+        }
+        return merged;
+    }
+}
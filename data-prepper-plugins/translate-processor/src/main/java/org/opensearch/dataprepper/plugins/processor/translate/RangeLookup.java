@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.apache.commons.lang3.Range;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The range mappings of a target sorted by their lower bounds, so that the range containing a number is found with a
+ * binary search. The ranges must not overlap, which {@link MappingsParser} ensures.
+ */
+class RangeLookup {
+    private final float[] lowerBounds;
+    private final float[] upperBounds;
+    private final Object[] values;
+
+    RangeLookup(final Map<Range<Float>, Object> rangeMappings) {
+        final List<Map.Entry<Range<Float>, Object>> entries = new ArrayList<>(rangeMappings.entrySet());
+        entries.sort(Map.Entry.comparingByKey((first, second) -> Float.compare(first.getMinimum(), second.getMinimum())));
+        lowerBounds = new float[entries.size()];
+        upperBounds = new float[entries.size()];
+        values = new Object[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            final Range<Float> range = entries.get(i).getKey();
+            lowerBounds[i] = range.getMinimum();
+            upperBounds[i] = range.getMaximum();
+            values[i] = entries.get(i).getValue();
+        }
+    }
+
+    /**
+     * @return the value of the range which contains the key, or empty if no range contains it
+     */
+    Optional<Object> get(final float key) {
+        int low = 0;
+        int high = lowerBounds.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (Float.compare(lowerBounds[middle], key) <= 0) {
+                candidate = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        if (candidate >= 0 && Float.compare(key, upperBounds[candidate]) <= 0) {
+            return Optional.of(values[candidate]);
+        }
+        return Optional.empty();
+    }
+}
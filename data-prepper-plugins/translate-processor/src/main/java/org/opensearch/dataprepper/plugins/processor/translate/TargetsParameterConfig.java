@@ -11,6 +11,7 @@ import org.opensearch.dataprepper.plugins.processor.mutateevent.TargetType;
 import org.opensearch.dataprepper.typeconverter.TypeConverter;
 import com.google.common.annotations.VisibleForTesting;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -24,7 +25,9 @@ public class TargetsParameterConfig {
     static final String REGEX_KEY = "regex";
     private final LinkedHashMap<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
     private final Map<String, Object> individualMappings = new HashMap<>();
-    private final Map<Pattern, Object> compiledPatterns = new HashMap<>();
+    private final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+    private RangeLookup rangeLookup = new RangeLookup(Collections.emptyMap());
+    private PatternLookup patternLookup = new PatternLookup(Collections.emptyMap(), true);
     @JsonProperty("target")
     @JsonPropertyDescription("The key that specifies the field in the output in which the translated value will be placed.")
     @NotNull
@@ -108,6 +111,14 @@ public class TargetsParameterConfig {
         return compiledPatterns;
     }
 
+    RangeLookup fetchRangeLookup() {
+        return rangeLookup;
+    }
+
+    PatternLookup fetchPatternLookup() {
+        return patternLookup;
+    }
+
     @AssertTrue(message = "pattern option is mandatory while configuring regex option")
     public boolean isPatternPresent() {
         return regexParameterConfig == null || regexParameterConfig.getPatterns() != null;
@@ -153,6 +164,8 @@ public class TargetsParameterConfig {
         individualMappings.putAll(parser.fetchIndividualMappings());
         rangeMappings.putAll(parser.fetchRangeMappings());
         compiledPatterns.putAll(parser.fetchCompiledPatterns());
+        rangeLookup = new RangeLookup(rangeMappings);
+        patternLookup = new PatternLookup(compiledPatterns, Objects.isNull(regexParameterConfig) || regexParameterConfig.getExact());
     }
 
 }
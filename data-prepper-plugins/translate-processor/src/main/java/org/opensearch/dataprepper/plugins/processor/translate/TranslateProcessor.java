@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.plugins.processor.translate;
 
-import org.apache.commons.lang3.Range;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
@@ -25,13 +24,10 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
@@ -210,34 +206,11 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
         if (!NumberUtils.isParsable(sourceValue)) {
             return Optional.empty();
         }
-        Float floatKey = Float.parseFloat(sourceValue);
-        LinkedHashMap<Range<Float>, Object> rangeMappings = targetConfig.fetchRangeMappings();
-        for (Map.Entry<Range<Float>, Object> rangeEntry : rangeMappings.entrySet()) {
-            Range<Float> range = rangeEntry.getKey();
-            if (range.contains(floatKey)) {
-                return Optional.of(rangeEntry.getValue());
-            }
-        }
-        return Optional.empty();
+        return targetConfig.fetchRangeLookup().get(Float.parseFloat(sourceValue));
     }
 
     private Optional<Object> matchesPatternEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        Map<Pattern, Object> compiledPatterns = targetConfig.fetchCompiledPatterns();
-        if (compiledPatterns.isEmpty()) {
-            return Optional.empty();
-        }
-        final boolean exact = targetConfig.getRegexParameterConfiguration().getExact();
-        for (Pattern pattern : compiledPatterns.keySet()) {
-            Matcher matcher = pattern.matcher(sourceValue);
-            if (matcher.matches()) {
-                return Optional.of(compiledPatterns.get(pattern));
-            }
-            if(!exact && matcher.find()) {
-                String targetValue = (String)compiledPatterns.get(pattern);
-                return Optional.of(matcher.replaceAll(targetValue));
-            }
-        }
-        return Optional.empty();
+        return targetConfig.fetchPatternLookup().get(sourceValue);
     }
 
     private void addTargetToRecords(Object sourceObject, List<Object> targetValues, Object recordObject, TargetsParameterConfig targetMappings) {
@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PatternLookupTest {
+
+    private static Map<Pattern, Object> createPatterns() {
+        final Map<Pattern, Object> patterns = new LinkedHashMap<>();
+        patterns.put(Pattern.compile("^status_[0-9]+$"), "status");
+        patterns.put(Pattern.compile("[a-z]+_[0-9]+"), "word and number");
+        patterns.put(Pattern.compile("status_ok"), "ok");
+        patterns.put(Pattern.compile("error"), "ERROR");
+        return patterns;
+    }
+
+    @Test
+    void get_with_exact_matching_returns_the_first_pattern_matching_the_whole_value() {
+        final PatternLookup objectUnderTest = new PatternLookup(createPatterns(), true);
+
+        assertThat(objectUnderTest.get("status_200"), equalTo(Optional.of("status")));
+        assertThat(objectUnderTest.get("code_200"), equalTo(Optional.of("word and number")));
+        assertThat(objectUnderTest.get("status_ok"), equalTo(Optional.of("ok")));
+        assertThat(objectUnderTest.get("error"), equalTo(Optional.of("ERROR")));
+        assertThat(objectUnderTest.get("an error"), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.get("unmatched"), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.get(""), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void get_with_partial_matching_replaces_the_matched_parts_of_the_value() {
+        final PatternLookup objectUnderTest = new PatternLookup(createPatterns(), false);
+
+        assertThat(objectUnderTest.get("status_200"), equalTo(Optional.of("status")));
+        assertThat(objectUnderTest.get("an error occurred"), equalTo(Optional.of("an ERROR occurred")));
+        assertThat(objectUnderTest.get("at code_200 and code_300"), equalTo(Optional.of("at word and number and word and number")));
+        assertThat(objectUnderTest.get("unmatched"), equalTo(Optional.empty()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("patternsWithLiteralPrefixes")
+    void findLiteralPrefix_returns_the_literal_every_match_starts_with(final Pattern pattern, final String expectedPrefix) {
+        assertThat(PatternLookup.findLiteralPrefix(pattern), equalTo(expectedPrefix));
+    }
+
+    private static Stream<Arguments> patternsWithLiteralPrefixes() {
+        return Stream.of(
+                Arguments.of(Pattern.compile("key1"), "key1"),
+                Arguments.of(Pattern.compile("^key[0-4]$"), "key"),
+                Arguments.of(Pattern.compile("key\\d{2}"), "key"),
+                Arguments.of(Pattern.compile("special_.*"), "special_"),
+                Arguments.of(Pattern.compile("abc?d"), "ab"),
+                Arguments.of(Pattern.compile("abc*d"), "ab"),
+                Arguments.of(Pattern.compile("abc{0,2}d"), "ab"),
+                Arguments.of(Pattern.compile("abc+d"), "abc"),
+                Arguments.of(Pattern.compile("a\\.b\\.c"), "a.b.c"),
+                Arguments.of(Pattern.compile("a\\.?b"), "a"),
+                Arguments.of(Pattern.compile("a\uD83D\uDE00?b"), "a"),
+                Arguments.of(Pattern.compile("a\\\uD83D\uDE00b"), "a"),
+                Arguments.of(Pattern.compile("^(400|404)$"), ""),
+                Arguments.of(Pattern.compile("ab|cd"), ""),
+                Arguments.of(Pattern.compile("(?i)abc"), ""),
+                Arguments.of(Pattern.compile("abc", Pattern.CASE_INSENSITIVE), ""),
+                Arguments.of(Pattern.compile("\\Qabc\\E"), ""),
+                Arguments.of(Pattern.compile("[a-z]+"), "")
+        );
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.apache.commons.lang3.Range;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RangeLookupTest {
+
+    private RangeLookup createObjectUnderTest() {
+        final Map<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
+        rangeMappings.put(Range.between(20f, 29.5f), "twenties");
+        rangeMappings.put(Range.between(1f, 10f), "ones");
+        rangeMappings.put(Range.between(10.5f, 10.5f), "ten and a half");
+        return new RangeLookup(rangeMappings);
+    }
+
+    @Test
+    void get_returns_the_value_of_the_range_containing_the_key() {
+        final RangeLookup objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.get(1f), equalTo(Optional.of("ones")));
+        assertThat(objectUnderTest.get(5.5f), equalTo(Optional.of("ones")));
+        assertThat(objectUnderTest.get(10f), equalTo(Optional.of("ones")));
+        assertThat(objectUnderTest.get(10.5f), equalTo(Optional.of("ten and a half")));
+        assertThat(objectUnderTest.get(20f), equalTo(Optional.of("twenties")));
+        assertThat(objectUnderTest.get(29.5f), equalTo(Optional.of("twenties")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(floats = {-1f, 0.5f, 10.25f, 15f, 29.75f, 100f})
+    void get_returns_empty_when_no_range_contains_the_key(final float key) {
+        assertThat(createObjectUnderTest().get(key), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void get_returns_empty_without_ranges() {
+        assertThat(new RangeLookup(Collections.emptyMap()).get(1f), equalTo(Optional.empty()));
+    }
+}
@@ -18,7 +18,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -50,8 +49,6 @@ class TranslateProcessorEnhancedTest {
     private TargetsParameterConfig targetsParameterConfig;
     @Mock
     private MappingsParameterConfig mappingsParameterConfig;
-    @Mock
-    private RegexParameterConfiguration mockRegexConfig;
 
     private final EventKeyFactory eventKeyFactory = TestEventKeyFactory.getTestEventFactory();
 
@@ -63,8 +60,8 @@ class TranslateProcessorEnhancedTest {
         lenient().when(mockConfig.getCombinedMappingsConfigs()).thenReturn(List.of(mappingsParameterConfig));
         lenient().when(mappingsParameterConfig.getTargetsParameterConfigs()).thenReturn(List.of(targetsParameterConfig));
         lenient().when(targetsParameterConfig.fetchIndividualMappings()).thenReturn(Collections.emptyMap());
-        lenient().when(targetsParameterConfig.fetchRangeMappings()).thenReturn(new LinkedHashMap<>());
-        lenient().when(targetsParameterConfig.fetchCompiledPatterns()).thenReturn(Collections.emptyMap());
+        lenient().when(targetsParameterConfig.fetchRangeLookup()).thenReturn(new RangeLookup(Collections.emptyMap()));
+        lenient().when(targetsParameterConfig.fetchPatternLookup()).thenReturn(new PatternLookup(Collections.emptyMap(), true));
     }
 
     // Error Handling & Edge Cases Tests
@@ -202,9 +199,9 @@ class TranslateProcessorEnhancedTest {
 
     @Test
     void test_empty_compiled_patterns() {
-        lenient().when(targetsParameterConfig.fetchCompiledPatterns()).thenReturn(Collections.emptyMap());
+        lenient().when(targetsParameterConfig.fetchPatternLookup()).thenReturn(new PatternLookup(Collections.emptyMap(), true));
         lenient().when(targetsParameterConfig.fetchIndividualMappings()).thenReturn(Collections.emptyMap());
-        lenient().when(targetsParameterConfig.fetchRangeMappings()).thenReturn(new LinkedHashMap<>());
+        lenient().when(targetsParameterConfig.fetchRangeLookup()).thenReturn(new RangeLookup(Collections.emptyMap()));
         lenient().when(targetsParameterConfig.getDefaultValue()).thenReturn(null);
 
         TranslateProcessor processor = createObjectUnderTest();
@@ -219,9 +216,7 @@ class TranslateProcessorEnhancedTest {
     void test_invalid_regex_pattern_handling() {
         Map<Pattern, Object> patterns = new HashMap<>();
         patterns.put(Pattern.compile("valid.*"), "result");
-        lenient().when(targetsParameterConfig.fetchCompiledPatterns()).thenReturn(patterns);
-        lenient().when(targetsParameterConfig.getRegexParameterConfiguration()).thenReturn(mockRegexConfig);
-        lenient().when(mockRegexConfig.getExact()).thenReturn(true);
+        lenient().when(targetsParameterConfig.fetchPatternLookup()).thenReturn(new PatternLookup(patterns, true));
 
         TranslateProcessor processor = createObjectUnderTest();
         Record<Event> record = getEvent("validtest");
@@ -235,8 +230,8 @@ class TranslateProcessorEnhancedTest {
     @Test
     void test_non_parsable_number_in_range_matching() {
         lenient().when(targetsParameterConfig.fetchIndividualMappings()).thenReturn(Collections.emptyMap());
-        lenient().when(targetsParameterConfig.fetchRangeMappings()).thenReturn(new LinkedHashMap<>());
-        lenient().when(targetsParameterConfig.fetchCompiledPatterns()).thenReturn(Collections.emptyMap());
+        lenient().when(targetsParameterConfig.fetchRangeLookup()).thenReturn(new RangeLookup(Collections.emptyMap()));
+        lenient().when(targetsParameterConfig.fetchPatternLookup()).thenReturn(new PatternLookup(Collections.emptyMap(), true));
         lenient().when(targetsParameterConfig.getDefaultValue()).thenReturn("default");
         lenient().when(targetsParameterConfig.getTarget()).thenReturn("targetField");
 
@@ -255,8 +250,8 @@ class TranslateProcessorEnhancedTest {
     @Test
     void test_type_conversion_with_empty_target_values() {
         lenient().when(targetsParameterConfig.fetchIndividualMappings()).thenReturn(Collections.emptyMap());
-        lenient().when(targetsParameterConfig.fetchRangeMappings()).thenReturn(new LinkedHashMap<>());
-        lenient().when(targetsParameterConfig.fetchCompiledPatterns()).thenReturn(Collections.emptyMap());
+        lenient().when(targetsParameterConfig.fetchRangeLookup()).thenReturn(new RangeLookup(Collections.emptyMap()));
+        lenient().when(targetsParameterConfig.fetchPatternLookup()).thenReturn(new PatternLookup(Collections.emptyMap(), true));
         lenient().when(targetsParameterConfig.getDefaultValue()).thenReturn(null);
 
         TranslateProcessor processor = createObjectUnderTest();
@@ -240,6 +240,14 @@ class TranslateProcessorTest {
                 "targetField", null, null, null, null));
     }
 
+    @Test
+    void test_overlapping_ranges_should_fail_when_contained_in_another_range() {
+        assertThrows(InvalidPluginConfigurationException.class, () -> new TargetsParameterConfig(
+                createMapEntries(createMapping("1-100", "mappedValue1"), createMapping("200-300", "mappedValue2"),
+                        createMapping("20-30", "mappedValue3")),
+                "targetField", null, null, null, null));
+    }
+
     @Test
     void test_overlapping_key_and_range_in_map_option() {
         assertThrows(InvalidPluginConfigurationException.class, () -> new TargetsParameterConfig(